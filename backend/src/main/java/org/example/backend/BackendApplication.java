@@ -3,9 +3,11 @@ package org.example.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // 엔티티의 생성/수정 시간 자동 관리를 위한 JPA Auditing 활성화
+@EnableScheduling // 주기 작업(@Scheduled) 활성화
 public class BackendApplication {
 
     public static void main(String[] args) {
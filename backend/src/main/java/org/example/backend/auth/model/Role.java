@@ -5,7 +5,10 @@ public enum Role { // Role 열거형이고 미리 정의된 상수 집합이며
     ROLE_USER("ROLE_USER"), // Spring Security 가 권한을 인식하는 데 사용.
 
     // 상담사 역할
-    ROLE_COUNSELOR("ROLE_COUNSELOR"); // 상담 관련 기능에 접근 할 수 있는 권한.
+    ROLE_COUNSELOR("ROLE_COUNSELOR"), // 상담 관련 기능에 접근 할 수 있는 권한.
+
+    // 운영자 역할 (회원가입으로는 부여되지 않음, 운영용 엔드포인트 접근)
+    ROLE_ADMIN("ROLE_ADMIN");
 
     private final String value;
 
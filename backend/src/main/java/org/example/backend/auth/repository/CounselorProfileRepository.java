@@ -3,6 +3,7 @@ package org.example.backend.auth.repository;
 import org.example.backend.auth.model.CounselorProfile;
 import org.example.backend.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -48,6 +49,81 @@ public interface CounselorProfileRepository extends JpaRepository<CounselorProfi
      */
     List<CounselorProfile> findByYearsGreaterThanEqual(String yearsValue);
 
+    /**
+     * 리뷰 추가 시 평균 평점과 리뷰 수 갱신
+     * 한 번의 UPDATE 로 처리되어 동시에 리뷰가 추가되어도 누락되지 않습니다.
+     * (MySQL 은 SET 절을 왼쪽부터 적용하므로 ratingAvg 를 reviewCount 보다 먼저 계산)
+     *
+     * @param counselorId 상담사 ID
+     * @param score 추가된 리뷰 평점
+     * @return 갱신된 행 수 (프로필이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE CounselorProfile cp " +
+            "SET cp.ratingAvg = (COALESCE(cp.ratingAvg, 0) * COALESCE(cp.reviewCount, 0) + :score) / (COALESCE(cp.reviewCount, 0) + 1), " +
+            "cp.reviewCount = COALESCE(cp.reviewCount, 0) + 1 " +
+            "WHERE cp.id = :counselorId")
+    int applyReviewAdded(@Param("counselorId") Long counselorId, @Param("score") double score);
+
+    /**
+     * 리뷰 평점 수정 시 평균 평점 갱신
+     *
+     * @param counselorId 상담사 ID
+     * @param scoreDelta 새 평점 - 기존 평점
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE CounselorProfile cp " +
+            "SET cp.ratingAvg = cp.ratingAvg + :scoreDelta / cp.reviewCount " +
+            "WHERE cp.id = :counselorId AND cp.reviewCount > 0")
+    int applyReviewScoreChanged(@Param("counselorId") Long counselorId, @Param("scoreDelta") double scoreDelta);
+
+    /**
+     * 리뷰 삭제 시 평균 평점과 리뷰 수 갱신 (마지막 리뷰가 삭제되면 평균은 null)
+     *
+     * @param counselorId 상담사 ID
+     * @param score 삭제된 리뷰 평점
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE CounselorProfile cp " +
+            "SET cp.ratingAvg = CASE WHEN cp.reviewCount <= 1 THEN NULL " +
+            "ELSE (cp.ratingAvg * cp.reviewCount - :score) / (cp.reviewCount - 1) END, " +
+            "cp.reviewCount = CASE WHEN cp.reviewCount <= 1 THEN 0 ELSE cp.reviewCount - 1 END " +
+            "WHERE cp.id = :counselorId AND cp.reviewCount > 0")
+    int applyReviewRemoved(@Param("counselorId") Long counselorId, @Param("score") double score);
+
+    /**
+     * 전체 상담사의 평균 평점과 리뷰 수를 리뷰 테이블 기준으로 다시 계산
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE CounselorProfile cp " +
+            "SET cp.ratingAvg = (SELECT AVG(r.score) FROM CounselingReview r WHERE r.counselorId = cp.id), " +
+            "cp.reviewCount = (SELECT COUNT(r) FROM CounselingReview r WHERE r.counselorId = cp.id)")
+    int rebuildRatingAggregates();
+
+    /**
+     * 평균 평점과 리뷰 수가 비어 있는(reviewCount 가 null 인) 상담사만 리뷰 테이블 기준으로 채우기
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE CounselorProfile cp " +
+            "SET cp.ratingAvg = (SELECT AVG(r.score) FROM CounselingReview r WHERE r.counselorId = cp.id), " +
+            "cp.reviewCount = (SELECT COUNT(r) FROM CounselingReview r WHERE r.counselorId = cp.id) " +
+            "WHERE cp.reviewCount IS NULL")
+    int backfillMissingRatingAggregates();
+
+    /**
+     * 최대 상담사 코드 조회 (ID 발급기 초기값)
+     *
+     * @return 최대 상담사 코드, 코드가 없으면 null
+     */
+    @Query("SELECT MAX(cp.counselorCode) FROM CounselorProfile cp")
+    Integer findMaxCounselorCode();
+
     /**
      * 특정 상담사 ID로 프로필 조회
      *
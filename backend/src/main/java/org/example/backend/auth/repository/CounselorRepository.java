@@ -40,4 +40,12 @@ public interface CounselorRepository extends JpaRepository<Counselor, Long> {
      */
     @Override
     Page<Counselor> findAll(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 최대 상담사 ID 조회 (ID 발급기 초기값)
+     *
+     * @return 최대 상담사 ID, 상담사가 없으면 null
+     */
+    @Query("SELECT MAX(c.id) FROM Counselor c")
+    Long findMaxId();
+}
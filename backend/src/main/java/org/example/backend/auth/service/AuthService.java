@@ -10,6 +10,8 @@ import org.example.backend.auth.model.Role;
 import org.example.backend.auth.model.User;
 import org.example.backend.auth.repository.CounselorProfileRepository;
 import org.example.backend.auth.repository.CounselorRepository;
+import org.example.backend.common.id.IdAllocator;
+import org.example.backend.common.id.IdSequence;
 import org.example.backend.auth.repository.UserRepository;
 import org.example.backend.security.jwt.JwtTokenDto;
 import org.example.backend.security.jwt.JwtTokenProvider;
@@ -37,6 +39,7 @@ public class AuthService {
 
     private final CounselorRepository counselorRepository;
     private final CounselorProfileRepository counselorProfileRepository;
+    private final IdAllocator idAllocator;
 
     /**
      * 생성자를 통한 의존성 주입
@@ -47,19 +50,22 @@ public class AuthService {
      * @param refreshTokenService 리프레시 토큰 서비스
      * @param counselorRepository 상담사 정보 접근 저장소
      * @param counselorProfileRepository 상담사 프로필 정보 접근 저장소
+     * @param idAllocator 상담사 ID/코드 발급기
      */
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        JwtTokenProvider jwtTokenProvider,
                        RefreshTokenService refreshTokenService,
                        CounselorRepository counselorRepository,
-                       CounselorProfileRepository counselorProfileRepository) {
+                       CounselorProfileRepository counselorProfileRepository,
+                       IdAllocator idAllocator) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.refreshTokenService = refreshTokenService;
         this.counselorRepository = counselorRepository;
         this.counselorProfileRepository = counselorProfileRepository;
+        this.idAllocator = idAllocator;
     }
 
     /**
@@ -182,24 +188,13 @@ public class AuthService {
      * @return 생성된 상담사 ID
      */
     private Long generateCounselorId() {
-        // 기존에 존재하는 상담사 ID 중 최대값 + 1 을 반환
-        Long maxId = counselorRepository.findAll().stream()
-                .map(Counselor::getId)
-                .max(Long::compareTo)
-                .orElse(1000L);
-
-        return maxId + 1;
+        // 상담사 ID 는 1001 부터 발급
+        return idAllocator.next(IdSequence.COUNSELOR);
     }
 
     private Integer generateCounselorCode() {
-        // 기존에 존재하는 상담사 프로필의 코드 중 최대값 + 1 을 반환
-        Integer maxCode = counselorProfileRepository.findAll().stream()
-                .map(CounselorProfile::getCounselorCode)
-                .filter(code -> code != null) // null 값 제외
-                .max(Integer::compareTo)
-                .orElse(10000); // 기본값을 10000으로 설정하여 첫 코드가 10001이 되도록
-
-        return maxCode + 1;
+        // 상담사 코드는 10001 부터 발급
+        return Math.toIntExact(idAllocator.next(IdSequence.COUNSELOR_CODE));
     }
 
     /**
@@ -11,12 +11,16 @@ import org.example.backend.auth.repository.CounselorRepository;
 import org.example.backend.auth.repository.UserRepository;
 import org.example.backend.channel.dto.request.CounselingChannelCreateRequest;
 import org.example.backend.channel.dto.request.CounselingRequestDto;
+import org.example.backend.channel.dto.request.CounselingReviewRequest;
 import org.example.backend.channel.dto.response.CounselingChannelResponse;
 import org.example.backend.channel.dto.response.CounselorDetailResponse;
 import org.example.backend.channel.dto.response.CounselorListResponse;
 import org.example.backend.channel.dto.response.CounselorReviewResponse;
 import org.example.backend.channel.service.CounselingChannelService;
+import org.example.backend.channel.service.CounselingReviewService;
 import org.example.backend.common.exception.ErrorResponse;
+import org.example.backend.s3.profile.image.ProfileImageKeys;
+import org.example.backend.s3.profile.image.ProfileImageSize;
 import org.example.backend.security.jwt.JwtTokenProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +44,7 @@ import java.util.Map;
 public class CounselingChannelController {
 
     private final CounselingChannelService counselingChannelService;
+    private final CounselingReviewService counselingReviewService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final CounselorRepository counselorRepository;
@@ -139,6 +144,7 @@ public class CounselingChannelController {
      *
      * @param specialty 전문 분야 필터링 (선택)
      * @param minExperience 최소 경력 필터링 (선택)
+     * @param imageSize 프로필 이미지 크기(px) (선택, 없으면 가장 큰 이미지의 키, size 는 페이지 크기로 사용되므로 imageSize)
      * @param pageable 페이징 정보
      * @return 상담사 목록 응답
      */
@@ -146,13 +152,14 @@ public class CounselingChannelController {
     public ResponseEntity<?> getCounselorList(
             @RequestParam(required = false) String specialty,
             @RequestParam(required = false) Integer minExperience,
+            @RequestParam(required = false) Integer imageSize,
             @PageableDefault(size = 10) Pageable pageable) {
 
         log.info("상담사 목록 조회 요청: specialty={}, minExperience={}", specialty, minExperience);
 
         try {
             Page<CounselorListResponse> counselors = counselingChannelService.getCounselorList(
-                    specialty, minExperience, pageable);
+                    specialty, minExperience, imageSize, pageable);
 
             return ResponseEntity.ok(counselors);
         } catch (Exception e) {
@@ -168,14 +175,23 @@ public class CounselingChannelController {
      * 특정 상담사의 상세 정보를 조회합니다.
      *
      * @param counselorId 상담사 ID
+     * @param size 프로필 이미지 크기(px) (선택, 없으면 가장 큰 이미지의 키, /profile/image 와 같은 이름)
      * @return 상담사 상세 정보 응답
      */
     @GetMapping("/counselors/{counselorId}")
-    public ResponseEntity<?> getCounselorDetail(@PathVariable Long counselorId) {
+    public ResponseEntity<?> getCounselorDetail(
+            @PathVariable Long counselorId,
+            @RequestParam(required = false) Integer size) {
         log.info("상담사 상세 정보 조회 요청: counselorId={}", counselorId);
 
         try {
             CounselorDetailResponse counselor = counselingChannelService.getCounselorDetail(counselorId);
+            if (size != null) {
+                // 캐시된 상세 정보는 그대로 두고 응답에서만 크기별 키로 변경
+                counselor = counselor.toBuilder()
+                        .profileImage(ProfileImageKeys.resolve(counselor.getProfileImage(), ProfileImageSize.atLeast(size)))
+                        .build();
+            }
             return ResponseEntity.ok(counselor);
         } catch (IllegalArgumentException e) {
             log.error("상담사 상세 정보 조회 실패: {}", e.getMessage());
@@ -221,6 +237,105 @@ public class CounselingChannelController {
         }
     }
 
+    /**
+     * 상담사 리뷰 작성 API (인증된 사용자)
+     *
+     * @param counselorId 상담사 ID
+     * @param request 리뷰 내용
+     * @return 작성된 리뷰
+     */
+    @PostMapping("/counselors/{counselorId}/reviews")
+    public ResponseEntity<?> createCounselorReview(
+            @PathVariable Long counselorId,
+            @Valid @RequestBody CounselingReviewRequest request) {
+
+        log.info("상담사 리뷰 작성 요청: counselorId={}, score={}", counselorId, request.getScore());
+
+        try {
+            Long userId = getCurrentUserId();
+            CounselorReviewResponse review = counselingReviewService.createReview(userId, counselorId, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(review);
+        } catch (IllegalArgumentException e) {
+            log.error("상담사 리뷰 작성 실패: {}", e.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse("S0004", e.getMessage()));
+        } catch (Exception e) {
+            log.error("상담사 리뷰 작성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("S0005", "리뷰를 작성하는 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 상담사 리뷰 수정 API (작성자만 가능)
+     *
+     * @param reviewId 리뷰 ID
+     * @param request 수정할 내용
+     * @return 수정된 리뷰
+     */
+    @PutMapping("/reviews/{reviewId}")
+    public ResponseEntity<?> updateCounselorReview(
+            @PathVariable Integer reviewId,
+            @Valid @RequestBody CounselingReviewRequest request) {
+
+        log.info("상담사 리뷰 수정 요청: reviewId={}, score={}", reviewId, request.getScore());
+
+        try {
+            Long userId = getCurrentUserId();
+            CounselorReviewResponse review = counselingReviewService.updateReview(userId, reviewId, request);
+            return ResponseEntity.ok(review);
+        } catch (IllegalArgumentException e) {
+            log.error("상담사 리뷰 수정 실패: {}", e.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse("S0004", e.getMessage()));
+        } catch (SecurityException e) {
+            log.error("상담사 리뷰 수정 권한 없음: {}", e.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse("S0003", e.getMessage()));
+        } catch (Exception e) {
+            log.error("상담사 리뷰 수정 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("S0005", "리뷰를 수정하는 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 상담사 리뷰 삭제 API (작성자만 가능)
+     *
+     * @param reviewId 리뷰 ID
+     * @return 삭제 결과
+     */
+    @DeleteMapping("/reviews/{reviewId}")
+    public ResponseEntity<?> deleteCounselorReview(@PathVariable Integer reviewId) {
+        log.info("상담사 리뷰 삭제 요청: reviewId={}", reviewId);
+
+        try {
+            Long userId = getCurrentUserId();
+            counselingReviewService.deleteReview(userId, reviewId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("상담사 리뷰 삭제 실패: {}", e.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse("S0004", e.getMessage()));
+        } catch (SecurityException e) {
+            log.error("상담사 리뷰 삭제 권한 없음: {}", e.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse("S0003", e.getMessage()));
+        } catch (Exception e) {
+            log.error("상담사 리뷰 삭제 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("S0005", "리뷰를 삭제하는 중 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 상담 요청 API (모든 사용자 가능)
      * 사용자가 특정 상담사에게 상담을 요청합니다.
@@ -0,0 +1,28 @@
+package org.example.backend.channel.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상담 리뷰 작성/수정 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounselingReviewRequest {
+
+    @NotNull(message = "평점은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "평점은 1점 이상이어야 합니다.")
+    @Max(value = 5, message = "평점은 5점 이하여야 합니다.")
+    private Integer score;  // 평점 (1-5)
+
+    @Size(max = 500, message = "리뷰 내용은 최대 500자까지 입력 가능합니다.")
+    private String content;  // 리뷰 내용
+}
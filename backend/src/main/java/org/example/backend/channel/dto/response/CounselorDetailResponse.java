@@ -14,7 +14,7 @@ import java.time.LocalDate;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CounselorDetailResponse implements Serializable {
     private static final long serialVersionUID = 1L;
 
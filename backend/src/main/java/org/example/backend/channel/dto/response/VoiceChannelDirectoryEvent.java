@@ -0,0 +1,24 @@
+package org.example.backend.channel.dto.response;
+
+/**
+ * /sub/channels 로 전송되는 음성 채널 목록 변경 알림
+ *
+ * @param type created (채널 생성), deleted (채널 삭제), occupancy (접속 인원 변경)
+ * @param channelId 채널 ID
+ * @param channel 생성된 채널 정보 (created 일 때만)
+ * @param memberCount 현재 접속 인원 (created, occupancy)
+ */
+public record VoiceChannelDirectoryEvent(String type, Long channelId, VoiceChannelResponse channel, Integer memberCount) {
+
+    public static VoiceChannelDirectoryEvent created(VoiceChannelResponse channel) {
+        return new VoiceChannelDirectoryEvent("created", channel.getChannelId(), channel, channel.getMemberCount());
+    }
+
+    public static VoiceChannelDirectoryEvent deleted(Long channelId) {
+        return new VoiceChannelDirectoryEvent("deleted", channelId, null, null);
+    }
+
+    public static VoiceChannelDirectoryEvent occupancy(Long channelId, int memberCount) {
+        return new VoiceChannelDirectoryEvent("occupancy", channelId, null, memberCount);
+    }
+}
@@ -2,6 +2,7 @@ package org.example.backend.channel.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.backend.channel.model.Channel;
@@ -9,9 +10,10 @@ import org.example.backend.channel.model.Channel;
 import java.time.LocalDateTime;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class VoiceChannelResponse {
 
     private Long channelId;          // 채널 ID (String에서 Long으로 변경됨)
@@ -23,6 +25,12 @@ public class VoiceChannelResponse {
     private String creatorNickname;
     private LocalDateTime createdAt;
     private Integer category;
+    private int memberCount;         // 현재 접속 인원 (Redis channel:{id}:members 기준)
+
+    // 접속 인원만 바꾼 복사본
+    public VoiceChannelResponse withMemberCount(int memberCount) {
+        return toBuilder().memberCount(memberCount).build();
+    }
 
     // Channel 엔티티로부터 DTO 생성하는 정적 팩토리 메서드
     public static VoiceChannelResponse from(Channel channel, String creatorNickname) {
@@ -0,0 +1,25 @@
+package org.example.backend.channel.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 상담사 평균 평점/리뷰 수가 바뀌었을 때 발행되는 이벤트 클래스
+ * (커밋 후 상담사 상세 캐시를 비우는 데 사용)
+ */
+@Getter
+public class CounselorRatingChangedEvent extends ApplicationEvent {
+
+    private final Long counselorId; // 전체 재계산이면 null
+
+    /**
+     * 평점 변경 이벤트 생성
+     *
+     * @param source 이벤트 소스
+     * @param counselorId 상담사 ID (전체 재계산이면 null)
+     */
+    public CounselorRatingChangedEvent(Object source, Long counselorId) {
+        super(source);
+        this.counselorId = counselorId;
+    }
+}
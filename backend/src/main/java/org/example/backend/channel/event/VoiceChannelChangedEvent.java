@@ -0,0 +1,36 @@
+package org.example.backend.channel.event;
+
+import lombok.Getter;
+import org.example.backend.channel.dto.response.VoiceChannelResponse;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 음성 채널 생성/삭제 시 발행되는 이벤트 클래스
+ */
+@Getter
+public class VoiceChannelChangedEvent extends ApplicationEvent {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long channelId;
+    private final VoiceChannelResponse channel; // 삭제 이벤트는 null
+
+    /**
+     * 음성 채널 변경 이벤트 생성
+     *
+     * @param source 이벤트 소스
+     * @param type 변경 종류
+     * @param channelId 채널 ID
+     * @param channel 생성된 채널 정보 (삭제 시 null)
+     */
+    public VoiceChannelChangedEvent(Object source, Type type, Long channelId, VoiceChannelResponse channel) {
+        super(source);
+        this.type = type;
+        this.channelId = channelId;
+        this.channel = channel;
+    }
+}
@@ -43,4 +43,14 @@ public class CounselingReview {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
     }
+
+    /**
+     * 리뷰 수정
+     * @param score 평점 (1-5)
+     * @param content 리뷰 내용
+     */
+    public void update(Integer score, String content) {
+        this.score = score;
+        this.content = content;
+    }
 }
\ No newline at end of file
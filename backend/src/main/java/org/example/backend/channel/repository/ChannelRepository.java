@@ -33,4 +33,8 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
 
     // 상태별 모든 채널 조회
     List<Channel> findByStatus(Integer status);
+
+    // 특정 카테고리의 최대 채널 ID 조회 (ID 발급기 초기값)
+    @Query("SELECT MAX(c.channelId) FROM Channel c WHERE c.category = :category")
+    Long findMaxChannelIdByCategory(@Param("category") int category);
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package org.example.backend.channel.repository;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.auth.model.Counselor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.backend.auth.model.QCounselor.counselor;
+import static org.example.backend.auth.model.QCounselorProfile.counselorProfile;
+import static org.example.backend.auth.model.QUser.user;
+
+/**
+ * 상담사 목록 조회용 QueryDSL Repository
+ *
+ * 상담사, 사용자, 프로필(평균 평점/리뷰 수 포함)을 한 번의 조인 쿼리로 가져옵니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounselorDirectoryRepository {
+
+    /**
+     * 경력이 없거나(프로필 없음, 빈 값) 숫자가 없을 때의 경력 년수 (목록 응답과 경력 필터에서 같은 값 사용)
+     */
+    public static final int DEFAULT_EXPERIENCE_YEARS = 1;
+
+    private static final PathBuilder<Counselor> COUNSELOR_PATH = new PathBuilder<>(Counselor.class, counselor.getMetadata());
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 상담사 목록 조회
+     *
+     * @param specialty 전문 분야 (부분 일치, null 이면 전체)
+     * @param minExperience 최소 경력 년수 (null 이면 전체)
+     * @param pageable 페이징 정보 (정렬은 Counselor 속성 기준)
+     * @return 상담사 목록
+     */
+    public Page<CounselorDirectoryRow> findCounselors(String specialty, Integer minExperience, Pageable pageable) {
+        BooleanExpression[] conditions = {specialtyContains(specialty), experienceAtLeast(minExperience)};
+
+        List<CounselorDirectoryRow> content = queryFactory
+                .select(Projections.constructor(CounselorDirectoryRow.class,
+                        counselor.id,
+                        counselor.name,
+                        user.nickname,
+                        user.profileUrl,
+                        counselorProfile.id,
+                        counselorProfile.specialty,
+                        counselorProfile.years,
+                        counselorProfile.certifications,
+                        counselorProfile.bio,
+                        counselorProfile.status,
+                        counselorProfile.counselorCode,
+                        counselorProfile.ratingAvg,
+                        counselorProfile.reviewCount))
+                .from(counselor)
+                .join(counselor.user, user)
+                .leftJoin(counselorProfile).on(counselorProfile.id.eq(counselor.id))
+                .where(conditions)
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(counselor.count())
+                .from(counselor)
+                .leftJoin(counselorProfile).on(counselorProfile.id.eq(counselor.id))
+                .where(conditions);
+
+        // 마지막 페이지처럼 전체 개수를 알 수 있는 경우에는 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    private BooleanExpression specialtyContains(String specialty) {
+        return StringUtils.hasText(specialty) ? counselorProfile.specialty.contains(specialty.trim()) : null;
+    }
+
+    private BooleanExpression experienceAtLeast(Integer minExperience) {
+        if (minExperience == null || minExperience <= 0) {
+            return null;
+        }
+        // years 는 "8년" 같은 문자열이므로 숫자만 남겨 비교
+        // (프로필이 없거나 숫자가 없으면 parseExperienceYears 와 같이 기본 경력으로 비교)
+        NumberExpression<Integer> years = Expressions.numberTemplate(Integer.class,
+                "cast(coalesce(nullif(function('regexp_replace', {0}, '[^0-9]', ''), ''), '"
+                        + DEFAULT_EXPERIENCE_YEARS + "') as Integer)",
+                counselorProfile.years);
+        return years.goe(minExperience);
+    }
+
+    /**
+     * "8년" 같은 경력 문자열에서 숫자만 꺼냄 (experienceAtLeast 의 SQL 과 같은 규칙)
+     *
+     * @return 경력 년수, 값이 없거나 숫자가 없으면 DEFAULT_EXPERIENCE_YEARS
+     */
+    public static int parseExperienceYears(String years) {
+        if (years == null) {
+            return DEFAULT_EXPERIENCE_YEARS;
+        }
+        String digits = years.replaceAll("[^0-9]", "");
+        if (digits.isEmpty()) {
+            return DEFAULT_EXPERIENCE_YEARS;
+        }
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return DEFAULT_EXPERIENCE_YEARS;
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+                    COUNSELOR_PATH.getComparable(order.getProperty(), Comparable.class)));
+        }
+        if (orders.isEmpty()) {
+            orders.add(counselor.id.asc());
+        }
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 상담사 목록 한 줄 (프로필이 없으면 profileId 와 프로필 필드가 null)
+     */
+    public record CounselorDirectoryRow(Long counselorId, String counselorName, String nickname, String profileUrl,
+                                        Long profileId, String specialty, String years, String certifications,
+                                        String bio, Integer status, Integer counselorCode,
+                                        Double ratingAvg, Integer reviewCount) {
+    }
+}
@@ -20,13 +20,20 @@ import org.example.backend.channel.model.ChannelType;
 import org.example.backend.channel.model.CounselingReview;
 import org.example.backend.channel.repository.ChannelRepository;
 import org.example.backend.channel.repository.CounselingReviewRepository;
+import org.example.backend.channel.repository.CounselorDirectoryRepository;
+import org.example.backend.channel.repository.CounselorDirectoryRepository.CounselorDirectoryRow;
+import org.example.backend.common.id.IdAllocator;
+import org.example.backend.common.id.IdSequence;
+import org.example.backend.s3.profile.image.ProfileImageKeys;
+import org.example.backend.s3.profile.image.ProfileImageSize;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -41,15 +48,19 @@ public class CounselingChannelService {
     private final CounselorRepository counselorRepository;
     private final CounselorProfileRepository counselorProfileRepository;
     private final CounselingReviewRepository counselingReviewRepository;
+    private final CounselorDirectoryRepository counselorDirectoryRepository;
+    private final IdAllocator idAllocator;
 
     /**
      * 상담사 프로필 업데이트 이벤트 리스너
      * 상담사 프로필이 업데이트되면 해당 상담사의 캐시된 정보를 제거합니다.
+     * 트랜잭션 커밋 이후에 제거해야 다른 요청이 변경 전 데이터를 다시 캐시하지 않습니다.
+     * 제거 내용은 Redis 를 통해 다른 서버의 로컬 캐시에도 전파됩니다.
      *
      * @param event 상담사 프로필 업데이트 이벤트
      */
-    @EventListener
-    @CacheEvict(value = {"counselors", "counselorList"}, allEntries = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @CacheEvict(value = "counselors", key = "#event.counselorId")
     public void handleCounselorProfileUpdated(CounselorProfileUpdatedEvent event) {
         log.info("상담사 프로필 업데이트 이벤트 수신: userId={}, counselorId={}",
                 event.getUserId(), event.getCounselorId());
@@ -67,14 +78,8 @@ public class CounselingChannelService {
      * @return 생성된 채널 ID
      */
     private Long generateCounselingChannelId() {
-        // 기존 방식(String)에서 Long으로 변경
-        Long maxId = channelRepository.findByCategory(1) // 상담 채널(category=1)
-                .stream()
-                .map(Channel::getChannelId)
-                .max(Long::compareTo)
-                .orElse(10000L); // 상담 채널 ID는 10000부터 시작 (음성 채널과 구분)
-
-        return maxId + 1L;
+        // 상담 채널 ID는 10001부터 발급 (음성 채널과 구분)
+        return idAllocator.next(IdSequence.COUNSELING_CHANNEL);
     }
 
     /**
@@ -176,74 +181,59 @@ public class CounselingChannelService {
      *
      * @param specialty 전문 분야 필터링
      * @param minExperience 최소 경력 필터링
+     * @param imageSize 프로필 이미지 크기(px), null 이면 가장 큰 이미지의 키
      * @param pageable 페이징 정보
      * @return 상담사 목록
      */
     @Transactional(readOnly = true)
     public Page<CounselorListResponse> getCounselorList(
-            String specialty, Integer minExperience, Pageable pageable) {
+            String specialty, Integer minExperience, Integer imageSize, Pageable pageable) {
 
-        // 기본 상담사 목록 조회
-        Page<Counselor> counselors = counselorRepository.findAll(pageable);
+        // 상담사 + 사용자 + 프로필 조회 (조인 한 번, 전문 분야/경력 필터 적용)
+        Page<CounselorDirectoryRow> counselors = counselorDirectoryRepository.findCounselors(specialty, minExperience, pageable);
 
-        // 엔티티를 DTO로 변환
-        return counselors.map(counselor -> {
-            User user = counselor.getUser();
-
-            // 상담사 프로필 조회 (ID로 조회)
-            Optional<CounselorProfile> profileOpt = counselorProfileRepository.findById(counselor.getId());
-
-            // 리뷰 정보 계산
-            double satisfactionRate = calculateSatisfactionRate(counselor.getId());
-            long reviewCount = counselingReviewRepository.countByCounselorId(counselor.getId());
+        // 조회 결과를 DTO로 변환
+        return counselors.map(row -> {
+            // 리뷰 정보 (프로필에 집계된 값 사용)
+            double satisfactionRate = toSatisfactionRate(row.ratingAvg());
+            long reviewCount = row.reviewCount() != null ? row.reviewCount() : 0;
 
             // 프로필 정보 추출
             String[] specialties = new String[]{"심리 상담"};
             String[] certifications = new String[]{"심리상담사"};
-            String shortIntro = counselor.getName() + " 상담사입니다.";
-            int experience = 1;
+            String shortIntro = row.counselorName() + " 상담사입니다.";
+            int experience = CounselorDirectoryRepository.DEFAULT_EXPERIENCE_YEARS;
             Integer status = 0; // 기본 상태: 대기/가능
             Integer counselorCode = null;
 
             // 프로필이 존재하면 정보 사용
-            if (profileOpt.isPresent()) {
-                CounselorProfile profile = profileOpt.get();
-
-                if (profile.getSpecialty() != null && !profile.getSpecialty().isEmpty()) {
-                    specialties = profile.getSpecialty().split(",");
+            if (row.profileId() != null) {
+                if (row.specialty() != null && !row.specialty().isEmpty()) {
+                    specialties = row.specialty().split(",");
                 }
 
-                if (profile.getCertifications() != null && !profile.getCertifications().isEmpty()) {
-                    certifications = new String[]{profile.getCertifications()};
+                if (row.certifications() != null && !row.certifications().isEmpty()) {
+                    certifications = new String[]{row.certifications()};
                 }
 
-                if (profile.getBio() != null && !profile.getBio().isEmpty()) {
-                    shortIntro = profile.getBio().length() > 50
-                            ? profile.getBio().substring(0, 47) + "..."
-                            : profile.getBio();
+                if (row.bio() != null && !row.bio().isEmpty()) {
+                    shortIntro = row.bio().length() > 50
+                            ? row.bio().substring(0, 47) + "..."
+                            : row.bio();
                 }
 
-                if (profile.getYears() != null && !profile.getYears().isEmpty()) {
-                    try {
-                        // "8년"과 같은 문자열에서 숫자만 추출
-                        String yearsStr = profile.getYears().replaceAll("[^0-9]", "");
-                        if (!yearsStr.isEmpty()) {
-                            experience = Integer.parseInt(yearsStr);
-                        }
-                    } catch (NumberFormatException e) {
-                        log.warn("경력 년수 변환 실패: {}", profile.getYears());
-                    }
-                }
+                // "8년"과 같은 문자열에서 숫자만 추출 (경력 필터와 같은 규칙)
+                experience = CounselorDirectoryRepository.parseExperienceYears(row.years());
 
                 // 상담사 상태 정보 사용
-                status = profile.getStatus();
-                counselorCode = profile.getCounselorCode();
+                status = row.status();
+                counselorCode = row.counselorCode();
             }
 
             return CounselorListResponse.builder()
-                    .id(counselor.getId())
-                    .name(user.getNickname() + " 상담사")
-                    .profileImage(user.getProfileUrl())
+                    .id(row.counselorId())
+                    .name(row.nickname() + " 상담사")
+                    .profileImage(ProfileImageKeys.resolve(row.profileUrl(), ProfileImageSize.atLeast(imageSize)))
                     .title(specialties != null && specialties.length > 0
                             ? specialties[0] + " 전문가"
                             : "심리 상담 전문가") // 전문 분야를 포함한 타이틀로 수정
@@ -265,7 +255,7 @@ public class CounselingChannelService {
      * @param counselorId 상담사 ID
      * @return 상담사 상세 정보
      */
-    @Cacheable(value = "counselors", key = "#counselorId")
+    @Cacheable(value = "counselors", key = "#counselorId", sync = true)
     @Transactional(readOnly = true)
     public CounselorDetailResponse getCounselorDetail(Long counselorId) {
         log.info("상담사 상세 정보 조회 요청 (DB에서): counselorId={}", counselorId);
@@ -284,7 +274,7 @@ public class CounselingChannelService {
         String[] specialties = new String[]{"심리 상담"};
         String[] certifications = new String[]{"심리상담사"};
         String fullIntro = counselor.getName() + "입니다. 심리 상담을 전문으로 하고 있습니다.";
-        int experience = 1;
+        int experience = CounselorDirectoryRepository.DEFAULT_EXPERIENCE_YEARS;
         String certificationString = "심리상담사";
         Integer status = 0; // 기본 상태: 대기/가능
 
@@ -305,25 +295,16 @@ public class CounselingChannelService {
                 fullIntro = profile.getBio();
             }
 
-            if (profile.getYears() != null && !profile.getYears().isEmpty()) {
-                try {
-                    // "8년"과 같은 문자열에서 숫자만 추출
-                    String yearsStr = profile.getYears().replaceAll("[^0-9]", "");
-                    if (!yearsStr.isEmpty()) {
-                        experience = Integer.parseInt(yearsStr);
-                    }
-                } catch (NumberFormatException e) {
-                    log.warn("경력 년수 변환 실패: {}", profile.getYears());
-                }
-            }
+            // "8년"과 같은 문자열에서 숫자만 추출 (경력 필터와 같은 규칙)
+            experience = CounselorDirectoryRepository.parseExperienceYears(profile.getYears());
 
             // 상담사 상태 정보 사용
             status = profile.getStatus();
         }
 
-        // 리뷰 정보 계산
-        double satisfactionRate = calculateSatisfactionRate(counselorId);
-        long reviewCount = counselingReviewRepository.countByCounselorId(counselorId);
+        // 리뷰 정보 (프로필에 집계된 값 사용)
+        double satisfactionRate = toSatisfactionRate(profileOpt.map(CounselorProfile::getRatingAvg).orElse(null));
+        long reviewCount = profileOpt.map(CounselorProfile::getReviewCount).orElse(0);
 
         return CounselorDetailResponse.builder()
                 .id(counselor.getId())
@@ -429,13 +410,10 @@ public class CounselingChannelService {
     /**
      * 상담사 만족도 계산
      *
-     * @param counselorId 상담사 ID
+     * @param avgScore 리뷰 평균 점수 (리뷰가 없으면 null)
      * @return 만족도 비율 (0-100)
      */
-    private double calculateSatisfactionRate(Long counselorId) {
-        // 리뷰 평균 점수 계산 (5점 만점)
-        Double avgScore = counselingReviewRepository.findAverageScoreByCounselorId(counselorId);
-
+    private double toSatisfactionRate(Double avgScore) {
         // 리뷰가 없으면 기본값 반환
         if (avgScore == null) {
             return 90.0; // 기본값으로 90% 설정
@@ -0,0 +1,152 @@
+package org.example.backend.channel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.auth.model.User;
+import org.example.backend.auth.repository.CounselorProfileRepository;
+import org.example.backend.auth.repository.CounselorRepository;
+import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.channel.dto.request.CounselingReviewRequest;
+import org.example.backend.channel.dto.response.CounselorReviewResponse;
+import org.example.backend.channel.event.CounselorRatingChangedEvent;
+import org.example.backend.channel.model.CounselingReview;
+import org.example.backend.channel.repository.CounselingReviewRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * 상담 리뷰 작성/수정/삭제 서비스
+ *
+ * 리뷰가 바뀔 때마다 CounselorProfile 의 ratingAvg, reviewCount 를 같은 트랜잭션에서 증분 갱신하므로
+ * 상담사 목록/상세 조회는 리뷰 테이블을 집계하지 않고 프로필 값을 그대로 사용합니다.
+ * 증분 계산의 부동소수점 오차나 직접 수정된 데이터는 CounselorRatingRebuilder 가 매일 한 번 전체 재계산으로 맞추고,
+ * 상담사 상세 캐시는 트랜잭션 커밋 후에 비워 커밋 전 값이 다시 캐시되지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounselingReviewService {
+
+    private final CounselingReviewRepository counselingReviewRepository;
+    private final CounselorRepository counselorRepository;
+    private final CounselorProfileRepository counselorProfileRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 리뷰 작성
+     *
+     * @param userId 작성자 ID
+     * @param counselorId 상담사 ID
+     * @param request 리뷰 내용
+     * @return 작성된 리뷰
+     */
+    @Transactional
+    public CounselorReviewResponse createReview(Long userId, Long counselorId, CounselingReviewRequest request) {
+        if (!counselorRepository.existsById(counselorId)) {
+            throw new IllegalArgumentException("상담사를 찾을 수 없습니다.");
+        }
+
+        CounselingReview review = counselingReviewRepository.save(CounselingReview.builder()
+                .counselorId(counselorId)
+                .userId(userId)
+                .score(request.getScore())
+                .content(request.getContent())
+                .build());
+
+        counselorProfileRepository.applyReviewAdded(counselorId, request.getScore());
+        eventPublisher.publishEvent(new CounselorRatingChangedEvent(this, counselorId));
+        log.info("상담 리뷰 작성 완료: reviewId={}, counselorId={}, score={}",
+                review.getCounselingReviewId(), counselorId, request.getScore());
+
+        return toResponse(review);
+    }
+
+    /**
+     * 리뷰 수정 (작성자만 가능)
+     *
+     * @param userId 요청 사용자 ID
+     * @param reviewId 리뷰 ID
+     * @param request 수정할 내용
+     * @return 수정된 리뷰
+     */
+    @Transactional
+    public CounselorReviewResponse updateReview(Long userId, Integer reviewId, CounselingReviewRequest request) {
+        CounselingReview review = getOwnReview(userId, reviewId);
+
+        int previousScore = review.getScore();
+        review.update(request.getScore(), request.getContent());
+        counselingReviewRepository.saveAndFlush(review);
+
+        if (previousScore != request.getScore()) {
+            counselorProfileRepository.applyReviewScoreChanged(review.getCounselorId(), request.getScore() - previousScore);
+            eventPublisher.publishEvent(new CounselorRatingChangedEvent(this, review.getCounselorId()));
+        }
+        log.info("상담 리뷰 수정 완료: reviewId={}, counselorId={}, score={} -> {}",
+                reviewId, review.getCounselorId(), previousScore, request.getScore());
+
+        return toResponse(review);
+    }
+
+    /**
+     * 리뷰 삭제 (작성자만 가능)
+     *
+     * @param userId 요청 사용자 ID
+     * @param reviewId 리뷰 ID
+     */
+    @Transactional
+    public void deleteReview(Long userId, Integer reviewId) {
+        CounselingReview review = getOwnReview(userId, reviewId);
+
+        counselingReviewRepository.delete(review);
+        counselingReviewRepository.flush();
+        counselorProfileRepository.applyReviewRemoved(review.getCounselorId(), review.getScore());
+        eventPublisher.publishEvent(new CounselorRatingChangedEvent(this, review.getCounselorId()));
+        log.info("상담 리뷰 삭제 완료: reviewId={}, counselorId={}", reviewId, review.getCounselorId());
+    }
+
+    /**
+     * 평점 변경 커밋 후 상담사 상세 캐시 삭제 (전체 재계산이면 전부 삭제)
+     *
+     * @param event 평점 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Caching(evict = {
+            @CacheEvict(value = "counselors", key = "#event.counselorId", condition = "#event.counselorId != null"),
+            @CacheEvict(value = "counselors", allEntries = true, condition = "#event.counselorId == null")
+    })
+    public void handleRatingChanged(CounselorRatingChangedEvent event) {
+        log.debug("상담사 평점 변경 캐시 삭제: counselorId={}", event.getCounselorId());
+    }
+
+    private CounselingReview getOwnReview(Long userId, Integer reviewId) {
+        CounselingReview review = counselingReviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        if (!Objects.equals(review.getUserId(), userId)) {
+            throw new SecurityException("본인이 작성한 리뷰만 수정하거나 삭제할 수 있습니다.");
+        }
+        return review;
+    }
+
+    private CounselorReviewResponse toResponse(CounselingReview review) {
+        String userName = userRepository.findById(review.getUserId())
+                .map(User::getNickname)
+                .orElse("알 수 없음");
+
+        return CounselorReviewResponse.builder()
+                .id(review.getCounselingReviewId())
+                .userId(review.getUserId())
+                .userName(userName)
+                .score(review.getScore())
+                .content(review.getContent())
+                .createdAt(review.getCreatedAt())
+                .build();
+    }
+}
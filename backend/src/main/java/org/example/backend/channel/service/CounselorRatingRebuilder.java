@@ -0,0 +1,98 @@
+package org.example.backend.channel.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.auth.repository.CounselorProfileRepository;
+import org.example.backend.channel.event.CounselorRatingChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * 상담사 평균 평점/리뷰 수 재계산
+ *
+ * 기동 시 집계 값이 비어 있는(reviewCount 가 null 인) 프로필만 리뷰 테이블 기준으로 채우고,
+ * 매일 한 번 전체를 다시 계산해 증분 갱신의 누적 오차를 보정합니다.
+ * 여러 서버 중 잠금을 얻은 한 곳에서만 실행하며, 커밋 후 상담사 상세 캐시를 비웁니다.
+ */
+@Slf4j
+@Component
+public class CounselorRatingRebuilder {
+
+    private static final String LOCK_KEY = "counselor:rating:rebuild-lock";
+
+    // 자신이 얻은 잠금만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CounselorProfileRepository counselorProfileRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lockTtl;
+
+    public CounselorRatingRebuilder(CounselorProfileRepository counselorProfileRepository,
+                                    StringRedisTemplate redisTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${counselor.rating.rebuild-lock-ttl-seconds:600}") long lockTtlSeconds) {
+        this.counselorProfileRepository = counselorProfileRepository;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+    }
+
+    /**
+     * 집계 값이 없는 프로필 채우기 (컬럼 추가 전부터 있던 상담사)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingAggregates() {
+        runLocked("누락 보정", CounselorProfileRepository::backfillMissingRatingAggregates);
+    }
+
+    /**
+     * 평균 평점/리뷰 수 전체 재계산 (증분 갱신 누적 오차 보정)
+     */
+    @Scheduled(cron = "${counselor.rating.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRatingAggregates() {
+        runLocked("전체 재계산", CounselorProfileRepository::rebuildRatingAggregates);
+    }
+
+    private void runLocked(String label, ToIntFunction<CounselorProfileRepository> update) {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("상담사 평점 집계 {} 건너뜀: 다른 서버에서 실행 중", label);
+            return;
+        }
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = update.applyAsInt(counselorProfileRepository);
+                if (count > 0) {
+                    eventPublisher.publishEvent(new CounselorRatingChangedEvent(this, null));
+                }
+                return count;
+            });
+            log.info("상담사 평점 집계 {} 완료: {}건", label, updated);
+        } catch (Exception e) {
+            log.error("상담사 평점 집계 {} 실패: {}", label, e.getMessage());
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
+        }
+    }
+}
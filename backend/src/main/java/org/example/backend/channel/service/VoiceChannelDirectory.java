@@ -0,0 +1,259 @@
+package org.example.backend.channel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.backend.auth.model.User;
+import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.channel.dto.response.VoiceChannelDirectoryEvent;
+import org.example.backend.channel.dto.response.VoiceChannelResponse;
+import org.example.backend.channel.event.VoiceChannelChangedEvent;
+import org.example.backend.channel.model.Channel;
+import org.example.backend.channel.repository.ChannelRepository;
+import org.example.backend.websocket.presence.ChannelPresenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 음성 채널 목록 (메모리)
+ *
+ * 시작 시 DB 와 Redis(channel:{id}:members) 에서 한 번에 읽어 만들고, 이후에는 채널 생성/삭제와 입장/퇴장 때마다 갱신합니다.
+ * - 변경 내용은 /sub/channels 로 클라이언트에 알리고, Redis 채널(voice-channel:directory)로 다른 서버의 목록에도 반영
+ * - 놓친 변경이 있어도 resync-interval-ms 마다 DB/Redis 기준으로 다시 맞추고, 달라진 채널은 /sub/channels 로 알림
+ */
+@Component
+public class VoiceChannelDirectory implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoiceChannelDirectory.class);
+
+    public static final String DESTINATION = "/sub/channels";
+    private static final String TOPIC = "voice-channel:directory";
+    private static final String UNKNOWN_NICKNAME = "알 수 없음";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ChannelRepository channelRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ChannelPresenceService channelPresenceService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, VoiceChannelResponse> channels = new ConcurrentHashMap<>();
+    // 다시 맞추는 동안 변경된 채널 (DB 에서 읽은 이전 값으로 덮어쓰지 않도록 표시)
+    private final Set<Long> changedDuringResync = ConcurrentHashMap.newKeySet();
+    private volatile boolean resyncing;
+
+    public VoiceChannelDirectory(ChannelRepository channelRepository,
+                                 UserRepository userRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 ChannelPresenceService channelPresenceService,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 SimpMessagingTemplate messagingTemplate,
+                                 ObjectMapper objectMapper) {
+        this.channelRepository = channelRepository;
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.channelPresenceService = channelPresenceService;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TOPIC));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        listenerContainer.removeMessageListener(this, new ChannelTopic(TOPIC));
+    }
+
+    /**
+     * 음성 채널 목록 (채널 ID 순)
+     */
+    public List<VoiceChannelResponse> list() {
+        return channels.values().stream()
+                .sorted(Comparator.comparing(VoiceChannelResponse::getChannelId))
+                .toList();
+    }
+
+    /**
+     * 음성 채널 조회
+     * @return 채널 정보, 목록에 없으면 null
+     */
+    public VoiceChannelResponse get(Long channelId) {
+        return channels.get(channelId);
+    }
+
+    /**
+     * 시작 시 전체 목록 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload(false);
+        logger.info("음성 채널 목록 초기화 완료: {}개", channels.size());
+    }
+
+    /**
+     * DB 와 Redis 기준으로 전체 목록을 다시 맞추고, 놓친 변경을 클라이언트에 알림
+     * 모든 서버가 각자 다시 맞추므로 같은 알림이 여러 번 전달될 수 있지만, 알림은 덮어쓰기라 결과는 같습니다.
+     */
+    @Scheduled(fixedDelayString = "${voice-channel.directory.resync-interval-ms:60000}",
+            initialDelayString = "${voice-channel.directory.resync-interval-ms:60000}")
+    public void resync() {
+        reload(true);
+    }
+
+    /**
+     * DB 와 Redis 기준으로 전체 목록 생성
+     * 채널 조회 1번, 생성자 닉네임 조회 1번, 접속 인원은 파이프라인 1번으로 읽습니다.
+     *
+     * @param notify 기존 목록과 달라진 채널을 /sub/channels 로 알릴지 여부
+     */
+    private void reload(boolean notify) {
+        changedDuringResync.clear();
+        resyncing = true;
+        try {
+            List<Channel> voiceChannels = channelRepository.findByCategory(0); // VOICE = 0
+
+            Set<Long> creatorIds = voiceChannels.stream().map(Channel::getUserId).collect(Collectors.toSet());
+            Map<Long, String> nicknames = userRepository.findAllById(creatorIds).stream()
+                    .collect(Collectors.toMap(User::getId, User::getNickname, (a, b) -> a));
+
+            List<Integer> memberCounts = channelPresenceService.countMembers(voiceChannels.stream().map(Channel::getChannelId).toList());
+
+            Map<Long, VoiceChannelResponse> snapshot = new HashMap<>();
+            for (int i = 0; i < voiceChannels.size(); i++) {
+                Channel channel = voiceChannels.get(i);
+                VoiceChannelResponse response = VoiceChannelResponse.from(channel,
+                                nicknames.getOrDefault(channel.getUserId(), UNKNOWN_NICKNAME))
+                        .withMemberCount(memberCounts.get(i));
+                snapshot.put(channel.getChannelId(), response);
+            }
+
+            Set<Long> stale = new HashSet<>(channels.keySet());
+            stale.removeAll(snapshot.keySet());
+            stale.removeAll(changedDuringResync);
+            List<VoiceChannelDirectoryEvent> missed = new ArrayList<>();
+            for (Long channelId : stale) {
+                channels.remove(channelId);
+                missed.add(VoiceChannelDirectoryEvent.deleted(channelId));
+            }
+            snapshot.forEach((channelId, response) -> {
+                if (changedDuringResync.contains(channelId)) {
+                    return;
+                }
+                VoiceChannelResponse previous = channels.put(channelId, response);
+                if (previous == null || !previous.withMemberCount(response.getMemberCount()).equals(response)) {
+                    missed.add(VoiceChannelDirectoryEvent.created(response));
+                } else if (previous.getMemberCount() != response.getMemberCount()) {
+                    missed.add(VoiceChannelDirectoryEvent.occupancy(channelId, response.getMemberCount()));
+                }
+            });
+
+            if (notify && !missed.isEmpty()) {
+                logger.info("음성 채널 목록 동기화로 {}건 변경 알림", missed.size());
+                missed.forEach(delta -> messagingTemplate.convertAndSend(DESTINATION, delta));
+            }
+        } catch (Exception e) {
+            logger.error("음성 채널 목록 동기화 실패: {}", e.getMessage());
+        } finally {
+            resyncing = false;
+        }
+    }
+
+    /**
+     * 채널 생성/삭제가 커밋된 뒤 목록에 반영하고 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChannelChanged(VoiceChannelChangedEvent event) {
+        VoiceChannelDirectoryEvent delta = switch (event.getType()) {
+            case CREATED -> VoiceChannelDirectoryEvent.created(event.getChannel());
+            case DELETED -> VoiceChannelDirectoryEvent.deleted(event.getChannelId());
+        };
+        applyAndPublish(delta);
+    }
+
+    /**
+     * 접속 인원 변경 반영 (목록에 없는 채널, 예: 상담 채널은 무시)
+     * @param memberCount Redis 에서 읽은 현재 인원
+     */
+    public void updateOccupancy(Long channelId, long memberCount) {
+        VoiceChannelResponse current = channels.get(channelId);
+        if (current == null || current.getMemberCount() == memberCount) {
+            return;
+        }
+        applyAndPublish(VoiceChannelDirectoryEvent.occupancy(channelId, (int) memberCount));
+    }
+
+    private void applyAndPublish(VoiceChannelDirectoryEvent delta) {
+        apply(delta);
+        messagingTemplate.convertAndSend(DESTINATION, delta);
+        try {
+            redisTemplate.convertAndSend(TOPIC, objectMapper.writeValueAsString(new DirectoryMessage(nodeId, delta)));
+        } catch (Exception e) {
+            logger.error("음성 채널 목록 변경 전파 실패: channelId={}, {}", delta.channelId(), e.getMessage());
+        }
+    }
+
+    private void apply(VoiceChannelDirectoryEvent delta) {
+        if (resyncing) {
+            changedDuringResync.add(delta.channelId());
+        }
+        switch (delta.type()) {
+            case "created" -> channels.put(delta.channelId(), delta.channel());
+            case "deleted" -> channels.remove(delta.channelId());
+            case "occupancy" -> channels.computeIfPresent(delta.channelId(),
+                    (id, current) -> current.withMemberCount(delta.memberCount()));
+            default -> logger.warn("알 수 없는 음성 채널 목록 변경: {}", delta.type());
+        }
+    }
+
+    /**
+     * 다른 서버에서 발생한 변경 반영 (클라이언트 알림은 발생한 서버에서 이미 전송)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            DirectoryMessage directoryMessage = objectMapper.readValue(message.getBody(), DirectoryMessage.class);
+            if (!nodeId.equals(directoryMessage.origin())) {
+                apply(directoryMessage.event());
+            }
+        } catch (Exception e) {
+            logger.error("음성 채널 목록 변경 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 간 목록 변경 메시지
+     * @param origin 발생한 서버 ID
+     */
+    public record DirectoryMessage(String origin, VoiceChannelDirectoryEvent event) {
+    }
+}
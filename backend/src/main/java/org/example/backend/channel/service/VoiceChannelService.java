@@ -6,15 +6,18 @@ import org.example.backend.auth.model.User;
 import org.example.backend.auth.repository.UserRepository;
 import org.example.backend.channel.dto.request.VoiceChannelCreateRequest;
 import org.example.backend.channel.dto.response.VoiceChannelResponse;
+import org.example.backend.channel.event.VoiceChannelChangedEvent;
 import org.example.backend.channel.model.Channel;
 import org.example.backend.channel.model.ChannelType;
 import org.example.backend.channel.repository.ChannelRepository;
+import org.example.backend.common.id.IdAllocator;
+import org.example.backend.common.id.IdSequence;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,20 +27,26 @@ public class VoiceChannelService {
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final IdAllocator idAllocator;
+    private final VoiceChannelDirectory voiceChannelDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 사용 중인 ID 를 건너뛰며 발급을 시도하는 최대 횟수
+    private static final int MAX_CHANNEL_ID_ATTEMPTS = 100;
 
     /**
      * 음성 채널 ID 생성 - Long 타입으로 변경
      * @return 생성된 채널 ID
      */
     private Long generateChannelId() {
-        // 기존 방식(String)에서 Long으로 변경
-        Long maxId = channelRepository.findByCategory(0) // 음성 채널(category=0)
-                .stream()
-                .map(Channel::getChannelId)
-                .max(Long::compareTo)
-                .orElse(0L);
-
-        return maxId + 1L;
+        // 음성 채널 ID는 1~9999 를 순환하며 발급하므로, 아직 사용 중인 ID 는 건너뜀
+        for (int attempt = 0; attempt < MAX_CHANNEL_ID_ATTEMPTS; attempt++) {
+            Long channelId = idAllocator.next(IdSequence.VOICE_CHANNEL);
+            if (!channelRepository.existsById(channelId)) {
+                return channelId;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 음성 채널 ID가 없습니다.");
     }
 
     /**
@@ -78,31 +87,21 @@ public class VoiceChannelService {
         Channel savedChannel = channelRepository.save(channel);
         log.info("음성 채널 생성 완료: channelId={}, userId={}", channelId, userId);
 
-        // 응답 DTO 반환
-        return VoiceChannelResponse.from(savedChannel, user.getNickname());
+        // 응답 DTO 생성 후 채널 목록에 반영 (커밋 이후 /sub/channels 로 알림)
+        VoiceChannelResponse response = VoiceChannelResponse.from(savedChannel, user.getNickname());
+        eventPublisher.publishEvent(new VoiceChannelChangedEvent(
+                this, VoiceChannelChangedEvent.Type.CREATED, channelId, response));
+        return response;
     }
 
-    // 나머지 메서드들은 그대로 유지
     /**
      * 음성 채널 목록 조회
+     * DB 를 조회하지 않고 메모리 목록(VoiceChannelDirectory)에서 현재 접속 인원과 함께 반환합니다.
      *
      * @return 음성 채널 목록
      */
-    @Transactional(readOnly = true)
     public List<VoiceChannelResponse> getVoiceChannelList() {
-        // 음성 채널 타입에 해당하는 모든 채널 조회
-        List<Channel> channels = channelRepository.findByCategory(0); // VOICE = 0
-
-        // 각 채널의 생성자 닉네임 조회 및 응답 DTO 변환
-        return channels.stream()
-                .map(channel -> {
-                    String creatorNickname = userRepository.findById(channel.getUserId())
-                            .map(User::getNickname)
-                            .orElse("알 수 없음");
-
-                    return VoiceChannelResponse.from(channel, creatorNickname);
-                })
-                .collect(Collectors.toList());
+        return voiceChannelDirectory.list();
     }
 
     /**
@@ -113,6 +112,12 @@ public class VoiceChannelService {
      */
     @Transactional(readOnly = true)
     public VoiceChannelResponse getVoiceChannel(Long channelId) {
+        // 목록에 있으면 접속 인원이 포함된 정보 반환
+        VoiceChannelResponse cached = voiceChannelDirectory.get(channelId);
+        if (cached != null) {
+            return cached;
+        }
+
         // 채널 ID로 채널 조회
         Channel channel = channelRepository.findById(channelId)
                 .orElseThrow(() -> new IllegalArgumentException("채널을 찾을 수 없습니다."));
@@ -167,5 +172,7 @@ public class VoiceChannelService {
         // 채널 삭제
         log.info("음성 채널 자동 삭제: channelId={}", channelId);
         channelRepository.delete(channel);
+        eventPublisher.publishEvent(new VoiceChannelChangedEvent(
+                this, VoiceChannelChangedEvent.Type.DELETED, channelId, null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package org.example.backend.common.cache;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 다른 서버의 로컬 캐시 무효화 요청 발행
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+    /**
+     * @param cacheName 캐시 이름
+     * @param key 무효화할 키, null 이면 캐시 전체
+     */
+    void publish(String cacheName, @Nullable Object key);
+}
@@ -0,0 +1,179 @@
+package org.example.backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 캐시(Caffeine) + Redis 캐시 2단계 캐시
+ *
+ * - 조회: 로컬 → Redis → 원본 순서로 조회하고, Redis 에서 찾은 값은 로컬에도 저장
+ * - 저장/삭제: Redis 와 로컬에 반영한 뒤 다른 서버에 로컬 캐시 무효화를 요청
+ * 로컬 캐시 키는 Redis 키와 같은 문자열 형태로 변환해 사용합니다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> localCache,
+                         org.springframework.cache.Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote != null && remote.get() != null) {
+            remoteHits.increment();
+            localCache.put(localKey, remote.get());
+            return remote.get();
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * sync = true 로 선언된 @Cacheable 에서 사용
+     * 같은 서버에서 같은 키를 동시에 요청하면 한 번만 원본을 조회합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return (T) value;
+        }
+        return (T) localCache.get(localKey, ignored -> loadThrough(key, valueLoader));
+    }
+
+    private Object loadThrough(Object key, Callable<?> valueLoader) {
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote != null && remote.get() != null) {
+            remoteHits.increment();
+            return remote.get();
+        }
+
+        misses.increment();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        remoteCache.put(key, toStoreValue(value));
+        puts.increment();
+        invalidationPublisher.publish(name, key);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        Object storeValue = toStoreValue(value);
+        remoteCache.put(key, storeValue);
+        localCache.put(toLocalKey(key), storeValue);
+        puts.increment();
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        evictions.increment();
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        evictions.add(localCache.estimatedSize());
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * 다른 서버의 무효화 요청 처리 (Redis 는 이미 반영되어 있으므로 로컬 캐시만 삭제)
+     * @param key 무효화할 키 (문자열로 변환된 값), null 이면 전체
+     */
+    void invalidateLocal(@Nullable String key) {
+        remoteInvalidations.increment();
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    long getLocalHits() {
+        return localHits.sum();
+    }
+
+    long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getPuts() {
+        return puts.sum();
+    }
+
+    // 명시적 삭제 + 용량 초과로 로컬 캐시에서 밀려난 항목
+    long getEvictions() {
+        return evictions.sum() + localCache.stats().evictionCount();
+    }
+
+    long getRemoteInvalidations() {
+        return remoteInvalidations.sum();
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.backend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 2단계 캐시 관리자
+ *
+ * 캐시마다 Caffeine 로컬 캐시와 RedisCacheManager 의 캐시를 묶어 TwoLevelCache 를 만들고,
+ * 캐시 변경 시 Redis 채널(cache:invalidate)로 다른 서버에 로컬 캐시 무효화를 알립니다.
+ */
+public class TwoLevelCacheManager extends AbstractCacheManager implements CacheInvalidationPublisher, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    public static final String INVALIDATION_TOPIC = "cache:invalidate";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisCacheManager redisCacheManager;
+    private final TwoLevelCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                TwoLevelCacheProperties properties,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : properties.getCaches().keySet()) {
+            caches.add(createCache(name));
+        }
+        return caches;
+    }
+
+    // 설정에 없는 캐시 이름은 defaults 설정으로 생성
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        TwoLevelCacheProperties.CacheSpec spec = properties.resolve(name);
+        Cache remoteCache = redisCacheManager.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("Redis 캐시를 생성할 수 없습니다: " + name);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .recordStats()
+                .build();
+
+        logger.info("캐시 생성: name={}, ttl={}, localMaxSize={}, localTtl={}",
+                name, spec.getTtl(), spec.getLocalMaxSize(), spec.getLocalTtl());
+        return new TwoLevelCache(name, localCache, remoteCache, this);
+    }
+
+    /**
+     * 다른 서버에 로컬 캐시 무효화 요청
+     * 발행에 실패해도 원래 작업은 계속 진행하며, 다른 서버의 로컬 캐시는 local-ttl 이 지나면 갱신됩니다.
+     */
+    @Override
+    public void publish(String cacheName, @Nullable Object key) {
+        try {
+            String body = objectMapper.writeValueAsString(new CacheInvalidationMessage(
+                    nodeId, cacheName, key != null ? TwoLevelCache.toLocalKey(key) : null));
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC, body);
+        } catch (Exception e) {
+            logger.error("캐시 무효화 메시지 발행 실패: cache={}, key={}, {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 요청 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+            if (nodeId.equals(invalidation.origin())) {
+                return; // 이 서버의 로컬 캐시는 이미 반영됨
+            }
+
+            // 이 서버에서 아직 사용하지 않은 캐시는 비울 필요 없음
+            if (lookupCache(invalidation.cache()) instanceof TwoLevelCache cache) {
+                cache.invalidateLocal(invalidation.key());
+                logger.debug("다른 서버 요청으로 로컬 캐시 무효화: cache={}, key={}", invalidation.cache(), invalidation.key());
+            }
+        } catch (Exception e) {
+            logger.error("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 간 로컬 캐시 무효화 메시지
+     * @param origin 발행한 서버 ID
+     * @param cache 캐시 이름
+     * @param key 무효화할 키, null 이면 캐시 전체
+     */
+    public record CacheInvalidationMessage(String origin, String cache, String key) {
+    }
+}
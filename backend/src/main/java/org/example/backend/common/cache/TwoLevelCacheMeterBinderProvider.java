@@ -0,0 +1,74 @@
+package org.example.backend.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * TwoLevelCache 지표 등록
+ *
+ * 공통 캐시 지표(cache.gets{result=hit|miss}, cache.puts, cache.evictions, cache.size)에 더해
+ * 적중한 단계(cache.tier.hits{tier=local|redis})와 다른 서버에서 받은 무효화 수를 기록합니다.
+ */
+public class TwoLevelCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoLevelCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        return new TwoLevelCacheMetrics(cache, tags);
+    }
+
+    static class TwoLevelCacheMetrics extends CacheMeterBinder<TwoLevelCache> {
+
+        private final TwoLevelCache cache;
+
+        TwoLevelCacheMetrics(TwoLevelCache cache, Iterable<Tag> tags) {
+            super(cache, cache.getName(), tags);
+            this.cache = cache;
+        }
+
+        // 로컬 캐시 항목 수 (Redis 항목 수는 조회 비용이 커서 제외)
+        @Override
+        protected Long size() {
+            return cache.getLocalSize();
+        }
+
+        @Override
+        protected long hitCount() {
+            return cache.getLocalHits() + cache.getRemoteHits();
+        }
+
+        @Override
+        protected Long missCount() {
+            return cache.getMisses();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return cache.getEvictions();
+        }
+
+        @Override
+        protected long putCount() {
+            return cache.getPuts();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            FunctionCounter.builder("cache.tier.hits", cache, TwoLevelCache::getLocalHits)
+                    .tags(getTagsWithCacheName()).tag("tier", "local")
+                    .description("로컬 캐시에서 찾은 횟수")
+                    .register(registry);
+            FunctionCounter.builder("cache.tier.hits", cache, TwoLevelCache::getRemoteHits)
+                    .tags(getTagsWithCacheName()).tag("tier", "redis")
+                    .description("로컬 캐시에 없고 Redis 에서 찾은 횟수")
+                    .register(registry);
+            FunctionCounter.builder("cache.invalidations.received", cache, TwoLevelCache::getRemoteInvalidations)
+                    .tags(getTagsWithCacheName())
+                    .description("다른 서버 요청으로 로컬 캐시를 무효화한 횟수")
+                    .register(registry);
+        }
+    }
+}
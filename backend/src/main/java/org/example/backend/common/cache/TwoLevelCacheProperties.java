@@ -0,0 +1,63 @@
+package org.example.backend.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정 (cache.*)
+ *
+ * defaults 는 모든 캐시에 적용되고, caches.{캐시 이름} 에 지정한 값이 있으면 그 값을 우선 사용합니다.
+ * caches 에 등록한 캐시는 애플리케이션 시작 시 미리 생성되어 지표에 포함됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class TwoLevelCacheProperties {
+
+    // Redis 키 접두어 (cache:{캐시 이름}::{키})
+    private String keyPrefix = "cache:";
+
+    private CacheSpec defaults = new CacheSpec(Duration.ofMinutes(10), 1000L, Duration.ofMinutes(1));
+
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 설정 (지정하지 않은 값은 defaults 사용)
+     */
+    public CacheSpec resolve(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return new CacheSpec(
+                spec.getTtl() != null ? spec.getTtl() : defaults.getTtl(),
+                spec.getLocalMaxSize() != null ? spec.getLocalMaxSize() : defaults.getLocalMaxSize(),
+                spec.getLocalTtl() != null ? spec.getLocalTtl() : defaults.getLocalTtl());
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+
+        // Redis 보관 기간
+        private Duration ttl;
+        // 서버별 로컬 캐시 최대 항목 수
+        private Long localMaxSize;
+        // 로컬 캐시 보관 기간 (무효화 메시지를 놓친 경우에도 이 시간이 지나면 Redis 값으로 갱신)
+        private Duration localTtl;
+
+        public CacheSpec() {
+        }
+
+        public CacheSpec(Duration ttl, Long localMaxSize, Duration localTtl) {
+            this.ttl = ttl;
+            this.localMaxSize = localMaxSize;
+            this.localTtl = localTtl;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.backend.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DB hi-lo 블록 기반 ID 발급기 (id.allocator=db)
+ *
+ * id_sequence 테이블의 시퀀스 행을 잠그고 block-size 개의 ID 범위를 한 번에 예약한 뒤,
+ * 예약한 범위 안에서는 DB 접근 없이 메모리에서 발급합니다.
+ * 서버가 재시작되면 쓰지 않은 범위는 버려지므로 ID 사이에 빈 값이 생길 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "id.allocator", havingValue = "db")
+public class DatabaseIdAllocator implements IdAllocator {
+
+    private final IdBlockRepository idBlockRepository;
+    private final IdSequenceSeeder idSequenceSeeder;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    // 시퀀스별 현재 예약 범위
+    private final Map<IdSequence, Range> ranges = new EnumMap<>(IdSequence.class);
+
+    public DatabaseIdAllocator(IdBlockRepository idBlockRepository,
+                               IdSequenceSeeder idSequenceSeeder,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${id.block-size:50}") int blockSize) {
+        this.idBlockRepository = idBlockRepository;
+        this.idSequenceSeeder = idSequenceSeeder;
+        this.blockSize = blockSize;
+
+        // 호출한 쪽 트랜잭션이 롤백되어도 예약한 범위는 유지되어야 하므로 별도 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public synchronized long next(IdSequence sequence) {
+        Range range = ranges.get(sequence);
+        if (range == null || range.next > range.last) {
+            range = reserveBlock(sequence);
+            ranges.put(sequence, range);
+        }
+        return range.next++;
+    }
+
+    private Range reserveBlock(IdSequence sequence) {
+        try {
+            return transactionTemplate.execute(status -> reserve(sequence));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 시퀀스 행을 먼저 만든 경우: 만들어진 행을 잠그고 다시 예약
+            return transactionTemplate.execute(status -> reserve(sequence));
+        }
+    }
+
+    private Range reserve(IdSequence sequence) {
+        IdBlock block = idBlockRepository.findForUpdate(sequence.getKey())
+                .orElseGet(() -> idBlockRepository.saveAndFlush(
+                        new IdBlock(sequence.getKey(), idSequenceSeeder.currentMax(sequence) + 1)));
+
+        long first = block.getNextValue();
+        if (first > sequence.getMax()) {
+            if (!sequence.isCyclic()) {
+                throw new IllegalStateException("ID 를 발급할 수 없습니다: sequence=" + sequence);
+            }
+            first = sequence.getMin();
+        }
+        long last = Math.min(first + blockSize - 1, sequence.getMax());
+
+        block.advanceTo(last + 1);
+        return new Range(first, last);
+    }
+
+    private static class Range {
+        private long next;
+        private final long last;
+
+        private Range(long first, long last) {
+            this.next = first;
+            this.last = last;
+        }
+    }
+}
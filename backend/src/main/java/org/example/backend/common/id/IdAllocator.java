@@ -0,0 +1,14 @@
+package org.example.backend.common.id;
+
+/**
+ * 숫자 ID 발급기
+ * id.allocator 설정값(redis, db)에 따라 구현체가 선택되며, 여러 서버에서 동시에 호출해도 같은 ID 를 발급하지 않습니다.
+ */
+public interface IdAllocator {
+
+    /**
+     * 다음 ID 발급
+     * @throws IllegalStateException 순환하지 않는 시퀀스가 최대값을 넘은 경우
+     */
+    long next(IdSequence sequence);
+}
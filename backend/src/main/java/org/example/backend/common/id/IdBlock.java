@@ -0,0 +1,36 @@
+package org.example.backend.common.id;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 기반 ID 발급기의 시퀀스별 다음 발급 시작값
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "id_sequence")
+public class IdBlock {
+
+    @Id
+    @Column(name = "sequence_name", length = 50)
+    private String name;
+
+    // 다음 블록의 첫 ID
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    public IdBlock(String name, Long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    public void advanceTo(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
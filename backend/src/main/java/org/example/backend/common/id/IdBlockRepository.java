@@ -0,0 +1,25 @@
+package org.example.backend.common.id;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * ID 블록 접근을 위한 Repository 인터페이스
+ */
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+
+    /**
+     * 시퀀스 행을 잠그고 조회 (SELECT ... FOR UPDATE)
+     *
+     * @param name 시퀀스 이름
+     * @return 시퀀스 정보
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM IdBlock b WHERE b.name = :name")
+    Optional<IdBlock> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,45 @@
+package org.example.backend.common.id;
+
+/**
+ * ID 발급 대상과 사용 범위
+ * 기존 데이터와 겹치지 않도록 기존 findAll-max 방식과 같은 범위를 유지합니다.
+ */
+public enum IdSequence {
+
+    VOICE_CHANNEL("voice-channel", 1, 9_999, true),                 // 음성 채널: 10000 미만, 끝에 도달하면 1부터 다시 (빈 ID 재사용)
+    COUNSELING_CHANNEL("counseling-channel", 10_001, Long.MAX_VALUE, false), // 상담 채널: 10001 부터
+    COUNSELOR("counselor", 1_001, Long.MAX_VALUE, false),           // 상담사 ID: 1001 부터
+    COUNSELOR_CODE("counselor-code", 10_001, Integer.MAX_VALUE, false); // 상담사 코드: 10001 부터
+
+    private final String key;
+    private final long min;
+    private final long max;
+    private final boolean cyclic;
+
+    IdSequence(String key, long min, long max, boolean cyclic) {
+        this.key = key;
+        this.min = min;
+        this.max = max;
+        this.cyclic = cyclic;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 최대값에 도달하면 최소값부터 다시 발급하는지 여부
+     * (발급된 ID 가 아직 사용 중일 수 있으므로 호출자가 사용 여부를 확인해야 함)
+     */
+    public boolean isCyclic() {
+        return cyclic;
+    }
+}
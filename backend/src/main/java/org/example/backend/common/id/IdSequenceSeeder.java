@@ -0,0 +1,35 @@
+package org.example.backend.common.id;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.auth.repository.CounselorProfileRepository;
+import org.example.backend.auth.repository.CounselorRepository;
+import org.example.backend.channel.repository.ChannelRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시퀀스 초기값 조회
+ * 발급기가 처음 사용될 때(또는 Redis 데이터가 사라졌을 때) DB 에 이미 있는 최대 ID 다음부터 발급하도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdSequenceSeeder {
+
+    private final ChannelRepository channelRepository;
+    private final CounselorRepository counselorRepository;
+    private final CounselorProfileRepository counselorProfileRepository;
+
+    /**
+     * 현재 사용 중인 최대 ID (없으면 최소값 - 1)
+     */
+    public long currentMax(IdSequence sequence) {
+        Number max = switch (sequence) {
+            case VOICE_CHANNEL -> channelRepository.findMaxChannelIdByCategory(0);
+            case COUNSELING_CHANNEL -> channelRepository.findMaxChannelIdByCategory(1);
+            case COUNSELOR -> counselorRepository.findMaxId();
+            case COUNSELOR_CODE -> counselorProfileRepository.findMaxCounselorCode();
+        };
+
+        long floor = sequence.getMin() - 1;
+        return max != null ? Math.min(Math.max(max.longValue(), floor), sequence.getMax()) : floor;
+    }
+}
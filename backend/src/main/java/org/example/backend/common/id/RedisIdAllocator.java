@@ -0,0 +1,59 @@
+package org.example.backend.common.id;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis INCR 기반 ID 발급기 (id.allocator=redis, 기본값)
+ * 시퀀스마다 id:seq:{name} 키 하나를 사용하며, 키가 없으면 DB 최대값으로 초기화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "id.allocator", havingValue = "redis", matchIfMissing = true)
+public class RedisIdAllocator implements IdAllocator {
+
+    // 초기화되지 않은 키는 nil 반환, 최대값을 넘으면 순환 시퀀스는 최소값으로, 아니면 -1 반환
+    private static final RedisScript<Long> NEXT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "local v = redis.call('INCR', KEYS[1]) " +
+            "if v > tonumber(ARGV[2]) then " +
+            "  if ARGV[3] == '1' then redis.call('SET', KEYS[1], ARGV[1]) return tonumber(ARGV[1]) end " +
+            "  return -1 " +
+            "end " +
+            "return v",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final IdSequenceSeeder idSequenceSeeder;
+
+    @Override
+    public long next(IdSequence sequence) {
+        String key = getKey(sequence);
+        List<String> args = List.of(
+                String.valueOf(sequence.getMin()),
+                String.valueOf(sequence.getMax()),
+                sequence.isCyclic() ? "1" : "0");
+
+        Long id = redisTemplate.execute(NEXT_SCRIPT, List.of(key), args.toArray());
+        if (id == null) {
+            // 처음 사용하거나 Redis 데이터가 사라진 경우: DB 최대값으로 초기화 (다른 서버가 먼저 했으면 그 값 사용)
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(idSequenceSeeder.currentMax(sequence)));
+            id = redisTemplate.execute(NEXT_SCRIPT, List.of(key), args.toArray());
+        }
+
+        if (id == null || id < 0) {
+            throw new IllegalStateException("ID 를 발급할 수 없습니다: sequence=" + sequence);
+        }
+        return id;
+    }
+
+    private String getKey(IdSequence sequence) {
+        return "id:seq:" + sequence.getKey();
+    }
+}
@@ -1,15 +1,22 @@
 package org.example.backend.community.controller;
 
 
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.auth.model.User;
+import org.example.backend.auth.repository.UserRepository;
 import org.example.backend.common.exception.ErrorResponse;
 import org.example.backend.community.dto.request.CommunityArticleUpdateRequest;
 import org.example.backend.community.dto.request.CommunityCreateRequest;
 import org.example.backend.community.dto.response.CommunityArticleUpdateResponse;
 import org.example.backend.community.dto.response.CommunityCreateResponse;
+import org.example.backend.community.dto.response.CommunityLikeResponse;
 import org.example.backend.community.service.CommunityService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -23,6 +30,7 @@ import java.util.Map;
 public class CommunityController {
 
     private final CommunityService communityService;
+    private final UserRepository userRepository;
 
     @PostMapping("/create")
     public ResponseEntity<Map<String, Object>> createArticle(@RequestBody CommunityCreateRequest request) {
@@ -60,6 +68,64 @@ public class CommunityController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 커서 기반 최신순 목록
+     * 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 next_cursor 를 전달
+     */
+    @GetMapping("/feed/latest")
+    public ResponseEntity<?> getLatestFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(communityService.getLatestFeed(cursor, size));
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    @GetMapping("/feed/oldest")
+    public ResponseEntity<?> getOldestFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(communityService.getOldestFeed(cursor, size));
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    @GetMapping("/feed/category/{category}")
+    public ResponseEntity<?> getFeedByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(communityService.getFeedByCategory(category, cursor, size));
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    /**
+     * 제목/본문 검색 (관련도 순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchArticles(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(communityService.searchArticles(query, category, page, size));
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
     @GetMapping("/article/{articleId}")
     public ResponseEntity<Map<String, Object>> getArticleById(@PathVariable Integer articleId) {
 
@@ -103,6 +169,50 @@ public class CommunityController {
     }
 
 
+    @PostMapping("/article/{articleId}/like")
+    public ResponseEntity<?> likeArticle(@PathVariable Integer articleId) {
+        return handleLike(articleId, true);
+    }
+
+    @DeleteMapping("/article/{articleId}/like")
+    public ResponseEntity<?> unlikeArticle(@PathVariable Integer articleId) {
+        return handleLike(articleId, false);
+    }
+
+    private ResponseEntity<?> handleLike(Integer articleId, boolean like) {
+        try {
+            Long userId = getCurrentUserId();
+            CommunityLikeResponse likeResponse = like
+                    ? communityService.likeArticle(articleId, userId)
+                    : communityService.unlikeArticle(articleId, userId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "success");
+            response.put("data", likeResponse);
+
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (IllegalStateException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        }
+    }
+
+    /**
+     * 현재 인증된 사용자의 ID를 반환
+     */
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            throw new IllegalStateException("인증 정보가 없습니다.");
+        }
+        return userRepository.findByEmail(userDetails.getUsername())
+                .map(User::getId)
+                .orElseThrow(() -> new IllegalStateException("사용자 정보를 찾을 수 없습니다."));
+    }
+
     @DeleteMapping("/article/{articleId}")
     public ResponseEntity<?> deleteArticle(@PathVariable Integer articleId) {
         try {
@@ -0,0 +1,13 @@
+package org.example.backend.community.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 (본문 content 는 조회하지 않음)
+ */
+public record CommunityArticleSummary(Integer articleId,
+                                      String communityCategory,
+                                      String title,
+                                      LocalDateTime createdAt,
+                                      Integer likes) {
+}
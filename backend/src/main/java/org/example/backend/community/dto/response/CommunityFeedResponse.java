@@ -0,0 +1,23 @@
+package org.example.backend.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답
+ * 다음 페이지는 next_cursor 를 cursor 파라미터로 전달해 요청 (has_next 가 false 면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommunityFeedResponse {
+    private Integer total_count;
+    private String next_cursor;
+    private Boolean has_next;
+    private List<CommunityGetListsResponse.ArticleInfo> articles;
+}
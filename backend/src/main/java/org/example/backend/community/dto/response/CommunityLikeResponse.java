@@ -0,0 +1,17 @@
+package org.example.backend.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommunityLikeResponse {
+
+    private Integer article_id;
+    private Boolean liked;   // 요청 후 현재 사용자의 좋아요 여부
+    private Long likes;      // 아직 DB 에 반영되지 않은 변경분을 포함한 좋아요 수
+}
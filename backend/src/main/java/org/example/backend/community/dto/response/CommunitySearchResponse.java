@@ -0,0 +1,23 @@
+package org.example.backend.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 응답 (관련도 순)
+ * 전체 개수는 계산하지 않고 다음 페이지 여부(has_next)만 제공
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommunitySearchResponse {
+    private String query;
+    private Integer current_page;
+    private Boolean has_next;
+    private List<CommunityGetListsResponse.ArticleInfo> articles;
+}
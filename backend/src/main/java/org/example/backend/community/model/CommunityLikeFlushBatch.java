@@ -0,0 +1,33 @@
+package org.example.backend.community.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영을 마친 좋아요 증감 묶음 (CommunityLikeFlusher)
+ *
+ * 묶음의 UPDATE 와 같은 트랜잭션에서 기록하므로, 반영 후 Redis 정리 전에 서버가 종료되어 같은 묶음을 다시 처리해도
+ * 이미 기록된 묶음은 건너뜁니다. 하루가 지난 기록은 삭제합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "community_like_flush", indexes = @Index(name = "idx_community_like_flush_flushed_at", columnList = "flushed_at"))
+public class CommunityLikeFlushBatch {
+
+    // {스냅샷 batchId}:{묶음의 첫 게시글 ID}
+    @Id
+    @Column(name = "batch_id", length = 64)
+    private String batchId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+}
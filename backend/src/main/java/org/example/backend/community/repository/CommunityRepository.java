@@ -1,7 +1,7 @@
 package org.example.backend.community.repository;
 
+import org.example.backend.community.dto.response.CommunityArticleSummary;
 import org.example.backend.community.model.Community;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,23 +10,54 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CommunityRepository extends JpaRepository<Community, Integer> {
 
-    // 카테고리별 조회
-    @Query("SELECT c FROM Community c WHERE c.communityCategory = :category")
-    Page<Community> findByCategory(@Param("category") String category, Pageable pageable);
+    // 목록 조회용 요약 (content 제외)
+    String SUMMARY_SELECT = "SELECT new org.example.backend.community.dto.response.CommunityArticleSummary("
+            + "c.articleId, c.communityCategory, c.title, c.createdAt, c.likes) FROM Community c ";
+    String LATEST_ORDER = " ORDER BY c.createdAt DESC, c.articleId DESC";
+    String OLDEST_ORDER = " ORDER BY c.createdAt ASC, c.articleId ASC";
+    // (createdAt, articleId) 기준 커서 이후/이전 조건
+    String BEFORE_CURSOR = "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.articleId < :articleId))";
+    String AFTER_CURSOR = "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.articleId > :articleId))";
 
-    // 최신순 정렬
-    @Query("SELECT c FROM Community c ORDER BY c.createdAt DESC")
-    Page<Community> findAllOrderByCreatedAtDesc(Pageable pageable);
+    long countByCommunityCategory(String communityCategory);
 
-    // 오래된순 정렬
-    @Query("SELECT c FROM Community c ORDER BY c.createdAt")
-    Page<Community> findAllOrderByCreatedAtAsc(Pageable pageable);
+    // 페이지 번호 기반 목록 (요약만 조회, 전체 개수는 CommunityArticleCounter 사용)
+    @Query(SUMMARY_SELECT + LATEST_ORDER)
+    List<CommunityArticleSummary> findLatestSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + OLDEST_ORDER)
+    List<CommunityArticleSummary> findOldestSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE c.communityCategory = :category" + LATEST_ORDER)
+    List<CommunityArticleSummary> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+
+    // 커서 기반 목록 (idx_community_created_at_article_id, idx_community_category_created_at_article_id 사용)
+    @Query(SUMMARY_SELECT + "WHERE " + BEFORE_CURSOR + LATEST_ORDER)
+    List<CommunityArticleSummary> findLatestSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("articleId") Integer articleId,
+                                                            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE " + AFTER_CURSOR + OLDEST_ORDER)
+    List<CommunityArticleSummary> findOldestSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("articleId") Integer articleId,
+                                                           Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE c.communityCategory = :category AND " + BEFORE_CURSOR + LATEST_ORDER)
+    List<CommunityArticleSummary> findSummariesByCategoryBefore(@Param("category") String category,
+                                                                @Param("createdAt") LocalDateTime createdAt,
+                                                                @Param("articleId") Integer articleId,
+                                                                Pageable pageable);
+
+    // 좋아요 수만 조회
+    @Query("SELECT c.likes FROM Community c WHERE c.articleId = :articleId")
+    Optional<Integer> findLikesByArticleId(@Param("articleId") Integer articleId);
 
     @Query("SELECT c FROM Community c WHERE c.articleId = :articleId")
     Optional<Community> findByArticleId(@Param("articleId") Integer articleId);
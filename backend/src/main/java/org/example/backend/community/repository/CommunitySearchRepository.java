@@ -0,0 +1,64 @@
+package org.example.backend.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.community.dto.response.CommunityArticleSummary;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 게시글 제목/본문 검색 (ft_community_title_content FULLTEXT 인덱스 사용, resources/db/community_search_index.sql 로 생성)
+ * 관련도(MATCH ... AGAINST 점수) 순으로 정렬하며 본문은 조회하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunitySearchRepository {
+
+    private static final String SEARCH_SQL =
+            "SELECT article_id, community_category, title, created_at, likes, " +
+            "       MATCH(title, content) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM community " +
+            "WHERE MATCH(title, content) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+            "ORDER BY score DESC, article_id DESC " +
+            "LIMIT :limit OFFSET :offset";
+
+    private static final String SEARCH_BY_CATEGORY_SQL =
+            "SELECT article_id, community_category, title, created_at, likes, " +
+            "       MATCH(title, content) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM community " +
+            "WHERE MATCH(title, content) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+            "  AND community_category = :category " +
+            "ORDER BY score DESC, article_id DESC " +
+            "LIMIT :limit OFFSET :offset";
+
+    private static final RowMapper<CommunityArticleSummary> SUMMARY_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new CommunityArticleSummary(
+                rs.getInt("article_id"),
+                rs.getString("community_category"),
+                rs.getString("title"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getObject("likes") != null ? rs.getInt("likes") : null);
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param category 카테고리, null 이면 전체
+     */
+    public List<CommunityArticleSummary> search(String query, String category, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        if (category == null) {
+            return jdbcTemplate.query(SEARCH_SQL, params, SUMMARY_MAPPER);
+        }
+        params.addValue("category", category);
+        return jdbcTemplate.query(SEARCH_BY_CATEGORY_SQL, params, SUMMARY_MAPPER);
+    }
+}
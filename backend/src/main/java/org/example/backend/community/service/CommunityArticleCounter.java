@@ -0,0 +1,30 @@
+package org.example.backend.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.community.repository.CommunityRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 수 캐시
+ * 목록을 조회할 때마다 COUNT(*) 를 실행하지 않도록 cache.caches.communityArticleCount 의 TTL 동안 재사용하고,
+ * 게시글 생성/수정/삭제 시 CommunityServiceImpl 에서 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityArticleCounter {
+
+    public static final String CACHE_NAME = "communityArticleCount";
+
+    private final CommunityRepository communityRepository;
+
+    @Cacheable(value = CACHE_NAME, key = "'all'", sync = true)
+    public long countAll() {
+        return communityRepository.count();
+    }
+
+    @Cacheable(value = CACHE_NAME, key = "'category:' + #category", sync = true)
+    public long countByCategory(String category) {
+        return communityRepository.countByCommunityCategory(category);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.backend.community.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (마지막으로 받은 게시글의 작성 시각과 ID)
+ * 클라이언트에는 "작성시각_게시글ID" 를 Base64(URL-safe) 로 인코딩한 문자열로 전달합니다.
+ */
+public record CommunityFeedCursor(LocalDateTime createdAt, Integer articleId) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + articleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서, 비어 있으면 첫 페이지
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static CommunityFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new CommunityFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.backend.community.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 좋아요 증감을 모아서 DB 에 반영
+ *
+ * flush-interval-ms 마다 community:likes:delta 를 스냅샷 키로 RENAME 하고 (batchId 부여), 스냅샷을 게시글 ID 순으로
+ * batch-size 개씩 나눠 반영합니다. 묶음마다 UPDATE 와 반영 기록(community_like_flush)을 한 트랜잭션으로 저장한 뒤
+ * 스냅샷에서 해당 게시글을 지우고 보관 중인 좋아요 수에 더합니다.
+ * UPDATE 후 Redis 정리 전에 서버가 종료되면 다음 실행에서 같은 batchId 의 스냅샷을 이어서 처리하며, 이미 기록된 묶음은
+ * UPDATE 없이 Redis 만 정리하므로 증감이 두 번 반영되지 않습니다.
+ * 여러 서버 중 잠금을 얻은 한 곳에서만 실행하고, 묶음마다 잠금을 연장합니다.
+ */
+@Component
+public class CommunityLikeFlusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunityLikeFlusher.class);
+
+    private static final String LOCK_KEY = "community:likes:flush-lock";
+    private static final String BATCH_KEY = "community:likes:delta:flushing:batch";
+    private static final Duration FLUSH_LOG_RETENTION = Duration.ofDays(1);
+
+    private static final String UPDATE_SQL =
+            "UPDATE community SET likes = COALESCE(likes, 0) + ? WHERE article_id = ?";
+    private static final String INSERT_FLUSH_LOG_SQL =
+            "INSERT INTO community_like_flush (batch_id, flushed_at) VALUES (?, ?)";
+    private static final String DELETE_FLUSH_LOG_SQL =
+            "DELETE FROM community_like_flush WHERE flushed_at < ?";
+
+    /*
+     * 반영할 스냅샷 준비 (이전에 끝나지 않은 스냅샷이 있으면 그 batchId 를 그대로 사용)
+     * KEYS: delta, flushing, batch / ARGV: 새 batchId
+     * 반환: batchId (반영할 증감이 없으면 nil)
+     */
+    private static final RedisScript<String> SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  local batch = redis.call('GET', KEYS[3]) " +
+            "  if batch then " +
+            "    return batch " +
+            "  end " +
+            "  redis.call('SET', KEYS[3], ARGV[1]) " +
+            "  return ARGV[1] " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "  redis.call('DEL', KEYS[3]) " +
+            "  return false " +
+            "end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "return ARGV[1]",
+            String.class);
+
+    /*
+     * 묶음 반영 시작 (반영 버전을 홀수로, 그 사이에는 CommunityLikeService 가 DB 에서 읽은 좋아요 수를 보관하지 않음)
+     * KEYS: flush-version
+     */
+    private static final RedisScript<Long> BEGIN_CHUNK_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "if version % 2 == 0 then " +
+            "  version = redis.call('INCR', KEYS[1]) " +
+            "end " +
+            "return version",
+            Long.class);
+
+    /*
+     * DB 에 반영한 묶음 정리: 스냅샷에 남아 있는 게시글만 지우고 보관 중인 좋아요 수에 더한 뒤 반영 버전을 짝수로
+     * KEYS: flush-version, flushing, 게시글별 likes... / ARGV: articleId, delta, articleId, delta, ...
+     */
+    private static final RedisScript<Long> APPLY_CHUNK_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #KEYS do " +
+            "  local field = ARGV[(i - 2) * 2 - 1] " +
+            "  if redis.call('HDEL', KEYS[2], field) == 1 and redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('INCRBY', KEYS[i], ARGV[(i - 2) * 2]) " +
+            "  end " +
+            "end " +
+            "if tonumber(redis.call('GET', KEYS[1]) or '0') % 2 == 1 then " +
+            "  redis.call('INCR', KEYS[1]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // 스냅샷을 모두 반영했으면 batchId 삭제
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('GET', KEYS[2]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[2]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 자신이 얻은 잠금만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    // 자신이 얻은 잠금만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lockTtl;
+
+    public CommunityLikeFlusher(StringRedisTemplate redisTemplate,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${community.likes.flush-batch-size:500}") int batchSize,
+                                @Value("${community.likes.flush-lock-ttl-seconds:60}") long lockTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${community.likes.flush-interval-ms:5000}")
+    public void flush() {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            String batchId = redisTemplate.execute(SNAPSHOT_SCRIPT,
+                    List.of(CommunityLikeService.DELTA_KEY, CommunityLikeService.FLUSHING_KEY, BATCH_KEY),
+                    UUID.randomUUID().toString());
+            if (batchId == null) {
+                return;
+            }
+
+            List<Map.Entry<Integer, Long>> deltas = redisTemplate.<String, String>opsForHash()
+                    .entries(CommunityLikeService.FLUSHING_KEY).entrySet().stream()
+                    .map(entry -> Map.entry(Integer.valueOf(entry.getKey()), Long.parseLong(entry.getValue())))
+                    .sorted(Map.Entry.comparingByKey())
+                    .toList();
+
+            // 게시글 ID 순으로 나누므로 다시 처리해도 남은 첫 묶음의 구성이 같음 (묶음 ID: batchId:첫 게시글 ID)
+            for (int from = 0; from < deltas.size(); from += batchSize) {
+                if (!renewLock()) {
+                    logger.warn("좋아요 반영 잠금을 잃어 중단합니다. batchId: {}", batchId);
+                    return;
+                }
+                flushChunk(batchId, deltas.subList(from, Math.min(from + batchSize, deltas.size())));
+            }
+
+            redisTemplate.execute(FINISH_SCRIPT, List.of(CommunityLikeService.FLUSHING_KEY, BATCH_KEY), batchId);
+            jdbcTemplate.update(DELETE_FLUSH_LOG_SQL, Timestamp.valueOf(LocalDateTime.now().minus(FLUSH_LOG_RETENTION)));
+            logger.debug("좋아요 반영 완료: {}개 게시글, batchId: {}", deltas.size(), batchId);
+        } catch (Exception e) {
+            logger.error("좋아요 반영 실패: {}", e.getMessage());
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
+        }
+    }
+
+    private void flushChunk(String batchId, List<Map.Entry<Integer, Long>> chunk) {
+        String chunkId = batchId + ":" + chunk.get(0).getKey();
+        List<Object[]> updates = new ArrayList<>(chunk.size());
+        List<String> keys = new ArrayList<>(chunk.size() + 2);
+        String[] args = new String[chunk.size() * 2];
+        keys.add(CommunityLikeService.FLUSH_VERSION_KEY);
+        keys.add(CommunityLikeService.FLUSHING_KEY);
+        for (int i = 0; i < chunk.size(); i++) {
+            Map.Entry<Integer, Long> entry = chunk.get(i);
+            updates.add(new Object[]{entry.getValue(), entry.getKey()});
+            keys.add(CommunityLikeService.getLikesKey(entry.getKey()));
+            args[i * 2] = entry.getKey().toString();
+            args[i * 2 + 1] = entry.getValue().toString();
+        }
+
+        redisTemplate.execute(BEGIN_CHUNK_SCRIPT, List.of(CommunityLikeService.FLUSH_VERSION_KEY));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_FLUSH_LOG_SQL, chunkId, Timestamp.valueOf(LocalDateTime.now()));
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            });
+        } catch (DuplicateKeyException e) {
+            logger.info("이미 DB 에 반영된 좋아요 묶음입니다. Redis 만 정리합니다. chunkId: {}", chunkId);
+        }
+        redisTemplate.execute(APPLY_CHUNK_SCRIPT, keys, (Object[]) args);
+    }
+
+    private boolean renewLock() {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY), nodeId, String.valueOf(lockTtl.toMillis()));
+        return renewed != null && renewed == 1;
+    }
+}
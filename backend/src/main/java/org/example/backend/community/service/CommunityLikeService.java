@@ -0,0 +1,184 @@
+package org.example.backend.community.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.community.dto.response.CommunityLikeResponse;
+import org.example.backend.community.repository.CommunityRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요
+ *
+ * - community:article:{articleId}:likers : 좋아요한 사용자 ID (SET, 같은 사용자의 중복 요청은 무시)
+ * - community:article:{articleId}:likes  : DB 에 반영된 좋아요 수 (처음 요청 시 DB 에서 한 번 읽어 보관, 하루 동안 요청이 없으면 만료)
+ * - community:likes:delta                : 아직 DB 에 반영되지 않은 게시글별 증감 (HASH, articleId -> delta)
+ * - community:likes:delta:flushing       : CommunityLikeFlusher 가 DB 에 반영 중인 증감 (delta 를 RENAME 한 스냅샷)
+ * 좋아요/취소는 행 잠금 없이 Redis 에만 기록하고, 응답의 좋아요 수도 같은 Lua 스크립트에서 계산합니다. (DB 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class CommunityLikeService {
+
+    public static final String DELTA_KEY = "community:likes:delta";
+    public static final String FLUSHING_KEY = "community:likes:delta:flushing";
+    // 반영 중인 묶음이 있으면 홀수 (그 사이에 DB 에서 읽은 좋아요 수는 보관하지 않음)
+    public static final String FLUSH_VERSION_KEY = "community:likes:flush-version";
+
+    private static final Duration BASE_TTL = Duration.ofDays(1);
+
+    /*
+     * 좋아요/취소 기록 후 현재 좋아요 수 계산
+     * KEYS: likers, likes, delta, flushing / ARGV: userId, articleId, 증감(1 또는 -1), likes 보관 시간(ms), likes 없이 기록 여부(1/0)
+     * 반환: {변경 여부(1/0), 좋아요 수}, likes 가 없으면 {} (기록 여부가 1 이면 기록 후 {변경 여부})
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LIKE_SCRIPT = new DefaultRedisScript<>(
+            "local base = redis.call('GET', KEYS[2]) " +
+            "if not base and ARGV[5] == '0' then " +
+            "  return {} " +
+            "end " +
+            "local changed " +
+            "if ARGV[3] == '1' then " +
+            "  changed = redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "else " +
+            "  changed = redis.call('SREM', KEYS[1], ARGV[1]) " +
+            "end " +
+            "if changed == 1 then " +
+            "  redis.call('HINCRBY', KEYS[3], ARGV[2], tonumber(ARGV[3])) " +
+            "end " +
+            "if not base then " +
+            "  return {changed} " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "local pending = (tonumber(redis.call('HGET', KEYS[3], ARGV[2])) or 0) " +
+            "  + (tonumber(redis.call('HGET', KEYS[4], ARGV[2])) or 0) " +
+            "return {changed, tonumber(base) + pending}",
+            List.class);
+
+    /*
+     * DB 에서 읽은 좋아요 수 보관
+     * 읽기 전과 반영 버전이 같고 반영 중이 아닐 때만 보관합니다. (반영 중에 읽은 값에는 스냅샷 증감이 일부 포함되어 있을 수 있음)
+     * KEYS: likes, flush-version / ARGV: DB 좋아요 수, 읽기 전 반영 버전, likes 보관 시간(ms)
+     */
+    private static final RedisScript<Long> LOAD_BASE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+            "if version ~= ARGV[2] or tonumber(version) % 2 == 1 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3], 'NX') " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CommunityRepository communityRepository;
+
+    /**
+     * 좋아요 (이미 좋아요한 게시글이면 변경 없음)
+     */
+    public CommunityLikeResponse like(Integer articleId, Long userId) {
+        return toggle(articleId, userId, true);
+    }
+
+    /**
+     * 좋아요 취소 (좋아요하지 않은 게시글이면 변경 없음)
+     */
+    public CommunityLikeResponse unlike(Integer articleId, Long userId) {
+        return toggle(articleId, userId, false);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 게시글별 증감 (대기 중인 증감 + 반영 중인 스냅샷, 변경분이 없는 게시글은 제외)
+     */
+    public Map<Integer, Long> getPendingDeltas(Collection<Integer> articleIds) {
+        Map<Integer, Long> deltas = new HashMap<>();
+        if (articleIds.isEmpty()) {
+            return deltas;
+        }
+        List<Integer> ids = new ArrayList<>(articleIds);
+        List<Object> fields = ids.stream().<Object>map(String::valueOf).toList();
+        List<Object> pending = redisTemplate.opsForHash().multiGet(DELTA_KEY, fields);
+        List<Object> flushing = redisTemplate.opsForHash().multiGet(FLUSHING_KEY, fields);
+        for (int i = 0; i < ids.size(); i++) {
+            if (pending.get(i) == null && flushing.get(i) == null) {
+                continue;
+            }
+            deltas.put(ids.get(i), parse(pending.get(i)) + parse(flushing.get(i)));
+        }
+        return deltas;
+    }
+
+    /**
+     * 게시글 삭제 시 좋아요 기록 정리 (반영 중인 스냅샷의 증감은 UPDATE 대상 행이 없어 무시됨)
+     */
+    public void clear(Integer articleId) {
+        redisTemplate.delete(List.of(getLikersKey(articleId), getLikesKey(articleId)));
+        redisTemplate.opsForHash().delete(DELTA_KEY, articleId.toString());
+    }
+
+    public static String getLikesKey(Integer articleId) {
+        return "community:article:" + articleId + ":likes";
+    }
+
+    private CommunityLikeResponse toggle(Integer articleId, Long userId, boolean liked) {
+        List<?> result = record(articleId, userId, liked, false);
+        if (result.isEmpty()) {
+            // 게시글별로 처음 한 번만 DB 조회 (게시글이 없으면 기록하지 않고 예외)
+            long storedLikes = loadBase(articleId);
+            result = record(articleId, userId, liked, true);
+            if (result.size() < 2) {
+                // 반영 중이라 보관하지 못하면 이번 응답만 DB 값 + 증감으로 계산
+                return toResponse(articleId, liked,
+                        storedLikes + getPendingDeltas(List.of(articleId)).getOrDefault(articleId, 0L));
+            }
+        }
+        return toResponse(articleId, liked, ((Number) result.get(1)).longValue());
+    }
+
+    private List<?> record(Integer articleId, Long userId, boolean liked, boolean withoutBase) {
+        List<?> result = redisTemplate.execute(LIKE_SCRIPT,
+                List.of(getLikersKey(articleId), getLikesKey(articleId), DELTA_KEY, FLUSHING_KEY),
+                userId.toString(), articleId.toString(), liked ? "1" : "-1",
+                String.valueOf(BASE_TTL.toMillis()), withoutBase ? "1" : "0");
+        return result != null ? result : List.of();
+    }
+
+    private long loadBase(Integer articleId) {
+        String version = redisTemplate.opsForValue().get(FLUSH_VERSION_KEY);
+        long storedLikes = getStoredLikes(articleId);
+        redisTemplate.execute(LOAD_BASE_SCRIPT, List.of(getLikesKey(articleId), FLUSH_VERSION_KEY),
+                String.valueOf(storedLikes), version != null ? version : "0", String.valueOf(BASE_TTL.toMillis()));
+        return storedLikes;
+    }
+
+    private CommunityLikeResponse toResponse(Integer articleId, boolean liked, long likes) {
+        return CommunityLikeResponse.builder()
+                .article_id(articleId)
+                .liked(liked)
+                .likes(Math.max(0, likes))
+                .build();
+    }
+
+    private long getStoredLikes(Integer articleId) {
+        Integer likes = communityRepository.findLikesByArticleId(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + articleId));
+        return likes != null ? likes : 0;
+    }
+
+    private long parse(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private String getLikersKey(Integer articleId) {
+        return "community:article:" + articleId + ":likers";
+    }
+}
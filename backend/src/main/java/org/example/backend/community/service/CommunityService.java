@@ -4,6 +4,7 @@ import org.example.backend.community.dto.request.CommunityArticleUpdateRequest;
 import org.example.backend.community.dto.request.CommunityCreateRequest;
 import org.example.backend.community.dto.response.CommunityArticleUpdateResponse;
 import org.example.backend.community.dto.response.CommunityCreateResponse;
+import org.example.backend.community.dto.response.CommunityLikeResponse;
 
 import java.util.Map;
 
@@ -14,8 +15,14 @@ public interface CommunityService {
     Map<String, Object> getLatestArticles(int page, int size);
     Map<String, Object> getOldestArticles(int page, int size);
     Map<String, Object> getArticlesByCategory(String category, int page, int size);
+    Map<String, Object> getLatestFeed(String cursor, int size);
+    Map<String, Object> getOldestFeed(String cursor, int size);
+    Map<String, Object> getFeedByCategory(String category, String cursor, int size);
+    Map<String, Object> searchArticles(String query, String category, int page, int size);
     Map<String, Object> getArticleById(Integer articleId, Long userId);
     boolean deleteArticle(Integer articleId);
     CommunityArticleUpdateResponse updateArticle(Integer articleId, CommunityArticleUpdateRequest request);
+    CommunityLikeResponse likeArticle(Integer articleId, Long userId);
+    CommunityLikeResponse unlikeArticle(Integer articleId, Long userId);
 
 }
@@ -4,13 +4,18 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.community.dto.request.CommunityArticleUpdateRequest;
 import org.example.backend.community.dto.request.CommunityCreateRequest;
+import org.example.backend.community.dto.response.CommunityArticleSummary;
 import org.example.backend.community.dto.response.CommunityArticleUpdateResponse;
 import org.example.backend.community.dto.response.CommunityCreateResponse;
+import org.example.backend.community.dto.response.CommunityFeedResponse;
 import org.example.backend.community.dto.response.CommunityGetArticleResponse;
 import org.example.backend.community.dto.response.CommunityGetListsResponse;
+import org.example.backend.community.dto.response.CommunityLikeResponse;
+import org.example.backend.community.dto.response.CommunitySearchResponse;
 import org.example.backend.community.model.Community;
 import org.example.backend.community.repository.CommunityRepository;
-import org.springframework.data.domain.Page;
+import org.example.backend.community.repository.CommunitySearchRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,10 +31,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommunityServiceImpl implements CommunityService {
 
+    private static final int MAX_FEED_SIZE = 100;
+    private static final int MIN_SEARCH_LENGTH = 2;
+    private static final int MAX_SEARCH_LENGTH = 100;
+    private static final int MAX_SEARCH_PAGE = 50;
+
     private final CommunityRepository communityRepository;
+    private final CommunitySearchRepository communitySearchRepository;
+    private final CommunityArticleCounter communityArticleCounter;
+    private final CommunityLikeService communityLikeService;
 
     @Override
     @Transactional
+    @CacheEvict(value = CommunityArticleCounter.CACHE_NAME, allEntries = true)
     public CommunityCreateResponse createCommunity(CommunityCreateRequest request) {
         Community community = Community.builder()
                 .communityCategory(request.getCommunity_category())
@@ -52,27 +66,99 @@ public class CommunityServiceImpl implements CommunityService {
     @Transactional(readOnly = true)
     public Map<String, Object> getLatestArticles(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size); // 페이지는 0부터 시작하므로 1을 빼줌
-        Page<Community> communityPage = communityRepository.findAllOrderByCreatedAtDesc(pageable);
+        List<CommunityArticleSummary> summaries = communityRepository.findLatestSummaries(pageable);
 
-        return createResponseMap(communityPage, page);
+        return createResponseMap(summaries, communityArticleCounter.countAll(), page, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> getOldestArticles(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Community> communityPage = communityRepository.findAllOrderByCreatedAtAsc(pageable);
+        List<CommunityArticleSummary> summaries = communityRepository.findOldestSummaries(pageable);
 
-        return createResponseMap(communityPage, page);
+        return createResponseMap(summaries, communityArticleCounter.countAll(), page, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> getArticlesByCategory(String category, int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Community> communityPage = communityRepository.findByCategory(category, pageable);
+        List<CommunityArticleSummary> summaries = communityRepository.findSummariesByCategory(category, pageable);
+
+        return createResponseMap(summaries, communityArticleCounter.countByCategory(category), page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getLatestFeed(String cursor, int size) {
+        CommunityFeedCursor after = CommunityFeedCursor.decode(cursor);
+        Pageable limit = feedLimit(size);
+        List<CommunityArticleSummary> summaries = after == null
+                ? communityRepository.findLatestSummaries(limit)
+                : communityRepository.findLatestSummariesBefore(after.createdAt(), after.articleId(), limit);
+
+        return createFeedResponseMap(summaries, communityArticleCounter.countAll(), limit.getPageSize() - 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getOldestFeed(String cursor, int size) {
+        CommunityFeedCursor after = CommunityFeedCursor.decode(cursor);
+        Pageable limit = feedLimit(size);
+        List<CommunityArticleSummary> summaries = after == null
+                ? communityRepository.findOldestSummaries(limit)
+                : communityRepository.findOldestSummariesAfter(after.createdAt(), after.articleId(), limit);
+
+        return createFeedResponseMap(summaries, communityArticleCounter.countAll(), limit.getPageSize() - 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getFeedByCategory(String category, String cursor, int size) {
+        CommunityFeedCursor after = CommunityFeedCursor.decode(cursor);
+        Pageable limit = feedLimit(size);
+        List<CommunityArticleSummary> summaries = after == null
+                ? communityRepository.findSummariesByCategory(category, limit)
+                : communityRepository.findSummariesByCategoryBefore(category, after.createdAt(), after.articleId(), limit);
 
-        return createResponseMap(communityPage, page);
+        return createFeedResponseMap(summaries, communityArticleCounter.countByCategory(category), limit.getPageSize() - 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> searchArticles(String query, String category, int page, int size) {
+        String keyword = query != null ? query.trim() : "";
+        // ngram 토큰(기본 2자)보다 짧은 검색어는 인덱스에서 찾을 수 없음
+        if (keyword.length() < MIN_SEARCH_LENGTH || keyword.length() > MAX_SEARCH_LENGTH) {
+            throw new IllegalArgumentException(
+                    "검색어는 " + MIN_SEARCH_LENGTH + "자 이상 " + MAX_SEARCH_LENGTH + "자 이하로 입력해주세요.");
+        }
+        // 관련도 정렬 결과를 OFFSET 으로 건너뛰므로 깊은 페이지는 제한
+        if (page < 1 || page > MAX_SEARCH_PAGE) {
+            throw new IllegalArgumentException("검색 결과는 " + MAX_SEARCH_PAGE + "페이지까지 조회할 수 있습니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        List<CommunityArticleSummary> summaries = communitySearchRepository.search(
+                keyword, category, (page - 1) * pageSize, pageSize + 1);
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+
+        CommunitySearchResponse searchResponse = CommunitySearchResponse.builder()
+                .query(keyword)
+                .current_page(page)
+                .has_next(hasNext)
+                .articles(convertToArticleInfos(summaries))
+                .build();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("data", searchResponse);
+
+        return response;
     }
 
     @Override
@@ -89,7 +175,8 @@ public class CommunityServiceImpl implements CommunityService {
                 .content(community.getContent())
                 .created_at(community.getCreatedAt())
                 .user_id(community.getUserId())
-                .likes(community.getLikes())
+                .likes(withPendingLikes(community.getLikes(),
+                        communityLikeService.getPendingDeltas(List.of(articleId)).get(articleId)))
                 .build();
 
         // 중첩 Map 구조로 응답 생성
@@ -104,16 +191,19 @@ public class CommunityServiceImpl implements CommunityService {
 
     @Override
     @Transactional
+    @CacheEvict(value = CommunityArticleCounter.CACHE_NAME, allEntries = true)
     public boolean deleteArticle(Integer articleId) {
         Community community = communityRepository.findById(articleId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
         communityRepository.deleteById(articleId);
+        communityLikeService.clear(articleId);
         return true;
     }
 
     @Override
     @Transactional
+    @CacheEvict(value = CommunityArticleCounter.CACHE_NAME, allEntries = true)
     public CommunityArticleUpdateResponse updateArticle(Integer articleId, CommunityArticleUpdateRequest request) {
         // 게시글이 존재하는지 확인
         Community community = communityRepository.findByArticleId(articleId)
@@ -140,16 +230,25 @@ public class CommunityServiceImpl implements CommunityService {
                 .build();
     }
 
+    @Override
+    public CommunityLikeResponse likeArticle(Integer articleId, Long userId) {
+        return communityLikeService.like(articleId, userId);
+    }
+
+    @Override
+    public CommunityLikeResponse unlikeArticle(Integer articleId, Long userId) {
+        return communityLikeService.unlike(articleId, userId);
+    }
+
     // 공통 응답 맵 생성 메서드
-    private Map<String, Object> createResponseMap(Page<Community> communityPage, int requestedPage) {
-        List<CommunityGetListsResponse.ArticleInfo> articles = communityPage.getContent().stream()
-                .map(this::convertToArticleInfo)
-                .collect(Collectors.toList());
+    private Map<String, Object> createResponseMap(List<CommunityArticleSummary> summaries, long totalCount,
+                                                  int requestedPage, int size) {
+        List<CommunityGetListsResponse.ArticleInfo> articles = convertToArticleInfos(summaries);
 
         CommunityGetListsResponse listResponse = CommunityGetListsResponse.builder()
-                .total_count((int) communityPage.getTotalElements())
+                .total_count((int) totalCount)
                 .current_page(requestedPage)
-                .total_pages(communityPage.getTotalPages())
+                .total_pages((int) ((totalCount + size - 1) / size))
                 .articles(articles)
                 .build();
 
@@ -160,15 +259,62 @@ public class CommunityServiceImpl implements CommunityService {
         return response;
     }
 
-    // Community 엔티티를 ArticleInfo DTO로 변환
-    private CommunityGetListsResponse.ArticleInfo convertToArticleInfo(Community community) {
+    // 커서 기반 응답 맵 생성 (size + 1 개를 조회해 다음 페이지 여부 판단)
+    private Map<String, Object> createFeedResponseMap(List<CommunityArticleSummary> summaries, long totalCount, int size) {
+        boolean hasNext = summaries.size() > size;
+        List<CommunityArticleSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommunityArticleSummary last = page.get(page.size() - 1);
+            nextCursor = new CommunityFeedCursor(last.createdAt(), last.articleId()).encode();
+        }
+
+        CommunityFeedResponse feedResponse = CommunityFeedResponse.builder()
+                .total_count((int) totalCount)
+                .next_cursor(nextCursor)
+                .has_next(hasNext)
+                .articles(convertToArticleInfos(page))
+                .build();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("data", feedResponse);
+
+        return response;
+    }
+
+    // 커서 기반 조회 개수 (다음 페이지 여부 확인용으로 1개 더 조회)
+    private Pageable feedLimit(int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    // 게시글 요약을 ArticleInfo DTO로 변환 (아직 DB 에 반영되지 않은 좋아요 증감은 한 번에 조회해 합산)
+    private List<CommunityGetListsResponse.ArticleInfo> convertToArticleInfos(List<CommunityArticleSummary> summaries) {
+        Map<Integer, Long> pendingLikes = communityLikeService.getPendingDeltas(
+                summaries.stream().map(CommunityArticleSummary::articleId).toList());
+        return summaries.stream()
+                .map(summary -> convertToArticleInfo(summary, pendingLikes.get(summary.articleId())))
+                .collect(Collectors.toList());
+    }
+
+    private CommunityGetListsResponse.ArticleInfo convertToArticleInfo(CommunityArticleSummary summary, Long pendingLikes) {
         return CommunityGetListsResponse.ArticleInfo.builder()
-                .article_id(community.getArticleId())
-                .category(community.getCommunityCategory())
-                .title(community.getTitle())
-                .created_at(community.getCreatedAt())
-                .likes(community.getLikes())
+                .article_id(summary.articleId())
+                .category(summary.communityCategory())
+                .title(summary.title())
+                .created_at(summary.createdAt())
+                .likes(withPendingLikes(summary.likes(), pendingLikes))
                 .build();
     }
 
+    private Integer withPendingLikes(Integer storedLikes, Long pendingLikes) {
+        if (pendingLikes == null) {
+            return storedLikes;
+        }
+        long likes = (storedLikes != null ? storedLikes : 0) + pendingLikes;
+        return (int) Math.max(0, likes);
+    }
+
 }
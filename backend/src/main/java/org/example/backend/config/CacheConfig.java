@@ -1,32 +1,126 @@
 package org.example.backend.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import org.example.backend.common.cache.TwoLevelCacheManager;
+import org.example.backend.common.cache.TwoLevelCacheMeterBinderProvider;
+import org.example.backend.common.cache.TwoLevelCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 애플리케이션의 캐싱 설정 클래스
+ *
+ * 서버별 로컬 캐시(Caffeine)와 Redis 캐시를 함께 사용하는 2단계 캐시를 구성합니다.
+ * 캐시별 보관 기간은 cache.* 설정으로 지정하고, 캐시 변경은 Redis pub/sub 으로 다른 서버에 전파됩니다.
  */
 @Configuration
 @EnableCaching
-public class CacheConfig {
-    // 기본 캐싱 설정은 Spring의 ConcurrentMapCache를 사용합니다.
-    // 프로덕션 환경에서는 Redis와 같은 외부 캐시 서버를 사용하는 것이 좋습니다.
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+public class CacheConfig implements CachingConfigurer {
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     TwoLevelCacheProperties properties,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     ObjectMapper objectMapper) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory, properties, objectMapper);
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, properties, stringRedisTemplate, objectMapper);
+        listenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_TOPIC));
+        return cacheManager;
+    }
 
-    // Redis 캐시 설정 예시:
-    /*
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))  // 캐시 유효 시간 설정
+    public TwoLevelCacheMeterBinderProvider twoLevelCacheMeterBinderProvider() {
+        return new TwoLevelCacheMeterBinderProvider();
+    }
+
+    /**
+     * Redis 장애 시 캐시 오류로 요청이 실패하지 않도록 로그만 남기고 원본을 조회
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                TwoLevelCacheProperties properties,
+                                                ObjectMapper objectMapper) {
+        RedisCacheConfiguration baseConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .disableCachingNullValues()
+                .prefixCacheNameWith(properties.getKeyPrefix())
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer()));
+                                cacheValueSerializer(objectMapper)));
+
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        for (String name : properties.getCaches().keySet()) {
+            cacheConfigs.put(name, baseConfig.entryTtl(properties.resolve(name).getTtl()));
+        }
+
+        // 캐시 전체 삭제 시 KEYS 대신 SCAN 사용
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(
+                        RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
+                .cacheDefaults(baseConfig.entryTtl(properties.getDefaults().getTtl()))
+                .withInitialCacheConfigurations(cacheConfigs)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /**
+     * 캐시 값 직렬화기
+     *
+     * 스프링 ObjectMapper 설정(날짜 형식 등)에 타입 정보를 추가해 직렬화합니다.
+     * long 반환값이나 final DTO 도 원래 타입으로 복원되도록 모든 값에 타입 정보를 붙이고,
+     * Redis 에 기록된 임의의 클래스가 역직렬화되지 않도록 허용할 타입을 애플리케이션 패키지와 JDK 값 타입으로 제한합니다.
+     */
+    static GenericJackson2JsonRedisSerializer cacheValueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper cacheObjectMapper = objectMapper.copy();
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(cacheObjectMapper, null);
+        cacheObjectMapper.activateDefaultTyping(cacheTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
+    private static PolymorphicTypeValidator cacheTypeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("org.example.backend.")
+                .allowIfSubType("java.util.")
+                .allowIfSubType("java.time.")
+                .allowIfSubType(String.class)
+                .allowIfSubType(Number.class)
+                .allowIfSubType(Boolean.class)
+                .allowIfSubType(NullValue.class)
+                .allowIfSubTypeIsArray()
                 .build();
     }
-    */
-}
\ No newline at end of file
+}
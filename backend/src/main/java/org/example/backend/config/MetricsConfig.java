@@ -0,0 +1,21 @@
+package org.example.backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 성능 지표 설정
+ *
+ * 지표는 /actuator/prometheus 로 수집하며, 분위수(p50/p95/p99)는 management.metrics.distribution 설정을 따릅니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 가 붙은 메서드의 실행 시간 기록 (S3, 음성 분석, OpenVidu 호출 등)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
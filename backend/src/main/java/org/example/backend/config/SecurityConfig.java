@@ -147,7 +147,8 @@ public class SecurityConfig {
                                 "/channels/counseling",
                                 "/channels/counseling/counselors",
                                 "/channels/counseling/counselors/*",
-                                "/channels/counseling/counselors/*/reviews").authenticated()
+                                "/channels/counseling/counselors/*/reviews",
+                                "/channels/counseling/reviews/*").authenticated()
                         // 상담 채널 생성 API는 상담사 권한만 접근 허용
                         .requestMatchers(
                                 "/channels/counseling/create",
@@ -164,12 +165,18 @@ public class SecurityConfig {
                         .requestMatchers("/channels/voice/**").authenticated()
                         // 상담사 프로필 API는 ROLE_COUNSELOR 권한이 있는 사용자만 접근 가능
                         .requestMatchers("/counselor/profile/**").hasAuthority("ROLE_COUNSELOR")
+                        // 상담 로그 목록/마스킹은 로그인한 상담사 본인의 로그만
+                        .requestMatchers("/summary-log/text", "/summary-log/masking/*").hasAuthority("ROLE_COUNSELOR")
                         // WebScoket 관련 엔드포인트 접근 허용
                         .requestMatchers("/ws/**", "/sub/**", "/pub/**", "/ws/info/**").permitAll()
                         // openvidu 세션 관리
                         .requestMatchers("/openvidu/session/**").authenticated()
                         // 뇌 질환 분류 가이드라인 비회원 접근 허용
                         .requestMatchers("/speech/**").permitAll()
+                        // 헬스 체크, Prometheus 수집 (management.server.port 로 분리된 내부 포트에서만 노출)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // 상담 로그 마스킹 일괄 처리 (운영자만, 내부 포트에서만 노출)
+                        .requestMatchers("/actuator/maskingbackfill").hasAuthority("ROLE_ADMIN")
                         // 기타 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -15,14 +16,59 @@ public class WebClientConfig {
     @Value("${speech.base-url}")
     private String baseUrl;
 
+    @Value("${speech.max-connections:16}")
+    private int speechMaxConnections;
+
+    @Value("${speech.connect-timeout-ms:10000}")
+    private int speechConnectTimeoutMs;
+
+    @Value("${speech.response-timeout-seconds:30}")
+    private long speechResponseTimeoutSeconds;
+
+    @Value("${llm.base-url}")
+    private String llmBaseUrl;
+
+    @Value("${llm.connect-timeout-ms:5000}")
+    private int llmConnectTimeoutMs;
+
+    // 응답 조각(chunk) 사이의 최대 대기 시간
+    @Value("${llm.read-timeout-seconds:60}")
+    private long llmReadTimeoutSeconds;
+
+    @Value("${llm.max-connections:4}")
+    private int llmMaxConnections;
+
+    // 응답은 분류 결과 JSON 만 받으므로 메모리 버퍼는 작게 유지 (요청 본문은 스트리밍)
     @Bean
     public WebClient speechWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("speech")
+                .maxConnections(speechMaxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(10))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
-                .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
-                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
-                        .responseTimeout(Duration.ofSeconds(30))))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(256 * 1024))
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, speechConnectTimeoutMs)
+                        .responseTimeout(Duration.ofSeconds(speechResponseTimeoutSeconds))))
+                .build();
+    }
+
+    @Bean
+    public WebClient llmWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("local-llm")
+                .maxConnections(llmMaxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        return WebClient.builder()
+                .baseUrl(llmBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, llmConnectTimeoutMs)
+                        .responseTimeout(Duration.ofSeconds(llmReadTimeoutSeconds))))
                 .build();
     }
 }
@@ -0,0 +1,11 @@
+package org.example.backend.localllm.client;
+
+/**
+ * 로컬 LLM 요청이 너무 많아 대기열에 넣지 못한 경우
+ */
+public class LlmBusyException extends RuntimeException {
+
+    public LlmBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.backend.localllm.client;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 LLM 동시 요청 제한 (스레드를 막지 않는 방식)
+ *
+ * 동시에 maxConcurrent 개의 요청만 LLM 으로 보내고, 나머지는 순서대로 대기시킵니다.
+ * 대기 중인 요청이 maxPending 개를 넘으면 바로 LlmBusyException 으로 거절합니다.
+ */
+public class LlmConcurrencyLimiter {
+
+    private final int maxConcurrent;
+    private final int maxPending;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int active;
+
+    public LlmConcurrencyLimiter(int maxConcurrent, int maxPending) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 허가를 얻은 뒤 task 를 구독하고, 완료/오류/취소 시 허가를 반납
+     */
+    public <T> Mono<T> run(Supplier<Mono<T>> task) {
+        return Mono.usingWhen(
+                acquire(),
+                permit -> task.get(),
+                this::release,
+                (permit, error) -> release(permit),
+                this::release);
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            boolean acquired = false;
+            synchronized (this) {
+                if (active < maxConcurrent) {
+                    active++;
+                    acquired = true;
+                } else if (waiters.size() >= maxPending) {
+                    waiter = null;
+                } else {
+                    waiters.addLast(waiter);
+                }
+            }
+
+            if (acquired) {
+                sink.success(new Permit());
+                return;
+            }
+            if (waiter == null) {
+                sink.error(new LlmBusyException("LLM 요청 대기열이 가득 찼습니다. (최대 " + maxPending + "건)"));
+                return;
+            }
+
+            Waiter queued = waiter;
+            sink.onCancel(() -> {
+                synchronized (this) {
+                    if (waiters.remove(queued)) {
+                        return;
+                    }
+                }
+                // 허가를 넘겨받은 직후 취소된 경우 구독자가 허가를 받지 못했을 수 있으므로 직접 반납
+                if (queued.permit != null) {
+                    releasePermit(queued.permit);
+                }
+            });
+        });
+    }
+
+    private Mono<Void> release(Permit permit) {
+        return Mono.fromRunnable(() -> releasePermit(permit));
+    }
+
+    private void releasePermit(Permit permit) {
+        if (!permit.released.compareAndSet(false, true)) {
+            return;
+        }
+        Waiter next;
+        synchronized (this) {
+            next = waiters.pollFirst();
+            if (next == null) {
+                active--;
+                return;
+            }
+            // 실행 중인 요청 수는 그대로 두고 다음 대기 요청에 허가를 넘김
+            next.permit = new Permit();
+        }
+        next.sink.success(next.permit);
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    public synchronized int getPending() {
+        return waiters.size();
+    }
+
+    private static class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+    }
+
+    private static class Waiter {
+        private final MonoSink<Permit> sink;
+        private volatile Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
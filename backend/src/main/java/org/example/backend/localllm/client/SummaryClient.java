@@ -1,24 +1,114 @@
 package org.example.backend.localllm.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.validation.Valid;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
 import org.example.backend.localllm.dto.response.SummaryResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * 로컬 LLM (OpenAI 호환 /chat/completions) 요약 클라이언트
+ *
+ * - llm.stream=true 이면 SSE 로 토큰을 받아 이어 붙이고, 스트리밍이 거절되거나 응답 조각이 llm.read-timeout-seconds 동안
+ *   오지 않으면 (프록시가 SSE 를 모아서 보내는 경우 등) 일반 요청으로 다시 시도합니다.
+ * - 동시 요청 수는 LlmConcurrencyLimiter 로 제한되며, 전체 요청 시간은 llm.total-timeout-seconds 로 제한됩니다.
+ */
 @Component
 public class SummaryClient {
 
+    private static final Logger logger = LoggerFactory.getLogger(SummaryClient.class);
+
+    private static final String STREAM_DONE = "[DONE]";
+
+    static final String SUMMARY_SYSTEM_PROMPT =
+            "역할: 당신은 정신건강 상담 내용을 요약하는 비서입니다.\n" +
+            "목표: 다음 JSON 구조에 따라 상담 내용을 요약합니다. 대화체는 제거하고 요약 문장으로만 작성합니다.\n" +
+            "금지사항: 내담자가 언급하지 않은 내용을 추가하거나 추측하지 않습니다. 반드시 한국어로 작성합니다.\n\n" +
+            "- \"25년 xx월 xx일\"과 같은 표현은 반드시 \"2025-xx-xx\" 형식의 날짜로 변환합니다.\n" +
+            "- 다음 상담 일정이 언급되지 않은 경우, \"next_schedule\" 필드 값은 \"미정\"으로 작성합니다.\n" +
+            "- 연도는 반드시 2025로 고정하며, 두 자리 연도는 계산 없이 \"2025\"로 해석해야 합니다.\n" +
+            "- ISO 8601 형식 (\"YYYY-MM-DD\")을 따릅니다. 예: \"2025-03-31\"\n" +
+            "- 날짜는 반드시 문자열 형태로 작성합니다. 예: \"next_schedule\": \"2025-03-31\"\n" +
+            "- \"25년 xx월 xx일\" 또는 \"25.05.01\"과 같은 연도 표현이 있는 경우,\n" +
+            "  반드시 현재 연도 기준으로 2025년으로 해석해야 합니다.\n" +
+            "- \"25\"라는 두 자리 연도는 절대 계산하거나 덧셈으로 추론하지 말고, 무조건 \"2025\"로 해석하세요.\n" +
+            "- 어떤 경우에도 2100년 이상 또는 2000년 미만의 연도는 생성하면 안 됩니다.\n" +
+            "- 연도 입력이 없으면 currentTime 기반의 4자리수 연도로 추측하세요.\n\n" +
+            "출력 형식:\n" +
+            "{\n" +
+            "  \"summary_topic\": \"...\",\n" +
+            "  \"symptoms\": \"...\",\n" +
+            "  \"treatment\": \"...\",\n" +
+            "  \"counselor_note\": \"...\",\n" +
+            "  \"next_schedule\": \"2025-xx-xx\" 또는 \"미정\"\n" +
+            "}";
+
+    // 긴 상담을 나눠 요약할 때 각 부분에 덧붙이는 안내
+    static final String PARTIAL_SUMMARY_NOTE =
+            "\n\n참고: 아래 대화는 긴 상담을 나눈 것 중 %d/%d 번째 부분입니다. 이 부분에 나온 내용만 요약합니다.";
+
+    // 부분 요약들을 하나로 합칠 때 사용하는 프롬프트
+    static final String MERGE_SYSTEM_PROMPT =
+            "역할: 당신은 정신건강 상담 요약을 정리하는 비서입니다.\n" +
+            "목표: 하나의 상담을 시간 순서대로 나누어 요약한 JSON 목록을 받아, 같은 구조의 요약 하나로 합칩니다.\n" +
+            "금지사항: 부분 요약에 없는 내용을 추가하거나 추측하지 않습니다. 반드시 한국어로 작성합니다.\n\n" +
+            "- 중복된 내용은 한 번만 쓰고, 시간 순서상 뒤의 내용이 앞의 내용과 다르면 뒤의 내용을 따릅니다.\n" +
+            "- \"next_schedule\" 은 마지막으로 언급된 날짜를 사용하고, 날짜가 하나도 없으면 \"미정\"으로 작성합니다.\n\n" +
+            "출력 형식:\n" +
+            "{\n" +
+            "  \"summary_topic\": \"...\",\n" +
+            "  \"symptoms\": \"...\",\n" +
+            "  \"treatment\": \"...\",\n" +
+            "  \"counselor_note\": \"...\",\n" +
+            "  \"next_schedule\": \"2025-xx-xx\" 또는 \"미정\"\n" +
+            "}";
+
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final LlmConcurrencyLimiter limiter;
+    private final String model;
+    private final boolean stream;
+    private final int maxTokens;
+    private final Duration totalTimeout;
+    private final MeterRegistry meterRegistry;
 
-    public SummaryClient(WebClient.Builder builder, @Value("${llm.base-url}") String baseUrl) {
-        this.webClient = builder.baseUrl(baseUrl).build();
+    public SummaryClient(@Qualifier("llmWebClient") WebClient webClient,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${llm.model:kanana-nano-2.1b-instruct-abliterated-i1}") String model,
+                         @Value("${llm.stream:true}") boolean stream,
+                         @Value("${llm.max-output-tokens:2000}") int maxTokens,
+                         @Value("${llm.total-timeout-seconds:300}") long totalTimeoutSeconds,
+                         @Value("${llm.max-concurrent-requests:2}") int maxConcurrentRequests,
+                         @Value("${llm.max-pending-requests:50}") int maxPendingRequests) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.model = model;
+        this.stream = stream;
+        this.maxTokens = maxTokens;
+        this.totalTimeout = Duration.ofSeconds(totalTimeoutSeconds);
+        this.limiter = new LlmConcurrencyLimiter(maxConcurrentRequests, maxPendingRequests);
     }
 
     private List<Map<String, String>> convertRoles(List<Map<String, String>> messages) {
@@ -38,70 +128,205 @@ public class SummaryClient {
                 .toList();
     }
 
+    /**
+     * 상담 메시지를 요약
+     * @param redisMessages Redis 에 저장된 상담 메시지 (role: ROLE_USER / ROLE_COUNSELOR)
+     */
+    public Mono<SummaryResponse> requestSummary(List<Map<String, String>> redisMessages) {
+        return timed("summary", requestSummary(redisMessages, SUMMARY_SYSTEM_PROMPT, maxTokens));
+    }
+
+    /**
+     * 긴 상담의 일부만 요약 (SummaryEngine 에서 사용)
+     * @param part 1부터 시작하는 부분 번호
+     */
+    public Mono<SummaryResponse> requestPartialSummary(List<Map<String, String>> redisMessages, int part, int total, int maxTokens) {
+        return timed("partial_summary",
+                requestSummary(redisMessages, SUMMARY_SYSTEM_PROMPT + String.format(PARTIAL_SUMMARY_NOTE, part, total), maxTokens));
+    }
+
+    /**
+     * 부분 요약들을 하나의 요약으로 합침 (시간 순서대로 전달)
+     */
+    public Mono<SummaryResponse> mergeSummaries(List<SummaryResponse> partials, int maxTokens) {
+        String partialsJson;
+        try {
+            partialsJson = objectMapper.writeValueAsString(partials);
+        } catch (Exception e) {
+            return Mono.error(new RuntimeException("부분 요약 변환 실패", e));
+        }
+
+        List<Map<String, String>> messages = List.of(
+                Map.of("role", "system", "content", MERGE_SYSTEM_PROMPT),
+                Map.of("role", "user", "content", partialsJson));
+        return timed("merge", complete(messages, maxTokens).map(this::parseSummary));
+    }
+
+    /**
+     * 구독부터 완료까지 걸린 시간 기록 (llm.request, 동시 실행 제한 대기 시간 포함)
+     */
+    private <T> Mono<T> timed(String operation, Mono<T> request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request.doFinally(signal -> sample.stop(Timer.builder("llm.request")
+                    .description("LLM 요약 요청 처리 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", signal == SignalType.ON_COMPLETE ? "success" : signal == SignalType.CANCEL ? "cancelled" : "error")
+                    .register(meterRegistry)));
+        });
+    }
 
-    public SummaryResponse requestSummary(List<Map<String, String>> redisMessages) {
+    private Mono<SummaryResponse> requestSummary(List<Map<String, String>> redisMessages, String systemPrompt, int maxTokens) {
         // Step 1. Role 변환
         List<Map<String, String>> convertedMessages = convertRoles(redisMessages);
 
         // Step 2. 시스템 프롬프트 삽입
-        Map<String, String> systemMessage = Map.of(
-                "role", "system",
-                "content", "역할: 당신은 정신건강 상담 내용을 요약하는 비서입니다.\n" +
-                        "목표: 다음 JSON 구조에 따라 상담 내용을 요약합니다. 대화체는 제거하고 요약 문장으로만 작성합니다.\n" +
-                        "금지사항: 내담자가 언급하지 않은 내용을 추가하거나 추측하지 않습니다. 반드시 한국어로 작성합니다.\n\n" +
-                        "- \"25년 xx월 xx일\"과 같은 표현은 반드시 \"2025-xx-xx\" 형식의 날짜로 변환합니다.\n" +
-                        "- 다음 상담 일정이 언급되지 않은 경우, \"next_schedule\" 필드 값은 \"미정\"으로 작성합니다.\n" +
-                        "- 연도는 반드시 2025로 고정하며, 두 자리 연도는 계산 없이 \"2025\"로 해석해야 합니다.\n" +
-                        "- ISO 8601 형식 (\"YYYY-MM-DD\")을 따릅니다. 예: \"2025-03-31\"\n" +
-                        "- 날짜는 반드시 문자열 형태로 작성합니다. 예: \"next_schedule\": \"2025-03-31\"\n" +
-                        "- \"25년 xx월 xx일\" 또는 \"25.05.01\"과 같은 연도 표현이 있는 경우,\n" +
-                        "  반드시 현재 연도 기준으로 2025년으로 해석해야 합니다.\n" +
-                        "- \"25\"라는 두 자리 연도는 절대 계산하거나 덧셈으로 추론하지 말고, 무조건 \"2025\"로 해석하세요.\n" +
-                        "- 어떤 경우에도 2100년 이상 또는 2000년 미만의 연도는 생성하면 안 됩니다.\n" +
-                        "- 연도 입력이 없으면 currentTime 기반의 4자리수 연도로 추측하세요.\n\n" +
-                        "출력 형식:\n" +
-                        "{\n" +
-                        "  \"summary_topic\": \"...\",\n" +
-                        "  \"symptoms\": \"...\",\n" +
-                        "  \"treatment\": \"...\",\n" +
-                        "  \"counselor_note\": \"...\",\n" +
-                        "  \"next_schedule\": \"2025-xx-xx\" 또는 \"미정\"\n" +
-                        "}"
-        );
-
-
         List<Map<String, String>> allMessages = new ArrayList<>();
-        allMessages.add(systemMessage);
+        allMessages.add(Map.of("role", "system", "content", systemPrompt));
         allMessages.addAll(convertedMessages);
-        
-        Map<String, Object> requestBody = Map.of(
-                "model", "kanana-nano-2.1b-instruct-abliterated-i1",
-                "temperature", 0.3,
-                "max_tokens", 2000,
-                "messages", allMessages
-        );
-
-        Map<String, Object> responseMap = webClient.post()
+
+        return complete(allMessages, maxTokens).map(this::parseSummary);
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * 채팅 완성 요청 후 응답 본문(content) 반환
+     */
+    private Mono<String> complete(List<Map<String, String>> messages, int maxTokens) {
+        Mono<String> request = stream
+                ? completeStreaming(messages, maxTokens).onErrorResume(this::isStreamingUnsupported, e -> {
+                    logger.warn("LLM 스트리밍 응답 실패, 일반 요청으로 다시 시도합니다: {}",
+                            isReadTimeout(e) ? "응답 조각 대기 시간 초과" : e.getMessage());
+                    return completeBlocking(messages, maxTokens);
+                })
+                : completeBlocking(messages, maxTokens);
+
+        return limiter.run(() -> request)
+                .timeout(totalTimeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new RuntimeException("LLM 응답 시간 초과 (" + totalTimeout.toSeconds() + "초)", e));
+    }
+
+    /**
+     * SSE 스트리밍 요청: 토큰 조각(choices[0].delta.content)을 순서대로 이어 붙임
+     * [DONE] 또는 finish_reason 이 오기 전에 연결이 끊기면 (read timeout 등) 받은 조각은 버리고 실패로 처리합니다.
+     */
+    private Mono<String> completeStreaming(List<Map<String, String>> messages, int maxTokens) {
+        return webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody(messages, maxTokens, true))
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .filter(event -> event.data() != null)
+                .map(ServerSentEvent::data)
+                .takeUntil(data -> STREAM_DONE.equals(data.trim()))
+                .collect(StreamedContent::new, this::appendChunk)
+                .flatMap(streamed -> {
+                    if (!streamed.finished) {
+                        return Mono.error(new StreamingUnsupportedException("LLM 스트리밍 응답이 끝나기 전에 연결이 끊겼습니다."));
+                    }
+                    String content = streamed.content.toString();
+                    return content.isBlank()
+                            ? Mono.error(new StreamingUnsupportedException("LLM 스트리밍 응답이 비어 있습니다."))
+                            : Mono.just(content);
+                });
+    }
+
+    /**
+     * 일반 요청: 전체 응답을 한 번에 받음
+     */
+    private Mono<String> completeBlocking(List<Map<String, String>> messages, int maxTokens) {
+        return webClient.post()
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
-                .bodyValue(requestBody)
+                .bodyValue(requestBody(messages, maxTokens, false))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+                .bodyToMono(JsonNode.class)
+                .map(response -> {
+                    JsonNode content = response.path("choices").path(0).path("message").path("content");
+                    if (content.isMissingNode() || content.isNull()) {
+                        throw new RuntimeException("LLM 응답에 content 가 없습니다: " + response);
+                    }
+                    return content.asText();
+                });
+    }
+
+    private Map<String, Object> requestBody(List<Map<String, String>> messages, int maxTokens, boolean streaming) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("temperature", 0.3);
+        requestBody.put("max_tokens", maxTokens);
+        requestBody.put("messages", messages);
+        requestBody.put("stream", streaming);
+        return requestBody;
+    }
 
-        if (responseMap == null) {
-            throw new RuntimeException("LLM 응답이 null입니다.");
+    private void appendChunk(StreamedContent streamed, String data) {
+        if (STREAM_DONE.equals(data.trim())) {
+            streamed.finished = true;
+            return;
         }
+        try {
+            JsonNode choice = objectMapper.readTree(data).path("choices").path(0);
+            JsonNode content = choice.path("delta").path("content");
+            if (content.isTextual()) {
+                streamed.content.append(content.asText());
+            }
+            if (choice.path("finish_reason").isTextual()) {
+                streamed.finished = true;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("LLM 스트리밍 응답 파싱 실패: " + data, e);
+        }
+    }
+
+    // 서버가 스트리밍을 지원하지 않거나 (4xx 또는 빈 응답) 스트리밍 응답이 멈추거나 끊긴 경우 (read timeout) 에만 일반 요청으로 다시 시도
+    private boolean isStreamingUnsupported(Throwable e) {
+        return e instanceof StreamingUnsupportedException
+                || (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError())
+                || isReadTimeout(e);
+    }
 
-        Map<String, Object> firstChoice = ((List<Map<String, Object>>) responseMap.get("choices")).get(0);
-        Map<String, String> message = (Map<String, String>) firstChoice.get("message");
-        String contentJson = message.get("content");
+    private boolean isReadTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ReadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    private SummaryResponse parseSummary(String contentJson) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             return objectMapper.readValue(contentJson, SummaryResponse.class);
         } catch (Exception e) {
+            // 모델이 코드 블록이나 설명을 덧붙인 경우 JSON 부분만 다시 파싱
+            int start = contentJson.indexOf('{');
+            int end = contentJson.lastIndexOf('}');
+            if (start >= 0 && end > start) {
+                try {
+                    return objectMapper.readValue(contentJson.substring(start, end + 1), SummaryResponse.class);
+                } catch (Exception ignored) {
+                    // 아래에서 원본 응답과 함께 실패 처리
+                }
+            }
             throw new RuntimeException("LLM 응답 content 파싱 실패: " + contentJson, e);
         }
     }
+
+    // 스트리밍으로 받은 내용과 정상 종료([DONE] 또는 finish_reason) 여부
+    private static class StreamedContent {
+        private final StringBuilder content = new StringBuilder();
+        private boolean finished;
+    }
+
+    private static class StreamingUnsupportedException extends RuntimeException {
+        StreamingUnsupportedException(String message) {
+            super(message);
+        }
+    }
 }
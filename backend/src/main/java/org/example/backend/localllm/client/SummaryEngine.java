@@ -0,0 +1,184 @@
+package org.example.backend.localllm.client;
+
+import org.example.backend.localllm.dto.response.SummaryResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 긴 상담도 모델 컨텍스트 안에서 요약하기 위한 분할 요약기 (map-reduce)
+ *
+ * 1. 전체 대화가 컨텍스트에 들어가면 SummaryClient.requestSummary 한 번으로 요약
+ * 2. 넘치면 대화를 컨텍스트 크기에 맞는 구간으로 나눠 구간별 요약을 병렬로 요청 (llm.map-concurrency 개씩)
+ * 3. 구간 요약들을 시간 순서대로 합쳐 최종 요약 생성 (한 번에 합칠 수 없으면 여러 단계로 합침)
+ */
+@Component
+public class SummaryEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryEngine.class);
+
+    // 토큰 추정 오차를 감안한 여유분
+    private static final int SAFETY_MARGIN_TOKENS = 64;
+    // 예산이 설정 오류로 너무 작아지는 것을 방지
+    private static final int MIN_INPUT_BUDGET_TOKENS = 256;
+    // 구간 요약 하나를 합칠 때의 JSON 구조 비용
+    private static final int PARTIAL_OVERHEAD_TOKENS = 24;
+
+    private final SummaryClient summaryClient;
+    private final TokenEstimator tokenEstimator;
+    private final int contextWindowTokens;
+    private final int partialMaxTokens;
+    private final int mapConcurrency;
+
+    public SummaryEngine(SummaryClient summaryClient,
+                         TokenEstimator tokenEstimator,
+                         @Value("${llm.context-window-tokens:4096}") int contextWindowTokens,
+                         @Value("${llm.partial-max-tokens:512}") int partialMaxTokens,
+                         @Value("${llm.map-concurrency:2}") int mapConcurrency) {
+        this.summaryClient = summaryClient;
+        this.tokenEstimator = tokenEstimator;
+        this.contextWindowTokens = contextWindowTokens;
+        this.partialMaxTokens = partialMaxTokens;
+        this.mapConcurrency = mapConcurrency;
+    }
+
+    /**
+     * 상담 메시지 요약
+     * @param messages Redis 에 저장된 상담 메시지 (role: ROLE_USER / ROLE_COUNSELOR)
+     */
+    public Mono<SummaryResponse> summarize(List<Map<String, String>> messages) {
+        int totalTokens = tokenEstimator.estimateMessages(messages);
+        int singleShotBudget = inputBudget(SummaryClient.SUMMARY_SYSTEM_PROMPT, summaryClient.getMaxTokens());
+        if (totalTokens <= singleShotBudget) {
+            return summaryClient.requestSummary(messages);
+        }
+
+        int windowBudget = inputBudget(
+                SummaryClient.SUMMARY_SYSTEM_PROMPT + SummaryClient.PARTIAL_SUMMARY_NOTE, partialMaxTokens);
+        List<List<Map<String, String>>> windows = splitIntoWindows(messages, windowBudget);
+        int total = windows.size();
+        logger.info("긴 상담 분할 요약: messages={}, estimatedTokens={}, windows={}", messages.size(), totalTokens, total);
+
+        return Flux.range(0, total)
+                .flatMapSequential(i -> summaryClient.requestPartialSummary(windows.get(i), i + 1, total, partialMaxTokens),
+                        mapConcurrency)
+                .collectList()
+                .flatMap(this::merge);
+    }
+
+    /**
+     * 구간 요약을 합침 (한 번에 합칠 수 없으면 인접한 것끼리 먼저 합친 뒤 다시 합침)
+     */
+    private Mono<SummaryResponse> merge(List<SummaryResponse> partials) {
+        if (partials.size() == 1) {
+            return Mono.just(partials.get(0));
+        }
+
+        int mergeBudget = inputBudget(SummaryClient.MERGE_SYSTEM_PROMPT, summaryClient.getMaxTokens());
+        List<List<SummaryResponse>> groups = groupPartials(partials, mergeBudget);
+        if (groups.size() == 1) {
+            return summaryClient.mergeSummaries(partials, summaryClient.getMaxTokens());
+        }
+
+        logger.debug("구간 요약 중간 병합: partials={}, groups={}", partials.size(), groups.size());
+        return Flux.fromIterable(groups)
+                .flatMapSequential(group -> group.size() == 1
+                        ? Mono.just(group.get(0))
+                        : summaryClient.mergeSummaries(group, partialMaxTokens), mapConcurrency)
+                .collectList()
+                .flatMap(this::merge);
+    }
+
+    /**
+     * 메시지를 순서대로 budget 이하 구간으로 나눔 (한 메시지가 budget 을 넘으면 내용을 잘라 여러 메시지로 나눔)
+     */
+    private List<List<Map<String, String>>> splitIntoWindows(List<Map<String, String>> messages, int budget) {
+        List<List<Map<String, String>>> windows = new ArrayList<>();
+        List<Map<String, String>> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (Map<String, String> message : messages) {
+            for (Map<String, String> piece : splitOversized(message, budget)) {
+                int tokens = tokenEstimator.estimateMessage(piece);
+                if (!current.isEmpty() && currentTokens + tokens > budget) {
+                    windows.add(current);
+                    current = new ArrayList<>();
+                    currentTokens = 0;
+                }
+                current.add(piece);
+                currentTokens += tokens;
+            }
+        }
+        if (!current.isEmpty()) {
+            windows.add(current);
+        }
+        return windows;
+    }
+
+    private List<Map<String, String>> splitOversized(Map<String, String> message, int budget) {
+        int tokens = tokenEstimator.estimateMessage(message);
+        String content = message.get("content");
+        if (tokens <= budget || content == null || content.length() < 2) {
+            return List.of(message);
+        }
+
+        // 토큰 비율로 조각 길이를 정하고, 조각마다 다시 추정해 넘치면 줄임
+        int pieceLength = Math.max(1, (int) ((long) content.length() * budget / tokens / 2));
+        List<Map<String, String>> pieces = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = Math.min(content.length(), start + pieceLength);
+            Map<String, String> piece = new HashMap<>(message);
+            piece.put("content", content.substring(start, end));
+            pieces.add(piece);
+            start = end;
+        }
+        return pieces;
+    }
+
+    /**
+     * 인접한 구간 요약을 budget 이하로 묶음 (진행을 보장하기 위해 한 묶음에 최소 2개)
+     */
+    private List<List<SummaryResponse>> groupPartials(List<SummaryResponse> partials, int budget) {
+        List<List<SummaryResponse>> groups = new ArrayList<>();
+        List<SummaryResponse> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (SummaryResponse partial : partials) {
+            int tokens = estimatePartial(partial);
+            if (current.size() >= 2 && currentTokens + tokens > budget) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(partial);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private int estimatePartial(SummaryResponse partial) {
+        return PARTIAL_OVERHEAD_TOKENS
+                + tokenEstimator.estimate(partial.getSummary_topic())
+                + tokenEstimator.estimate(partial.getSymptoms())
+                + tokenEstimator.estimate(partial.getTreatment())
+                + tokenEstimator.estimate(partial.getCounselor_note())
+                + tokenEstimator.estimate(partial.getNext_schedule());
+    }
+
+    private int inputBudget(String systemPrompt, int maxOutputTokens) {
+        int budget = contextWindowTokens - maxOutputTokens - tokenEstimator.estimate(systemPrompt) - SAFETY_MARGIN_TOKENS;
+        return Math.max(budget, MIN_INPUT_BUDGET_TOKENS);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.backend.localllm.client;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 LLM 입력 토큰 수 추정
+ *
+ * 토크나이저를 직접 돌리지 않고 문자 종류별 평균값으로 넉넉하게 추정합니다.
+ * - 한글/한자/가나: 글자당 1토큰 (소형 모델의 BPE 는 한글 음절을 대부분 1~2개 토큰으로 나눔)
+ * - 그 외 문자: 4글자당 1토큰
+ * - 메시지마다 역할 표시 등 고정 비용 4토큰
+ */
+@Component
+public class TokenEstimator {
+
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    private static final int LATIN_CHARS_PER_TOKEN = 4;
+
+    public int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int wideChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isWide(c)) {
+                wideChars++;
+            } else {
+                otherChars++;
+            }
+        }
+        return wideChars + (otherChars + LATIN_CHARS_PER_TOKEN - 1) / LATIN_CHARS_PER_TOKEN;
+    }
+
+    public int estimateMessage(Map<String, String> message) {
+        return MESSAGE_OVERHEAD_TOKENS + estimate(message.get("content"));
+    }
+
+    public int estimateMessages(List<Map<String, String>> messages) {
+        int total = 0;
+        for (Map<String, String> message : messages) {
+            total += estimateMessage(message);
+        }
+        return total;
+    }
+
+    private boolean isWide(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_JAMO
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+                || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || block == Character.UnicodeBlock.HIRAGANA
+                || block == Character.UnicodeBlock.KATAKANA;
+    }
+}
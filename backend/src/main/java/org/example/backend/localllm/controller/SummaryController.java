@@ -5,6 +5,7 @@ import org.example.backend.auth.model.Counselor;
 import org.example.backend.auth.model.User;
 import org.example.backend.auth.repository.CounselorRepository;
 import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.localllm.client.LlmBusyException;
 import org.example.backend.localllm.dto.request.SummaryRequest;
 import org.example.backend.localllm.dto.response.SummaryResponse;
 import org.example.backend.localllm.service.SummaryService;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -36,7 +38,7 @@ public class SummaryController {
     }
 
     @PostMapping
-    public ResponseEntity<SummaryResponse> summarize(
+    public Mono<ResponseEntity<SummaryResponse>> summarize(
             @RequestBody SummaryRequest dto,
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User principal) {
 
@@ -44,7 +46,7 @@ public class SummaryController {
                 .orElseThrow(() -> new RuntimeException("인증된 사용자가 존재하지 않습니다."));
 
         if (!user.getRole().equals("ROLE_COUNSELOR")) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
         }
 
 
@@ -53,10 +55,10 @@ public class SummaryController {
 
         Long counselorId = counselor.getId(); // 올바르게 추출된 counselor_id
 
-        SummaryResponse summary = summaryService.summarizeAndSave(dto, counselorId);
-
-
-        return ResponseEntity.ok(summary); // 프론트로 요약 응답 전송
+        return summaryService.summarizeAndSave(dto, counselorId)
+                .map(ResponseEntity::ok) // 프론트로 요약 응답 전송
+                .onErrorResume(LlmBusyException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).<SummaryResponse>build()));
     }
 
 }
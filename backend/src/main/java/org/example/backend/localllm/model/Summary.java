@@ -47,6 +47,10 @@ public class Summary {
 
     private LocalDateTime nextSchedule;
 
+    // 상담 종료 후 요약 작업 ID (같은 작업이 다시 실행되어도 한 번만 저장, 직접 요청한 요약은 null)
+    @Column(unique = true, length = 36)
+    private String jobId;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -4,8 +4,11 @@ import org.example.backend.localllm.model.Summary;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface SummaryRepository extends JpaRepository<Summary, Long> {
 //    List<Summary> findAllByCounselor_Id(Long counselorId);
     List<Summary> findAllByCounselorId(Long counselorId);
+
+    Optional<Summary> findByJobId(String jobId);
 }
@@ -3,12 +3,20 @@ package org.example.backend.localllm.service;
 import org.example.backend.localllm.dto.request.SummaryRequest;
 import org.example.backend.localllm.dto.response.SummaryResponse;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
 import java.util.List;
 
 @Service
 public interface SummaryService {
 
-    SummaryResponse summarizeAndSave(SummaryRequest dto, Long counselorId);
+    Mono<SummaryResponse> summarizeAndSave(SummaryRequest dto, Long counselorId);
+
+    /**
+     * 요약 작업에서 호출 (jobId 당 한 번만 저장)
+     * 같은 작업의 요약이 이미 저장되어 있으면 LLM 을 다시 호출하지 않고 저장된 요약을 반환합니다.
+     */
+    Mono<SummaryResponse> summarizeAndSave(SummaryRequest dto, Long counselorId, String jobId);
 
     List<SummaryResponse> getAllSummariesByCounselorId(Long counselorId);
 }
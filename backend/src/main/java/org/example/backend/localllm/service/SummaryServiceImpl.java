@@ -3,12 +3,15 @@ package org.example.backend.localllm.service;
 import org.example.backend.auth.model.Counselor;
 import org.example.backend.auth.model.User;
 import org.example.backend.auth.repository.CounselorRepository;
-import org.example.backend.localllm.client.SummaryClient;
+import org.example.backend.localllm.client.SummaryEngine;
 import org.example.backend.localllm.dto.request.SummaryRequest;
 import org.example.backend.localllm.dto.response.SummaryResponse;
 import org.example.backend.localllm.model.Summary;
 import org.example.backend.localllm.repository.SummaryRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,35 +24,60 @@ import java.util.Locale;
 public class SummaryServiceImpl implements SummaryService {
 
     private final SummaryRepository summaryRepository;
-    private final SummaryClient llmClient;
+    private final SummaryEngine summaryEngine;
 
-    public SummaryServiceImpl(SummaryRepository summaryRepository, SummaryClient llmClient) {
+    public SummaryServiceImpl(SummaryRepository summaryRepository, SummaryEngine summaryEngine) {
         this.summaryRepository = summaryRepository;
-        this.llmClient = llmClient;
+        this.summaryEngine = summaryEngine;
 
     }
 
     @Override
-    public SummaryResponse summarizeAndSave(SummaryRequest dto, Long counselorId) {
-        SummaryResponse summary = llmClient.requestSummary(dto.getMessages());
+    public Mono<SummaryResponse> summarizeAndSave(SummaryRequest dto, Long counselorId) {
+        return summarizeAndSave(dto, counselorId, null);
+    }
 
-        if (summary.getSummary_topic() == null) {
-            throw new IllegalArgumentException("summary_topic이 비어 있습니다. LLM 응답이 올바르지 않습니다.");
+    @Override
+    public Mono<SummaryResponse> summarizeAndSave(SummaryRequest dto, Long counselorId, String jobId) {
+        if (jobId == null) {
+            return summarize(dto, counselorId, null);
         }
+        return Mono.fromCallable(() -> summaryRepository.findByJobId(jobId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(saved -> saved.map(summary -> Mono.just(toResponse(summary)))
+                        .orElseGet(() -> summarize(dto, counselorId, jobId)));
+    }
 
-        Summary entity = Summary.builder()
-                .user(User.of(dto.getUserId()))
-                .counselor(Counselor.of(counselorId))
-                .summaryTopic(summary.getSummary_topic())
-                .symptoms(summary.getSymptoms())
-                .treatment(summary.getTreatment())
-                .counselorNote(summary.getCounselor_note())
-                .nextSchedule(parseDate(summary.getNext_schedule()))
-                .build();
+    private Mono<SummaryResponse> summarize(SummaryRequest dto, Long counselorId, String jobId) {
+        return summaryEngine.summarize(dto.getMessages())
+                .flatMap(summary -> {
+                    if (summary.getSummary_topic() == null) {
+                        return Mono.error(new IllegalArgumentException("summary_topic이 비어 있습니다. LLM 응답이 올바르지 않습니다."));
+                    }
 
-        summaryRepository.save(entity);
+                    Summary entity = Summary.builder()
+                            .user(User.of(dto.getUserId()))
+                            .counselor(Counselor.of(counselorId))
+                            .summaryTopic(summary.getSummary_topic())
+                            .symptoms(summary.getSymptoms())
+                            .treatment(summary.getTreatment())
+                            .counselorNote(summary.getCounselor_note())
+                            .nextSchedule(parseDate(summary.getNext_schedule()))
+                            .jobId(jobId)
+                            .build();
 
-        return summary;
+                    // JPA 저장은 블로킹이므로 별도 스레드에서 실행
+                    // 같은 작업을 다른 서버가 먼저 저장했으면 (job_id 중복) 그 요약을 사용
+                    return Mono.fromCallable(() -> summaryRepository.save(entity))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .thenReturn(summary)
+                            .onErrorResume(DataIntegrityViolationException.class, e -> jobId == null
+                                    ? Mono.error(e)
+                                    : Mono.fromCallable(() -> summaryRepository.findByJobId(jobId)
+                                            .map(this::toResponse)
+                                            .orElseThrow(() -> e))
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                });
     }
 
     private LocalDateTime parseDate(String input) {
@@ -67,16 +95,20 @@ public class SummaryServiceImpl implements SummaryService {
     public List<SummaryResponse> getAllSummariesByCounselorId(Long counselorId) {
         List<Summary> summaries = summaryRepository.findAllByCounselorId(counselorId);
         return summaries.stream()
-                .map(summary -> SummaryResponse.builder()
-                        .summary_topic(summary.getSummaryTopic())
-                        .symptoms(summary.getSymptoms())
-                        .treatment(summary.getTreatment())
-                        .counselor_note(summary.getCounselorNote())
-                        .next_schedule(summary.getNextSchedule() != null
-                                ? summary.getNextSchedule().toLocalDate().toString()
-                                : null)
-                        .build())
+                .map(this::toResponse)
                 .toList();
     }
 
+    private SummaryResponse toResponse(Summary summary) {
+        return SummaryResponse.builder()
+                .summary_topic(summary.getSummaryTopic())
+                .symptoms(summary.getSymptoms())
+                .treatment(summary.getTreatment())
+                .counselor_note(summary.getCounselorNote())
+                .next_schedule(summary.getNextSchedule() != null
+                        ? summary.getNextSchedule().toLocalDate().toString()
+                        : null)
+                .build();
+    }
+
 }
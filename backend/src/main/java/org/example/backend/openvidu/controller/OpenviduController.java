@@ -1,6 +1,7 @@
 package org.example.backend.openvidu.controller;
 
 
+import io.micrometer.core.annotation.Timed;
 import io.openvidu.java.client.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -32,6 +33,7 @@ public class OpenviduController {
 //    }
 
     @PostMapping("/session/{session_id}")
+    @Timed(value = "openvidu.request", extraTags = {"operation", "create_session"})
     public ResponseEntity<String> createSession(@PathVariable("session_id") String sessionId) {
         try {
             // OpenVidu 객체 업데이트 (서버가 재시작되었을 수 있음)
@@ -60,6 +62,7 @@ public class OpenviduController {
     }
 
     @PostMapping("/session/token")
+    @Timed(value = "openvidu.request", extraTags = {"operation", "create_token"})
     public ResponseEntity<String> generateToken(@RequestBody Map<String, Object> params) {
         String sessionId;
         try {
@@ -103,6 +106,7 @@ public class OpenviduController {
     }
 
     @DeleteMapping("/session/{session_id}")
+    @Timed(value = "openvidu.request", extraTags = {"operation", "delete_session"})
     public ResponseEntity<String> deleteSession(@PathVariable("session_id") String sessionId) {
         try {
             // OpenVidu 객체 업데이트
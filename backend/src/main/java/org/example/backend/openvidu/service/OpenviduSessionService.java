@@ -0,0 +1,38 @@
+package org.example.backend.openvidu.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.Session;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채널 종료 시 OpenVidu 세션 정리
+ */
+@Service
+@RequiredArgsConstructor
+public class OpenviduSessionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenviduSessionService.class);
+
+    private final OpenVidu openvidu;
+
+    /**
+     * 활성 세션이 있으면 닫기 (실패해도 예외를 던지지 않음)
+     * @param sessionId 세션 ID (채널 ID 또는 상담 코드)
+     */
+    @Timed(value = "openvidu.request", extraTags = {"operation", "close_session"})
+    public void closeSession(String sessionId) {
+        try {
+            Session session = openvidu.getActiveSession(sessionId);
+            if (session != null) {
+                session.close();
+                logger.info("OpenVidu 세션 삭제 완료: {}", sessionId);
+            }
+        } catch (Exception e) {
+            logger.error("OpenVidu 세션 삭제 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
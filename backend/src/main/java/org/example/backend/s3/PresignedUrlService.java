@@ -0,0 +1,111 @@
+package org.example.backend.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * S3 객체 다운로드용 Presigned URL 발급
+ *
+ * 공유 S3Presigner 로 서명하고, 발급한 URL 은 키별로 보관해 서명 만료 refresh-margin 전까지 재사용합니다.
+ * (보관 시간 = signature-duration - refresh-margin, 응답으로 나가는 URL 은 항상 refresh-margin 이상 유효)
+ * 목록 API 는 getUrls 로 한 번에 발급받아 사용합니다.
+ */
+@Service
+public class PresignedUrlService {
+
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final Duration signatureDuration;
+    private final Cache<String, String> urlCache;
+
+    public PresignedUrlService(S3Presigner presigner,
+                               MeterRegistry meterRegistry,
+                               @Value("${cloud.aws.s3.bucket}") String bucket,
+                               @Value("${cloud.aws.s3.presign.signature-duration:15m}") Duration signatureDuration,
+                               @Value("${cloud.aws.s3.presign.refresh-margin:2m}") Duration refreshMargin,
+                               @Value("${cloud.aws.s3.presign.cache-max-size:10000}") long cacheMaxSize) {
+        if (refreshMargin.compareTo(signatureDuration) >= 0) {
+            throw new IllegalArgumentException("refresh-margin 은 signature-duration 보다 짧아야 합니다.");
+        }
+        this.presigner = presigner;
+        this.bucket = bucket;
+        this.signatureDuration = signatureDuration;
+        this.urlCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(signatureDuration.minus(refreshMargin))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, urlCache, "presignedUrls");
+    }
+
+    /**
+     * 객체 다운로드 URL
+     * @return Presigned URL, key 가 비어 있으면 null
+     */
+    public String getUrl(String key) {
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        return urlCache.get(key, this::presign);
+    }
+
+    /**
+     * 여러 객체의 다운로드 URL (목록 API 용, 비어 있는 키는 제외)
+     * @return 키 -> Presigned URL
+     */
+    public Map<String, String> getUrls(Collection<String> keys) {
+        Set<String> validKeys = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key != null && !key.isBlank()) {
+                validKeys.add(key);
+            }
+        }
+        if (validKeys.isEmpty()) {
+            return Map.of();
+        }
+        return urlCache.getAll(validKeys, missingKeys -> {
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : missingKeys) {
+                loaded.put(key, presign(key));
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 객체 삭제/교체 시 보관 중인 URL 제거
+     */
+    public void evict(String key) {
+        if (key != null) {
+            urlCache.invalidate(key);
+        }
+    }
+
+    private String presign(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(signatureDuration)
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        return presigner.presignGetObject(presignRequest).url().toString();
+    }
+}
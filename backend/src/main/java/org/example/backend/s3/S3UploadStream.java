@@ -0,0 +1,240 @@
+package org.example.backend.s3;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * S3 객체로 바로 쓰는 출력 스트림 (임시 파일 없이 업로드)
+ *
+ * 파트 크기(5MB)만큼 메모리에 모았다가 업로드합니다. (버퍼는 작게 시작해 쓴 만큼만 늘리므로 작은 객체는 작은 메모리만 사용)
+ * - 전체 크기가 한 파트 이하: close() 시 PutObject 한 번으로 업로드
+ * - 한 파트를 넘는 경우: 멀티파트 업로드로 전환해 파트 단위로 업로드 후 close() 시 완료
+ * close() 전에 abort() 를 호출하거나 업로드 중 오류가 나면 멀티파트 업로드를 취소하므로 불완전한 객체가 남지 않습니다.
+ */
+public class S3UploadStream extends OutputStream {
+
+    // S3 멀티파트 업로드의 최소 파트 크기
+    static final int PART_SIZE = 5 * 1024 * 1024;
+    // 파트 버퍼의 처음 크기 (부족하면 두 배씩 PART_SIZE 까지 늘림)
+    static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final boolean gzip;
+
+    private final PartBuffer partBuffer = new PartBuffer();
+    private final OutputStream sink;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private String uploadId;
+    private boolean closed;
+
+    S3UploadStream(S3Client s3Client, String bucket, String key, String contentType, boolean gzip) throws IOException {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.gzip = gzip;
+        this.sink = gzip ? new GZIPOutputStream(partBuffer, 8192) : partBuffer;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        sink.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        sink.write(b, off, len);
+    }
+
+    /**
+     * 지금까지 쓴 내용을 업로드하고 객체를 완성
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            sink.close(); // gzip 인 경우 남은 압축 데이터를 partBuffer 로 내보냄
+            if (uploadId == null) {
+                s3Client.putObject(putObjectRequest(), RequestBody.fromByteBuffer(partBuffer.remaining()));
+            } else {
+                if (partBuffer.size() > 0) {
+                    uploadPart();
+                }
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                        .build());
+            }
+        } catch (IOException | SdkException e) {
+            abortUpload();
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+    }
+
+    /**
+     * 업로드 취소 (작성 중 오류가 난 경우)
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        abortUpload();
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentEncoding(gzip ? "gzip" : null)
+                    .build()).uploadId();
+        }
+
+        int partNumber = completedParts.size() + 1;
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .build(),
+                RequestBody.fromByteBuffer(partBuffer.remaining())).eTag();
+        completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+        partBuffer.reset();
+    }
+
+    private void abortUpload() {
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            // 취소되지 않은 파트는 버킷 수명 주기 규칙으로 정리
+        }
+    }
+
+    private PutObjectRequest putObjectRequest() {
+        return PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentEncoding(gzip ? "gzip" : null)
+                .build();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 업로드 스트림입니다: " + key);
+        }
+    }
+
+    // 현재 파트 버퍼 크기
+    int bufferCapacity() {
+        return partBuffer.buffer.length;
+    }
+
+    /**
+     * 한 파트 분량을 모으는 버퍼, PART_SIZE 만큼 차면 파트로 업로드
+     */
+    private class PartBuffer extends OutputStream {
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int position;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (position == PART_SIZE) {
+                uploadBufferedPart();
+            }
+            ensureCapacity(position + 1);
+            buffer[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (position == PART_SIZE) {
+                    uploadBufferedPart();
+                }
+                int count = Math.min(len, PART_SIZE - position);
+                ensureCapacity(position + count);
+                System.arraycopy(b, off, buffer, position, count);
+                position += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void close() {
+            // 업로드 완료는 S3UploadStream.close() 에서 처리
+        }
+
+        int size() {
+            return position;
+        }
+
+        ByteBuffer remaining() {
+            return ByteBuffer.wrap(buffer, 0, position);
+        }
+
+        void reset() {
+            position = 0;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= buffer.length) {
+                return;
+            }
+            int capacity = buffer.length;
+            while (capacity < required) {
+                capacity = Math.min(capacity * 2, PART_SIZE);
+            }
+            buffer = Arrays.copyOf(buffer, capacity);
+        }
+
+        private void uploadBufferedPart() throws IOException {
+            try {
+                uploadPart();
+            } catch (SdkException e) {
+                throw new IOException("S3 파트 업로드 실패: " + key, e);
+            }
+        }
+    }
+}
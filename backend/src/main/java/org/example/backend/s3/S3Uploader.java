@@ -1,43 +1,31 @@
 package org.example.backend.s3;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
-import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 public class S3Uploader {
 
     private final S3Client s3Client;
-
-    @Value("${cloud.aws.credentials.access-key}")
-    private String accessKey;
-
-    @Value("${cloud.aws.credentials.secret-key}")
-    private String secretKey;
+    private final PresignedUrlService presignedUrlService;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    @Value("${cloud.aws.region.static}")
-    private String region;
-
     // 업로드만 (상담이력 로그용)
+    @Timed(value = "s3.request", extraTags = {"operation", "upload_private_file"})
     public String uploadPrivateFile(File file, String key) {
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucket)
@@ -48,6 +36,48 @@ public class S3Uploader {
         return key;
     }
 
+    // 메모리에 있는 데이터 업로드 (프로필 이미지 변환 결과 등)
+    @Timed(value = "s3.request", extraTags = {"operation", "upload_bytes"})
+    public String uploadBytes(byte[] data, String key, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(request, RequestBody.fromBytes(data));
+        return key;
+    }
+
+    /**
+     * 임시 파일 없이 스트림으로 업로드 (상담이력 로그용)
+     * writer 가 쓴 내용이 그대로 S3 객체가 되며, 5MB 를 넘으면 멀티파트 업로드로 전환됩니다.
+     *
+     * @param gzip true 면 gzip 으로 압축해 Content-Encoding: gzip 으로 저장
+     */
+    @Timed(value = "s3.request", extraTags = {"operation", "upload_stream"})
+    public String uploadStream(String key, String contentType, boolean gzip, StreamWriter writer) {
+        S3UploadStream out = null;
+        try {
+            out = openUploadStream(key, contentType, gzip);
+            writer.writeTo(out);
+            out.close();
+            return key;
+        } catch (Exception e) {
+            if (out != null) {
+                out.abort();
+            }
+            throw new RuntimeException("S3 업로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * S3 객체로 바로 쓰는 출력 스트림 열기
+     * 여러 객체를 한 번에 작성할 때 사용하며, 실패 시 호출자가 abort() 를 호출해야 합니다.
+     */
+    public S3UploadStream openUploadStream(String key, String contentType, boolean gzip) throws IOException {
+        return new S3UploadStream(s3Client, bucket, key, contentType, gzip);
+    }
+
     private String guessContentType(File file) {
         try {
             return Files.probeContentType(file.toPath());
@@ -56,28 +86,13 @@ public class S3Uploader {
         }
     }
 
-    // Presigned URL 발급 / 제한 시간 후 사용 불가
+    // Presigned URL 발급 / 제한 시간 후 사용 불가 (만료 직전까지 같은 URL 재사용)
+    @Timed(value = "s3.request", extraTags = {"operation", "presign"})
     public String generatePresignedUrl(String key) {
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build();
-
-        AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
-        S3Presigner presigner = S3Presigner.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(awsCreds)) // 생성 시 credentials 설정 강제 주입 필요함
-                .build();
-
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(15))  // 유효시간
-                .getObjectRequest(getObjectRequest)
-                .build();
-
-        PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(presignRequest);
-        return presignedRequest.url().toString();
+        return presignedUrlService.getUrl(key);
     }
 
+    @Timed(value = "s3.request", extraTags = {"operation", "upload_file"})
     public String uploadFile(MultipartFile multipartFile, String key) {
         try {
             PutObjectRequest request = PutObjectRequest.builder()
@@ -97,11 +112,24 @@ public class S3Uploader {
         }
     }
 
+    /**
+     * 객체 내용을 스트림으로 읽기 (호출자가 close)
+     */
+    @Timed(value = "s3.request", extraTags = {"operation", "open_object"})
+    public InputStream openObject(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
+    @Timed(value = "s3.request", extraTags = {"operation", "delete"})
     public void deleteFile(String key) {
         s3Client.deleteObject(DeleteObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
                 .build());
+        presignedUrlService.evict(key);
     }
 
 
@@ -0,0 +1,13 @@
+package org.example.backend.s3;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * S3 업로드 본문을 스트림에 직접 쓰는 작성기 (S3Uploader.uploadStream 에서 사용)
+ */
+@FunctionalInterface
+public interface StreamWriter {
+
+    void writeTo(OutputStream out) throws IOException;
+}
@@ -3,15 +3,16 @@ package org.example.backend.s3.profile.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.example.backend.auth.service.UserInfoService;
-import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.profile.service.ProfileImageBusyException;
+import org.example.backend.s3.profile.service.ProfileImageService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
-import java.io.File;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,40 +20,45 @@ import java.util.UUID;
 @Tag(name = "S3 프로필 이미지")
 public class ProfileController {
 
-    private final S3Uploader s3Uploader;
-    private final UserInfoService userInfoService;
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final ProfileImageService profileImageService;
 
     @Operation(summary = "pre-signed 이미지 업로드")
     @PostMapping(value = "/upload-image", consumes = "multipart/form-data")
-    public ResponseEntity<String> uploadProfileImage(@RequestPart("image") MultipartFile file,
-                                                     @RequestParam("userId") Long userId) {
+    public CompletableFuture<ResponseEntity<String>> uploadProfileImage(@RequestPart("image") MultipartFile file,
+                                                                        @RequestParam("userId") Long userId) {
         try {
-
-            // 기존 키 조회
-            String oldKey = userInfoService.getUserProfileKey(userId);
-            if (oldKey != null && !oldKey.isBlank()) {
-                s3Uploader.deleteFile(oldKey); // <- 이 메서드 아래에 만들어야 함
-            }
-
-            String key = "profile-images/user_" + userId + "_" + UUID.randomUUID() + ".jpg";
-
-            String presignedUrl = s3Uploader.uploadFile(file, key);
-
-            //업로드한 이미지 URL을 DB에 저장
-            userInfoService.updateUserProfileImage(userId, key);
-
-            return ResponseEntity.ok(presignedUrl);
+            // 변환/업로드는 별도 스레드 풀에서 처리되고, 완료되면 가장 큰 이미지의 URL 로 응답
+            return profileImageService.upload(userId, file)
+                    .handle((presignedUrl, error) -> {
+                        if (error == null) {
+                            return ResponseEntity.ok(presignedUrl);
+                        }
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        if (cause instanceof IllegalArgumentException) {
+                            return ResponseEntity.badRequest().body(cause.getMessage());
+                        }
+                        return ResponseEntity.status(500).body("업로드 실패: " + cause.getMessage());
+                    });
+        } catch (ProfileImageBusyException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
         } catch (Exception e) {
-            return ResponseEntity.status(500).body("업로드 실패: " + e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body("업로드 실패: " + e.getMessage()));
         }
     }
 
     @Operation(summary = "이미지 불러오는 URL 반환")
     @GetMapping("/image-url")
-    public ResponseEntity<String> getProfileImageUrl(@RequestParam Long userId) {
-        String key = userInfoService.getUserProfileKey(userId); // 예: profile-images/user_49_xxx.jpg
-        String presignedUrl = s3Uploader.generatePresignedUrl(key);
+    public ResponseEntity<String> getProfileImageUrl(@RequestParam Long userId,
+                                                     @RequestParam(required = false) Integer size) {
+        // size(px) 이상인 것 중 가장 작은 이미지 (64/128/512, 없으면 512)
+        String presignedUrl = profileImageService.getUrl(userId, size);
         return ResponseEntity.ok(presignedUrl);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package org.example.backend.s3.profile.image;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 프로필 이미지 S3 키 규칙
+ *
+ * 업로드마다 profile-images/user_{userId}_{uuid}/{px}.jpg 로 크기별 이미지를 저장하고,
+ * DB(User.profileUrl)에는 가장 큰 크기의 키를 저장합니다. (키만 읽는 기존 코드도 그대로 동작)
+ * 이전에 원본 그대로 저장된 키(profile-images/user_{userId}_{uuid}.jpg)는 크기와 상관없이 원본 키를 사용합니다.
+ */
+public final class ProfileImageKeys {
+
+    private static final Pattern VARIANT_KEY = Pattern.compile("^(profile-images/user_\\d+_[0-9a-fA-F-]+)/(\\d+)\\.jpg$");
+
+    private ProfileImageKeys() {
+    }
+
+    /**
+     * 새 업로드의 키 접두사
+     */
+    public static String newBase(Long userId) {
+        return "profile-images/user_" + userId + "_" + UUID.randomUUID();
+    }
+
+    public static String variantKey(String base, ProfileImageSize size) {
+        return base + "/" + size.getPixels() + ".jpg";
+    }
+
+    /**
+     * 저장된 키에서 요청한 크기의 키 (크기별로 저장되지 않은 이전 키는 그대로 반환)
+     */
+    public static String resolve(String storedKey, ProfileImageSize size) {
+        if (storedKey == null || storedKey.isBlank()) {
+            return storedKey;
+        }
+        Matcher matcher = VARIANT_KEY.matcher(storedKey);
+        return matcher.matches() ? variantKey(matcher.group(1), size) : storedKey;
+    }
+
+    /**
+     * 저장된 키에 해당하는 모든 S3 객체 키 (이미지 교체 시 삭제용)
+     */
+    public static List<String> allKeys(String storedKey) {
+        Matcher matcher = VARIANT_KEY.matcher(storedKey);
+        if (!matcher.matches()) {
+            return List.of(storedKey);
+        }
+        List<String> keys = new ArrayList<>();
+        for (ProfileImageSize size : ProfileImageSize.values()) {
+            keys.add(variantKey(matcher.group(1), size));
+        }
+        return keys;
+    }
+}
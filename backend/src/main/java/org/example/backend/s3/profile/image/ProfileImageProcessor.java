@@ -0,0 +1,250 @@
+package org.example.backend.s3.profile.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 프로필 이미지 변환 (디코딩 1회 → 정사각형 자르기 → 크기별 JPEG)
+ *
+ * - 메타데이터는 읽지 않고 다시 인코딩하므로 EXIF(위치 정보 등)는 결과 이미지에 남지 않습니다.
+ *   단, 휴대폰 사진의 회전 정보(EXIF Orientation)는 읽어서 픽셀에 반영합니다.
+ * - 원본이 큰 경우 가장 큰 크기의 2배 이상만 남도록 줄여서 디코딩해 메모리와 시간을 줄입니다.
+ * - 이 클래스는 상태가 없어 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+@Component
+public class ProfileImageProcessor {
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+
+    public ProfileImageProcessor(@Value("${profile.image.jpeg-quality:0.85}") float jpegQuality,
+                                 @Value("${profile.image.max-source-pixels:50000000}") long maxSourcePixels) {
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    /**
+     * 업로드된 이미지를 디코딩해 가운데 기준 정사각형으로 자른 RGB 이미지 반환
+     *
+     * @throws IllegalArgumentException 이미지가 아니거나 지원하지 않는 형식, 크기 제한 초과
+     */
+    public SourceImage decode(byte[] data) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. (" + width + "x" + height + ")");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.min(width, height) / (ProfileImageSize.LARGE.getPixels() * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage decoded = reader.read(0, param);
+                return new SourceImage(cropSquare(decoded), readExifOrientation(data));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 정사각형 이미지를 지정한 크기로 줄이고 회전 정보를 반영해 JPEG 로 인코딩
+     */
+    public byte[] render(SourceImage source, ProfileImageSize size) {
+        BufferedImage resized = resize(source.square(), size.getPixels());
+        return encodeJpeg(orient(resized, source.orientation()));
+    }
+
+    // 가운데 기준 정사각형 + 알파 채널은 흰 배경으로 합성 (JPEG 는 투명도를 지원하지 않음)
+    private BufferedImage cropSquare(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+
+        BufferedImage square = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = square.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, side, side);
+            graphics.drawImage(image, 0, 0, side, side, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return square;
+    }
+
+    // 절반씩 여러 번 줄여서 한 번에 크게 줄일 때 생기는 계단 현상을 방지
+    private BufferedImage resize(BufferedImage image, int target) {
+        BufferedImage current = image;
+        int side = image.getWidth();
+        if (side <= target) {
+            return scale(current, target);
+        }
+        while (side / 2 >= target) {
+            side /= 2;
+            current = scale(current, side);
+        }
+        return side == target ? current : scale(current, target);
+    }
+
+    private BufferedImage scale(BufferedImage image, int side) {
+        BufferedImage scaled = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, side, side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * EXIF Orientation(1~8) 반영
+     * 결과 (x, y) 픽셀을 원본의 어느 위치에서 가져올지 계산 (정사각형이라 크기는 그대로)
+     */
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int n = image.getWidth();
+        int[] src = image.getRGB(0, 0, n, n, null, 0, n);
+        int[] dst = new int[src.length];
+        for (int y = 0; y < n; y++) {
+            for (int x = 0; x < n; x++) {
+                int sx;
+                int sy;
+                switch (orientation) {
+                    case 2 -> { sx = n - 1 - x; sy = y; }
+                    case 3 -> { sx = n - 1 - x; sy = n - 1 - y; }
+                    case 4 -> { sx = x; sy = n - 1 - y; }
+                    case 5 -> { sx = y; sy = x; }
+                    case 6 -> { sx = y; sy = n - 1 - x; }
+                    case 7 -> { sx = n - 1 - y; sy = n - 1 - x; }
+                    default -> { sx = n - 1 - y; sy = x; } // 8
+                }
+                dst[y * n + x] = src[sy * n + sx];
+            }
+        }
+        BufferedImage oriented = new BufferedImage(n, n, BufferedImage.TYPE_INT_RGB);
+        oriented.setRGB(0, 0, n, n, dst, 0, n);
+        return oriented;
+    }
+
+    // 메타데이터 없이 인코딩
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 인코딩 실패: " + e.getMessage(), e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG 의 APP1(Exif) 세그먼트에서 Orientation 값만 읽음 (JPEG 가 아니거나 값이 없으면 1)
+     */
+    private static int readExifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int i = 2;
+        while (i + 4 <= data.length) {
+            if ((data[i] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = data[i + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) { // 이미지 데이터 시작 또는 끝
+                return 1;
+            }
+            int length = ((data[i + 2] & 0xFF) << 8) | (data[i + 3] & 0xFF);
+            int segmentStart = i + 4;
+            int segmentEnd = Math.min(data.length, i + 2 + length);
+            if (marker == 0xE1 && segmentEnd - segmentStart > 14
+                    && data[segmentStart] == 'E' && data[segmentStart + 1] == 'x'
+                    && data[segmentStart + 2] == 'i' && data[segmentStart + 3] == 'f') {
+                return readTiffOrientation(data, segmentStart + 6, segmentEnd);
+            }
+            i += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] data, int start, int end) {
+        boolean littleEndian = data[start] == 'I' && data[start + 1] == 'I';
+        long ifdOffset = readInt(data, start + 4, littleEndian);
+        if (ifdOffset < 8 || start + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = start + (int) ifdOffset;
+        int entries = readShort(data, ifd, littleEndian);
+        for (int k = 0; k < entries; k++) {
+            int entry = ifd + 2 + k * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readShort(data, entry, littleEndian) == ORIENTATION_TAG) {
+                int orientation = readShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean littleEndian) {
+        long high = readShort(data, offset, littleEndian);
+        long low = readShort(data, offset + 2, littleEndian);
+        return littleEndian ? (low << 16) | high : (high << 16) | low;
+    }
+
+    /**
+     * 디코딩된 정사각형 이미지와 EXIF 회전 정보
+     */
+    public record SourceImage(BufferedImage square, int orientation) {
+    }
+}
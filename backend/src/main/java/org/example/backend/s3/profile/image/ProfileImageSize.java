@@ -0,0 +1,35 @@
+package org.example.backend.s3.profile.image;
+
+/**
+ * 프로필 이미지 크기 (정사각형, 긴 변 기준 px)
+ */
+public enum ProfileImageSize {
+    SMALL(64),
+    MEDIUM(128),
+    LARGE(512);
+
+    private final int pixels;
+
+    ProfileImageSize(int pixels) {
+        this.pixels = pixels;
+    }
+
+    public int getPixels() {
+        return pixels;
+    }
+
+    /**
+     * 요청한 크기 이상인 것 중 가장 작은 크기 (요청이 없거나 512 보다 크면 LARGE)
+     */
+    public static ProfileImageSize atLeast(Integer pixels) {
+        if (pixels == null) {
+            return LARGE;
+        }
+        for (ProfileImageSize size : values()) {
+            if (size.pixels >= pixels) {
+                return size;
+            }
+        }
+        return LARGE;
+    }
+}
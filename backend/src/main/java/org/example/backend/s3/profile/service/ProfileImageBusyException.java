@@ -0,0 +1,11 @@
+package org.example.backend.s3.profile.service;
+
+/**
+ * 처리 중인 프로필 이미지 변환이 최대치에 도달해 새 업로드를 받지 못한 경우 (429)
+ */
+public class ProfileImageBusyException extends RuntimeException {
+
+    public ProfileImageBusyException(String message) {
+        super(message);
+    }
+}
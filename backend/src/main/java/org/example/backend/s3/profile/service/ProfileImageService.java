@@ -0,0 +1,196 @@
+package org.example.backend.s3.profile.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.backend.auth.service.UserInfoService;
+import org.example.backend.s3.PresignedUrlService;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.profile.image.ProfileImageKeys;
+import org.example.backend.s3.profile.image.ProfileImageProcessor;
+import org.example.backend.s3.profile.image.ProfileImageSize;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로필 이미지 업로드/조회
+ *
+ * 업로드된 이미지는 요청 스레드에서 바이트만 복사하고, 변환과 S3 업로드는 전용 스레드 풀에서 처리합니다.
+ * 디코딩 1회 → 크기별(64/128/512) 변환과 업로드를 병렬로 수행 → 모두 끝나면 DB 의 키를 바꾸고 이전 이미지를 삭제합니다.
+ * 동시에 처리하는 업로드는 max-pending 으로 제한하며, 초과하면 대기하지 않고 ProfileImageBusyException 을 던집니다.
+ */
+@Service
+public class ProfileImageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileImageService.class);
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final ProfileImageProcessor processor;
+    private final S3Uploader s3Uploader;
+    private final PresignedUrlService presignedUrlService;
+    private final UserInfoService userInfoService;
+    private final Timer processingTimer;
+
+    private final int threads;
+    private final int maxPending;
+    private final long maxUploadBytes;
+    private final Semaphore admission;
+
+    private ExecutorService executor;
+
+    public ProfileImageService(ProfileImageProcessor processor,
+                               S3Uploader s3Uploader,
+                               PresignedUrlService presignedUrlService,
+                               UserInfoService userInfoService,
+                               MeterRegistry meterRegistry,
+                               @Value("${profile.image.threads:0}") int threads,
+                               @Value("${profile.image.max-pending:16}") int maxPending,
+                               @Value("${profile.image.max-upload-size:10MB}") DataSize maxUploadSize) {
+        this.processor = processor;
+        this.s3Uploader = s3Uploader;
+        this.presignedUrlService = presignedUrlService;
+        this.userInfoService = userInfoService;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.maxPending = maxPending;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+        this.admission = new Semaphore(maxPending);
+        this.processingTimer = Timer.builder("profile.image.processing")
+                .description("프로필 이미지 변환 및 업로드 시간")
+                .register(meterRegistry);
+        Gauge.builder("profile.image.pending", admission, semaphore -> maxPending - semaphore.availablePermits())
+                .description("처리 중인 프로필 이미지 업로드 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 동시에 받는 업로드가 max-pending 으로 제한되므로 대기열 길이도 그 안에서 유지됨
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxPending * (ProfileImageSize.values().length + 2)),
+                r -> {
+                    Thread thread = new Thread(r, "profile-image-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 프로필 이미지 업로드
+     *
+     * @return 가장 큰 크기 이미지의 Presigned URL (변환과 업로드가 모두 끝나면 완료)
+     * @throws IllegalArgumentException 사용자가 없거나 파일이 비었거나 너무 큰 경우
+     * @throws ProfileImageBusyException 처리 중인 업로드가 최대치인 경우
+     */
+    public CompletableFuture<String> upload(Long userId, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("이미지 파일이 비어 있습니다.");
+        }
+        if (file.getSize() > maxUploadBytes) {
+            throw new IllegalArgumentException("이미지 파일이 너무 큽니다. (최대 " + DataSize.ofBytes(maxUploadBytes).toMegabytes() + "MB)");
+        }
+        // 거절할 요청은 파일을 힙에 복사하기 전에 거절
+        if (!admission.tryAcquire()) {
+            throw new ProfileImageBusyException("처리 중인 이미지 업로드가 너무 많습니다. (최대 " + maxPending + "건)");
+        }
+
+        String oldKey;
+        byte[] data;
+        try {
+            oldKey = userInfoService.getUserProfileKey(userId);
+            // 요청이 끝나면 multipart 임시 파일이 삭제되므로 미리 복사
+            data = file.getBytes();
+        } catch (IOException e) {
+            admission.release();
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+        Timer.Sample sample = Timer.start();
+        String base = ProfileImageKeys.newBase(userId);
+        AtomicBoolean uploading = new AtomicBoolean();
+
+        CompletableFuture<String> result;
+        try {
+            result = CompletableFuture.supplyAsync(() -> processor.decode(data), executor)
+                    .thenCompose(source -> {
+                        uploading.set(true);
+                        return CompletableFuture.allOf(Arrays.stream(ProfileImageSize.values())
+                                .map(size -> CompletableFuture.runAsync(() -> s3Uploader.uploadBytes(
+                                        processor.render(source, size), ProfileImageKeys.variantKey(base, size), CONTENT_TYPE), executor))
+                                .toArray(CompletableFuture[]::new));
+                    })
+                    .thenApplyAsync(ignored -> {
+                        String newKey = ProfileImageKeys.variantKey(base, ProfileImageSize.LARGE);
+                        userInfoService.updateUserProfileImage(userId, newKey);
+                        if (oldKey != null && !oldKey.isBlank()) {
+                            deleteQuietly(oldKey);
+                        }
+                        return presignedUrlService.getUrl(newKey);
+                    }, executor);
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw new ProfileImageBusyException("이미지 처리 서버가 종료 중입니다.");
+        }
+
+        return result.whenComplete((url, error) -> {
+            admission.release();
+            sample.stop(processingTimer);
+            if (error != null) {
+                logger.error("프로필 이미지 처리 실패: userId={}, {}", userId, error.getMessage());
+                // 일부만 올라간 새 이미지 정리 (DB 는 모두 성공한 뒤에만 바뀜)
+                if (uploading.get()) {
+                    deleteQuietly(ProfileImageKeys.variantKey(base, ProfileImageSize.LARGE));
+                }
+            }
+        });
+    }
+
+    /**
+     * 프로필 이미지 URL
+     *
+     * @param size 필요한 크기(px), 이 크기 이상인 것 중 가장 작은 이미지를 반환 (null 이면 가장 큰 이미지)
+     * @return Presigned URL, 프로필 이미지가 없으면 null
+     */
+    public String getUrl(Long userId, Integer size) {
+        String key = userInfoService.getUserProfileKey(userId);
+        return presignedUrlService.getUrl(ProfileImageKeys.resolve(key, ProfileImageSize.atLeast(size)));
+    }
+
+    // 크기별 이미지를 모두 삭제 (이전 방식으로 저장된 키는 그 키 하나만)
+    private void deleteQuietly(String storedKey) {
+        for (String key : ProfileImageKeys.allKeys(storedKey)) {
+            try {
+                s3Uploader.deleteFile(key);
+            } catch (Exception e) {
+                logger.warn("프로필 이미지 삭제 실패: key={}, {}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -3,20 +3,36 @@ package org.example.backend.s3.summarychatlog.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.auth.model.User;
+import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.common.exception.ErrorResponse;
 import org.example.backend.s3.S3Uploader;
 import org.example.backend.s3.summarychatlog.dto.SummaryChatLogDto;
+import org.example.backend.s3.summarychatlog.dto.SummaryChatLogPageResponse;
+import org.example.backend.s3.summarychatlog.masking.TranscriptMaskingService;
 import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
 import org.example.backend.s3.summarychatlog.repository.SummaryChatLogRepository;
 import org.example.backend.s3.summarychatlog.service.SummaryChatLogService;
+import org.example.backend.security.jwt.JwtTokenProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.File;
+import java.time.LocalDate;
 import java.util.UUID;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/summary-log")
@@ -24,6 +40,9 @@ import java.util.UUID;
 public class SummaryChatLogController {
 
     private final SummaryChatLogService summaryChatLogService;
+    private final TranscriptMaskingService transcriptMaskingService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
 
     @GetMapping("/masked-text")
     @Operation(summary = "마스킹된 상담 텍스트 Presigned URL 반환")
@@ -32,4 +51,80 @@ public class SummaryChatLogController {
         return ResponseEntity.ok(url);
     }
 
+    /**
+     * 로그인한 상담사의 상담 로그 목록 (최신순, 커서 기반)
+     * 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 전달
+     */
+    @GetMapping("/text")
+    @Operation(summary = "상담사의 상담 텍스트 로그 목록 (커서 페이지)")
+    public ResponseEntity<?> getTextLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            Long counselorId = getCurrentUserId();
+            SummaryChatLogPageResponse page = summaryChatLogService.getTextLogsForCounselor(
+                    counselorId, cursor, size, userId, from, to);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    /**
+     * 로그인한 상담사가 진행한 상담의 로그만 마스킹 (일괄 처리는 내부 포트의 /actuator/maskingbackfill)
+     */
+    @PostMapping("/masking/{logId}")
+    @Operation(summary = "상담 텍스트 로그 개인정보 마스킹 (한 건)")
+    public ResponseEntity<?> maskLog(@PathVariable Long logId) {
+        try {
+            transcriptMaskingService.maskLog(logId, getCurrentUserId());
+            return ResponseEntity.ok(summaryChatLogService.getMaskedLogDownloadUrl(logId));
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(HttpStatus.FORBIDDEN.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        }
+    }
+
+    /**
+     * 현재 인증된 사용자의 ID를 반환
+     *
+     * @return 사용자 ID
+     */
+    private Long getCurrentUserId() {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated()) {
+                log.error("인증 정보가 없습니다.");
+                throw new IllegalStateException("인증 정보가 없습니다.");
+            }
+
+            // Principal에서 사용자 정보 추출 시도
+            if (authentication.getPrincipal() instanceof UserDetails) {
+                UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+                String email = userDetails.getUsername();
+                User user = userRepository.findByEmail(email)
+                        .orElseThrow(() -> new IllegalStateException("사용자 정보를 찾을 수 없습니다."));
+                return user.getId();
+            }
+
+            // 토큰에서 사용자 ID 추출 시도
+            if (authentication.getCredentials() instanceof String) {
+                String token = (String) authentication.getCredentials();
+                return jwtTokenProvider.getUserIdFromToken(token);
+            }
+
+            log.error("인증 정보에서 사용자 ID를 추출할 수 없습니다. 인증 유형: {}", authentication.getClass().getName());
+            throw new IllegalStateException("사용자 ID를 추출할 수 없습니다.");
+        } catch (Exception e) {
+            log.error("사용자 ID 추출 중 예외 발생: {}", e.getMessage(), e);
+            throw new IllegalStateException("사용자 ID를 추출할 수 없습니다.", e);
+        }
+    }
 }
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 @Data
 @Builder
 public class SummaryChatLogDto {
+    private Long logId;
     private Long userId;
     private Long counselorId;
     private String fileName;        // 텍스트 파일 이름 또는 키
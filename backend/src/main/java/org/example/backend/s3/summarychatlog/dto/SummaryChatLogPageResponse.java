@@ -0,0 +1,18 @@
+package org.example.backend.s3.summarychatlog.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 상담 로그 커서 페이지 (최신순)
+ * 다음 페이지는 nextCursor 를 cursor 로 전달해 요청하고, 마지막 페이지면 nextCursor 가 null
+ */
+@Data
+@Builder
+public class SummaryChatLogPageResponse {
+    private List<SummaryChatLogDto> logs;
+    private String nextCursor;
+    private boolean hasNext;
+}
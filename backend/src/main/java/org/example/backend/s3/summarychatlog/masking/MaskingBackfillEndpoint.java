@@ -0,0 +1,35 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상담 로그 개인정보 마스킹 일괄 처리 (운영용)
+ *
+ * 외부에 공개되는 API 가 아닌 management.server.port 로 분리된 내부 포트에서만 노출하고, ROLE_ADMIN 토큰이 필요합니다.
+ * - GET  /actuator/maskingbackfill : 진행 상황
+ * - POST /actuator/maskingbackfill : 마스킹되지 않은 모든 로그를 백그라운드에서 마스킹 (이미 실행 중이면 409)
+ */
+@Component
+@WebEndpoint(id = "maskingbackfill")
+@RequiredArgsConstructor
+public class MaskingBackfillEndpoint {
+
+    private final TranscriptMaskingService transcriptMaskingService;
+
+    @ReadOperation
+    public MaskingBackfillStatus status() {
+        return transcriptMaskingService.getBackfillStatus();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<MaskingBackfillStatus> start() {
+        HttpStatus status = transcriptMaskingService.startBackfill() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return new WebEndpointResponse<>(transcriptMaskingService.getBackfillStatus(), status.value());
+    }
+}
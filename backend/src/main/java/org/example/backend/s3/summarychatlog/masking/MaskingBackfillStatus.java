@@ -0,0 +1,19 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 로그 마스킹 일괄 처리 진행 상황
+ *
+ * @param processed 마스킹 완료한 로그 수
+ * @param failed 실패한 로그 수 (다음 실행 때 다시 처리)
+ * @param characters 처리한 문자 수
+ * @param finishedAt 실행 중이면 null
+ */
+public record MaskingBackfillStatus(boolean running, long processed, long failed, long characters,
+                                    LocalDateTime startedAt, LocalDateTime finishedAt) {
+
+    static MaskingBackfillStatus idle() {
+        return new MaskingBackfillStatus(false, 0, 0, 0, null, null);
+    }
+}
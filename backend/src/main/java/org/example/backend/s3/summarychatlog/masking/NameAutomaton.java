@@ -0,0 +1,108 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 이름 목록을 한 번에 찾는 Aho-Corasick 오토마톤
+ *
+ * 문자열을 한 번만 훑으면서 등록된 모든 이름의 출현 위치를 찾습니다. (대소문자 구분 없음)
+ * 생성 후에는 읽기만 하므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+final class NameAutomaton {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failure = new ArrayList<>();
+    // 노드에서 끝나는 이름 (실패 링크를 따라가며 끝나는 이름까지 포함)
+    private final List<List<Integer>> outputs = new ArrayList<>();
+    private final List<String> patterns;
+    private final List<String> replacements;
+
+    /**
+     * @param names 이름 -> 치환할 문자열
+     */
+    NameAutomaton(Map<String, String> names) {
+        this.patterns = new ArrayList<>(names.size());
+        this.replacements = new ArrayList<>(names.size());
+        newNode();
+        names.forEach((name, replacement) -> {
+            patterns.add(name);
+            replacements.add(replacement);
+            insert(name, patterns.size() - 1);
+        });
+        buildFailureLinks();
+    }
+
+    boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    /**
+     * 텍스트에서 찾은 이름을 matches 에 추가
+     */
+    void findAll(CharSequence text, List<PiiMatch> matches) {
+        if (isEmpty()) {
+            return;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            Integer next = transitions.get(node).get(c);
+            while (next == null && node != 0) {
+                node = failure.get(node);
+                next = transitions.get(node).get(c);
+            }
+            node = next != null ? next : 0;
+            for (int pattern : outputs.get(node)) {
+                int length = patterns.get(pattern).length();
+                matches.add(new PiiMatch(i + 1 - length, i + 1, replacements.get(pattern)));
+            }
+        }
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        failure.add(0);
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    private void insert(String name, int pattern) {
+        int node = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            Integer next = transitions.get(node).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(node).put(c, next);
+            }
+            node = next;
+        }
+        outputs.get(node).add(pattern);
+    }
+
+    // 루트에서 너비 우선으로 실패 링크 계산
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure.get(node);
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                while (target == null && fallback != 0) {
+                    fallback = failure.get(fallback);
+                    target = transitions.get(fallback).get(edge.getKey());
+                }
+                int link = target != null && target != child ? target : 0;
+                failure.set(child, link);
+                outputs.get(child).addAll(outputs.get(link));
+                queue.add(child);
+            }
+        }
+    }
+}
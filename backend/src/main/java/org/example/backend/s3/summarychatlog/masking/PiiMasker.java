@@ -0,0 +1,177 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상담 기록 개인정보 가리기
+ *
+ * 입력을 줄 단위로 한 번만 읽으면서 이름(Aho-Corasick)과 전화번호/이메일/주민등록번호(미리 컴파일한 정규식 하나)를
+ * 함께 찾아 치환합니다. 한 줄 이상을 메모리에 두지 않으므로 기록 크기와 상관없이 메모리 사용량이 일정합니다.
+ * (한 줄이 MAX_SEGMENT 를 넘으면 마지막 공백에서 나눠 처리)
+ * 한 상담 기록(참여자 이름 목록)마다 만들고, 만든 뒤에는 여러 스레드에서 사용할 수 있습니다.
+ */
+public final class PiiMasker {
+
+    static final String EMAIL_REPLACEMENT = "[이메일]";
+    static final String RRN_REPLACEMENT = "[주민등록번호]";
+    static final String PHONE_REPLACEMENT = "[전화번호]";
+
+    private static final int MAX_SEGMENT = 64 * 1024;
+    private static final int MIN_NAME_LENGTH = 2;
+
+    // 주민등록번호(생년월일 + 성별 자리)를 전화번호보다 먼저 확인
+    private static final Pattern STRUCTURED_PII = Pattern.compile(
+            "(?<email>[A-Za-z0-9._%+-]+@[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,})"
+                    + "|(?<rrn>(?<!\\d)\\d{2}(?:0[1-9]|1[0-2])(?:0[1-9]|[12]\\d|3[01])\\s?-?\\s?[1-8]\\d{6}(?!\\d))"
+                    + "|(?<phone>(?<![\\d+])(?:\\+82[-. ]?(?:10|2|[3-6][1-5]|70)|01[016789]|02|0[3-6][1-5]|070)[-. ]?\\d{3,4}[-. ]?\\d{4}(?!\\d))");
+
+    private static final Comparator<PiiMatch> MATCH_ORDER = Comparator
+            .comparingInt(PiiMatch::start)
+            .thenComparing(Comparator.comparingInt(PiiMatch::end).reversed());
+
+    private final NameAutomaton names;
+
+    private PiiMasker(NameAutomaton names) {
+        this.names = names;
+    }
+
+    /**
+     * @param names 가릴 이름 -> 대신 쓸 문자열 (예: 홍길동 -> 사용자), 비어 있거나 너무 짧은 이름은 제외
+     */
+    public static PiiMasker forNames(Map<String, String> names) {
+        Map<String, String> filtered = new LinkedHashMap<>();
+        names.forEach((name, replacement) -> {
+            if (name != null && name.strip().length() >= MIN_NAME_LENGTH) {
+                filtered.putIfAbsent(name.strip(), replacement);
+            }
+        });
+        return new PiiMasker(new NameAutomaton(filtered));
+    }
+
+    /**
+     * in 의 내용을 가려서 out 에 씀 (out 은 flush 하지 않음)
+     *
+     * @return 읽은 문자 수
+     */
+    public long mask(Reader in, Writer out) throws IOException {
+        char[] buffer = new char[8192];
+        StringBuilder segment = new StringBuilder();
+        Scratch scratch = new Scratch();
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    segment.append(buffer, start, i + 1 - start);
+                    maskSegment(segment, out, scratch);
+                    segment.setLength(0);
+                    start = i + 1;
+                }
+            }
+            segment.append(buffer, start, read - start);
+            if (segment.length() >= MAX_SEGMENT) {
+                splitLongSegment(segment, out, scratch);
+            }
+        }
+        if (!segment.isEmpty()) {
+            maskSegment(segment, out, scratch);
+        }
+        return total;
+    }
+
+    /**
+     * 문자열 하나를 가려서 반환 (짧은 텍스트용)
+     */
+    public String mask(String text) {
+        StringWriter out = new StringWriter(text.length());
+        try {
+            maskSegment(text, out, new Scratch());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    // 줄바꿈 없이 긴 구간은 마지막 공백까지만 처리하고 나머지는 다음 입력과 이어서 처리
+    // (공백이 들어갈 수 있는 전화번호/주민등록번호가 잘리지 않도록 숫자 사이의 공백에서는 나누지 않음)
+    private void splitLongSegment(StringBuilder segment, Writer out, Scratch scratch) throws IOException {
+        int split = segment.length();
+        for (int i = segment.length() - 2; i > 0; i--) {
+            if (Character.isWhitespace(segment.charAt(i))
+                    && !Character.isDigit(segment.charAt(i - 1)) && !Character.isDigit(segment.charAt(i + 1))) {
+                split = i + 1;
+                break;
+            }
+        }
+        String rest = segment.substring(split);
+        segment.setLength(split);
+        maskSegment(segment, out, scratch);
+        segment.setLength(0);
+        segment.append(rest);
+    }
+
+    private void maskSegment(CharSequence segment, Writer out, Scratch scratch) throws IOException {
+        List<PiiMatch> matches = scratch.matches;
+        matches.clear();
+        names.findAll(segment, matches);
+        if (mayContainStructuredPii(segment)) {
+            Matcher matcher = scratch.matcher.reset(segment);
+            while (matcher.find()) {
+                String replacement = matcher.group("email") != null ? EMAIL_REPLACEMENT
+                        : matcher.group("rrn") != null ? RRN_REPLACEMENT
+                        : PHONE_REPLACEMENT;
+                matches.add(new PiiMatch(matcher.start(), matcher.end(), replacement));
+            }
+        }
+
+        if (matches.isEmpty()) {
+            out.append(segment);
+            return;
+        }
+
+        // 겹치면 먼저 시작하는 것, 같은 위치면 긴 것을 사용
+        matches.sort(MATCH_ORDER);
+        int position = 0;
+        for (PiiMatch match : matches) {
+            if (match.start() < position) {
+                continue;
+            }
+            out.append(segment, position, match.start());
+            out.write(match.replacement());
+            position = match.end();
+        }
+        out.append(segment, position, segment.length());
+    }
+
+    // 숫자나 @ 가 없는 줄(대부분의 대화)은 정규식을 실행하지 않음
+    private static boolean mayContainStructuredPii(CharSequence segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '@' || (c >= '0' && c <= '9')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 번의 mask 호출 안에서 재사용하는 객체 (스레드마다 따로 사용)
+     */
+    private static final class Scratch {
+        private final List<PiiMatch> matches = new ArrayList<>();
+        private final Matcher matcher = STRUCTURED_PII.matcher("");
+    }
+}
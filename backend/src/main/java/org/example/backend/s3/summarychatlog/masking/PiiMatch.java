@@ -0,0 +1,7 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+/**
+ * 가릴 구간 [start, end) 과 대신 쓸 문자열
+ */
+record PiiMatch(int start, int end, String replacement) {
+}
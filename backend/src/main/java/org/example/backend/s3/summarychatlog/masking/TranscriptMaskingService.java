@@ -0,0 +1,212 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.backend.auth.service.UserInfoService;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
+import org.example.backend.s3.summarychatlog.repository.SummaryChatLogRepository;
+import org.example.backend.s3.summarychatlog.service.SummaryChatLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상담 로그 개인정보 마스킹
+ *
+ * S3 의 텍스트 로그를 스트림으로 읽어 PiiMasker 로 가린 뒤 바로 S3 로 스트리밍 업로드합니다. (updateMaskedLog)
+ * 읽기 버퍼, 한 줄, 업로드 파트(5MB)만 메모리에 두므로 로그 크기와 상관없이 메모리 사용량이 일정합니다.
+ * 일괄 처리는 마스킹되지 않은 로그를 batch-size 단위로 읽어 threads 개 스레드에서 병렬로 처리합니다.
+ * (내부 포트의 MaskingBackfillEndpoint 로 실행, 이 서버에서 동시에 하나만 실행, 실패한 로그는 다음 실행 때 다시 처리)
+ */
+@Service
+public class TranscriptMaskingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranscriptMaskingService.class);
+
+    // 이름 대신 쓸 문자열 (텍스트 로그의 "[이름] 내용" 형식이 그대로 읽히도록 괄호 없이)
+    private static final String USER_REPLACEMENT = "사용자";
+    private static final String COUNSELOR_REPLACEMENT = "상담사";
+
+    private final SummaryChatLogRepository summaryChatLogRepository;
+    private final SummaryChatLogService summaryChatLogService;
+    private final S3Uploader s3Uploader;
+    private final UserInfoService userInfoService;
+    private final Timer maskingTimer;
+    private final Counter maskedCharacters;
+
+    private final int threads;
+    private final int batchSize;
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong characters = new AtomicLong();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public TranscriptMaskingService(SummaryChatLogRepository summaryChatLogRepository,
+                                    SummaryChatLogService summaryChatLogService,
+                                    S3Uploader s3Uploader,
+                                    UserInfoService userInfoService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${summary.masking.threads:4}") int threads,
+                                    @Value("${summary.masking.batch-size:50}") int batchSize) {
+        this.summaryChatLogRepository = summaryChatLogRepository;
+        this.summaryChatLogService = summaryChatLogService;
+        this.s3Uploader = s3Uploader;
+        this.userInfoService = userInfoService;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.maskingTimer = Timer.builder("summary.masking")
+                .description("상담 로그 한 건 마스킹 시간 (S3 읽기/쓰기 포함)")
+                .register(meterRegistry);
+        this.maskedCharacters = Counter.builder("summary.masking.characters")
+                .description("마스킹 처리한 문자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상담사 본인이 진행한 상담의 로그 한 건 마스킹
+     *
+     * @return 처리한 문자 수
+     * @throws IllegalArgumentException 로그가 없거나 텍스트 로그가 없는 경우
+     * @throws SecurityException 다른 상담사의 로그인 경우
+     */
+    public long maskLog(Long logId, Long counselorId) {
+        SummaryChatLog log = summaryChatLogRepository.findById(logId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 로그가 없습니다."));
+        if (!Objects.equals(log.getCounselorId(), counselorId)) {
+            throw new SecurityException("본인이 진행한 상담의 로그만 마스킹할 수 있습니다.");
+        }
+        return maskLog(log);
+    }
+
+    private long maskLog(SummaryChatLog log) {
+        if (log.getTextS3Key() == null) {
+            throw new IllegalArgumentException("텍스트 로그가 없습니다.");
+        }
+        PiiMasker masker = PiiMasker.forNames(participantNames(log));
+        AtomicLong count = new AtomicLong();
+
+        maskingTimer.record(() -> summaryChatLogService.updateMaskedLog(log.getId(), out -> {
+            try (InputStream source = s3Uploader.openObject(log.getTextS3Key());
+                 Reader reader = new InputStreamReader(source, StandardCharsets.UTF_8)) {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                count.set(masker.mask(reader, writer));
+                writer.flush();
+            }
+        }));
+        maskedCharacters.increment(count.get());
+        return count.get();
+    }
+
+    // 텍스트 로그를 만들 때(ChatTranscriptExporter)와 같은 이름
+    private Map<String, String> participantNames(SummaryChatLog log) {
+        Map<String, String> names = new LinkedHashMap<>();
+        if (log.getUserId() != null) {
+            names.put(userInfoService.getUserNameById(log.getUserId()), USER_REPLACEMENT);
+        }
+        if (log.getCounselorId() != null) {
+            names.put(userInfoService.getCounselorNameById(log.getCounselorId()), COUNSELOR_REPLACEMENT);
+        }
+        // 이름을 찾지 못했을 때 쓰는 기본값은 가리지 않음
+        names.remove(USER_REPLACEMENT);
+        names.remove(COUNSELOR_REPLACEMENT);
+        return names;
+    }
+
+    /**
+     * 마스킹되지 않은 모든 로그 일괄 처리 시작 (백그라운드 실행)
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean startBackfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        processed.set(0);
+        failed.set(0);
+        characters.set(0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+
+        Thread coordinator = new Thread(this::runBackfill, "summary-masking-backfill");
+        coordinator.setDaemon(true);
+        coordinator.start();
+        return true;
+    }
+
+    public MaskingBackfillStatus getBackfillStatus() {
+        if (startedAt == null) {
+            return MaskingBackfillStatus.idle();
+        }
+        return new MaskingBackfillStatus(backfillRunning.get(), processed.get(), failed.get(), characters.get(),
+                startedAt, finishedAt);
+    }
+
+    private void runBackfill() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "summary-masking-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long lastId = 0;
+            while (true) {
+                List<SummaryChatLog> batch = summaryChatLogRepository
+                        .findByIdGreaterThanAndTextS3KeyIsNotNullAndMaskedTextS3KeyIsNullOrderByIdAsc(
+                                lastId, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+
+                CompletableFuture.allOf(batch.stream()
+                        .map(log -> CompletableFuture.runAsync(() -> maskQuietly(log), workers))
+                        .toArray(CompletableFuture[]::new)).join();
+                logger.info("상담 로그 마스킹 진행 중: 완료 {}건, 실패 {}건, 마지막 ID {}", processed.get(), failed.get(), lastId);
+            }
+        } catch (Exception e) {
+            logger.error("상담 로그 마스킹 일괄 처리 중단: {}", e.getMessage());
+        } finally {
+            workers.shutdown();
+            finishedAt = LocalDateTime.now();
+            backfillRunning.set(false);
+            logger.info("상담 로그 마스킹 일괄 처리 종료: 완료 {}건, 실패 {}건, {}자",
+                    processed.get(), failed.get(), characters.get());
+        }
+    }
+
+    private void maskQuietly(SummaryChatLog log) {
+        try {
+            characters.addAndGet(maskLog(log));
+            processed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.error("상담 로그 마스킹 실패: logId={}, {}", log.getId(), e.getMessage());
+        }
+    }
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "summarychatlog")
+@Table(name = "summarychatlog", indexes = {
+        // 상담사별 최신순 커서 조회 (InnoDB 보조 인덱스에 id 가 포함되어 (uploaded_at, id) 순으로 정렬됨)
+        @Index(name = "idx_summarychatlog_counselor_uploaded_at", columnList = "counselor_id, uploaded_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +22,10 @@ public class SummaryChatLog {
     private Long id;
 
     private Long userId;
+
+    @Column(name = "counselor_id")
     private Long counselorId;
+
     private Long channelId;
 
     @Column(name = "json_s3_key")
@@ -31,5 +37,10 @@ public class SummaryChatLog {
     @Column(name = "masked_text_s3_key")
     private String maskedTextS3Key;
 
+    @Column(name = "uploaded_at")
     private LocalDateTime uploadedAt;
+
+    // 상담 종료 후 요약 작업 ID (SAVE_LOG 단계가 다시 실행되어도 한 번만 저장)
+    @Column(name = "job_id", unique = true, length = 36)
+    private String jobId;
 }
@@ -0,0 +1,90 @@
+package org.example.backend.s3.summarychatlog.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.example.backend.s3.summarychatlog.model.QSummaryChatLog.summaryChatLog;
+
+/**
+ * 상담사별 상담 로그 목록 조회용 QueryDSL Repository
+ *
+ * (counselor_id, uploaded_at) 인덱스 순서대로 최신순 커서 조회를 하고, 필요한 컬럼만 가져옵니다.
+ * 사용자/기간 조건도 쿼리에서 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SummaryChatLogQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 상담사의 상담 로그 목록 (업로드 시각, ID 내림차순, 업로드 시각이 없는 로그는 마지막)
+     *
+     * @param userId 상담 받은 사용자 (null 이면 전체)
+     * @param from 이 시각 이후 업로드 (포함, null 이면 제한 없음)
+     * @param to 이 시각 이전 업로드 (미포함, null 이면 제한 없음)
+     * @param cursorUploadedAt 이전 페이지 마지막 로그의 업로드 시각 (업로드 시각이 없는 로그였으면 null)
+     * @param cursorLogId 이전 페이지 마지막 로그의 ID (첫 페이지면 null)
+     * @param limit 최대 개수
+     */
+    public List<SummaryChatLogRow> findCounselorLogs(Long counselorId, Long userId,
+                                                     LocalDateTime from, LocalDateTime to,
+                                                     LocalDateTime cursorUploadedAt, Long cursorLogId,
+                                                     int limit) {
+        return queryFactory
+                .select(Projections.constructor(SummaryChatLogRow.class,
+                        summaryChatLog.id,
+                        summaryChatLog.userId,
+                        summaryChatLog.counselorId,
+                        summaryChatLog.textS3Key,
+                        summaryChatLog.uploadedAt))
+                .from(summaryChatLog)
+                .where(summaryChatLog.counselorId.eq(counselorId),
+                        userIdEq(userId),
+                        uploadedFrom(from),
+                        uploadedBefore(to),
+                        beforeCursor(cursorUploadedAt, cursorLogId))
+                // MySQL 은 DESC 정렬에서 NULL 을 마지막에 둠 (beforeCursor 도 같은 순서를 가정)
+                .orderBy(summaryChatLog.uploadedAt.desc(), summaryChatLog.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression userIdEq(Long userId) {
+        return userId != null ? summaryChatLog.userId.eq(userId) : null;
+    }
+
+    private BooleanExpression uploadedFrom(LocalDateTime from) {
+        return from != null ? summaryChatLog.uploadedAt.goe(from) : null;
+    }
+
+    private BooleanExpression uploadedBefore(LocalDateTime to) {
+        return to != null ? summaryChatLog.uploadedAt.lt(to) : null;
+    }
+
+    // 같은 시각에 올라온 로그는 ID 로 구분, 업로드 시각이 없는 로그는 시각이 있는 로그 뒤에 ID 순으로 이어짐
+    private BooleanExpression beforeCursor(LocalDateTime uploadedAt, Long logId) {
+        if (logId == null) {
+            return null;
+        }
+        if (uploadedAt == null) {
+            return summaryChatLog.uploadedAt.isNull().and(summaryChatLog.id.lt(logId));
+        }
+        return summaryChatLog.uploadedAt.lt(uploadedAt)
+                .or(summaryChatLog.uploadedAt.eq(uploadedAt).and(summaryChatLog.id.lt(logId)))
+                .or(summaryChatLog.uploadedAt.isNull());
+    }
+
+    /**
+     * 상담 로그 목록 한 줄
+     */
+    public record SummaryChatLogRow(Long logId, Long userId, Long counselorId, String textS3Key,
+                                    LocalDateTime uploadedAt) {
+    }
+}
@@ -2,8 +2,13 @@ package org.example.backend.s3.summarychatlog.repository;
 
 import org.example.backend.localllm.model.Summary;
 import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +17,20 @@ import java.util.Optional;
 public interface SummaryChatLogRepository extends JpaRepository<SummaryChatLog, Long> {
     List<SummaryChatLog> findByUserId(Long userId);
     List<SummaryChatLog> findByCounselorId(Long counselorId);
+    List<SummaryChatLog> findByCounselorIdOrderByUploadedAtDescIdDesc(Long counselorId);
+    boolean existsByJobId(String jobId);
+
+    // 마스킹되지 않은 로그를 ID 순으로 나눠 조회 (마스킹 일괄 처리용)
+    List<SummaryChatLog> findByIdGreaterThanAndTextS3KeyIsNotNullAndMaskedTextS3KeyIsNullOrderByIdAsc(Long id, Pageable pageable);
+
+    // 마스킹 로그 키 교체 (읽은 뒤 다른 요청이 먼저 바꿨으면 0 반환, expectedKey 가 null 이면 아직 마스킹되지 않은 경우만)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SummaryChatLog s SET s.maskedTextS3Key = :newKey WHERE s.id = :id " +
+            "AND (s.maskedTextS3Key IS NULL OR s.maskedTextS3Key = :expectedKey)")
+    int updateMaskedTextS3Key(@Param("id") Long id,
+                              @Param("expectedKey") String expectedKey,
+                              @Param("newKey") String newKey);
 
 }
 
@@ -0,0 +1,45 @@
+package org.example.backend.s3.summarychatlog.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상담 로그 목록 커서 (마지막으로 받은 로그의 업로드 시각과 ID)
+ * 클라이언트에는 "업로드시각_로그ID" 를 Base64(URL-safe) 로 인코딩한 문자열로 전달합니다.
+ * 업로드 시각이 없는 로그(목록 마지막에 정렬됨)는 시각 부분을 비워 "_로그ID" 로 인코딩합니다.
+ */
+public record SummaryChatLogCursor(LocalDateTime uploadedAt, Long logId) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = (uploadedAt != null ? uploadedAt.toString() : "") + SEPARATOR + logId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서, 비어 있으면 첫 페이지
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static SummaryChatLogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            String uploadedAt = raw.substring(0, separator);
+            return new SummaryChatLogCursor(
+                    uploadedAt.isEmpty() ? null : LocalDateTime.parse(uploadedAt),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
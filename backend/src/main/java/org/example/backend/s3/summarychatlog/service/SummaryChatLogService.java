@@ -1,13 +1,19 @@
 package org.example.backend.s3.summarychatlog.service;
 
+import org.example.backend.s3.StreamWriter;
 import org.example.backend.s3.summarychatlog.dto.SummaryChatLogDto;
+import org.example.backend.s3.summarychatlog.dto.SummaryChatLogPageResponse;
 import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface SummaryChatLogService {
-    void saveLog(Long userId, Long counselorId, Long channelId, String jsonKey, String textKey);
+    void saveLog(Long userId, Long counselorId, Long channelId, String jsonKey, String textKey, String jobId);
     List<SummaryChatLogDto> getAllTextLogsForCounselor(Long counselorId);
+    SummaryChatLogPageResponse getTextLogsForCounselor(Long counselorId, String cursor, int size,
+                                                       Long userId, LocalDate from, LocalDate to);
+    void updateMaskedLog(Long logId, StreamWriter writer);
     String getMaskedLogDownloadUrl(Long logId);
 
 }
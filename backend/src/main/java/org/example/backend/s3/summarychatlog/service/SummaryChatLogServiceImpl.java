@@ -2,28 +2,47 @@ package org.example.backend.s3.summarychatlog.service;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.s3.PresignedUrlService;
 import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.StreamWriter;
 import org.example.backend.s3.summarychatlog.dto.SummaryChatLogDto;
+import org.example.backend.s3.summarychatlog.dto.SummaryChatLogPageResponse;
 import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
+import org.example.backend.s3.summarychatlog.repository.SummaryChatLogQueryRepository;
+import org.example.backend.s3.summarychatlog.repository.SummaryChatLogQueryRepository.SummaryChatLogRow;
 import org.example.backend.s3.summarychatlog.repository.SummaryChatLogRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.io.File;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class SummaryChatLogServiceImpl implements SummaryChatLogService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String MASKED_CONTENT_TYPE = "text/plain; charset=UTF-8";
+
     private final SummaryChatLogRepository summaryChatLogRepository;
-    private S3Uploader s3Uploader;
+    private final SummaryChatLogQueryRepository summaryChatLogQueryRepository;
+    private final S3Uploader s3Uploader;
+    private final PresignedUrlService presignedUrlService;
 
+    /**
+     * 상담 로그 저장 (같은 요약 작업으로 이미 저장된 로그가 있으면 저장하지 않음)
+     */
     public void saveLog(Long userId, Long counselorId, Long channelId,
-                        String jsonKey, String textKey) {
+                        String jsonKey, String textKey, String jobId) {
+        if (jobId != null && summaryChatLogRepository.existsByJobId(jobId)) {
+            return;
+        }
 
         SummaryChatLog log = SummaryChatLog.builder()
                 .userId(userId)
@@ -32,28 +51,95 @@ public class SummaryChatLogServiceImpl implements SummaryChatLogService {
                 .jsonS3Key(jsonKey)
                 .textS3Key(textKey)
                 .uploadedAt(LocalDateTime.now())
+                .jobId(jobId)
                 .build();
 
-        summaryChatLogRepository.save(log);
+        try {
+            summaryChatLogRepository.save(log);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 작업을 다른 서버가 먼저 저장함 (job_id 중복)
+            if (jobId == null) {
+                throw e;
+            }
+        }
     }
 
     public List<SummaryChatLogDto> getAllTextLogsForCounselor(Long counselorId) {
-        List<SummaryChatLog> logs = summaryChatLogRepository.findByCounselorId(counselorId);
+        // 최신순 정렬은 (counselor_id, uploaded_at) 인덱스 순서로 DB 에서 처리
+        List<SummaryChatLog> logs = summaryChatLogRepository.findByCounselorIdOrderByUploadedAtDescIdDesc(counselorId);
+
+        // 목록 전체의 다운로드 URL 을 한 번에 발급
+        Map<String, String> downloadUrls = presignedUrlService.getUrls(
+                logs.stream().map(SummaryChatLog::getTextS3Key).toList());
 
         return logs.stream()
-                .sorted(Comparator.comparing(SummaryChatLog::getUploadedAt).reversed()) // 최신순 정렬
                 .map(log -> SummaryChatLogDto.builder()
+                        .logId(log.getId())
                         .userId(log.getUserId())
                         .counselorId(log.getCounselorId())
                         .fileName(log.getTextS3Key())
-                        .downloadUrl(s3Uploader.generatePresignedUrl(log.getTextS3Key()))
+                        .downloadUrl(downloadUrls.get(log.getTextS3Key()))
                         .uploadedAt(log.getUploadedAt())
                         .build())
                 .toList();
     }
 
+    /**
+     * 상담사의 상담 로그 목록 (최신순, 커서 기반)
+     * 다운로드 URL 은 반환하는 페이지의 로그만 발급합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param userId 상담 받은 사용자 (null 이면 전체)
+     * @param from 시작일 (포함, null 이면 제한 없음)
+     * @param to 종료일 (포함, null 이면 제한 없음)
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 기간/개수가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public SummaryChatLogPageResponse getTextLogsForCounselor(Long counselorId, String cursor, int size,
+                                                              Long userId, LocalDate from, LocalDate to) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        SummaryChatLogCursor decoded = SummaryChatLogCursor.decode(cursor);
+
+        // 다음 페이지 여부 확인을 위해 1개 더 조회
+        List<SummaryChatLogRow> rows = summaryChatLogQueryRepository.findCounselorLogs(counselorId, userId,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                decoded != null ? decoded.uploadedAt() : null,
+                decoded != null ? decoded.logId() : null,
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<SummaryChatLogRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        Map<String, String> downloadUrls = presignedUrlService.getUrls(
+                page.stream().map(SummaryChatLogRow::textS3Key).toList());
+
+        List<SummaryChatLogDto> logs = page.stream()
+                .map(row -> SummaryChatLogDto.builder()
+                        .logId(row.logId())
+                        .userId(row.userId())
+                        .counselorId(row.counselorId())
+                        .fileName(row.textS3Key())
+                        .downloadUrl(downloadUrls.get(row.textS3Key()))
+                        .uploadedAt(row.uploadedAt())
+                        .build())
+                .toList();
+
+        SummaryChatLogRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return SummaryChatLogPageResponse.builder()
+                .logs(logs)
+                .nextCursor(hasNext ? new SummaryChatLogCursor(last.uploadedAt(), last.logId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     public void updateMaskedLog(Long logId, File maskedFile) {
-        String key = "summarylogs/masked/log_" + logId + "_" + UUID.randomUUID() + ".txt";
+        String key = maskedLogKey(logId);
         s3Uploader.uploadPrivateFile(maskedFile, key);
 
         SummaryChatLog log = summaryChatLogRepository.findById(logId)
@@ -62,6 +148,31 @@ public class SummaryChatLogServiceImpl implements SummaryChatLogService {
         summaryChatLogRepository.save(log);
     }
 
+    /**
+     * 마스킹된 로그를 임시 파일 없이 스트림으로 업로드하고 키 저장
+     * 키는 읽은 뒤 바뀌지 않았을 때만 저장하고 이전에 마스킹된 로그를 삭제합니다.
+     * 같은 로그를 동시에 마스킹해 다른 요청이 먼저 저장했으면 이번에 올린 로그를 삭제합니다.
+     */
+    public void updateMaskedLog(Long logId, StreamWriter writer) {
+        SummaryChatLog log = summaryChatLogRepository.findById(logId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 로그가 없습니다."));
+        String previousKey = log.getMaskedTextS3Key();
+
+        String key = s3Uploader.uploadStream(maskedLogKey(logId), MASKED_CONTENT_TYPE, false, writer);
+        if (summaryChatLogRepository.updateMaskedTextS3Key(logId, previousKey, key) == 0) {
+            s3Uploader.deleteFile(key);
+            return;
+        }
+
+        if (previousKey != null) {
+            s3Uploader.deleteFile(previousKey);
+        }
+    }
+
+    private String maskedLogKey(Long logId) {
+        return "summarylogs/masked/log_" + logId + "_" + UUID.randomUUID() + ".txt";
+    }
+
     public String getMaskedLogDownloadUrl(Long logId) {
         SummaryChatLog log = summaryChatLogRepository.findById(logId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 로그가 없습니다."));
@@ -70,7 +181,7 @@ public class SummaryChatLogServiceImpl implements SummaryChatLogService {
             throw new IllegalStateException("아직 마스킹된 로그가 없습니다.");
         }
 
-        return s3Uploader.generatePresignedUrl(log.getMaskedTextS3Key());
+        return presignedUrlService.getUrl(log.getMaskedTextS3Key());
     }
 
 
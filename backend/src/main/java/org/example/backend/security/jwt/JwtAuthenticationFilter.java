@@ -1,13 +1,16 @@
 package org.example.backend.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,7 +19,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -48,16 +53,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // true: 토큰 클레임으로 인증 정보 생성 (DB 조회 없음), false: 매 요청마다 DB 에서 사용자 정보 조회
+    private final boolean stateless;
 
     /**
      * 생성자를 통한 의존성 주입
      *
      * @param jwtTokenProvider JWT 토큰 생성 및 검증 유틸리티
      * @param userDetailsService 사용자 정보 로드 서비스
+     * @param verifiedTokenCache 검증된 토큰 캐시
+     * @param authMode 인증 방식 (stateless 또는 database)
      */
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   CustomUserDetailsService userDetailsService,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   @Value("${jwt.auth-mode:stateless}") String authMode) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.stateless = !"database".equalsIgnoreCase(authMode);
     }
 
     /**
@@ -102,13 +118,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             // 토큰이 있고 유효한 경우 처리
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                // 토큰에서 사용자 이메일 추출
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-
-                // UserDetails 로드
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
+            UserDetails userDetails = StringUtils.hasText(jwt) ? resolveUser(jwt) : null;
+            if (userDetails != null) {
                 // Authentication 객체 생성
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -120,7 +131,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
                 // 디버깅을 위한 로그
-                logger.debug("사용자 '{}' 인증 성공", email);
+                logger.debug("사용자 '{}' 인증 성공", userDetails.getUsername());
             }
         } catch (Exception ex) {
             // 인증 처리 중 오류 발생 시 로깅
@@ -131,6 +142,71 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰을 검증하고 사용자 정보를 반환 (서명 검증은 요청당 최대 한 번)
+     *
+     * @param jwt Access Token
+     * @return 사용자 정보, 토큰이 유효하지 않으면 null
+     */
+    private UserDetails resolveUser(String jwt) {
+        if (stateless) {
+            UserDetails cached = verifiedTokenCache.get(jwt);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseAccessToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("유효하지 않은 JWT 토큰: {}", e.getMessage());
+            return null;
+        }
+
+        if (!stateless) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+
+        UserDetails userDetails = fromClaims(claims);
+        if (userDetails == null) {
+            // 권한 클레임이 없는 토큰(리프레시로 재발급된 토큰 등)은 DB 에서 조회
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(jwt, userDetails, claims.getExpiration().getTime());
+        }
+        return userDetails;
+    }
+
+    /**
+     * 토큰의 auth 클레임으로 사용자 정보 생성
+     * auth 클레임은 "ROLE_USER" 형태의 문자열이거나 권한 목록
+     *
+     * @param claims 토큰 클레임
+     * @return 사용자 정보, 권한 클레임이 없으면 null
+     */
+    private UserDetails fromClaims(Claims claims) {
+        Object auth = claims.get("auth");
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        if (auth instanceof Collection<?> values) {
+            values.forEach(value -> authorities.add(new SimpleGrantedAuthority(value.toString())));
+        } else if (auth != null && StringUtils.hasText(auth.toString())) {
+            authorities.add(new SimpleGrantedAuthority(auth.toString()));
+        }
+
+        if (authorities.isEmpty() || !StringUtils.hasText(claims.getSubject())) {
+            return null;
+        }
+
+        // 비밀번호는 토큰에 없으며 인증 이후에는 사용하지 않음
+        return org.springframework.security.core.userdetails.User.builder()
+                .username(claims.getSubject())
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
     /**
      * HTTP 요청에서 JWT 토큰을 추출하는 메서드
      *
@@ -1,6 +1,8 @@
 package org.example.backend.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -32,6 +34,9 @@ public class JwtTokenProvider {
     // JWT 설정
     private final JwtConfig jwtConfig;
 
+    // 서명 검증용 파서 (스레드 안전하므로 한 번만 생성해 재사용)
+    private final JwtParser jwtParser;
+
     /**
      * 생성자를 통한 의존성 주입 및 초기화
      *
@@ -40,6 +45,7 @@ public class JwtTokenProvider {
     public JwtTokenProvider(JwtConfig jwtConfig) {
         this.jwtConfig = jwtConfig;
         this.key = Keys.hmacShaKeyFor(jwtConfig.getSecretKey().getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenValidityInMilliseconds = jwtConfig.getAccessTokenValidity() * 1000;
         this.refreshTokenValidityInMilliseconds = jwtConfig.getRefreshTokenValidity() * 1000;
     }
@@ -163,11 +169,7 @@ public class JwtTokenProvider {
     public JwtTokenDto refreshToken(String refreshToken) throws Exception {
         // Refresh Token 검증
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(refreshToken)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(refreshToken).getBody();
 
             // Refresh Token에서 사용자 이메일 추출
             String email = claims.getSubject();
@@ -228,10 +230,7 @@ public class JwtTokenProvider {
         }
 
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException e) {
             System.out.println("Invalid JWT signature: " + e.getMessage());
@@ -247,6 +246,19 @@ public class JwtTokenProvider {
         return false;
     }
 
+    /**
+     * Access Token 서명 검증과 클레임 추출을 한 번에 수행
+     * validateToken 후 getEmailFromToken 등을 다시 호출하면 서명 검증이 반복되므로, 인증 필터에서는 이 메서드를 사용
+     *
+     * @param token 검증할 토큰
+     * @return 토큰의 클레임 정보
+     * @throws JwtException 서명이 올바르지 않거나 만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public Claims parseAccessToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     /**
      * 토큰의 만료 여부 확인
      *
@@ -255,11 +267,7 @@ public class JwtTokenProvider {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
             Date expiration = claims.getExpiration();
             return expiration.before(new Date());
@@ -278,11 +286,7 @@ public class JwtTokenProvider {
      * @return 토큰에 저장된 사용자 이메일
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
         return claims.getSubject();
     }
@@ -294,11 +298,7 @@ public class JwtTokenProvider {
      * @return 토큰의 클레임 정보
      */
     public Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
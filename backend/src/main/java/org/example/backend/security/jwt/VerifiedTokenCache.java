@@ -0,0 +1,82 @@
+package org.example.backend.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 Access Token 캐시
+ *
+ * 같은 토큰으로 반복되는 요청에서 서명 검증과 클레임 해석을 생략합니다.
+ * - 키는 토큰의 SHA-256 해시 (토큰 원문은 메모리에 보관하지 않음)
+ * - 각 항목은 토큰 만료 시각에 함께 만료되며, 최대 항목 수를 넘으면 오래 사용하지 않은 항목부터 제거
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 사용자 정보 조회
+     * @return 검증된 적이 있고 아직 만료되지 않은 토큰이면 사용자 정보, 아니면 null
+     */
+    public UserDetails get(String token) {
+        VerifiedToken verified = cache.getIfPresent(hash(token));
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return verified.userDetails();
+    }
+
+    /**
+     * 검증된 토큰 저장
+     * @param expiresAtMillis 토큰 만료 시각 (exp 클레임)
+     */
+    public void put(String token, UserDetails userDetails, long expiresAtMillis) {
+        cache.put(hash(token), new VerifiedToken(userDetails, expiresAtMillis));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record VerifiedToken(UserDetails userDetails, long expiresAtMillis) {
+    }
+}
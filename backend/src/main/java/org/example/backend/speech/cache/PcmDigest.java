@@ -0,0 +1,92 @@
+package org.example.backend.speech.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 음성 파일의 PCM 데이터 SHA-256
+ *
+ * WAV 는 fmt/data 청크만 해시에 포함해 LIST 등 메타데이터나 헤더 차이로 키가 달라지지 않게 하고,
+ * WAV 가 아니면 전체 내용을 해시합니다. 입력은 버퍼 단위로 한 번만 읽습니다.
+ */
+public final class PcmDigest {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private PcmDigest() {
+    }
+
+    public static String sha256(InputStream input) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        byte[] riffHeader = input.readNBytes(12);
+        if (!isWave(riffHeader)) {
+            digest.update(riffHeader);
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        while (true) {
+            byte[] chunkHeader = input.readNBytes(8);
+            if (chunkHeader.length < 8) {
+                break;
+            }
+            String chunkId = new String(chunkHeader, 0, 4, StandardCharsets.US_ASCII);
+            long chunkSize = Integer.toUnsignedLong(ByteBuffer.wrap(chunkHeader, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+            boolean included = "fmt ".equals(chunkId) || "data".equals(chunkId);
+            if (included) {
+                // 포맷이 다른 같은 바이트열은 다른 음성이므로 fmt 도 포함
+                digest.update(chunkHeader, 0, 4);
+            }
+            // 스트리밍 녹음 등으로 data 크기가 0 또는 최대값이면 끝까지 읽음
+            long remaining = "data".equals(chunkId) && (chunkSize == 0 || chunkSize == 0xFFFFFFFFL) ? Long.MAX_VALUE : chunkSize;
+            while (remaining > 0) {
+                int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    return HexFormat.of().formatHex(digest.digest());
+                }
+                if (included) {
+                    digest.update(buffer, 0, read);
+                }
+                remaining -= read;
+            }
+            if ((chunkSize & 1) == 1 && input.read() == -1) { // 청크는 짝수 바이트로 정렬
+                break;
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256(byte[] data) {
+        try {
+            return sha256(new ByteArrayInputStream(data));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isWave(byte[] header) {
+        return header.length == 12
+                && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'A' && header[10] == 'V' && header[11] == 'E';
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.backend.speech.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 음성 분류 결과 캐시 (키: PCM SHA-256)
+ *
+ * speechResults 캐시(로컬 Caffeine + Redis, 크기/TTL 은 cache.caches.speechResults)에 결과를 저장하고,
+ * 같은 음성이 동시에 들어오면 이 서버에서는 분류 AI 호출 한 번의 결과를 함께 사용합니다.
+ * 지표: speech.cache.requests{result=hit|miss|coalesced}, 캐시 자체의 cache.gets{name=speechResults}
+ */
+@Component
+public class SpeechResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpeechResultCache.class);
+
+    public static final String CACHE_NAME = "speechResults";
+
+    private final Cache cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    // 분류 중인 요청 (PCM 해시 -> 결과)
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    public SpeechResultCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        if (this.cache == null) {
+            throw new IllegalStateException("캐시를 찾을 수 없습니다: " + CACHE_NAME);
+        }
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader 로 분류한 뒤 저장
+     * 같은 키의 분류가 진행 중이면 새로 호출하지 않고 그 결과를 기다림
+     */
+    public Mono<String> getOrLoad(String key, Supplier<Mono<String>> loader) {
+        return Mono.defer(() -> {
+            String cached = getCached(key);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+
+            boolean[] created = {false};
+            Mono<String> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return loader.get()
+                        .doOnNext(result -> putCached(k, result))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+            (created[0] ? misses : coalesced).increment();
+            return shared;
+        });
+    }
+
+    // Redis 오류는 캐시 미스로 처리
+    private String getCached(String key) {
+        try {
+            return cache.get(key, String.class);
+        } catch (RuntimeException e) {
+            logger.warn("음성 분류 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putCached(String key, String result) {
+        try {
+            cache.put(key, result);
+        } catch (RuntimeException e) {
+            logger.warn("음성 분류 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("speech.cache.requests")
+                .description("음성 분류 결과 캐시 요청")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -6,13 +6,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.speech.service.SpeechBusyException;
 import org.example.backend.speech.service.SpeechServiceImpl;
+import org.example.backend.speech.service.SpeechUnavailableException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -22,11 +27,17 @@ import java.util.Map;
 @Tag(name = "뇌 기능 분류 음성 녹음 전송 AI")
 public class SpeechController {
 
+    private static final String RETRY_AFTER_SECONDS = "5";
+
     private final SpeechServiceImpl speechService;
 
     @Value("${speech.base-url}")
     private String sttApiUrl;
 
+    // streaming: 업로드 파일을 분류 AI 로 바로 전달, buffered: 파일 전체를 메모리에 읽은 뒤 전송 (기존 방식)
+    @Value("${speech.proxy-mode:streaming}")
+    private String proxyMode;
+
     @GetMapping("/health")
     @Operation(summary = "뇌 기능 장애 분류 AI 연결 확인", description = "뇌 기능 장애 분류 AI 연결 상태를 확인합니다.")
     public ResponseEntity<Map<String, String>> healthCheck()  {
@@ -49,12 +60,23 @@ public class SpeechController {
     @Operation(summary = "뇌 기능 분류 음성 파일 업로드", description = "wav(16000HZ, MONO) 파일을 업로드해서 텍스트로 변환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "변환 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "429", description = "동시 처리 요청 수 초과"),
+            @ApiResponse(responseCode = "503", description = "뇌 기능 분류 AI 연결 실패")
     })
-    public ResponseEntity<String> uploadWavAndGetTranscript(@Parameter(description = "업로드할 WAV 파일", required = true)
-                                                                @RequestParam("file") MultipartFile file) {
-        String transcript = speechService.processFile(file);
-        return ResponseEntity.ok(transcript);
+    public Mono<ResponseEntity<String>> uploadWavAndGetTranscript(@Parameter(description = "업로드할 WAV 파일", required = true)
+                                                                      @RequestParam("file") MultipartFile file) {
+        if ("buffered".equals(proxyMode)) {
+            return Mono.fromCallable(() -> ResponseEntity.ok(speechService.processFile(file)));
+        }
+        return speechService.classifyStreaming(file)
+                .map(ResponseEntity::ok)
+                .onErrorResume(SpeechBusyException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .body(e.getMessage())))
+                .onErrorResume(SpeechUnavailableException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .body(e.getMessage())));
     }
 }
 
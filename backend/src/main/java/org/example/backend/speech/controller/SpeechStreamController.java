@@ -0,0 +1,51 @@
+package org.example.backend.speech.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.speech.dto.request.SpeechStreamChunkRequest;
+import org.example.backend.speech.stream.SpeechStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.util.Base64;
+
+/**
+ * 실시간 음성 분류 (STOMP)
+ *
+ * 1. /user/queue/speech/{streamId} 구독 (streamId 는 클라이언트가 만든 임의의 ID, 결과는 스트림을 시작한 세션에만 전송)
+ * 2. 녹음하면서 /pub/speech/{streamId}/chunk 로 PCM 조각 전송
+ * 3. 녹음이 끝나면 /pub/speech/{streamId}/end 전송 → 남은 구간 처리 후 completed 수신
+ */
+@Controller
+@RequiredArgsConstructor
+public class SpeechStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpeechStreamController.class);
+
+    private final SpeechStreamService speechStreamService;
+
+    @MessageMapping("/speech/{streamId}/chunk")
+    public void handleChunk(@DestinationVariable String streamId,
+                            SpeechStreamChunkRequest request,
+                            SimpMessageHeaderAccessor headerAccessor) {
+        if (request.pcm() == null || request.pcm().isEmpty()) {
+            return;
+        }
+        byte[] pcm;
+        try {
+            pcm = Base64.getDecoder().decode(request.pcm());
+        } catch (IllegalArgumentException e) {
+            logger.warn("잘못된 PCM 조각: streamId={}", streamId);
+            return;
+        }
+        speechStreamService.append(headerAccessor.getSessionId(), streamId, pcm);
+    }
+
+    @MessageMapping("/speech/{streamId}/end")
+    public void handleEnd(@DestinationVariable String streamId, SimpMessageHeaderAccessor headerAccessor) {
+        speechStreamService.end(headerAccessor.getSessionId(), streamId);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.backend.speech.dto.request;
+
+/**
+ * 실시간 분류용 PCM 조각 (/pub/speech/{streamId}/chunk)
+ * SockJS 는 텍스트 프레임만 전달하므로 PCM(16kHz, mono, 16bit little-endian)은 Base64 로 인코딩해 전송
+ *
+ * @param pcm Base64 로 인코딩한 PCM
+ */
+public record SpeechStreamChunkRequest(String pcm) {
+}
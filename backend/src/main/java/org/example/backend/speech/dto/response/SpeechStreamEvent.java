@@ -0,0 +1,14 @@
+package org.example.backend.speech.dto.response;
+
+/**
+ * /user/queue/speech/{streamId} 로 전송되는 실시간 분류 결과
+ *
+ * @param type partial (구간 결과), busy (AI 서버가 바빠 구간을 건너뜀), error (구간 처리 실패),
+ *             completed (스트림 종료, 모든 구간 처리 완료), expired (입력이 없어 스트림 정리)
+ * @param sequence 구간 번호 (0부터, completed 는 전체 구간 수)
+ * @param startMs 구간 시작 시각 (녹음 시작 기준 ms)
+ * @param endMs 구간 끝 시각
+ * @param result 분류 결과 또는 오류 메시지
+ */
+public record SpeechStreamEvent(String streamId, String type, int sequence, long startMs, long endMs, String result) {
+}
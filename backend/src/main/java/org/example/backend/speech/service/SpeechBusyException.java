@@ -0,0 +1,11 @@
+package org.example.backend.speech.service;
+
+/**
+ * 동시에 처리 중인 분류 요청이 최대치에 도달해 새 요청을 받지 못한 경우 (429)
+ */
+public class SpeechBusyException extends RuntimeException {
+
+    public SpeechBusyException(String message) {
+        super(message);
+    }
+}
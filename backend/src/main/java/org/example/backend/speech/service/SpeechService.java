@@ -1,7 +1,19 @@
 package org.example.backend.speech.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 public interface SpeechService {
     String processFile(MultipartFile file);
+
+    /**
+     * 업로드된 파일을 메모리에 모으지 않고 분류 AI 로 바로 전달
+     * 동시 처리 수를 넘으면 SpeechBusyException, AI 서버 연결 실패 시 SpeechUnavailableException
+     */
+    Mono<String> classifyStreaming(MultipartFile file);
+
+    /**
+     * 실시간 분류의 한 구간(16kHz mono WAV) 분류
+     */
+    Mono<String> classifyWindow(byte[] wav, String filename);
 }
@@ -2,79 +2,238 @@ package org.example.backend.speech.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.speech.cache.PcmDigest;
+import org.example.backend.speech.cache.SpeechResultCache;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.*;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
+import java.io.InputStream;
 import java.util.Collections;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SpeechServiceImpl implements SpeechService {
 
+    private static final String DEFAULT_CONTENT_TYPE = "audio/wav";
+
     @Value("${speech.base-url}")
     private String speechApiUrl;
 
     private final RestTemplate restTemplate;
+    private final WebClient speechWebClient;
+    private final MeterRegistry meterRegistry;
+    private final SpeechResultCache speechResultCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 동시에 분류 AI 로 전달 중인 요청 수 제한 (대기 없이 바로 거절)
+    private final Semaphore admission;
+    private final int maxConcurrent;
+    private final int bufferSize;
 
+    public SpeechServiceImpl(RestTemplate restTemplate,
+                             @Qualifier("speechWebClient") WebClient speechWebClient,
+                             MeterRegistry meterRegistry,
+                             SpeechResultCache speechResultCache,
+                             @Value("${speech.max-concurrent:8}") int maxConcurrent,
+                             @Value("${speech.stream-buffer-size:65536}") int bufferSize) {
+        this.restTemplate = restTemplate;
+        this.speechWebClient = speechWebClient;
+        this.meterRegistry = meterRegistry;
+        this.speechResultCache = speechResultCache;
+        this.maxConcurrent = maxConcurrent;
+        this.bufferSize = bufferSize;
+        this.admission = new Semaphore(maxConcurrent);
+        Gauge.builder("speech.requests.active", admission, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("분류 AI 로 전달 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파일 전체를 메모리에 읽어 분류 (같은 PCM 의 결과가 캐시에 있으면 AI 를 호출하지 않음)
+     */
+    @Timed(value = "speech.request", extraTags = {"operation", "classification"})
     public String processFile(MultipartFile file) {
         try {
             byte[] fileBytes = file.getBytes();
+            String key = PcmDigest.sha256(fileBytes);
+
+            return speechResultCache.getOrLoad(key, () -> Mono.fromCallable(() -> requestBuffered(file, fileBytes))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .block();
+
+        } catch (Exception e) {
+            log.error("뇌 기능 장애 분류 처리 중 오류 발생", e);
+            throw new RuntimeException("뇌 기능 장애 분류 처리 중 오류 발생", e);
+        }
+    }
+
+    private String requestBuffered(MultipartFile file, byte[] fileBytes) {
+        // 1. ByteArrayResource 생성 (파일 이름 포함)
+        ByteArrayResource resource = new ByteArrayResource(fileBytes) {
+            @Override
+            public String getFilename() {
+                return file.getOriginalFilename();
+            }
+        };
+
+        // 2. Multipart 데이터 구성
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", resource);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+
+        // 3. RestTemplate 호출
+        ResponseEntity<String> responseEntity = restTemplate.postForEntity(
+                speechApiUrl + "/classification",
+                requestEntity,
+                String.class
+        );
+
+        // 4. 응답 파싱
+        return parseResult(responseEntity.getBody());
+    }
+
+    /**
+     * 업로드 파일(서블릿 컨테이너가 임시 파일로 저장)을 bufferSize 단위로 읽어 분류 AI 로 바로 전달
+     * 힙에는 전송 중인 버퍼만 유지되고, 연결은 speechWebClient 의 연결 풀을 사용합니다.
+     * 전송 전에 임시 파일을 한 번 읽어 PCM 해시를 구하고, 캐시에 결과가 있으면 AI 를 호출하지 않습니다.
+     */
+    @Override
+    public Mono<String> classifyStreaming(MultipartFile file) {
+        return Mono.fromCallable(() -> {
+                    try (InputStream input = file.getInputStream()) {
+                        return PcmDigest.sha256(input);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(key -> speechResultCache.getOrLoad(key,
+                        () -> admitted(() -> sendStreaming(file), "classification_stream")));
+    }
 
-            // 1. ByteArrayResource 생성 (파일 이름 포함)
-            ByteArrayResource resource = new ByteArrayResource(fileBytes) {
+    /**
+     * 실시간 분류의 한 구간(WAV) 전송 (classifyStreaming 과 같은 동시 처리 제한 적용)
+     */
+    @Override
+    public Mono<String> classifyWindow(byte[] wav, String filename) {
+        return admitted(() -> {
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            builder.part("file", new ByteArrayResource(wav) {
                 @Override
                 public String getFilename() {
-                    return file.getOriginalFilename();
+                    return filename;
                 }
-            };
-
-            // 2. Multipart 데이터 구성
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", resource);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            // 3. RestTemplate 호출
-            ResponseEntity<String> responseEntity = restTemplate.postForEntity(
-                    speechApiUrl + "/classification",
-                    requestEntity,
-                    String.class
-            );
-
-            String responseBody = responseEntity.getBody();
-
-            // 4. 응답 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(responseBody);
-
-            if (jsonNode.has("transcript")) {
-                return jsonNode.get("transcript").asText();
-            } else if (jsonNode.has("정상") && jsonNode.has("뇌 질환")) {
-                float normal = jsonNode.get("정상").floatValue();
-                float brain = jsonNode.get("뇌 질환").floatValue();
-                log.info("[STT] 분류 결과 - 정상*100: {}, 정상: {}, 뇌 질환: {}", normal, normal / 100, brain);
-                return String.format("정상: %.6f%%, 뇌 질환: %.6f%%", normal, brain);
-            } else {
-                throw new RuntimeException("AI 응답 포맷이 예상과 다름: " + responseBody);
+            }).contentType(MediaType.parseMediaType(DEFAULT_CONTENT_TYPE));
+            return send(builder);
+        }, "classification_window");
+    }
+
+    // 구독 시점에 허가를 얻고 완료/오류/취소 시 반납 (허가가 없으면 대기하지 않고 SpeechBusyException)
+    private Mono<String> admitted(Supplier<Mono<String>> request, String operation) {
+        return Mono.defer(() -> {
+            if (!admission.tryAcquire()) {
+                return Mono.error(new SpeechBusyException("처리 중인 분류 요청이 너무 많습니다. (최대 " + maxConcurrent + "건)"));
             }
+            return timed(request.get(), operation).doFinally(signal -> admission.release());
+        });
+    }
+
+    private Mono<String> sendStreaming(MultipartFile file) {
+        Flux<DataBuffer> content = DataBufferUtils.readInputStream(
+                        file::getInputStream, DefaultDataBufferFactory.sharedInstance, bufferSize)
+                .subscribeOn(Schedulers.boundedElastic()); // 파일 읽기가 네트워크 스레드를 막지 않도록
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.asyncPart("file", content, DataBuffer.class)
+                .filename(file.getOriginalFilename() != null ? file.getOriginalFilename() : "audio.wav")
+                .contentType(MediaType.parseMediaType(
+                        file.getContentType() != null ? file.getContentType() : DEFAULT_CONTENT_TYPE));
+
+        return send(builder);
+    }
+
+    private Mono<String> send(MultipartBodyBuilder builder) {
+        return speechWebClient.post()
+                .uri("/classification")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(this::parseResult)
+                .onErrorMap(this::isUnavailable,
+                        e -> new SpeechUnavailableException("뇌 기능 분류 AI에 연결할 수 없습니다.", e));
+    }
 
+    private String parseResult(String responseBody) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(responseBody);
         } catch (Exception e) {
-            log.error("뇌 기능 장애 분류 처리 중 오류 발생", e);
-            throw new RuntimeException("뇌 기능 장애 분류 처리 중 오류 발생", e);
+            throw new RuntimeException("AI 응답 포맷이 예상과 다름: " + responseBody, e);
+        }
+
+        if (jsonNode.has("transcript")) {
+            return jsonNode.get("transcript").asText();
+        } else if (jsonNode.has("정상") && jsonNode.has("뇌 질환")) {
+            float normal = jsonNode.get("정상").floatValue();
+            float brain = jsonNode.get("뇌 질환").floatValue();
+            log.info("[STT] 분류 결과 - 정상*100: {}, 정상: {}, 뇌 질환: {}", normal, normal / 100, brain);
+            return String.format("정상: %.6f%%, 뇌 질환: %.6f%%", normal, brain);
+        } else {
+            throw new RuntimeException("AI 응답 포맷이 예상과 다름: " + responseBody);
         }
     }
+
+    // 연결 실패, 연결 풀 대기 시간 초과, 응답 시간 초과, AI 서버의 502/503/504
+    private boolean isUnavailable(Throwable e) {
+        if (e instanceof WebClientRequestException || e instanceof TimeoutException) {
+            return true;
+        }
+        return e instanceof WebClientResponseException response
+                && (response.getStatusCode().value() == 502
+                || response.getStatusCode().value() == 503
+                || response.getStatusCode().value() == 504);
+    }
+
+    private Mono<String> timed(Mono<String> request, String operation) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request.doFinally(signal -> sample.stop(Timer.builder("speech.request")
+                    .description("음성 AI 요청 처리 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", signal == SignalType.ON_COMPLETE ? "success" : signal == SignalType.CANCEL ? "cancelled" : "error")
+                    .register(meterRegistry)));
+        });
+    }
 }
@@ -0,0 +1,11 @@
+package org.example.backend.speech.service;
+
+/**
+ * 분류 AI 서버에 연결할 수 없거나 응답이 없는 경우 (503)
+ */
+public class SpeechUnavailableException extends RuntimeException {
+
+    public SpeechUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
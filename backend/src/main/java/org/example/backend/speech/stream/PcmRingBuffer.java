@@ -0,0 +1,56 @@
+package org.example.backend.speech.stream;
+
+/**
+ * 고정 크기 PCM 링 버퍼 (스트림마다 하나를 만들어 끝날 때까지 재사용)
+ * 동기화는 호출하는 쪽(SpeechStreamSession)에서 처리합니다.
+ */
+class PcmRingBuffer {
+
+    private final byte[] buffer;
+    private int readIndex;
+    private int size;
+
+    PcmRingBuffer(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    int available() {
+        return size;
+    }
+
+    int remaining() {
+        return buffer.length - size;
+    }
+
+    /**
+     * @throws IllegalStateException 남은 공간보다 많이 쓰려는 경우
+     */
+    void write(byte[] data, int offset, int length) {
+        if (length > remaining()) {
+            throw new IllegalStateException("PCM 버퍼가 가득 찼습니다.");
+        }
+        int writeIndex = (readIndex + size) % buffer.length;
+        int first = Math.min(length, buffer.length - writeIndex);
+        System.arraycopy(data, offset, buffer, writeIndex, first);
+        System.arraycopy(data, offset + first, buffer, 0, length - first);
+        size += length;
+    }
+
+    /**
+     * length 바이트를 target 의 offset 위치로 복사하고 버퍼에서 제거
+     */
+    void read(byte[] target, int offset, int length) {
+        if (length > size) {
+            throw new IllegalStateException("PCM 버퍼에 데이터가 부족합니다.");
+        }
+        int first = Math.min(length, buffer.length - readIndex);
+        System.arraycopy(buffer, readIndex, target, offset, first);
+        System.arraycopy(buffer, 0, target, offset + first, length - first);
+        readIndex = (readIndex + length) % buffer.length;
+        size -= length;
+    }
+}
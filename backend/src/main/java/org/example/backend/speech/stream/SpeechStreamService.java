@@ -0,0 +1,218 @@
+package org.example.backend.speech.stream;
+
+import org.example.backend.speech.dto.response.SpeechStreamEvent;
+import org.example.backend.speech.service.SpeechBusyException;
+import org.example.backend.speech.service.SpeechService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 음성 분류
+ *
+ * STOMP 로 받은 PCM 조각을 스트림별 링 버퍼에 모아 window-ms 구간마다 분류 AI 로 보내고,
+ * 결과를 스트림을 시작한 세션에만 (/user/queue/speech/{streamId}) 바로 전송합니다. 한 스트림의 구간은 순서대로 하나씩 처리합니다.
+ * 녹음이 끝난 뒤 파일 전체를 올리는 방식과 달리 첫 결과까지 약 한 구간만 기다리면 됩니다.
+ * 세션마다 max-streams-per-session 개까지 열 수 있고, idle-timeout-ms 동안 조각이 오지 않은 스트림은 정리합니다.
+ */
+@Service
+public class SpeechStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpeechStreamService.class);
+
+    // 스트림을 시작한 세션에만 보내는 결과 목적지 (클라이언트는 /user/queue/speech/{streamId} 구독)
+    public static final String USER_DESTINATION_PREFIX = "/queue/speech/";
+
+    private final SpeechService speechService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final int sampleRate;
+    private final int windowMs;
+    private final int minFinalMs;
+    private final int maxPendingWindows;
+    private final int maxStreams;
+    private final int maxStreamsPerSession;
+    private final long idleTimeoutMs;
+
+    // "sessionId:streamId" -> 스트림
+    private final Map<String, ActiveStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger streamCount = new AtomicInteger();
+
+    public SpeechStreamService(SpeechService speechService,
+                               SimpMessagingTemplate messagingTemplate,
+                               @Value("${speech.stream.sample-rate:16000}") int sampleRate,
+                               @Value("${speech.stream.window-ms:2000}") int windowMs,
+                               @Value("${speech.stream.min-final-window-ms:500}") int minFinalMs,
+                               @Value("${speech.stream.max-pending-windows:2}") int maxPendingWindows,
+                               @Value("${speech.stream.max-streams:100}") int maxStreams,
+                               @Value("${speech.stream.max-streams-per-session:2}") int maxStreamsPerSession,
+                               @Value("${speech.stream.idle-timeout-ms:60000}") long idleTimeoutMs) {
+        this.speechService = speechService;
+        this.messagingTemplate = messagingTemplate;
+        this.sampleRate = sampleRate;
+        this.windowMs = windowMs;
+        this.minFinalMs = minFinalMs;
+        this.maxPendingWindows = maxPendingWindows;
+        this.maxStreams = maxStreams;
+        this.maxStreamsPerSession = maxStreamsPerSession;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * PCM 조각 추가 (첫 조각에서 스트림 시작)
+     */
+    public void append(String sessionId, String streamId, byte[] pcm) {
+        ActiveStream stream = streams.get(key(sessionId, streamId));
+        if (stream == null) {
+            stream = start(sessionId, streamId);
+            if (stream == null) {
+                return;
+            }
+        }
+        int dropped = stream.session().append(pcm);
+        if (dropped > 0) {
+            send(sessionId, streamId, new SpeechStreamEvent(streamId, "busy", -1, 0, 0,
+                    "처리 대기 중인 구간이 많아 " + dropped + "개 구간을 건너뛰었습니다."));
+        }
+    }
+
+    /**
+     * 녹음 종료 (남은 구간 처리 후 completed 전송)
+     */
+    public void end(String sessionId, String streamId) {
+        ActiveStream stream = streams.get(key(sessionId, streamId));
+        if (stream != null) {
+            stream.session().end();
+        }
+    }
+
+    /**
+     * 연결이 끊긴 세션의 스트림은 처리 중인 요청까지 취소
+     */
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        streams.forEach((key, stream) -> {
+            if (key.startsWith(prefix)) {
+                stream.subscription().dispose();
+                remove(key);
+            }
+        });
+    }
+
+    /**
+     * idle-timeout-ms 동안 조각이나 종료 요청이 없는 스트림 정리 (처리 중인 요청 취소, 링 버퍼 해제)
+     * 종료 요청 없이 녹음을 멈춘 클라이언트의 스트림이 연결이 끊길 때까지 남아 있지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${speech.stream.sweep-interval-ms:10000}")
+    public void sweepIdleStreams() {
+        sweepIdleStreams(System.currentTimeMillis());
+    }
+
+    void sweepIdleStreams(long now) {
+        long idleBefore = now - idleTimeoutMs;
+        streams.forEach((key, stream) -> {
+            SpeechStreamSession session = stream.session();
+            if (session.getLastActivityAt() >= idleBefore) {
+                return;
+            }
+            stream.subscription().dispose();
+            remove(key);
+            send(session.getSessionId(), session.getStreamId(), new SpeechStreamEvent(session.getStreamId(), "expired", -1, 0, 0,
+                    "입력이 없어 실시간 분류를 종료했습니다."));
+            logger.debug("입력이 없는 실시간 분류 스트림 정리: streamId={}, sessionId={}", session.getStreamId(), session.getSessionId());
+        });
+    }
+
+    private synchronized ActiveStream start(String sessionId, String streamId) {
+        String key = key(sessionId, streamId);
+        ActiveStream existing = streams.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (streamCount.get() >= maxStreams) {
+            send(sessionId, streamId, new SpeechStreamEvent(streamId, "error", -1, 0, 0,
+                    "동시에 처리할 수 있는 실시간 분류 수를 초과했습니다. (최대 " + maxStreams + "건)"));
+            return null;
+        }
+        String prefix = sessionId + ":";
+        if (streams.keySet().stream().filter(existingKey -> existingKey.startsWith(prefix)).count() >= maxStreamsPerSession) {
+            send(sessionId, streamId, new SpeechStreamEvent(streamId, "error", -1, 0, 0,
+                    "한 연결에서 동시에 진행할 수 있는 실시간 분류 수를 초과했습니다. (최대 " + maxStreamsPerSession + "건)"));
+            return null;
+        }
+
+        SpeechStreamSession session = new SpeechStreamSession(
+                streamId, sessionId, sampleRate, windowMs, minFinalMs, maxPendingWindows);
+        AtomicInteger windowCount = new AtomicInteger();
+        Disposable subscription = session.getWindows().asFlux()
+                // prefetch 1: 대기 구간은 session 의 버퍼에만 쌓여 max-pending-windows 로 제한됨
+                .concatMap(window -> classify(streamId, window).doOnNext(result -> windowCount.incrementAndGet()), 1)
+                .subscribe(
+                        result -> send(sessionId, streamId, result),
+                        error -> {
+                            logger.error("실시간 분류 스트림 오류: streamId={}, {}", streamId, error.getMessage());
+                            remove(key);
+                        },
+                        () -> {
+                            send(sessionId, streamId, new SpeechStreamEvent(streamId, "completed", windowCount.get(), 0, 0, null));
+                            remove(key);
+                        });
+
+        ActiveStream stream = new ActiveStream(session, subscription);
+        streams.put(key, stream);
+        streamCount.incrementAndGet();
+        logger.debug("실시간 분류 스트림 시작: streamId={}, sessionId={}", streamId, sessionId);
+        return stream;
+    }
+
+    private Mono<SpeechStreamEvent> classify(String streamId, SpeechStreamSession.Window window) {
+        return speechService.classifyWindow(window.wav(), streamId + "-" + window.sequence() + ".wav")
+                .map(result -> event(streamId, "partial", window, result))
+                .onErrorResume(SpeechBusyException.class,
+                        e -> Mono.just(event(streamId, "busy", window, e.getMessage())))
+                .onErrorResume(e -> {
+                    logger.warn("실시간 분류 구간 처리 실패: streamId={}, sequence={}, {}", streamId, window.sequence(), e.getMessage());
+                    return Mono.just(event(streamId, "error", window, "구간 분류 중 오류가 발생했습니다."));
+                });
+    }
+
+    private SpeechStreamEvent event(String streamId, String type, SpeechStreamSession.Window window, String result) {
+        return new SpeechStreamEvent(streamId, type, window.sequence(), window.startMs(), window.endMs(), result);
+    }
+
+    // 스트림을 시작한 STOMP 세션에만 전송 (로그인 정보 없이 세션 ID 로 전달, 같은 streamId 를 다른 세션이 구독해도 받지 못함)
+    private void send(String sessionId, String streamId, SpeechStreamEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sessionId, USER_DESTINATION_PREFIX + streamId, event,
+                accessor.getMessageHeaders());
+    }
+
+    private void remove(String key) {
+        if (streams.remove(key) != null) {
+            streamCount.decrementAndGet();
+        }
+    }
+
+    private String key(String sessionId, String streamId) {
+        return sessionId + ":" + streamId;
+    }
+
+    private record ActiveStream(SpeechStreamSession session, Disposable subscription) {
+    }
+}
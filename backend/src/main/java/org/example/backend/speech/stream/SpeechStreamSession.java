@@ -0,0 +1,117 @@
+package org.example.backend.speech.stream;
+
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 실시간 분류 스트림 하나의 상태
+ *
+ * 받은 PCM 을 링 버퍼에 쌓다가 windowBytes 만큼 모이면 WAV 구간으로 만들어 windows 로 내보냅니다.
+ * 처리 대기 중인 구간이 maxPendingWindows 를 넘으면 새 구간은 버립니다. (append 결과로 알림)
+ */
+class SpeechStreamSession {
+
+    private final String streamId;
+    private final String sessionId;
+    private final int sampleRate;
+    private final int windowBytes;
+    private final int minFinalBytes;
+    private final PcmRingBuffer ringBuffer;
+    private final Sinks.Many<Window> windows;
+
+    private int sequence;
+    private long processedBytes;
+    private boolean ended;
+    // 마지막으로 조각이나 종료 요청을 받은 시각 (유휴 스트림 정리용)
+    private volatile long lastActivityAt = System.currentTimeMillis();
+
+    SpeechStreamSession(String streamId, String sessionId, int sampleRate, int windowMs, int minFinalMs, int maxPendingWindows) {
+        this.streamId = streamId;
+        this.sessionId = sessionId;
+        this.sampleRate = sampleRate;
+        this.windowBytes = toBytes(windowMs);
+        this.minFinalBytes = toBytes(minFinalMs);
+        this.ringBuffer = new PcmRingBuffer(windowBytes * 2);
+        this.windows = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<Window>(maxPendingWindows));
+    }
+
+    String getStreamId() {
+        return streamId;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    long getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    Sinks.Many<Window> getWindows() {
+        return windows;
+    }
+
+    /**
+     * PCM 추가 후 완성된 구간 내보내기
+     * @return 대기 구간이 가득 차 버린 구간 수
+     */
+    synchronized int append(byte[] pcm) {
+        if (ended) {
+            return 0;
+        }
+        lastActivityAt = System.currentTimeMillis();
+        int dropped = 0;
+        int offset = 0;
+        while (offset < pcm.length) {
+            int length = Math.min(ringBuffer.remaining(), pcm.length - offset);
+            ringBuffer.write(pcm, offset, length);
+            offset += length;
+            while (ringBuffer.available() >= windowBytes) {
+                if (!emit(windowBytes)) {
+                    dropped++;
+                }
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * 남은 PCM 이 minFinalBytes 이상이면 마지막 구간으로 내보내고 스트림 종료
+     */
+    synchronized void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        lastActivityAt = System.currentTimeMillis();
+        int remaining = ringBuffer.available() & ~1; // 16bit 샘플 단위
+        if (remaining >= minFinalBytes) {
+            emit(remaining);
+        }
+        windows.tryEmitComplete();
+    }
+
+    private boolean emit(int length) {
+        byte[] wav = WavEncoder.allocate(length, sampleRate, 1);
+        ringBuffer.read(wav, WavEncoder.HEADER_SIZE, length);
+        Window window = new Window(sequence++, toMillis(processedBytes), toMillis(processedBytes + length), wav);
+        processedBytes += length;
+        return windows.tryEmitNext(window).isSuccess();
+    }
+
+    private int toBytes(int millis) {
+        return (int) ((long) sampleRate * 2 * millis / 1000) & ~1;
+    }
+
+    private long toMillis(long bytes) {
+        return bytes * 1000 / (sampleRate * 2L);
+    }
+
+    /**
+     * 분류할 구간
+     * @param wav WAV 헤더를 포함한 구간 데이터
+     */
+    record Window(int sequence, long startMs, long endMs, byte[] wav) {
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.backend.speech.stream;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 16bit PCM 을 WAV 로 감싸기 위한 헤더 작성
+ */
+final class WavEncoder {
+
+    static final int HEADER_SIZE = 44;
+
+    private WavEncoder() {
+    }
+
+    /**
+     * HEADER_SIZE + pcmLength 크기의 배열을 만들고 헤더만 채움 (PCM 은 호출하는 쪽에서 HEADER_SIZE 위치부터 복사)
+     */
+    static byte[] allocate(int pcmLength, int sampleRate, int channels) {
+        byte[] wav = new byte[HEADER_SIZE + pcmLength];
+        int byteRate = sampleRate * channels * 2;
+        ByteBuffer header = ByteBuffer.wrap(wav, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[]{'R', 'I', 'F', 'F'});
+        header.putInt(36 + pcmLength);
+        header.put(new byte[]{'W', 'A', 'V', 'E', 'f', 'm', 't', ' '});
+        header.putInt(16);                      // fmt 청크 크기
+        header.putShort((short) 1);             // PCM
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(byteRate);
+        header.putShort((short) (channels * 2)); // block align
+        header.putShort((short) 16);            // bits per sample
+        header.put(new byte[]{'d', 'a', 't', 'a'});
+        header.putInt(pcmLength);
+        return wav;
+    }
+}
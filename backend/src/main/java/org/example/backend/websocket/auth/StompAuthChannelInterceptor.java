@@ -0,0 +1,110 @@
+package org.example.backend.websocket.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.example.backend.security.jwt.JwtConfig;
+import org.example.backend.security.jwt.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * STOMP 인증 처리
+ *
+ * - CONNECT: Authorization 헤더의 토큰을 한 번만 검증해 StompPrincipal 을 만들고 세션 속성에 저장
+ * - SEND/SUBSCRIBE: 세션에 저장된 토큰 만료 시각만 비교 (토큰 재검증 없음)
+ * 토큰 없이 연결한 세션은 기존과 같이 인증 정보 없이 허용합니다.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StompAuthChannelInterceptor.class);
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public StompAuthChannelInterceptor(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> authenticate(accessor);
+            case SEND, SUBSCRIBE -> checkExpiry(accessor);
+            case DISCONNECT -> {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("WebSocket disconnection from user: {}", getPrincipal(accessor.getSessionAttributes()));
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String token = jwtTokenProvider.resolveToken(accessor.getFirstNativeHeader(JwtConfig.AUTHORIZATION_HEADER));
+        if (token == null) {
+            logger.debug("No authorization header in WebSocket connection");
+            return;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseAccessToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("Invalid token in WebSocket connection: {}", e.getMessage());
+            return;
+        }
+
+        Object userId = claims.get("userId");
+        Object auth = claims.get("auth");
+        StompPrincipal principal = new StompPrincipal(
+                claims.getSubject(),
+                userId != null ? Long.valueOf(userId.toString()) : null,
+                auth != null ? auth.toString() : null,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+
+        accessor.setUser(principal);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            sessionAttributes.put(StompPrincipal.SESSION_ATTRIBUTE, principal);
+            // 기존 세션 속성 이름 유지 (세션 속성 맵은 null 값을 허용하지 않을 수 있음)
+            if (principal.userId() != null) {
+                sessionAttributes.put("userId", principal.userId());
+            }
+            if (principal.auth() != null) {
+                sessionAttributes.put("auth", principal.auth());
+            }
+        }
+        logger.debug("WebSocket authenticated user: email={}, userId={}", principal.email(), principal.userId());
+    }
+
+    private void checkExpiry(StompHeaderAccessor accessor) {
+        StompPrincipal principal = getPrincipal(accessor.getSessionAttributes());
+        if (principal != null && principal.isExpired(System.currentTimeMillis())) {
+            logger.debug("Expired token in WebSocket session: userId={}", principal.userId());
+            throw new MessageDeliveryException("토큰이 만료되었습니다. 다시 연결해 주세요.");
+        }
+    }
+
+    private StompPrincipal getPrincipal(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        return sessionAttributes.get(StompPrincipal.SESSION_ATTRIBUTE) instanceof StompPrincipal principal ? principal : null;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.backend.websocket.auth;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 인증 정보 (CONNECT 시 토큰을 한 번 해석해 세션 속성에 보관)
+ *
+ * @param email 사용자 이메일 (토큰 subject)
+ * @param userId 사용자 ID, 토큰에 없으면 null
+ * @param auth 권한 (ROLE_USER, ROLE_COUNSELOR 등), 토큰에 없으면 null
+ * @param expiresAtMillis 토큰 만료 시각
+ */
+public record StompPrincipal(String email, Long userId, String auth, long expiresAtMillis) implements Principal {
+
+    public static final String SESSION_ATTRIBUTE = "stompPrincipal";
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
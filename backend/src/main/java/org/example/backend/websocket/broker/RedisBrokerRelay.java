@@ -0,0 +1,331 @@
+package org.example.backend.websocket.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis pub/sub 기반 STOMP 메시지 중계 (websocket.broker.mode=redis)
+ *
+ * 내장 브로커(/sub)로 전달되는 메시지를 로컬 구독자에게 그대로 전달하면서,
+ * 같은 메시지를 Redis 채널(stomp:{destination})로 발행해 다른 서버의 구독자에게도 전달합니다.
+ * - 발행: 목적지별로 모아서 flush-interval-ms 마다 파이프라인으로 한 번에 발행
+ * - 구독: 이 서버에 해당 목적지 구독자가 있는 동안에만 Redis 채널을 구독
+ * - Redis 가 느려져 발행 대기 메시지가 max-pending 에 도달하면 다른 서버로의 중계만 건너뜀
+ *   (로컬 구독자에게는 그대로 전달, 건너뛴 수는 stomp.relay.dropped 지표로 기록)
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class RedisBrokerRelay implements ChannelInterceptor, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisBrokerRelay.class);
+
+    private static final String DESTINATION_PREFIX = "/sub/";
+    private static final String TOPIC_PREFIX = "stomp:";
+    // Redis 에서 수신해 다시 브로커로 보낸 메시지 표시 (재발행 방지)
+    private static final String RELAY_ORIGIN_HEADER = "relayOrigin";
+    // 구독자마다 브로커가 다시 만드는 STOMP 프레임 헤더 (중계하지 않음)
+    private static final Set<String> FRAME_HEADERS = Set.of(
+            "destination", "subscription", "message-id", "content-type", "content-length", "receipt");
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+    private final int maxBatchSize;
+    private final int maxPending;
+    private final Counter droppedFrames;
+
+    // 발행 대기 중인 메시지 (pendingCount 로 max-pending 까지만 허용)
+    private final ConcurrentLinkedQueue<OutboundFrame> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedSinceLastLog = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "stomp-redis-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 세션별 구독 (sessionId -> subscriptionId -> destination) 과 목적지별 로컬 구독자 수
+    private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+    private final Map<String, Integer> localSubscriberCounts = new HashMap<>();
+
+    public RedisBrokerRelay(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            ObjectMapper objectMapper,
+                            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                            @Value("${websocket.broker.redis.flush-interval-ms:10}") long flushIntervalMs,
+                            @Value("${websocket.broker.redis.max-batch-size:100}") int maxBatchSize,
+                            @Value("${websocket.broker.redis.max-pending:10000}") int maxPending,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPending = maxPending;
+        this.droppedFrames = Counter.builder("stomp.relay.dropped")
+                .description("발행 대기열이 가득 차 다른 서버로 중계하지 못한 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("stomp.relay.pending", pendingCount, AtomicInteger::get)
+                .description("Redis 발행 대기 중인 메시지 수")
+                .register(meterRegistry);
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 브로커 채널로 들어오는 메시지를 Redis 발행 대기열에 추가
+     */
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)
+                || accessor.getHeader(RELAY_ORIGIN_HEADER) != null) {
+            return message;
+        }
+
+        if (message.getPayload() instanceof byte[] payload) {
+            int queued = pendingCount.incrementAndGet();
+            if (queued > maxPending) {
+                pendingCount.decrementAndGet();
+                droppedFrames.increment();
+                droppedSinceLastLog.incrementAndGet();
+                return message;
+            }
+            pending.add(new OutboundFrame(destination, new RelayFrame(contentType(accessor),
+                    relayedHeaders(accessor), new String(payload, StandardCharsets.UTF_8))));
+            if (queued >= maxBatchSize && flushScheduled.compareAndSet(false, true)) {
+                flusher.execute(this::flush);
+            }
+        } else {
+            logger.debug("Redis 중계 대상이 아닌 페이로드 타입: {}", message.getPayload().getClass());
+        }
+        return message;
+    }
+
+    /**
+     * 대기 중인 메시지를 목적지별로 묶어 한 번의 파이프라인으로 발행
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        long dropped = droppedSinceLastLog.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn("Redis 발행 대기열이 가득 차 {}건의 메시지를 다른 서버로 중계하지 못했습니다. (max-pending={})",
+                    dropped, maxPending);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<RelayFrame>> batches = new LinkedHashMap<>();
+        OutboundFrame frame;
+        while ((frame = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batches.computeIfAbsent(frame.destination(), key -> new ArrayList<>()).add(frame.frame());
+        }
+
+        try {
+            List<byte[][]> publishes = new ArrayList<>(batches.size());
+            for (Map.Entry<String, List<RelayFrame>> batch : batches.entrySet()) {
+                byte[] topic = (TOPIC_PREFIX + batch.getKey()).getBytes(StandardCharsets.UTF_8);
+                byte[] body = objectMapper.writeValueAsBytes(new RelayEnvelope(nodeId, batch.getValue()));
+                publishes.add(new byte[][]{topic, body});
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[][] publish : publishes) {
+                    connection.publish(publish[0], publish[1]);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.error("STOMP 메시지 Redis 발행 실패: destinations={}, {}", batches.keySet(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 메시지를 로컬 구독자에게 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayEnvelope envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return; // 이 서버에서 발행한 메시지는 이미 로컬로 전달됨
+            }
+
+            String destination = new String(message.getChannel(), StandardCharsets.UTF_8).substring(TOPIC_PREFIX.length());
+            for (RelayFrame frame : envelope.frames()) {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                accessor.setDestination(destination);
+                accessor.setContentType(frame.contentType() != null
+                        ? MimeTypeUtils.parseMimeType(frame.contentType()) : MimeTypeUtils.APPLICATION_JSON);
+                if (frame.headers() != null) {
+                    frame.headers().forEach(accessor::setNativeHeaderValues);
+                }
+                accessor.setHeader(RELAY_ORIGIN_HEADER, envelope.origin());
+                brokerChannel.send(MessageBuilder.createMessage(
+                        frame.payload().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+            }
+        } catch (Exception e) {
+            logger.error("Redis 중계 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return;
+        }
+
+        synchronized (localSubscriberCounts) {
+            String previous = sessionSubscriptions
+                    .computeIfAbsent(accessor.getSessionId(), key -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), destination);
+            if (previous != null) {
+                releaseDestination(previous);
+            }
+            if (localSubscriberCounts.merge(destination, 1, Integer::sum) == 1) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(TOPIC_PREFIX + destination));
+                logger.debug("Redis 채널 구독 시작: {}", destination);
+            }
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        synchronized (localSubscriberCounts) {
+            Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            String destination = subscriptions.remove(accessor.getSubscriptionId());
+            if (destination != null) {
+                releaseDestination(destination);
+            }
+            if (subscriptions.isEmpty()) {
+                sessionSubscriptions.remove(accessor.getSessionId());
+            }
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        synchronized (localSubscriberCounts) {
+            Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::releaseDestination);
+            }
+        }
+    }
+
+    // localSubscriberCounts 잠금 안에서 호출
+    private void releaseDestination(String destination) {
+        Integer remaining = localSubscriberCounts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            listenerContainer.removeMessageListener(this, new ChannelTopic(TOPIC_PREFIX + destination));
+            logger.debug("Redis 채널 구독 해제: {}", destination);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private String contentType(SimpMessageHeaderAccessor accessor) {
+        MimeType contentType = accessor.getContentType();
+        return contentType != null ? contentType.toString() : null;
+    }
+
+    // convertAndSend 에 넘긴 사용자 정의 헤더 (프레임 헤더 제외)
+    private Map<String, List<String>> relayedHeaders(SimpMessageHeaderAccessor accessor) {
+        Map<String, List<String>> nativeHeaders = accessor.toNativeHeaderMap();
+        if (nativeHeaders.isEmpty()) {
+            return null;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        nativeHeaders.forEach((name, values) -> {
+            if (!FRAME_HEADERS.contains(name)) {
+                headers.put(name, values);
+            }
+        });
+        return headers.isEmpty() ? null : headers;
+    }
+
+    private record OutboundFrame(String destination, RelayFrame frame) {
+    }
+
+    /**
+     * Redis 로 발행되는 묶음 메시지
+     * @param origin 발행한 서버 ID
+     * @param frames 같은 목적지로 보낼 메시지 목록 (순서 유지)
+     */
+    public record RelayEnvelope(String origin, List<RelayFrame> frames) {
+    }
+
+    /**
+     * 중계되는 메시지 한 건
+     * @param contentType 원본 content-type (없으면 null, 수신 측에서 application/json 사용)
+     * @param headers 원본 STOMP 사용자 정의 헤더 (없으면 null)
+     * @param payload 메시지 본문
+     */
+    public record RelayFrame(String contentType, Map<String, List<String>> headers, String payload) {
+    }
+}
@@ -11,6 +11,9 @@ import org.example.backend.websocket.service.ChannelWsService;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -18,19 +21,31 @@ public class ChannelWsController {
 
     private final ChannelWsService channelWsService;
     private final ChannelChatRecrodService channelChatRecrodService;
+    private final SimpMessagingTemplate messagingTemplate;
 
     private static final Logger logger = LoggerFactory.getLogger(ChannelWsController.class);
 
-    public ChannelWsController(ChannelWsService channelWsService, ChannelChatRecrodService channelChatRecrodService) {
+    // 요청한 세션에만 보내는 응답 목적지 (클라이언트는 /user/queue/channel/{channel_id} 구독)
+    public static final String USER_DESTINATION_PREFIX = "/queue/channel/";
+
+    public ChannelWsController(ChannelWsService channelWsService,
+                               ChannelChatRecrodService channelChatRecrodService,
+                               SimpMessagingTemplate messagingTemplate) {
         this.channelWsService = channelWsService;
         this.channelChatRecrodService = channelChatRecrodService;
+        this.messagingTemplate = messagingTemplate;
     }
 
+    /**
+     * 채널 이벤트 처리 (결과는 /sub/{channel_id} 로 채널 전체에 전송)
+     * 정원 초과로 입장하지 못한 경우는 요청한 세션에만 알리고 채널에는 보내지 않습니다.
+     */
     @MessageMapping("/{channel_id}")
     @SendTo("/sub/{channel_id}")
     public ChannelEventResponse handleChannel(
             @DestinationVariable Long channel_id,
-            ChannelEventRequest request) {
+            ChannelEventRequest request,
+            SimpMessageHeaderAccessor headerAccessor) {
 
         logger.info("Received channel event: channel_id={}, user={}, event={}, full request={}",
                 channel_id, request.user(), request.event(), request);
@@ -41,7 +56,12 @@ public class ChannelWsController {
 
         switch (request.event()) {
             case "join":
-                channelWsService.joinChannel(channel_id, request.user());
+                if (!channelWsService.joinChannel(channel_id, request.user(), headerAccessor.getSessionId())) {
+                    logger.info("User {} rejected from full channel {}", request.user(), channel_id);
+                    sendToSession(headerAccessor.getSessionId(), channel_id,
+                            new ChannelEventResponse(channel_id, request.user(), "full", request.role()));
+                    return null;
+                }
                 logger.info("User {} joined channel {}", request.user(), channel_id);
                 return new ChannelEventResponse(channel_id, request.user(), "join", request.role());
 
@@ -83,11 +103,22 @@ public class ChannelWsController {
 
             case "con_join":
                 logger.info("Cunselor joined session request from user {} in channel {}", request.user(), channel_id);
-                channelWsService.CounselorJoin(request.user(), channel_id);
+                channelWsService.CounselorJoin(request.user(), channel_id, headerAccessor.getSessionId());
                 return new ChannelEventResponse(null, null, null, null);
             default:
                 logger.warn("Unknown channel event: {}", request.event());
                 return new ChannelEventResponse(channel_id, request.user(), "unknown", request.role());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청한 STOMP 세션에만 메시지 전송 (@SendToUser 와 같은 방식, 로그인 정보 없이 세션 ID 로 전달)
+     */
+    private void sendToSession(String sessionId, Long channelId, ChannelEventResponse response) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sessionId, USER_DESTINATION_PREFIX + channelId, response,
+                accessor.getMessageHeaders());
+    }
+}
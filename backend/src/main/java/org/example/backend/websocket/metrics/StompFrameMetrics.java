@@ -0,0 +1,128 @@
+package org.example.backend.websocket.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 프레임 수 기록
+ *
+ * - stomp.frames{direction=in|out, type}: 전체 프레임 수
+ * - stomp.session.frames{direction}: 세션이 끊길 때 해당 세션에서 주고받은 프레임 수 분포
+ * - stomp.sessions.active: 프레임 수를 집계 중인 세션 수
+ * 세션 ID 를 태그로 쓰면 지표 수가 끝없이 늘어나므로, 세션별 값은 분포로만 기록합니다.
+ */
+@Component
+public class StompFrameMetrics {
+
+    private final Map<SimpMessageType, Counter> inboundCounters = new EnumMap<>(SimpMessageType.class);
+    private final Map<SimpMessageType, Counter> outboundCounters = new EnumMap<>(SimpMessageType.class);
+    private final DistributionSummary sessionInboundFrames;
+    private final DistributionSummary sessionOutboundFrames;
+
+    // 세션별 프레임 수 (index 0: 수신, 1: 발신)
+    private final Map<String, LongAdder[]> sessionFrames = new ConcurrentHashMap<>();
+
+    private final ChannelInterceptor inbound = new DirectionInterceptor(true);
+    private final ChannelInterceptor outbound = new DirectionInterceptor(false);
+
+    public StompFrameMetrics(MeterRegistry registry) {
+        for (SimpMessageType type : SimpMessageType.values()) {
+            inboundCounters.put(type, frameCounter(registry, "in", type));
+            outboundCounters.put(type, frameCounter(registry, "out", type));
+        }
+        this.sessionInboundFrames = sessionSummary(registry, "in");
+        this.sessionOutboundFrames = sessionSummary(registry, "out");
+        Gauge.builder("stomp.sessions.active", sessionFrames, Map::size)
+                .description("프레임 수를 집계 중인 STOMP 세션 수")
+                .register(registry);
+    }
+
+    /**
+     * clientInboundChannel 에 등록할 인터셉터
+     */
+    public ChannelInterceptor inbound() {
+        return inbound;
+    }
+
+    /**
+     * clientOutboundChannel 에 등록할 인터셉터
+     */
+    public ChannelInterceptor outbound() {
+        return outbound;
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        LongAdder[] counts = sessionFrames.remove(event.getSessionId());
+        if (counts != null) {
+            sessionInboundFrames.record(counts[0].sum());
+            sessionOutboundFrames.record(counts[1].sum());
+        }
+    }
+
+    private void record(MessageHeaders headers, boolean in) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (type == null) {
+            return;
+        }
+        (in ? inboundCounters : outboundCounters).get(type).increment();
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) {
+            return;
+        }
+        // 연결이 끊긴 뒤 도착한 발신 프레임(DISCONNECT_ACK 등)으로 세션 항목이 다시 생기지 않도록 함
+        LongAdder[] counts = type == SimpMessageType.CONNECT
+                ? sessionFrames.computeIfAbsent(sessionId, key -> new LongAdder[]{new LongAdder(), new LongAdder()})
+                : sessionFrames.get(sessionId);
+        if (counts != null) {
+            counts[in ? 0 : 1].increment();
+        }
+    }
+
+    private static Counter frameCounter(MeterRegistry registry, String direction, SimpMessageType type) {
+        return Counter.builder("stomp.frames")
+                .description("STOMP 프레임 수")
+                .tag("direction", direction)
+                .tag("type", type.name())
+                .register(registry);
+    }
+
+    private static DistributionSummary sessionSummary(MeterRegistry registry, String direction) {
+        return DistributionSummary.builder("stomp.session.frames")
+                .description("세션당 STOMP 프레임 수")
+                .tag("direction", direction)
+                .register(registry);
+    }
+
+    private class DirectionInterceptor implements ChannelInterceptor {
+
+        private final boolean in;
+
+        DirectionInterceptor(boolean in) {
+            this.in = in;
+        }
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            record(message.getHeaders(), in);
+            return message;
+        }
+    }
+}
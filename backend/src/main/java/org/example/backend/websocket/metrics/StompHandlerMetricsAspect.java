@@ -0,0 +1,70 @@
+package org.example.backend.websocket.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @MessageMapping 처리 시간 기록 (stomp.handler)
+ *
+ * destination 태그에는 실제 채널 ID 가 아닌 매핑 패턴(/{channel_id}/chat 등)을 사용해 태그 수가 늘어나지 않도록 합니다.
+ */
+@Aspect
+@Component
+public class StompHandlerMetricsAspect {
+
+    private final MeterRegistry registry;
+
+    // 메서드별 타이머 (요청마다 타이머를 조회하지 않도록 보관)
+    private final Map<Method, HandlerTimers> timers = new ConcurrentHashMap<>();
+
+    public StompHandlerMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@annotation(messageMapping)")
+    public Object time(ProceedingJoinPoint joinPoint, MessageMapping messageMapping) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        HandlerTimers handlerTimers = timers.computeIfAbsent(method, key -> createTimers(key, messageMapping));
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            handlerTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            handlerTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private HandlerTimers createTimers(Method method, MessageMapping messageMapping) {
+        String destination = String.join(",", messageMapping.value());
+        String handler = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new HandlerTimers(
+                buildTimer(destination, handler, "success"),
+                buildTimer(destination, handler, "error"));
+    }
+
+    private Timer buildTimer(String destination, String handler, String outcome) {
+        return Timer.builder("stomp.handler")
+                .description("@MessageMapping 처리 시간")
+                .tag("destination", destination)
+                .tag("handler", handler)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record HandlerTimers(Timer success, Timer error) {
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.backend.websocket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상담 채팅 기록 (참여자 정보 + 메시지 목록)
+ * JSON 직렬화 형태는 기존 counsel:{id}:summary 값과 동일합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatTranscript {
+    private Long userId;
+    private Long counselorId;
+    private Long channelId;
+    private List<Map<String, String>> messages; // role, content, currentTime
+}
@@ -0,0 +1,16 @@
+package org.example.backend.websocket.model;
+
+/**
+ * 상담 종료 후 요약 작업 단계 (순서대로 실행, 재시도 시 실패한 단계부터 다시 실행)
+ */
+public enum SummaryJobStage {
+    EXPORT,     // 채팅 기록 S3 업로드 (JSON 원본 + 텍스트)
+    SAVE_LOG,   // 상담 로그 DB 저장
+    SUMMARIZE,  // LLM 요약 요청 및 저장
+    CLEANUP,    // Redis 채팅 기록 삭제
+    DONE;
+
+    public SummaryJobStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.backend.websocket.model;
+
+/**
+ * 요약 작업 상태
+ */
+public enum SummaryJobStatus {
+    QUEUED,     // 대기열에서 대기 중
+    RUNNING,    // 작업자가 처리 중
+    RETRYING,   // 실패 후 재시도 대기 중
+    COMPLETED,  // 모든 단계 완료
+    FAILED      // 재시도 횟수 초과 또는 재시도 불가 오류
+}
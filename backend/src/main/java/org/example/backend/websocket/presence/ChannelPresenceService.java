@@ -0,0 +1,383 @@
+package org.example.backend.websocket.presence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채널 접속자 관리
+ *
+ * - channel:{channelId}:members                     : 접속자 ID (ZSET, score = 마지막 확인 시각)
+ * - channel:{channelId}:member:{memberId}:sessions  : 접속자가 입장에 사용한 STOMP 세션 ID (SET, member-ttl 후 만료)
+ * - presence:channels                               : 접속자가 있는 채널 ID (SET, 정리 작업 대상)
+ * 입장/퇴장/정원 확인은 Lua 스크립트로 한 번에 처리하고,
+ * STOMP 세션 종료(DISCONNECT) 시에는 ChannelWsService 가 해당 세션의 입장 기록을 퇴장 처리합니다.
+ * 같은 사용자가 여러 세션(탭)으로 입장했다면 마지막 세션이 끊길 때 퇴장합니다.
+ * 이 서버의 STOMP 세션에 연결된 접속자는 heartbeat-interval 마다 마지막 확인 시각을 갱신합니다.
+ * 서버가 종료되어 갱신이 멈춘 접속자는 member-ttl 이 지나면 PresenceSweeper 가 제거합니다.
+ * 세션 없이 입장한 접속자(상담사가 대신 입장시킨 사용자)는 갱신되지 않으므로 detached-member-ttl 동안 유지됩니다.
+ */
+@Service
+public class ChannelPresenceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelPresenceService.class);
+
+    public static final String CHANNEL_INDEX_KEY = "presence:channels";
+
+    // 만료된 접속자 정리 → 정원 확인 → 입장 (이미 입장한 사용자는 시각만 갱신) → 세션 기록
+    // 반환: 입장 후 인원, 정원 초과면 -1
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) " +
+            "if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then " +
+            "  local capacity = tonumber(ARGV[4]) " +
+            "  if capacity > 0 and redis.call('ZCARD', KEYS[1]) >= capacity then return -1 end " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('SADD', KEYS[2], ARGV[5]) " +
+            "if ARGV[6] ~= '' then " +
+            "  redis.call('SADD', KEYS[3], ARGV[6]) " +
+            "  redis.call('PEXPIRE', KEYS[3], ARGV[7]) " +
+            "end " +
+            "return redis.call('ZCARD', KEYS[1])",
+            Long.class);
+
+    // 세션 하나가 나간 경우 같은 사용자의 다른 세션이 남아 있으면 퇴장하지 않음 (ARGV[3] 이 비어 있으면 바로 퇴장)
+    // 퇴장 후 남은 인원 반환, 마지막 사용자가 나가면 키와 색인 정리
+    // 반환: {퇴장 처리 여부(1/0), 남은 인원}
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List> LEAVE_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[3] ~= '' then " +
+            "  redis.call('SREM', KEYS[3], ARGV[3]) " +
+            "  if redis.call('SCARD', KEYS[3]) > 0 then return {0, redis.call('ZCARD', KEYS[1])} end " +
+            "end " +
+            "redis.call('DEL', KEYS[3]) " +
+            "local removed = redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "local remaining = redis.call('ZCARD', KEYS[1]) " +
+            "if remaining == 0 then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[2], ARGV[2]) " +
+            "end " +
+            "return {removed, remaining}",
+            List.class);
+
+    // 마지막 확인 시각이 오래된 접속자 제거, 비었으면 키와 색인 정리
+    // 반환: {제거한 인원, 남은 인원}
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List> SWEEP_SCRIPT = new DefaultRedisScript<>(
+            "local removed = redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "local remaining = redis.call('ZCARD', KEYS[1]) " +
+            "if remaining == 0 then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[2], ARGV[2]) " +
+            "end " +
+            "return {removed, remaining}",
+            List.class);
+
+    // 이전 버전의 접속자 키 (SET, 세션 정보 없음)
+    private static final String LEGACY_MEMBERS_KEY_PATTERN = "channel:*:users";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration memberTtl;
+    private final Duration detachedMemberTtl;
+
+    // 이 서버의 STOMP 세션별 입장 정보 (sessionId -> 입장한 채널/사용자)
+    private final Map<String, Set<Membership>> sessionMemberships = new ConcurrentHashMap<>();
+
+    public ChannelPresenceService(StringRedisTemplate redisTemplate,
+                                  @Value("${presence.member-ttl-seconds:60}") long memberTtlSeconds,
+                                  @Value("${presence.detached-member-ttl-seconds:10800}") long detachedMemberTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.memberTtl = Duration.ofSeconds(memberTtlSeconds);
+        this.detachedMemberTtl = Duration.ofSeconds(detachedMemberTtlSeconds);
+    }
+
+    /**
+     * 이전 버전이 남긴 키 정리
+     * - channel:{id}:users (SET) 는 세션 정보가 없어 옮길 수 없으므로 삭제 (접속 중인 사용자는 다시 입장하면 members 에 기록됨)
+     * - 세션 없이 입장해 만료되지 않던(score = +inf) 접속자는 지금부터 detached-member-ttl 뒤에 만료되도록 변경
+     * 모든 서버가 실행해도 결과가 같습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyKeys() {
+        try {
+            long deleted = 0;
+            List<String> batch = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(LEGACY_MEMBERS_KEY_PATTERN).count(500).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= 500) {
+                        deleted += deleteKeys(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            deleted += deleteKeys(batch);
+
+            long expiring = 0;
+            Set<String> channelIds = redisTemplate.opsForSet().members(CHANNEL_INDEX_KEY);
+            double score = detachedScore(System.currentTimeMillis());
+            for (String channelId : channelIds != null ? channelIds : Set.<String>of()) {
+                String key = getMembersKey(Long.valueOf(channelId));
+                Set<String> unbounded = redisTemplate.opsForZSet()
+                        .rangeByScore(key, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+                for (String memberId : unbounded != null ? unbounded : Set.<String>of()) {
+                    // 그 사이 퇴장한 접속자는 다시 추가하지 않음 (ZADD XX)
+                    redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.zSetCommands().zAdd(
+                            key.getBytes(StandardCharsets.UTF_8), score, memberId.getBytes(StandardCharsets.UTF_8),
+                            RedisZSetCommands.ZAddArgs.ifExists()));
+                    expiring++;
+                }
+            }
+
+            if (deleted > 0 || expiring > 0) {
+                logger.info("이전 접속자 키 정리 완료: users 키 {}개 삭제, 만료 시각 없는 접속자 {}명 변경", deleted, expiring);
+            }
+        } catch (Exception e) {
+            logger.error("이전 접속자 키 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채널 입장
+     *
+     * @param channelId 채널 ID
+     * @param memberId 사용자 ID (상담 채널의 상담사는 상담사 ID)
+     * @param capacity 정원, 0 이하면 제한 없음
+     * @param sessionId 입장한 사용자의 STOMP 세션 ID
+     *                  null 이면 (상담사가 대신 입장시킨 사용자 등) 퇴장 요청이 없어도 detached-member-ttl 뒤에 제거됨
+     * @return 입장 후 인원, 정원이 찼으면 -1
+     */
+    public long join(Long channelId, Long memberId, int capacity, String sessionId) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(JOIN_SCRIPT,
+                List.of(getMembersKey(channelId), CHANNEL_INDEX_KEY, getSessionsKey(channelId, memberId)),
+                memberId.toString(),
+                String.valueOf(sessionId != null ? now : (long) detachedScore(now)),
+                String.valueOf(now - memberTtl.toMillis()),
+                String.valueOf(capacity),
+                channelId.toString(),
+                sessionId != null ? sessionId : "",
+                String.valueOf(memberTtl.toMillis()));
+
+        long memberCount = result != null ? result : -1;
+        if (memberCount >= 0 && sessionId != null) {
+            sessionMemberships.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet())
+                    .add(new Membership(channelId, memberId));
+        }
+        return memberCount;
+    }
+
+    /**
+     * 채널 퇴장 (사용 중인 모든 세션에서 퇴장)
+     *
+     * @return 퇴장 결과 (이 호출로 채널이 비었는지 포함)
+     */
+    public LeaveResult leave(Long channelId, Long memberId) {
+        return leave(channelId, memberId, null);
+    }
+
+    /**
+     * 세션 하나의 채널 퇴장 (같은 사용자의 다른 세션이 남아 있으면 접속 상태 유지)
+     *
+     * @param sessionId 끊긴 STOMP 세션 ID, null 이면 모든 세션에서 퇴장
+     * @return 퇴장 결과 (다른 세션이 남아 있으면 removed = false)
+     */
+    public LeaveResult leave(Long channelId, Long memberId, String sessionId) {
+        forgetMembership(channelId, memberId, sessionId);
+        List<?> result = redisTemplate.execute(LEAVE_SCRIPT,
+                List.of(getMembersKey(channelId), CHANNEL_INDEX_KEY, getSessionsKey(channelId, memberId)),
+                memberId.toString(), channelId.toString(), sessionId != null ? sessionId : "");
+        return toLeaveResult(channelId, result);
+    }
+
+    /**
+     * 채널의 모든 접속자 제거 (상담 종료 등)
+     */
+    public void clear(Long channelId) {
+        sessionMemberships.values().forEach(memberships ->
+                memberships.removeIf(membership -> membership.channelId().equals(channelId)));
+        List<String> keys = new ArrayList<>();
+        keys.add(getMembersKey(channelId));
+        Set<String> memberIds = getMembers(channelId);
+        if (memberIds != null) {
+            memberIds.forEach(memberId -> keys.add(getSessionsKey(channelId, Long.valueOf(memberId))));
+        }
+        redisTemplate.delete(keys);
+        redisTemplate.opsForSet().remove(CHANNEL_INDEX_KEY, channelId.toString());
+    }
+
+    /**
+     * STOMP 세션 종료 시 해당 세션으로 입장한 채널 목록을 반환하고 세션 정보 제거
+     * (퇴장 처리는 호출한 쪽에서 leave 로 수행)
+     */
+    public Set<Membership> removeSession(String sessionId) {
+        Set<Membership> memberships = sessionMemberships.remove(sessionId);
+        return memberships != null ? memberships : Set.of();
+    }
+
+    /**
+     * 채널 접속자 ID 목록
+     */
+    public Set<String> getMembers(Long channelId) {
+        return redisTemplate.opsForZSet().range(getMembersKey(channelId), 0, -1);
+    }
+
+    /**
+     * 여러 채널의 접속 인원을 파이프라인 한 번으로 조회 (입력 순서와 같은 순서)
+     */
+    public List<Integer> countMembers(List<Long> channelIds) {
+        if (channelIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long channelId : channelIds) {
+                connection.zSetCommands().zCard(getMembersKey(channelId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        List<Integer> counts = new ArrayList<>(results.size());
+        for (Object result : results) {
+            counts.add(result instanceof Long count ? count.intValue() : 0);
+        }
+        return counts;
+    }
+
+    /**
+     * 마지막 확인 시각이 오래된 접속자 제거 (PresenceSweeper 에서 채널별로 호출)
+     */
+    public SweepResult sweep(Long channelId) {
+        long cutoff = System.currentTimeMillis() - memberTtl.toMillis();
+        List<?> result = redisTemplate.execute(SWEEP_SCRIPT,
+                List.of(getMembersKey(channelId), CHANNEL_INDEX_KEY),
+                String.valueOf(cutoff), channelId.toString());
+        if (result == null || result.size() < 2) {
+            return new SweepResult(channelId, 0, 0);
+        }
+        return new SweepResult(channelId, toLong(result.get(0)), toLong(result.get(1)));
+    }
+
+    /**
+     * 이 서버의 세션에 연결된 접속자의 마지막 확인 시각과 세션 기록 만료 시간 갱신
+     * 이미 퇴장 처리된 접속자는 다시 추가하지 않음 (ZADD XX)
+     */
+    @Scheduled(fixedDelayString = "${presence.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (sessionMemberships.isEmpty()) {
+            return;
+        }
+        double now = System.currentTimeMillis();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Set<Membership> memberships : sessionMemberships.values()) {
+                    for (Membership membership : memberships) {
+                        connection.zSetCommands().zAdd(
+                                getMembersKey(membership.channelId()).getBytes(StandardCharsets.UTF_8),
+                                now,
+                                membership.memberId().toString().getBytes(StandardCharsets.UTF_8),
+                                RedisZSetCommands.ZAddArgs.ifExists());
+                        connection.keyCommands().pExpire(
+                                getSessionsKey(membership.channelId(), membership.memberId()).getBytes(StandardCharsets.UTF_8),
+                                memberTtl.toMillis());
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.error("접속자 확인 시각 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void forgetMembership(Long channelId, Long memberId, String sessionId) {
+        Membership membership = new Membership(channelId, memberId);
+        if (sessionId != null) {
+            Set<Membership> memberships = sessionMemberships.get(sessionId);
+            if (memberships != null) {
+                memberships.remove(membership);
+            }
+        } else {
+            sessionMemberships.values().forEach(memberships -> memberships.remove(membership));
+        }
+        sessionMemberships.values().removeIf(Set::isEmpty);
+    }
+
+    // 세션 없는 접속자는 detached-member-ttl 뒤에 member-ttl 기준으로 만료되도록 그만큼 뒤의 시각으로 기록
+    private double detachedScore(long now) {
+        return now + detachedMemberTtl.toMillis() - memberTtl.toMillis();
+    }
+
+    private long deleteKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(keys);
+        return deleted != null ? deleted : 0;
+    }
+
+    private LeaveResult toLeaveResult(Long channelId, List<?> result) {
+        if (result == null || result.size() < 2) {
+            return new LeaveResult(channelId, false, 0);
+        }
+        return new LeaveResult(channelId, toLong(result.get(0)) == 1, toLong(result.get(1)));
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    private String getMembersKey(Long channelId) {
+        return "channel:" + channelId + ":members";
+    }
+
+    private String getSessionsKey(Long channelId, Long memberId) {
+        return "channel:" + channelId + ":member:" + memberId + ":sessions";
+    }
+
+    /**
+     * 세션별 입장 정보
+     */
+    public record Membership(Long channelId, Long memberId) {
+    }
+
+    /**
+     * @param removed 이 호출로 퇴장 처리되었는지 (이미 퇴장한 사용자면 false)
+     * @param remaining 남은 인원
+     */
+    public record LeaveResult(Long channelId, boolean removed, long remaining) {
+
+        // 이 호출로 마지막 사용자가 나가 채널이 비었는지 (채널 삭제는 이 경우 한 번만 수행)
+        public boolean emptied() {
+            return removed && remaining == 0;
+        }
+    }
+
+    /**
+     * @param removed 제거한 접속자 수
+     * @param remaining 남은 인원
+     */
+    public record SweepResult(Long channelId, long removed, long remaining) {
+
+        public boolean emptied() {
+            return removed > 0 && remaining == 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.backend.websocket.presence;
+
+import org.example.backend.websocket.service.ChannelWsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오래된 접속자와 빈 채널 정리
+ *
+ * presence:channels 를 batch-size 단위로 훑으며 마지막 확인 시각이 member-ttl 보다 오래된 접속자를 제거합니다.
+ * 채널별 정리는 Lua 스크립트 한 번으로 끝나고, 비게 된 채널은 그 스크립트를 실행한 서버 한 곳에서만 보고되므로
+ * 여러 서버가 동시에 실행해도 채널이 두 번 삭제되지 않습니다.
+ */
+@Component
+public class PresenceSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresenceSweeper.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChannelPresenceService presenceService;
+    private final ChannelWsService channelWsService;
+    private final int batchSize;
+
+    public PresenceSweeper(StringRedisTemplate redisTemplate,
+                           ChannelPresenceService presenceService,
+                           ChannelWsService channelWsService,
+                           @Value("${presence.sweep-batch-size:100}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.presenceService = presenceService;
+        this.channelWsService = channelWsService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${presence.sweep-interval-ms:30000}",
+            initialDelayString = "${presence.sweep-interval-ms:30000}")
+    public void sweep() {
+        int reapedMembers = 0;
+        int emptiedChannels = 0;
+        List<Long> batch = new ArrayList<>(batchSize);
+
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(ChannelPresenceService.CHANNEL_INDEX_KEY, options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.parseLong(cursor.next()));
+                if (batch.size() >= batchSize) {
+                    int[] counts = sweepBatch(batch);
+                    reapedMembers += counts[0];
+                    emptiedChannels += counts[1];
+                    batch.clear();
+                }
+            }
+            int[] counts = sweepBatch(batch);
+            reapedMembers += counts[0];
+            emptiedChannels += counts[1];
+        } catch (Exception e) {
+            logger.error("접속자 정리 실패: {}", e.getMessage());
+        }
+
+        if (reapedMembers > 0) {
+            logger.info("접속자 정리 완료: 제거 {}명, 빈 채널 {}개", reapedMembers, emptiedChannels);
+        }
+    }
+
+    /**
+     * @return {제거한 접속자 수, 비게 된 채널 수}
+     */
+    private int[] sweepBatch(List<Long> channelIds) {
+        int reapedMembers = 0;
+        int emptiedChannels = 0;
+        for (Long channelId : channelIds) {
+            ChannelPresenceService.SweepResult result = presenceService.sweep(channelId);
+            if (result.removed() == 0) {
+                continue;
+            }
+            reapedMembers += (int) result.removed();
+            if (result.emptied()) {
+                emptiedChannels++;
+            }
+            try {
+                channelWsService.handleMembersChanged(channelId, result.remaining(), result.emptied());
+            } catch (Exception e) {
+                logger.error("빈 채널 정리 실패: channelId={}, {}", channelId, e.getMessage());
+            }
+        }
+        return new int[]{reapedMembers, emptiedChannels};
+    }
+}
@@ -3,11 +3,13 @@ package org.example.backend.websocket.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.example.backend.websocket.presence.ChannelPresenceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -15,8 +17,9 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ChannelChatRecrodService {
     private static final Logger logger = LoggerFactory.getLogger(ChannelChatRecrodService.class);
-    private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ChatTranscriptStore chatTranscriptStore;
+    private final ChannelPresenceService channelPresenceService;
 
     /**
      * 상담 시작 시 새로운 채팅 요약 초기화
@@ -34,21 +37,8 @@ public class ChannelChatRecrodService {
         }
 
         // 요약 데이터 생성
-        Map<String, Object> summaryData = new HashMap<>();
-        summaryData.put("userId", userId);
-        summaryData.put("counselorId", counselorId);
-        summaryData.put("channelId", channelId);
-        summaryData.put("messages", new ArrayList<Map<String, String>>());
-
-        try {
-            // JSON 문자열로 변환하여 Redis에 저장
-            String summaryJson = objectMapper.writeValueAsString(summaryData);
-            String summaryKey = getSummaryKey(channelId);
-            redisTemplate.opsForValue().set(summaryKey, summaryJson);
-            logger.info("상담 요약이 초기화되었습니다: channelId={}", channelId);
-        } catch (JsonProcessingException e) {
-            logger.error("상담 요약 초기화 중 오류 발생: {}", e.getMessage());
-        }
+        chatTranscriptStore.initialize(channelId, userId, counselorId);
+        logger.info("상담 요약이 초기화되었습니다: channelId={}", channelId);
     }
 
     /**
@@ -58,33 +48,11 @@ public class ChannelChatRecrodService {
      * @param content 메시지 내용
      */
     public void addMessageToSummary(Long channelId, String role, String content, LocalDateTime currentTime) {
-        String summaryKey = getSummaryKey(channelId);
-        String summaryJson = redisTemplate.opsForValue().get(summaryKey);
-
-        if (summaryJson == null) {
+        if (!chatTranscriptStore.append(channelId, role, content, currentTime)) {
             logger.warn("채팅 요약을 찾을 수 없습니다: channelId={}", channelId);
             return;
         }
-
-        try {
-            // 기존 요약 데이터 가져오기
-            Map<String, Object> summaryData = objectMapper.readValue(summaryJson, Map.class);
-            List<Map<String, String>> messages = (List<Map<String, String>>) summaryData.get("messages");
-
-            // 새 메시지 추가
-            Map<String, String> newMessage = new HashMap<>();
-            newMessage.put("role", role);
-            newMessage.put("content", content);
-            newMessage.put("currentTime", currentTime.toString());
-            messages.add(newMessage);
-
-            // 업데이트된 요약 저장
-            summaryJson = objectMapper.writeValueAsString(summaryData);
-            redisTemplate.opsForValue().set(summaryKey, summaryJson);
-            logger.debug("메시지가 상담 요약에 추가되었습니다: channelId={}, role={}", channelId, role);
-        } catch (JsonProcessingException e) {
-            logger.error("메시지 추가 중 오류 발생: {}", e.getMessage());
-        }
+        logger.debug("메시지가 상담 요약에 추가되었습니다: channelId={}, role={}", channelId, role);
     }
 
     /**
@@ -94,8 +62,7 @@ public class ChannelChatRecrodService {
      */
     private Map<String, Long> getChannelParticipants(Long channelId) {
         Map<String, Long> participants = new HashMap<>();
-        String channelKey = "channel:" + channelId + ":users";
-        Set<String> members = redisTemplate.opsForSet().members(channelKey);
+        Set<String> members = channelPresenceService.getMembers(channelId);
 
         if (members == null || members.isEmpty()) {
             logger.warn("채널에 참여자가 없습니다: channelId={}", channelId);
@@ -118,19 +85,44 @@ public class ChannelChatRecrodService {
     /**
      * 요약 데이터 가져오기
      * @param channelId 채널 ID
-     * @return 요약 데이터 (JSON 문자열)
+     * @return 요약 데이터 (JSON 문자열), 없으면 null
      */
     public String getChatSummary(Long channelId) {
-        String summaryKey = getSummaryKey(channelId);
-        return redisTemplate.opsForValue().get(summaryKey);
+        ChatTranscript transcript = chatTranscriptStore.load(channelId);
+        if (transcript == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(transcript);
+        } catch (JsonProcessingException e) {
+            logger.error("요약 데이터 변환 중 오류 발생: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 요약 데이터 가져오기
+     * @param channelId 채널 ID
+     * @return 참여자 정보와 메시지 목록, 없으면 null
+     */
+    public ChatTranscript getTranscript(Long channelId) {
+        return chatTranscriptStore.load(channelId);
+    }
+
+    /**
+     * 요약 데이터 삭제
+     * @param channelId 채널 ID
+     */
+    public void deleteChatSummary(Long channelId) {
+        chatTranscriptStore.delete(channelId);
     }
 
     /**
-     * 요약 키 생성
+     * 요약 데이터를 ttl 뒤에 삭제되도록 설정
      * @param channelId 채널 ID
-     * @return Redis 요약 키
      */
-    private String getSummaryKey(Long channelId) {
-        return "counsel:" + channelId + ":summary";
+    public void expireChatSummary(Long channelId, Duration ttl) {
+        chatTranscriptStore.expire(channelId, ttl);
     }
-}
\ No newline at end of file
+}
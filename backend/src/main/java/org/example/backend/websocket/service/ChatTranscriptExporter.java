@@ -0,0 +1,124 @@
+package org.example.backend.websocket.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.auth.service.UserInfoService;
+import org.example.backend.s3.S3UploadStream;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 상담 채팅 기록을 S3 로 내보내기 (JSON 원본 + 관리자/상담사 다운로드용 텍스트)
+ *
+ * 저장소의 메시지를 한 번만 순회하면서 두 객체를 동시에 S3 로 스트리밍합니다.
+ * 임시 파일이나 전체 기록 문자열을 만들지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatTranscriptExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatTranscriptExporter.class);
+
+    private static final String CONTENT_TYPE = "text/plain; charset=UTF-8";
+
+    private final ChatTranscriptStore chatTranscriptStore;
+    private final S3Uploader s3Uploader;
+    private final UserInfoService userInfoService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 채팅 기록 내보내기
+     * @param channelId 채널 ID
+     * @return 업로드된 객체 키와 참여자 정보, 채팅 기록이 없으면 null
+     */
+    public ExportedTranscript export(Long channelId) throws IOException {
+        ChatTranscript meta = chatTranscriptStore.loadMetadata(channelId);
+        if (meta == null) {
+            return null;
+        }
+
+        Long userId = meta.getUserId();
+        Long counselorId = meta.getCounselorId();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH-mm-ss"));
+        String jsonKey = String.format("summarylogs/json/counselor_%d_user_%d_%s.json.txt", counselorId, userId, timestamp);
+        String textKey = String.format("summarylogs/text/counselor_%d_user_%d_%s.txt", counselorId, userId, timestamp);
+
+        String userName = userInfoService.getUserNameById(userId);
+        String counselorName = userInfoService.getCounselorNameById(counselorId);
+
+        S3UploadStream jsonOut = s3Uploader.openUploadStream(jsonKey, CONTENT_TYPE, false);
+        S3UploadStream textOut = s3Uploader.openUploadStream(textKey, CONTENT_TYPE, false);
+        boolean jsonUploaded = false;
+        try {
+            JsonGenerator json = objectMapper.getFactory().createGenerator(jsonOut, JsonEncoding.UTF8);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Writer text = new OutputStreamWriter(textOut, StandardCharsets.UTF_8);
+
+            // ChatTranscript 를 ObjectMapper 로 직렬화한 것과 같은 형식
+            json.writeStartObject();
+            json.writeObjectField("userId", userId);
+            json.writeObjectField("counselorId", counselorId);
+            json.writeObjectField("channelId", meta.getChannelId());
+            json.writeArrayFieldStart("messages");
+            text.write("채팅 내역:\n\n");
+
+            chatTranscriptStore.forEachMessage(channelId, message -> {
+                try {
+                    json.writeObject(message);
+                    String role = "ROLE_USER".equals(message.get("role")) ? userName : counselorName;
+                    text.write(String.format("[%s] %s\n", role, message.get("content")));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            json.writeEndArray();
+            json.writeEndObject();
+            json.close();
+            text.flush();
+
+            jsonOut.close();
+            jsonUploaded = true;
+            logger.info("JSON 요약 데이터 S3 업로드 완료: {}", jsonKey);
+            textOut.close();
+            logger.info("포맷된 텍스트 요약 S3 업로드 완료: {}", textKey);
+        } catch (IOException | RuntimeException e) {
+            jsonOut.abort();
+            textOut.abort();
+            // 재시도하면 새 키로 다시 올리므로 먼저 올라간 JSON 은 삭제
+            if (jsonUploaded) {
+                deleteQuietly(jsonKey);
+            }
+            throw e;
+        }
+
+        return new ExportedTranscript(userId, counselorId, jsonKey, textKey);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Uploader.deleteFile(key);
+        } catch (RuntimeException e) {
+            logger.error("업로드에 실패한 채팅 기록의 JSON 삭제 실패: {}, {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 내보낸 채팅 기록 정보
+     */
+    public record ExportedTranscript(Long userId, Long counselorId, String jsonKey, String textKey) {
+    }
+}
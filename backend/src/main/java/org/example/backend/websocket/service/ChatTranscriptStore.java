@@ -0,0 +1,64 @@
+package org.example.backend.websocket.service;
+
+import org.example.backend.websocket.model.ChatTranscript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 상담 채팅 기록 저장소
+ * chat.transcript.store 설정값(stream, json)에 따라 구현체가 선택됩니다.
+ */
+public interface ChatTranscriptStore {
+
+    /**
+     * 상담 시작 시 빈 채팅 기록 생성 (기존 기록은 초기화)
+     */
+    void initialize(Long channelId, Long userId, Long counselorId);
+
+    /**
+     * 채팅 메시지 한 건 추가
+     * @return 채팅 기록이 없어 추가하지 못한 경우 false
+     */
+    boolean append(Long channelId, String role, String content, LocalDateTime currentTime);
+
+    /**
+     * 참여자 정보만 조회 (messages 는 null)
+     * @return 채팅 기록이 없으면 null
+     */
+    ChatTranscript loadMetadata(Long channelId);
+
+    /**
+     * 저장된 순서대로 메시지를 하나씩 전달 (전체 목록을 메모리에 올리지 않음)
+     */
+    void forEachMessage(Long channelId, Consumer<Map<String, String>> consumer);
+
+    /**
+     * 채팅 기록 삭제
+     */
+    void delete(Long channelId);
+
+    /**
+     * 채팅 기록을 ttl 뒤에 삭제되도록 설정 (요약 작업이 최종 실패한 경우, 확인할 시간을 두고 정리)
+     */
+    void expire(Long channelId, Duration ttl);
+
+    /**
+     * 참여자 정보와 전체 메시지 조회
+     * @return 채팅 기록이 없으면 null
+     */
+    default ChatTranscript load(Long channelId) {
+        ChatTranscript transcript = loadMetadata(channelId);
+        if (transcript == null) {
+            return null;
+        }
+        List<Map<String, String>> messages = new ArrayList<>();
+        forEachMessage(channelId, messages::add);
+        transcript.setMessages(messages);
+        return transcript;
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.backend.websocket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 기존 방식의 채팅 기록 저장소 (chat.transcript.store=json)
+ * counsel:{id}:summary 키에 전체 기록을 JSON 문자열 하나로 저장하므로,
+ * 메시지를 추가할 때마다 전체를 읽고 다시 써야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.transcript.store", havingValue = "json")
+public class RedisJsonChatTranscriptStore implements ChatTranscriptStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisJsonChatTranscriptStore.class);
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void initialize(Long channelId, Long userId, Long counselorId) {
+        ChatTranscript transcript = ChatTranscript.builder()
+                .userId(userId)
+                .counselorId(counselorId)
+                .channelId(channelId)
+                .messages(new ArrayList<>())
+                .build();
+        write(channelId, transcript);
+    }
+
+    @Override
+    public boolean append(Long channelId, String role, String content, LocalDateTime currentTime) {
+        ChatTranscript transcript = read(channelId);
+        if (transcript == null) {
+            return false;
+        }
+
+        Map<String, String> newMessage = new HashMap<>();
+        newMessage.put("role", role);
+        newMessage.put("content", content);
+        newMessage.put("currentTime", currentTime != null ? currentTime.toString() : null);
+        transcript.getMessages().add(newMessage);
+
+        return write(channelId, transcript);
+    }
+
+    @Override
+    public ChatTranscript loadMetadata(Long channelId) {
+        ChatTranscript transcript = read(channelId);
+        if (transcript != null) {
+            transcript.setMessages(null);
+        }
+        return transcript;
+    }
+
+    @Override
+    public void forEachMessage(Long channelId, Consumer<Map<String, String>> consumer) {
+        ChatTranscript transcript = read(channelId);
+        if (transcript != null && transcript.getMessages() != null) {
+            transcript.getMessages().forEach(consumer);
+        }
+    }
+
+    @Override
+    public ChatTranscript load(Long channelId) {
+        return read(channelId);
+    }
+
+    @Override
+    public void delete(Long channelId) {
+        redisTemplate.delete(getSummaryKey(channelId));
+    }
+
+    @Override
+    public void expire(Long channelId, Duration ttl) {
+        redisTemplate.expire(getSummaryKey(channelId), ttl);
+    }
+
+    private ChatTranscript read(Long channelId) {
+        String summaryJson = redisTemplate.opsForValue().get(getSummaryKey(channelId));
+        if (summaryJson == null) {
+            return null;
+        }
+        try {
+            ChatTranscript transcript = objectMapper.readValue(summaryJson, ChatTranscript.class);
+            if (transcript.getMessages() == null) {
+                transcript.setMessages(new ArrayList<>());
+            }
+            return transcript;
+        } catch (JsonProcessingException e) {
+            logger.error("채팅 기록 파싱 중 오류 발생: channelId={}, {}", channelId, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean write(Long channelId, ChatTranscript transcript) {
+        try {
+            redisTemplate.opsForValue().set(getSummaryKey(channelId), objectMapper.writeValueAsString(transcript));
+            return true;
+        } catch (JsonProcessingException e) {
+            logger.error("채팅 기록 저장 중 오류 발생: channelId={}, {}", channelId, e.getMessage());
+            return false;
+        }
+    }
+
+    private String getSummaryKey(Long channelId) {
+        return "counsel:" + channelId + ":summary";
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.backend.websocket.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Redis Stream 기반 채팅 기록 저장소 (chat.transcript.store=stream, 기본값)
+ * 메시지는 counsel:{id}:transcript 스트림에 XADD 로 한 건씩 추가되고,
+ * 참여자 정보는 counsel:{id}:meta 해시에 따로 저장됩니다.
+ * 메시지 추가 비용이 기록 길이와 무관하게 일정하며, 동시에 추가해도 유실되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.transcript.store", havingValue = "stream", matchIfMissing = true)
+public class RedisStreamChatTranscriptStore implements ChatTranscriptStore {
+
+    // 한 번의 XRANGE 로 읽어올 메시지 수
+    private static final int READ_BATCH_SIZE = 500;
+
+    // 상담이 초기화된 채널에만 메시지를 추가 (존재 확인 + XADD 를 한 번의 왕복으로 처리)
+    private static final RedisScript<String> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "return redis.call('XADD', KEYS[2], '*', 'role', ARGV[1], 'content', ARGV[2], 'currentTime', ARGV[3])",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void initialize(Long channelId, Long userId, Long counselorId) {
+        Map<String, String> meta = new HashMap<>();
+        meta.put("userId", userId.toString());
+        meta.put("counselorId", counselorId.toString());
+        meta.put("channelId", channelId.toString());
+
+        redisTemplate.delete(List.of(getMetaKey(channelId), getTranscriptKey(channelId)));
+        redisTemplate.opsForHash().putAll(getMetaKey(channelId), meta);
+    }
+
+    @Override
+    public boolean append(Long channelId, String role, String content, LocalDateTime currentTime) {
+        String recordId = redisTemplate.execute(APPEND_SCRIPT,
+                List.of(getMetaKey(channelId), getTranscriptKey(channelId)),
+                nullToEmpty(role),
+                nullToEmpty(content),
+                currentTime != null ? currentTime.toString() : "");
+        return recordId != null;
+    }
+
+    @Override
+    public ChatTranscript loadMetadata(Long channelId) {
+        Map<Object, Object> meta = redisTemplate.opsForHash().entries(getMetaKey(channelId));
+        if (meta.isEmpty()) {
+            return null;
+        }
+        return ChatTranscript.builder()
+                .userId(parseLong(meta.get("userId")))
+                .counselorId(parseLong(meta.get("counselorId")))
+                .channelId(channelId)
+                .build();
+    }
+
+    @Override
+    public void forEachMessage(Long channelId, Consumer<Map<String, String>> consumer) {
+        String transcriptKey = getTranscriptKey(channelId);
+        Range<String> range = Range.unbounded();
+
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                    .range(transcriptKey, range, Limit.limit().count(READ_BATCH_SIZE));
+            if (records == null || records.isEmpty()) {
+                return;
+            }
+
+            for (MapRecord<String, Object, Object> record : records) {
+                Map<String, String> message = new HashMap<>();
+                record.getValue().forEach((field, value) -> message.put(field.toString(), value.toString()));
+                consumer.accept(message);
+            }
+
+            if (records.size() < READ_BATCH_SIZE) {
+                return;
+            }
+            // 마지막으로 읽은 ID 다음부터 이어서 조회
+            String lastId = records.get(records.size() - 1).getId().getValue();
+            range = Range.rightUnbounded(Range.Bound.exclusive(lastId));
+        }
+    }
+
+    @Override
+    public void delete(Long channelId) {
+        redisTemplate.delete(List.of(getMetaKey(channelId), getTranscriptKey(channelId)));
+    }
+
+    @Override
+    public void expire(Long channelId, Duration ttl) {
+        redisTemplate.expire(getMetaKey(channelId), ttl);
+        redisTemplate.expire(getTranscriptKey(channelId), ttl);
+    }
+
+    private Long parseLong(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private String getMetaKey(Long channelId) {
+        return "counsel:" + channelId + ":meta";
+    }
+
+    private String getTranscriptKey(Long channelId) {
+        return "counsel:" + channelId + ":transcript";
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.backend.websocket.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.websocket.model.SummaryJobStage;
+import org.example.backend.websocket.model.SummaryJobStatus;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 기반 상담 요약 작업 대기열
+ *
+ * - summary:jobs            : 대기 중인 작업 ID (LIST)
+ * - summary:jobs:processing : 작업자가 가져간 작업 ID (LIST, 서버가 죽으면 visibility timeout 후 재투입)
+ * - summary:jobs:delayed    : 재시도 대기 작업 ID (ZSET, score = 재시도 시각)
+ * - summary:job:{jobId}     : 작업 정보 및 단계별 상태 (HASH)
+ * - summary:job:channel:{channelId} : 채널별 진행 중인 작업 ID (중복 요청 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class SummaryJobQueue {
+
+    private static final String QUEUE_KEY = "summary:jobs";
+    private static final String PROCESSING_KEY = "summary:jobs:processing";
+    private static final String DELAYED_KEY = "summary:jobs:delayed";
+    private static final Duration CHANNEL_LOCK_TTL = Duration.ofHours(6);
+
+    // 채널 잠금 + 작업 정보 + 대기열 추가를 한 번에 처리 (이미 진행 중인 작업이 있으면 그 ID 반환)
+    private static final RedisScript<String> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local existing = redis.call('GET', KEYS[1]) " +
+            "if existing then return existing end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "redis.call('HSET', KEYS[2], 'channelId', ARGV[3], 'stage', ARGV[4], 'status', ARGV[5], " +
+            "  'attempts', '0', 'updatedAt', ARGV[6]) " +
+            "redis.call('LPUSH', KEYS[3], ARGV[1]) " +
+            "return ARGV[1]",
+            String.class);
+
+    // 재시도 시각이 지난 작업을 대기열로 이동
+    private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, 100) " +
+            "for _, id in ipairs(ids) do " +
+            "  redis.call('ZREM', KEYS[1], id) " +
+            "  redis.call('LPUSH', KEYS[2], id) " +
+            "end " +
+            "return #ids",
+            Long.class);
+
+    // 처리 목록에 남아 있는 작업을 대기열로 되돌림
+    // (그 사이 작업자가 updatedAt 을 갱신했거나 다른 서버가 이미 되돌렸으면 아무것도 하지 않음)
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local updatedAt = redis.call('HGET', KEYS[3], 'updatedAt') " +
+            "if updatedAt and tonumber(updatedAt) > tonumber(ARGV[2]) then return 0 end " +
+            "if redis.call('LREM', KEYS[1], 1, ARGV[1]) == 1 then " +
+            "  redis.call('LPUSH', KEYS[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 작업 정보가 남아 있을 때만 updatedAt 갱신 (만료된 작업 정보를 TTL 없이 다시 만들지 않도록)
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'updatedAt', ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 요약 작업 등록
+     * 같은 채널의 작업이 이미 진행 중이면 새로 등록하지 않고 기존 작업 ID 를 반환합니다.
+     *
+     * @param channelId 채널 ID
+     * @return 작업 ID
+     */
+    public String enqueue(Long channelId) {
+        String jobId = UUID.randomUUID().toString();
+        return redisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(getChannelKey(channelId), getJobKey(jobId), QUEUE_KEY),
+                jobId,
+                String.valueOf(CHANNEL_LOCK_TTL.toSeconds()),
+                channelId.toString(),
+                SummaryJobStage.EXPORT.name(),
+                SummaryJobStatus.QUEUED.name(),
+                String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 대기열에서 작업 하나를 가져와 처리 목록으로 이동
+     * @return 작업 ID, 대기 중인 작업이 없으면 null
+     */
+    public String poll() {
+        return redisTemplate.opsForList().move(
+                QUEUE_KEY, RedisListCommands.Direction.RIGHT,
+                PROCESSING_KEY, RedisListCommands.Direction.LEFT);
+    }
+
+    /**
+     * 작업 정보 조회
+     */
+    public Map<String, String> getJob(String jobId) {
+        Map<String, String> job = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(getJobKey(jobId)).forEach(job::put);
+        return job;
+    }
+
+    /**
+     * 작업 정보 갱신 (단계, 상태, 중간 결과 등)
+     * updatedAt 도 함께 갱신되어 visibility timeout 계산에 사용됩니다.
+     */
+    public void update(String jobId, Map<String, String> fields) {
+        Map<String, String> values = new HashMap<>(fields);
+        values.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+        redisTemplate.opsForHash().putAll(getJobKey(jobId), values);
+    }
+
+    /**
+     * 처리 중인 작업의 updatedAt 갱신 (오래 걸리는 단계가 visibility timeout 으로 재투입되지 않도록)
+     * 작업 정보가 이미 만료된 작업은 건너뜁니다.
+     */
+    public void touch(Collection<String> jobIds) {
+        String now = String.valueOf(System.currentTimeMillis());
+        for (String jobId : jobIds) {
+            redisTemplate.execute(TOUCH_SCRIPT, List.of(getJobKey(jobId)), now);
+        }
+    }
+
+    /**
+     * 작업 완료 또는 최종 실패 처리 (처리 목록에서 제거, 채널 잠금 해제)
+     */
+    public void finish(String jobId, Long channelId, Duration retention) {
+        redisTemplate.opsForList().remove(PROCESSING_KEY, 1, jobId);
+        redisTemplate.delete(getChannelKey(channelId));
+        redisTemplate.expire(getJobKey(jobId), retention);
+    }
+
+    /**
+     * 작업 정보가 만료된 작업 ID 를 처리 목록에서 제거
+     */
+    public void discard(String jobId) {
+        redisTemplate.opsForList().remove(PROCESSING_KEY, 1, jobId);
+    }
+
+    /**
+     * 일정 시간 후 재시도하도록 예약
+     */
+    public void retryLater(String jobId, Duration delay) {
+        redisTemplate.opsForZSet().add(DELAYED_KEY, jobId, System.currentTimeMillis() + delay.toMillis());
+        redisTemplate.opsForList().remove(PROCESSING_KEY, 1, jobId);
+    }
+
+    /**
+     * 재시도 시각이 지난 작업을 대기열로 이동
+     * @return 이동한 작업 수
+     */
+    public long promoteDueRetries() {
+        Long moved = redisTemplate.execute(PROMOTE_SCRIPT, List.of(DELAYED_KEY, QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()));
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * 처리 중 서버가 종료되어 오래 갱신되지 않은 작업을 대기열로 되돌림
+     * @return 되돌린 작업 수
+     */
+    public int requeueStale(Duration visibilityTimeout) {
+        List<String> processing = redisTemplate.opsForList().range(PROCESSING_KEY, 0, -1);
+        if (processing == null || processing.isEmpty()) {
+            return 0;
+        }
+
+        String deadline = String.valueOf(System.currentTimeMillis() - visibilityTimeout.toMillis());
+        int requeued = 0;
+        for (String jobId : processing) {
+            Long result = redisTemplate.execute(REQUEUE_SCRIPT,
+                    List.of(PROCESSING_KEY, QUEUE_KEY, getJobKey(jobId)), jobId, deadline);
+            if (result != null && result == 1) {
+                requeued++;
+            }
+        }
+        return requeued;
+    }
+
+    private String getJobKey(String jobId) {
+        return "summary:job:" + jobId;
+    }
+
+    private String getChannelKey(Long channelId) {
+        return "summary:job:channel:" + channelId;
+    }
+}
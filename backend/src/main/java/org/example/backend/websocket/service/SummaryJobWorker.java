@@ -0,0 +1,326 @@
+package org.example.backend.websocket.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.backend.localllm.dto.request.SummaryRequest;
+import org.example.backend.localllm.service.SummaryService;
+import org.example.backend.s3.summarychatlog.service.SummaryChatLogService;
+import org.example.backend.websocket.dto.response.ChannelEventResponse;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.example.backend.websocket.model.SummaryJobStage;
+import org.example.backend.websocket.model.SummaryJobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상담 요약 작업 처리기
+ *
+ * SummaryJobQueue 에서 작업을 가져와 단계별로 실행합니다. (EXPORT → SAVE_LOG → SUMMARIZE → CLEANUP)
+ * - 단계가 끝날 때마다 Redis 에 진행 단계를 기록하므로, 실패 시 실패한 단계부터 다시 실행합니다.
+ * - 실패하면 지수 백오프로 max-attempts 까지 재시도하고, 결과는 /sub/{channelId} 로 알립니다.
+ * - SAVE_LOG, SUMMARIZE 는 jobId 로 한 번만 저장하므로, 단계 기록 전에 서버가 죽어 다시 실행되어도 중복 저장되지 않습니다.
+ * - 최종 실패한 작업의 채팅 기록은 failed-transcript-ttl-hours 뒤에 삭제됩니다. (CLEANUP 단계가 실행되지 않으므로)
+ * - 처리 중인 작업은 visibility timeout 의 1/4 마다 updatedAt 을 갱신하므로,
+ *   LLM 요약처럼 오래 걸리는 단계도 다른 서버로 재투입되지 않습니다. (서버가 죽었을 때만 재투입)
+ */
+@Component
+public class SummaryJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryJobWorker.class);
+
+    // 완료/실패한 작업 정보 보관 기간
+    private static final Duration JOB_RETENTION = Duration.ofDays(1);
+
+    private final SummaryJobQueue summaryJobQueue;
+    private final ChannelChatRecrodService channelChatRecrodService;
+    private final SummaryChatLogService summaryChatLogService;
+    private final SummaryService summaryService;
+    private final ChatTranscriptExporter chatTranscriptExporter;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final int workers;
+    private final int maxAttempts;
+    private final long retryBaseDelayMs;
+    private final Duration visibilityTimeout;
+    private final long pollIntervalMs;
+    private final Duration failedTranscriptTtl;
+
+    // 이 서버에서 처리 중인 작업 ID (주기적으로 updatedAt 갱신)
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workerPool;
+    private ScheduledExecutorService maintenance;
+    private volatile boolean running;
+
+    public SummaryJobWorker(SummaryJobQueue summaryJobQueue,
+                            ChannelChatRecrodService channelChatRecrodService,
+                            SummaryChatLogService summaryChatLogService,
+                            SummaryService summaryService,
+                            ChatTranscriptExporter chatTranscriptExporter,
+                            SimpMessagingTemplate messagingTemplate,
+                            @Value("${summary.job.workers:2}") int workers,
+                            @Value("${summary.job.max-attempts:5}") int maxAttempts,
+                            @Value("${summary.job.retry-base-delay-ms:5000}") long retryBaseDelayMs,
+                            @Value("${summary.job.visibility-timeout-seconds:600}") long visibilityTimeoutSeconds,
+                            @Value("${summary.job.poll-interval-ms:500}") long pollIntervalMs,
+                            @Value("${summary.job.failed-transcript-ttl-hours:72}") long failedTranscriptTtlHours) {
+        this.summaryJobQueue = summaryJobQueue;
+        this.channelChatRecrodService = channelChatRecrodService;
+        this.summaryChatLogService = summaryChatLogService;
+        this.summaryService = summaryService;
+        this.chatTranscriptExporter = chatTranscriptExporter;
+        this.messagingTemplate = messagingTemplate;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.visibilityTimeout = Duration.ofSeconds(visibilityTimeoutSeconds);
+        this.pollIntervalMs = pollIntervalMs;
+        this.failedTranscriptTtl = Duration.ofHours(failedTranscriptTtlHours);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "summary-job-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::pollLoop);
+        }
+
+        maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "summary-job-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(this::promoteRetries, 1, 1, TimeUnit.SECONDS);
+        maintenance.scheduleWithFixedDelay(this::requeueStaleJobs, 1, 1, TimeUnit.MINUTES);
+        long heartbeatMs = Math.max(1000, visibilityTimeout.toMillis() / 4);
+        maintenance.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        maintenance.shutdownNow();
+        workerPool.shutdown();
+        // 처리 중인 단계가 끝나지 않으면 visibility timeout 이후 다른 서버가 이어서 처리
+        workerPool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                String jobId = summaryJobQueue.poll();
+                if (jobId == null) {
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+                process(jobId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("요약 작업 대기열 조회 중 오류 발생: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void process(String jobId) {
+        activeJobs.add(jobId);
+        try {
+            processStages(jobId);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    private void processStages(String jobId) {
+        Map<String, String> job = summaryJobQueue.getJob(jobId);
+        if (job.isEmpty()) {
+            logger.warn("요약 작업 정보가 없어 대기열에서 제거합니다: jobId={}", jobId);
+            summaryJobQueue.discard(jobId);
+            return;
+        }
+
+        Long channelId = Long.valueOf(job.get("channelId"));
+        SummaryJobStage stage = SummaryJobStage.valueOf(job.get("stage"));
+        int attempts = Integer.parseInt(job.getOrDefault("attempts", "0")) + 1;
+        summaryJobQueue.update(jobId, Map.of(
+                "status", SummaryJobStatus.RUNNING.name(),
+                "attempts", String.valueOf(attempts)));
+
+        try {
+            while (stage != SummaryJobStage.DONE) {
+                logger.debug("요약 작업 단계 실행: jobId={}, channelId={}, stage={}", jobId, channelId, stage);
+                Map<String, String> result = new HashMap<>();
+
+                switch (stage) {
+                    case EXPORT -> exportTranscript(channelId, result);
+                    case SAVE_LOG -> summaryChatLogService.saveLog(
+                            Long.valueOf(job.get("userId")), Long.valueOf(job.get("counselorId")), channelId,
+                            job.get("jsonKey"), job.get("textKey"), jobId);
+                    case SUMMARIZE -> {
+                        ChatTranscript transcript = loadTranscript(channelId);
+                        // 작업자 스레드에서 실행되므로 완료까지 대기 (같은 작업의 요약은 한 번만 저장)
+                        summaryService.summarizeAndSave(
+                                toSummaryRequest(transcript), transcript.getCounselorId(), jobId).block();
+                    }
+                    case CLEANUP -> channelChatRecrodService.deleteChatSummary(channelId);
+                    default -> throw new IllegalStateException("알 수 없는 단계: " + stage);
+                }
+
+                stage = stage.next();
+                result.put("stage", stage.name());
+                summaryJobQueue.update(jobId, result);
+                job.putAll(result);
+            }
+
+            summaryJobQueue.update(jobId, Map.of("status", SummaryJobStatus.COMPLETED.name()));
+            summaryJobQueue.finish(jobId, channelId, JOB_RETENTION);
+            logger.info("요약 작업 완료: jobId={}, channelId={}", jobId, channelId);
+            notifyChannel(channelId, "summary_ready");
+
+        } catch (Exception e) {
+            handleFailure(jobId, channelId, stage, attempts, e);
+        }
+    }
+
+    private void handleFailure(String jobId, Long channelId, SummaryJobStage stage, int attempts, Exception e) {
+        boolean retriable = !(e instanceof TranscriptNotFoundException);
+
+        if (!retriable || attempts >= maxAttempts) {
+            logger.error("요약 작업 실패: jobId={}, channelId={}, stage={}, attempts={}, error={}",
+                    jobId, channelId, stage, attempts, e.getMessage());
+            summaryJobQueue.update(jobId, Map.of(
+                    "status", SummaryJobStatus.FAILED.name(),
+                    "error", String.valueOf(e.getMessage())));
+            summaryJobQueue.finish(jobId, channelId, JOB_RETENTION);
+            expireTranscript(channelId);
+            notifyChannel(channelId, "summary_failed");
+            return;
+        }
+
+        Duration delay = Duration.ofMillis(retryBaseDelayMs * (1L << Math.min(attempts - 1, 10)));
+        logger.warn("요약 작업 재시도 예정: jobId={}, channelId={}, stage={}, attempts={}, delay={}ms, error={}",
+                jobId, channelId, stage, attempts, delay.toMillis(), e.getMessage());
+        summaryJobQueue.update(jobId, Map.of(
+                "status", SummaryJobStatus.RETRYING.name(),
+                "error", String.valueOf(e.getMessage())));
+        summaryJobQueue.retryLater(jobId, delay);
+    }
+
+    // 다시 처리하지 않는 채팅 기록이 Redis 에 계속 남지 않도록 만료 설정
+    private void expireTranscript(Long channelId) {
+        try {
+            channelChatRecrodService.expireChatSummary(channelId, failedTranscriptTtl);
+        } catch (Exception e) {
+            logger.error("실패한 요약 작업의 채팅 기록 만료 설정 실패: channelId={}, {}", channelId, e.getMessage());
+        }
+    }
+
+    private ChatTranscript loadTranscript(Long channelId) {
+        ChatTranscript transcript = channelChatRecrodService.getTranscript(channelId);
+        if (transcript == null) {
+            throw new TranscriptNotFoundException("채팅 기록을 찾을 수 없습니다: channelId=" + channelId);
+        }
+        return transcript;
+    }
+
+    /**
+     * 채팅 기록을 S3 에 업로드 (JSON 원본 + 사람이 보기 쉬운 텍스트 버전)
+     */
+    private void exportTranscript(Long channelId, Map<String, String> result) throws IOException {
+        ChatTranscriptExporter.ExportedTranscript exported = chatTranscriptExporter.export(channelId);
+        if (exported == null) {
+            throw new TranscriptNotFoundException("채팅 기록을 찾을 수 없습니다: channelId=" + channelId);
+        }
+
+        result.put("userId", exported.userId().toString());
+        result.put("counselorId", exported.counselorId().toString());
+        result.put("jsonKey", exported.jsonKey());
+        result.put("textKey", exported.textKey());
+    }
+
+    private SummaryRequest toSummaryRequest(ChatTranscript transcript) {
+        SummaryRequest summaryRequest = new SummaryRequest();
+        summaryRequest.setUserId(transcript.getUserId());
+        summaryRequest.setCounselorId(transcript.getCounselorId());
+        summaryRequest.setChannelId(transcript.getChannelId());
+        summaryRequest.setMessages(transcript.getMessages());
+        return summaryRequest;
+    }
+
+    private void notifyChannel(Long channelId, String event) {
+        try {
+            messagingTemplate.convertAndSend("/sub/" + channelId, new ChannelEventResponse(channelId, null, event, null));
+        } catch (Exception e) {
+            logger.error("요약 작업 결과 알림 실패: channelId={}, event={}, {}", channelId, event, e.getMessage());
+        }
+    }
+
+    private void promoteRetries() {
+        try {
+            summaryJobQueue.promoteDueRetries();
+        } catch (Exception e) {
+            logger.error("재시도 작업 이동 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        if (activeJobs.isEmpty()) {
+            return;
+        }
+        try {
+            summaryJobQueue.touch(Set.copyOf(activeJobs));
+        } catch (Exception e) {
+            logger.error("요약 작업 updatedAt 갱신 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void requeueStaleJobs() {
+        try {
+            int requeued = summaryJobQueue.requeueStale(visibilityTimeout);
+            if (requeued > 0) {
+                logger.warn("처리가 중단된 요약 작업 {}건을 대기열로 되돌렸습니다", requeued);
+            }
+        } catch (Exception e) {
+            logger.error("중단된 요약 작업 확인 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 채팅 기록이 없으면 재시도해도 소용없으므로 바로 실패 처리
+    private static class TranscriptNotFoundException extends RuntimeException {
+        TranscriptNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- 커뮤니티 목록 조회용 복합 인덱스 (한 번만 실행)
+--
+-- ddl-auto(update) 는 기존 테이블에 인덱스를 추가하지 않으므로 배포 전에 운영 DB 에서 직접 실행합니다.
+-- 큰 테이블에서는 ALGORITHM=INPLACE, LOCK=NONE 으로 쓰기를 막지 않고 만듭니다.
+-- 이미 있는 인덱스는 오류가 나므로 information_schema.statistics 에서 먼저 확인하세요.
+--
+-- 실행 예: mysql -h <host> -u <user> -p <database> < community_feed_indexes.sql
+
+-- 최신순/오래된순 커서 조회
+CREATE INDEX idx_community_created_at_article_id
+    ON community (created_at, article_id)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- 카테고리별 커서 조회, 카테고리별 개수
+CREATE INDEX idx_community_category_created_at_article_id
+    ON community (community_category, created_at, article_id)
+    ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,12 @@
+-- 커뮤니티 제목/본문 검색용 FULLTEXT 인덱스 (한 번만 실행)
+--
+-- ddl-auto(update) 는 기존 테이블에 인덱스를 추가하지 않으므로 배포 전에 운영 DB 에서 직접 실행합니다.
+-- 한국어는 공백 단위로 나누면 조사가 붙어 검색되지 않으므로 ngram 파서를 사용합니다. (서버 설정 ngram_token_size, 기본 2)
+-- FULLTEXT 인덱스는 LOCK=NONE 을 지원하지 않아 생성 중에는 쓰기가 대기합니다. 사용량이 적은 시간에 실행하세요.
+-- 이미 있는 인덱스는 오류가 나므로 information_schema.statistics 에서 먼저 확인하세요.
+--
+-- 실행 예: mysql -h <host> -u <user> -p <database> < community_search_index.sql
+
+CREATE FULLTEXT INDEX ft_community_title_content
+    ON community (title, content) WITH PARSER ngram
+    ALGORITHM = INPLACE LOCK = SHARED;
@@ -0,0 +1,140 @@
+package org.example.backend.channel.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.backend.auth.model.Counselor;
+import org.example.backend.auth.model.CounselorProfile;
+import org.example.backend.auth.model.User;
+import org.example.backend.config.QuerydslConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상담사 목록 조회의 쿼리 수 확인 (실제 MySQL, Hibernate 통계)
+ *
+ * 상담사 수와 관계없이 목록 조회는 조인 쿼리 한 번이어야 합니다. (상담사마다 사용자/프로필을 따로 조회하지 않음)
+ * Docker 를 사용할 수 없는 환경에서는 테스트를 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, CounselorDirectoryRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+class CounselorDirectoryRepositoryQueryCountTest {
+
+    // 한 페이지에 모두 들어오도록 충분히 큰 페이지 (마지막 페이지이므로 count 쿼리도 생략됨)
+    private static final PageRequest PAGE = PageRequest.of(0, 100, Sort.by("id"));
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private CounselorDirectoryRepository counselorDirectoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long nextCounselorId = 1;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 상담사가_1명이든_50명이든_목록_조회는_같은_수의_쿼리로_끝난다() {
+        saveCounselors(1);
+        long oneCounselor = statementsFor(null, null, 1);
+
+        saveCounselors(49);
+        long fiftyCounselors = statementsFor(null, null, 50);
+
+        assertThat(fiftyCounselors).isEqualTo(oneCounselor).isEqualTo(1);
+    }
+
+    @Test
+    void 전문_분야와_경력_조건이_있어도_상담사_수와_관계없이_쿼리_수가_같다() {
+        saveCounselors(1);
+        long oneCounselor = statementsFor("우울", 3, 1);
+
+        saveCounselors(49);
+        // 프로필이 있는 상담사(홀수 번째)만 조건에 맞음
+        long fiftyCounselors = statementsFor("우울", 3, 25);
+
+        assertThat(fiftyCounselors).isEqualTo(oneCounselor).isEqualTo(1);
+    }
+
+    private long statementsFor(String specialty, Integer minExperience, int expectedRows) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Page<CounselorDirectoryRepository.CounselorDirectoryRow> page =
+                counselorDirectoryRepository.findCounselors(specialty, minExperience, PAGE);
+
+        assertThat(page.getContent()).hasSize(expectedRows);
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 짝수 번째 상담사는 프로필 없이 저장 (left join 결과가 비는 경우 포함)
+    private void saveCounselors(int count) {
+        for (int i = 0; i < count; i++) {
+            long id = nextCounselorId++;
+            User user = entityManager.persist(User.builder()
+                    .email("counselor" + id + "@example.com")
+                    .password("password")
+                    .role("ROLE_COUNSELOR")
+                    .nickname("상담사" + id)
+                    .build());
+            entityManager.persist(Counselor.builder()
+                    .id(id)
+                    .user(user)
+                    .name("상담사" + id)
+                    .gender("F")
+                    .birthdate(LocalDateTime.of(1985, 1, 1, 0, 0))
+                    .build());
+            if (id % 2 == 1) {
+                entityManager.persist(CounselorProfile.builder()
+                        .id(id)
+                        .user(user)
+                        .specialty("우울, 불안")
+                        .years("5년")
+                        .certifications("Y")
+                        .ratingAvg(4.5)
+                        .reviewCount(10)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.backend.channel.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounselorDirectoryRepositoryTest {
+
+    @Test
+    void 경력_문자열에서_숫자만_꺼낸다() {
+        assertThat(CounselorDirectoryRepository.parseExperienceYears("8년")).isEqualTo(8);
+        assertThat(CounselorDirectoryRepository.parseExperienceYears("경력 12년 이상")).isEqualTo(12);
+    }
+
+    @Test
+    void 값이_없거나_숫자가_없으면_경력_필터와_같은_기본값을_사용한다() {
+        assertThat(CounselorDirectoryRepository.parseExperienceYears(null))
+                .isEqualTo(CounselorDirectoryRepository.DEFAULT_EXPERIENCE_YEARS);
+        assertThat(CounselorDirectoryRepository.parseExperienceYears(""))
+                .isEqualTo(CounselorDirectoryRepository.DEFAULT_EXPERIENCE_YEARS);
+        assertThat(CounselorDirectoryRepository.parseExperienceYears("신입"))
+                .isEqualTo(CounselorDirectoryRepository.DEFAULT_EXPERIENCE_YEARS);
+        assertThat(CounselorDirectoryRepository.parseExperienceYears("99999999999년"))
+                .isEqualTo(CounselorDirectoryRepository.DEFAULT_EXPERIENCE_YEARS);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.backend.channel.service;
+
+import org.example.backend.auth.repository.CounselorProfileRepository;
+import org.example.backend.channel.event.CounselorRatingChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CounselorRatingRebuilderTest {
+
+    private final CounselorProfileRepository counselorProfileRepository = mock(CounselorProfileRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final CounselorRatingRebuilder rebuilder = new CounselorRatingRebuilder(
+            counselorProfileRepository, redisTemplate, eventPublisher, mock(PlatformTransactionManager.class), 600);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void 잠금을_얻으면_재계산하고_캐시_삭제_이벤트를_발행한_뒤_잠금을_푼다() {
+        when(valueOperations.setIfAbsent(eq("counselor:rating:rebuild-lock"), anyString(), eq(Duration.ofSeconds(600))))
+                .thenReturn(true);
+        when(counselorProfileRepository.rebuildRatingAggregates()).thenReturn(3);
+
+        rebuilder.rebuildRatingAggregates();
+
+        verify(counselorProfileRepository).rebuildRatingAggregates();
+        verify(eventPublisher).publishEvent(any(CounselorRatingChangedEvent.class));
+        verify(redisTemplate).execute(any(), anyList(), anyString());
+    }
+
+    @Test
+    void 다른_서버가_잠금을_잡고_있으면_재계산하지_않는다() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        rebuilder.rebuildRatingAggregates();
+        rebuilder.backfillMissingAggregates();
+
+        verify(counselorProfileRepository, never()).rebuildRatingAggregates();
+        verify(counselorProfileRepository, never()).backfillMissingRatingAggregates();
+    }
+
+    @Test
+    void 기동_시에는_집계_값이_없는_상담사만_채우고_바뀐_것이_없으면_캐시를_비우지_않는다() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(counselorProfileRepository.backfillMissingRatingAggregates()).thenReturn(0);
+
+        rebuilder.backfillMissingAggregates();
+
+        verify(counselorProfileRepository).backfillMissingRatingAggregates();
+        verify(counselorProfileRepository, never()).rebuildRatingAggregates();
+        verify(eventPublisher, never()).publishEvent(any(CounselorRatingChangedEvent.class));
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.backend.channel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.channel.dto.response.VoiceChannelDirectoryEvent;
+import org.example.backend.channel.model.Channel;
+import org.example.backend.channel.model.ChannelType;
+import org.example.backend.channel.repository.ChannelRepository;
+import org.example.backend.websocket.presence.ChannelPresenceService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoiceChannelDirectoryTest {
+
+    private final ChannelRepository channelRepository = mock(ChannelRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ChannelPresenceService channelPresenceService = mock(ChannelPresenceService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final VoiceChannelDirectory directory = new VoiceChannelDirectory(channelRepository, userRepository,
+            mock(StringRedisTemplate.class), channelPresenceService, mock(RedisMessageListenerContainer.class),
+            messagingTemplate, new ObjectMapper());
+
+    @Test
+    void 시작_시에는_알림_없이_목록만_만든다() {
+        givenChannels(List.of(channel(1L, "수다방"), channel(2L, "고민방")), List.of(1, 0));
+
+        directory.initialize();
+
+        assertThat(directory.list()).extracting("channelId").containsExactly(1L, 2L);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void 다시_맞출_때_놓친_생성_삭제_인원_변경을_알린다() {
+        givenChannels(List.of(channel(1L, "수다방"), channel(2L, "고민방")), List.of(1, 0));
+        directory.initialize();
+
+        givenChannels(List.of(channel(1L, "수다방"), channel(3L, "새 채널")), List.of(2, 0));
+        directory.resync();
+
+        ArgumentCaptor<VoiceChannelDirectoryEvent> events = ArgumentCaptor.forClass(VoiceChannelDirectoryEvent.class);
+        verify(messagingTemplate, times(3)).convertAndSend(
+                eq(VoiceChannelDirectory.DESTINATION), events.capture());
+        assertThat(events.getAllValues())
+                .extracting(VoiceChannelDirectoryEvent::type, VoiceChannelDirectoryEvent::channelId)
+                .containsExactlyInAnyOrder(
+                        tuple("deleted", 2L),
+                        tuple("occupancy", 1L),
+                        tuple("created", 3L));
+        assertThat(directory.get(1L).getMemberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 바뀐_것이_없으면_알리지_않는다() {
+        givenChannels(List.of(channel(1L, "수다방")), List.of(1));
+        directory.initialize();
+
+        directory.resync();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private void givenChannels(List<Channel> channels, List<Integer> memberCounts) {
+        when(channelRepository.findByCategory(0)).thenReturn(channels);
+        when(userRepository.findAllById(any())).thenReturn(List.of());
+        when(channelPresenceService.countMembers(anyList())).thenReturn(memberCounts);
+    }
+
+    private Channel channel(Long channelId, String name) {
+        return Channel.builder()
+                .channelId(channelId)
+                .channelName(name)
+                .maxPlayer(4)
+                .userId(10L)
+                .channelType(ChannelType.VOICE)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.backend.channel.service;
+
+import org.example.backend.auth.model.User;
+import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.channel.dto.request.VoiceChannelCreateRequest;
+import org.example.backend.channel.model.Channel;
+import org.example.backend.channel.model.ChannelType;
+import org.example.backend.channel.repository.ChannelRepository;
+import org.example.backend.common.id.IdSequence;
+import org.example.backend.common.id.IdSequenceSeeder;
+import org.example.backend.common.id.RedisIdAllocator;
+import org.example.backend.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VoiceChannelServiceTest extends RedisContainerTest {
+
+    private static final int THREADS = 64;
+    private static final int CHANNELS = 10_000;
+    // 스레드마다 열어 두는 채널 수 (가장 오래된 채널부터 닫음)
+    private static final int OPEN_PER_THREAD = 50;
+
+    private final ChannelRepository channelRepository = mock(ChannelRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final IdSequenceSeeder idSequenceSeeder = mock(IdSequenceSeeder.class);
+
+    // channel 테이블 (channel_id 기본 키)
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger duplicateIds = new AtomicInteger();
+    private final AtomicInteger skippedIds = new AtomicInteger();
+    private VoiceChannelService voiceChannelService;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(User.builder().nickname("사용자").build()));
+        when(channelRepository.existsById(anyLong())).thenAnswer(invocation -> {
+            boolean exists = channels.containsKey(invocation.<Long>getArgument(0));
+            if (exists) {
+                skippedIds.incrementAndGet();
+            }
+            return exists;
+        });
+        when(channelRepository.save(any(Channel.class))).thenAnswer(invocation -> {
+            Channel channel = invocation.getArgument(0);
+            if (channels.putIfAbsent(channel.getChannelId(), channel) != null) {
+                duplicateIds.incrementAndGet();
+            }
+            return channel;
+        });
+        when(channelRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(channels.get(invocation.<Long>getArgument(0))));
+        doAnswer(invocation -> channels.remove(invocation.<Channel>getArgument(0).getChannelId()))
+                .when(channelRepository).delete(any(Channel.class));
+
+        voiceChannelService = new VoiceChannelService(channelRepository, userRepository, mock(PasswordEncoder.class),
+                new RedisIdAllocator(redisTemplate, idSequenceSeeder), mock(VoiceChannelDirectory.class),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void 여러_스레드에서_ID_범위를_넘도록_채널을_만들어도_사용_중인_ID를_건너뛰고_중복_없이_발급한다() throws Exception {
+        when(idSequenceSeeder.currentMax(IdSequence.VOICE_CHANNEL)).thenReturn(0L);
+        // 오래 유지되는 채널이 ID 범위 곳곳을 차지하고 있는 상태
+        for (long id = 3; id <= IdSequence.VOICE_CHANNEL.getMax(); id += 3) {
+            channels.put(id, Channel.builder().channelId(id).channelName("기존 채널").maxPlayer(4).userId(1L)
+                    .channelType(ChannelType.VOICE).build());
+        }
+        int longLived = channels.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int count = CHANNELS / THREADS + (t < CHANNELS % THREADS ? 1 : 0);
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    Deque<Long> open = new ArrayDeque<>();
+                    for (int i = 0; i < count; i++) {
+                        open.add(voiceChannelService.createVoiceChannel(1L, request()).getChannelId());
+                        if (open.size() > OPEN_PER_THREAD) {
+                            voiceChannelService.deleteVoiceChannel(open.poll());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // 재시도 횟수를 다 쓰면 IllegalStateException 으로 실패
+            for (Future<?> worker : workers) {
+                worker.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(duplicateIds).hasValue(0);
+        assertThat(channels).hasSize(longLived + THREADS * OPEN_PER_THREAD);
+        assertThat(channels.keySet()).allMatch(id -> id >= 1 && id <= IdSequence.VOICE_CHANNEL.getMax());
+        // 발급이 ID 범위를 한 바퀴 넘게 돌면서 기존 채널 ID 를 모두 한 번 이상 건너뜀
+        assertThat(skippedIds.get()).isGreaterThanOrEqualTo(longLived);
+    }
+
+    private VoiceChannelCreateRequest request() {
+        VoiceChannelCreateRequest request = new VoiceChannelCreateRequest();
+        request.setChannelName("음성 채널");
+        request.setMaxPlayer(4);
+        return request;
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.backend.common.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DatabaseIdAllocatorTest {
+
+    private final IdBlockRepository idBlockRepository = mock(IdBlockRepository.class);
+    private final IdSequenceSeeder idSequenceSeeder = mock(IdSequenceSeeder.class);
+    private final DatabaseIdAllocator allocator = new DatabaseIdAllocator(
+            idBlockRepository, idSequenceSeeder, mock(PlatformTransactionManager.class), 3);
+
+    @Test
+    void 블록_하나를_다_쓸_때까지는_DB에_접근하지_않는다() {
+        IdBlock block = new IdBlock("counselor", 1_001L);
+        when(idBlockRepository.findForUpdate("counselor")).thenReturn(Optional.of(block));
+
+        for (long expected = 1_001L; expected <= 1_004L; expected++) {
+            assertThat(allocator.next(IdSequence.COUNSELOR)).isEqualTo(expected);
+        }
+
+        verify(idBlockRepository, times(2)).findForUpdate("counselor");
+        assertThat(block.getNextValue()).isEqualTo(1_007L);
+    }
+
+    @Test
+    void 시퀀스_행이_없으면_DB_최대값_다음부터_만든다() {
+        when(idBlockRepository.findForUpdate("counselor-code")).thenReturn(Optional.empty());
+        when(idSequenceSeeder.currentMax(IdSequence.COUNSELOR_CODE)).thenReturn(10_020L);
+        when(idBlockRepository.saveAndFlush(any(IdBlock.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(allocator.next(IdSequence.COUNSELOR_CODE)).isEqualTo(10_021L);
+    }
+
+    @Test
+    void 순환_시퀀스는_최대값에서_블록을_자르고_다음_블록은_최소값부터_예약한다() {
+        IdBlock block = new IdBlock("voice-channel", 9_998L);
+        when(idBlockRepository.findForUpdate("voice-channel")).thenReturn(Optional.of(block));
+
+        assertThat(allocator.next(IdSequence.VOICE_CHANNEL)).isEqualTo(9_998L);
+        assertThat(allocator.next(IdSequence.VOICE_CHANNEL)).isEqualTo(9_999L);
+        assertThat(allocator.next(IdSequence.VOICE_CHANNEL)).isEqualTo(1L);
+        assertThat(block.getNextValue()).isEqualTo(4L);
+    }
+
+    @Test
+    void 순환하지_않는_시퀀스를_다_쓰면_예외가_발생한다() {
+        when(idBlockRepository.findForUpdate("counselor-code"))
+                .thenReturn(Optional.of(new IdBlock("counselor-code", (long) Integer.MAX_VALUE + 1)));
+
+        assertThatThrownBy(() -> allocator.next(IdSequence.COUNSELOR_CODE))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 여러_서버가_같은_시퀀스_행을_두고_경쟁해도_같은_ID를_발급하지_않는다() throws Exception {
+        int servers = 4;
+        int threads = 64;
+        int total = 10_000;
+        int blockSize = 50;
+        // id_sequence 테이블: 행 잠금(SELECT ... FOR UPDATE)은 커밋/롤백 시 해제
+        Map<String, IdBlock> table = new ConcurrentHashMap<>();
+        ReentrantLock rowLock = new ReentrantLock();
+        IdBlockRepository repository = mock(IdBlockRepository.class);
+        when(repository.findForUpdate("counselor")).thenAnswer(invocation -> {
+            rowLock.lock();
+            IdBlock block = table.get("counselor");
+            if (block == null) {
+                rowLock.unlock();
+            }
+            return Optional.ofNullable(block);
+        });
+        when(repository.saveAndFlush(any(IdBlock.class))).thenAnswer(invocation -> {
+            IdBlock block = invocation.getArgument(0);
+            rowLock.lock();
+            if (table.putIfAbsent(block.getName(), block) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry 'counselor' for key 'PRIMARY'");
+            }
+            return block;
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        doAnswer(invocation -> releaseIfHeld(rowLock)).when(transactionManager).commit(any());
+        doAnswer(invocation -> releaseIfHeld(rowLock)).when(transactionManager).rollback(any());
+        when(idSequenceSeeder.currentMax(IdSequence.COUNSELOR)).thenReturn(1_000L);
+
+        List<DatabaseIdAllocator> allocators = new ArrayList<>();
+        for (int i = 0; i < servers; i++) {
+            allocators.add(new DatabaseIdAllocator(repository, idSequenceSeeder, transactionManager, blockSize));
+        }
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                DatabaseIdAllocator server = allocators.get(t % servers);
+                int count = total / threads + (t < total % threads ? 1 : 0);
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < count; i++) {
+                        if (!ids.add(server.next(IdSequence.COUNSELOR))) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // 행 생성 충돌 후 다시 예약하는 경로에서도 예외 없이 발급
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(duplicates).hasValue(0);
+        assertThat(ids).hasSize(total);
+        // 서버마다 마지막 블록에서 쓰지 않은 범위만큼만 비어 있음
+        long reservedUpTo = table.get("counselor").getNextValue() - 1;
+        assertThat(ids).allMatch(id -> id >= 1_001L && id <= reservedUpTo);
+        assertThat(reservedUpTo - 1_000L).isLessThanOrEqualTo((long) total + (long) servers * blockSize);
+        assertThat(rowLock.isLocked()).isFalse();
+    }
+
+    private Object releaseIfHeld(ReentrantLock lock) {
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+        return null;
+    }
+}
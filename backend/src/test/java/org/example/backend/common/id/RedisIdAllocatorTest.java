@@ -0,0 +1,99 @@
+package org.example.backend.common.id;
+
+import org.example.backend.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisIdAllocatorTest extends RedisContainerTest {
+
+    private final IdSequenceSeeder idSequenceSeeder = mock(IdSequenceSeeder.class);
+    private RedisIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new RedisIdAllocator(redisTemplate, idSequenceSeeder);
+    }
+
+    @Test
+    void 처음_발급할_때만_DB_최대값으로_초기화한다() {
+        when(idSequenceSeeder.currentMax(IdSequence.COUNSELOR)).thenReturn(1_005L);
+
+        assertThat(allocator.next(IdSequence.COUNSELOR)).isEqualTo(1_006L);
+        assertThat(allocator.next(IdSequence.COUNSELOR)).isEqualTo(1_007L);
+        verify(idSequenceSeeder, times(1)).currentMax(IdSequence.COUNSELOR);
+    }
+
+    @Test
+    void 순환_시퀀스는_최대값_다음에_최소값부터_다시_발급한다() {
+        when(idSequenceSeeder.currentMax(IdSequence.VOICE_CHANNEL)).thenReturn(9_998L);
+
+        assertThat(allocator.next(IdSequence.VOICE_CHANNEL)).isEqualTo(9_999L);
+        assertThat(allocator.next(IdSequence.VOICE_CHANNEL)).isEqualTo(1L);
+        assertThat(allocator.next(IdSequence.VOICE_CHANNEL)).isEqualTo(2L);
+    }
+
+    @Test
+    void 순환하지_않는_시퀀스가_최대값을_넘으면_예외가_발생한다() {
+        when(idSequenceSeeder.currentMax(IdSequence.COUNSELOR_CODE)).thenReturn((long) Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> allocator.next(IdSequence.COUNSELOR_CODE))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_발급해도_같은_ID가_나오지_않는다() throws Exception {
+        int threads = 64;
+        int total = 10_000;
+        when(idSequenceSeeder.currentMax(IdSequence.COUNSELING_CHANNEL)).thenReturn(10_000L);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int count = total / threads + (t < total % threads ? 1 : 0);
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < count; i++) {
+                        if (!ids.add(allocator.next(IdSequence.COUNSELING_CHANNEL))) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(duplicates).hasValue(0);
+        assertThat(ids).hasSize(total);
+        assertThat(ids).allMatch(id -> id >= 10_001L && id <= 10_000L + total);
+        // 여러 스레드가 동시에 처음 발급해도 초기화는 한 번의 값으로만 이루어짐
+        assertThat(redisTemplate.opsForValue().get("id:seq:counseling-channel")).isEqualTo(String.valueOf(10_000L + total));
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.backend.community.bench;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 커뮤니티 성능 측정용 MySQL (Testcontainers)
+ *
+ * community 테이블을 엔티티와 같은 구조로 만들고, 같은 seed 로 항상 같은 게시글을 article-count 개 넣습니다.
+ * 인덱스는 운영과 같은 resources/db 스크립트로 만듭니다.
+ */
+final class CommunityBenchmarkDatabase implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunityBenchmarkDatabase.class);
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE community (" +
+            "article_id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+            "community_category VARCHAR(255), " +
+            "title VARCHAR(255), " +
+            "content TEXT, " +
+            "user_id BIGINT, " +
+            "likes INT, " +
+            "created_at DATETIME(6)" +
+            ") ENGINE = InnoDB DEFAULT CHARSET = utf8mb4";
+    private static final String INSERT_SQL =
+            "INSERT INTO community (community_category, title, content, user_id, likes, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String[] CATEGORIES = {"시각장애", "구음장애", "청각장애"};
+    private static final String[] WORDS = {
+            "상담", "후기", "질문", "정보", "공유", "병원", "재활", "치료", "보청기", "수어",
+            "점자", "발음", "연습", "가족", "친구", "학교", "직장", "면접", "취업", "복지",
+            "지원금", "신청", "방법", "경험", "고민", "추천", "앱", "음성", "인식", "자막",
+            "통역", "안내", "교통", "버스", "지하철", "도서관", "강의", "영상", "모임", "봉사",
+            "마음", "위로", "감사", "일상", "산책", "운동", "음악", "독서", "요리", "여행",
+            "말하기", "듣기", "읽기", "쓰기", "검사", "진단", "수술", "약", "부모", "아이"
+    };
+
+    private final MySQLContainer<?> mysql;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    CommunityBenchmarkDatabase() {
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withUrlParam("rewriteBatchedStatements", "true")
+                .withCommand("--innodb-buffer-pool-size=1G", "--ngram-token-size=2");
+        mysql.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * resources 의 SQL 스크립트 실행 (예: db/community_feed_indexes.sql)
+     */
+    void runScript(String path) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(path));
+        }
+    }
+
+    /**
+     * 게시글 생성 (약 30초 간격으로 작성된 것처럼 분포, 같은 시각의 게시글도 생기도록 초 단위)
+     */
+    void seed(int articleCount, long seed, int batchSize) {
+        Random random = new Random(seed);
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long startedAt = System.currentTimeMillis();
+
+        for (int i = 0; i < articleCount; i++) {
+            batch.add(new Object[]{
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    words(random, 3 + random.nextInt(6)),
+                    words(random, 30 + random.nextInt(90)),
+                    1L + random.nextInt(10_000),
+                    random.nextInt(200),
+                    Timestamp.valueOf(baseTime.plusSeconds(i * 30L + random.nextInt(30)))});
+            if (batch.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE community");
+        logger.info("벤치마크 데이터 생성 완료: {}개, {}ms", articleCount, System.currentTimeMillis() - startedAt);
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+        mysql.stop();
+    }
+}
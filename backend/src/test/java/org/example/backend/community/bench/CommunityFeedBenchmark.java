@@ -0,0 +1,102 @@
+package org.example.backend.community.bench;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 성능 비교 (OFFSET vs 커서)
+ *
+ * 같은 seed 로 만든 게시글에서 1페이지와 깊은 페이지(기본 10,000 페이지)를 OFFSET 과 커서 방식으로 조회해
+ * 응답 시간(p50/p95/max)을 로그로 남깁니다. 이전 방식이 페이지마다 실행하던 COUNT(*) 도 함께 측정합니다.
+ * 쿼리는 CommunityRepository 의 요약 조회와 같은 컬럼/정렬을 사용합니다.
+ *
+ * 실행 예: ./gradlew benchmark --tests '*CommunityFeedBenchmark' -Pbench.article-count=1000000
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CommunityFeedBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunityFeedBenchmark.class);
+
+    private static final String SUMMARY_SELECT =
+            "SELECT article_id, community_category, title, created_at, likes FROM community ";
+    private static final String LATEST_ORDER = " ORDER BY created_at DESC, article_id DESC";
+    private static final int ROUNDS = 20;
+
+    private final int articleCount = Integer.getInteger("bench.article-count", 1_000_000);
+    private final int pageSize = Integer.getInteger("bench.page-size", 20);
+    private final int deepPage = Integer.getInteger("bench.deep-page", 10_000);
+
+    private CommunityBenchmarkDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        database = new CommunityBenchmarkDatabase();
+        database.seed(articleCount, Long.getLong("bench.seed", 20250101L), 5_000);
+        database.runScript("db/community_feed_indexes.sql");
+        jdbcTemplate = database.jdbcTemplate();
+    }
+
+    @AfterAll
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void OFFSET과_커서_방식의_1페이지와_깊은_페이지_응답_시간() {
+        int page = Math.min(deepPage, articleCount / pageSize - 1);
+        int offset = page * pageSize;
+
+        // 깊은 페이지 바로 앞 게시글을 커서로 사용
+        Map<String, Object> previous = jdbcTemplate.queryForMap(
+                SUMMARY_SELECT + LATEST_ORDER + " LIMIT 1 OFFSET ?", offset - 1);
+        Timestamp cursorCreatedAt = (Timestamp) previous.get("created_at");
+        Integer cursorArticleId = ((Number) previous.get("article_id")).intValue();
+
+        measure("OFFSET 1페이지", () -> jdbcTemplate.queryForList(
+                SUMMARY_SELECT + LATEST_ORDER + " LIMIT ? OFFSET 0", pageSize));
+        measure("OFFSET " + page + "페이지", () -> jdbcTemplate.queryForList(
+                SUMMARY_SELECT + LATEST_ORDER + " LIMIT ? OFFSET ?", pageSize, offset));
+        measure("커서 1페이지", () -> jdbcTemplate.queryForList(
+                SUMMARY_SELECT + LATEST_ORDER + " LIMIT ?", pageSize));
+        measure("커서 " + page + "페이지", () -> jdbcTemplate.queryForList(
+                SUMMARY_SELECT + "WHERE (created_at < ? OR (created_at = ? AND article_id < ?))" + LATEST_ORDER + " LIMIT ?",
+                cursorCreatedAt, cursorCreatedAt, cursorArticleId, pageSize));
+        measure("페이지마다 실행하던 COUNT(*)", () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM community", Long.class));
+
+        // 두 방식이 같은 게시글을 돌려주는지 확인
+        assertThat(jdbcTemplate.queryForList(
+                SUMMARY_SELECT + "WHERE (created_at < ? OR (created_at = ? AND article_id < ?))" + LATEST_ORDER + " LIMIT ?",
+                cursorCreatedAt, cursorCreatedAt, cursorArticleId, pageSize))
+                .isEqualTo(jdbcTemplate.queryForList(SUMMARY_SELECT + LATEST_ORDER + " LIMIT ? OFFSET ?", pageSize, offset));
+    }
+
+    private void measure(String name, Supplier<?> query) {
+        query.get(); // 준비 (버퍼 풀 적재)
+        long[] elapsed = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            query.get();
+            elapsed[round] = (System.nanoTime() - startedAt) / 1_000;
+        }
+        Arrays.sort(elapsed);
+        logger.info("목록 조회 응답 시간 ({}개 중): {}, p50={}us, p95={}us, max={}us", articleCount, name,
+                elapsed[ROUNDS / 2], elapsed[(int) (ROUNDS * 0.95) - 1], elapsed[ROUNDS - 1]);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.backend.community.bench;
+
+import org.example.backend.community.repository.CommunitySearchRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 검색 성능 비교 (LIKE '%검색어%' vs FULLTEXT ngram)
+ *
+ * 같은 seed 로 만든 게시글에서 자주 쓰일 검색어로 이전 방식(제목/본문 LIKE)과 CommunitySearchRepository 를 조회해
+ * 응답 시간(p50/p95/max)을 로그로 남깁니다. FULLTEXT 인덱스는 운영과 같은 resources/db 스크립트로 만듭니다.
+ *
+ * 실행 예: ./gradlew benchmark --tests '*CommunitySearchBenchmark' -Pbench.article-count=1000000
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CommunitySearchBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunitySearchBenchmark.class);
+
+    private static final String[] SAMPLE_QUERIES = {"보청기", "수어 통역", "재활 치료", "취업 면접", "음성 인식", "점자"};
+    private static final String LIKE_SQL =
+            "SELECT article_id, community_category, title, created_at, likes FROM community " +
+            "WHERE title LIKE ? OR content LIKE ? ORDER BY article_id DESC LIMIT 11";
+    private static final int ROUNDS = 10;
+
+    private final int articleCount = Integer.getInteger("bench.article-count", 1_000_000);
+
+    private CommunityBenchmarkDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private CommunitySearchRepository searchRepository;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        database = new CommunityBenchmarkDatabase();
+        database.seed(articleCount, Long.getLong("bench.seed", 20250101L), 5_000);
+        long startedAt = System.currentTimeMillis();
+        database.runScript("db/community_search_index.sql");
+        logger.info("FULLTEXT 인덱스 생성: {}ms", System.currentTimeMillis() - startedAt);
+        jdbcTemplate = database.jdbcTemplate();
+        searchRepository = new CommunitySearchRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @AfterAll
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void LIKE_검색과_FULLTEXT_검색의_응답_시간() {
+        for (String query : SAMPLE_QUERIES) {
+            String pattern = "%" + query + "%";
+            measure("LIKE '" + query + "'", () -> jdbcTemplate.queryForList(LIKE_SQL, pattern, pattern));
+            measure("FULLTEXT '" + query + "'", () -> searchRepository.search(query, null, 0, 11));
+            measure("FULLTEXT '" + query + "' (카테고리)", () -> searchRepository.search(query, "청각장애", 0, 11));
+
+            assertThat(searchRepository.search(query, null, 0, 11)).isNotEmpty();
+        }
+    }
+
+    private void measure(String name, Supplier<?> query) {
+        query.get(); // 준비 (버퍼 풀 적재)
+        long[] elapsed = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            query.get();
+            elapsed[round] = (System.nanoTime() - startedAt) / 1_000_000;
+        }
+        Arrays.sort(elapsed);
+        logger.info("검색 응답 시간 ({}개 중): {}, p50={}ms, p95={}ms, max={}ms", articleCount, name,
+                elapsed[ROUNDS / 2], elapsed[(int) (ROUNDS * 0.95) - 1], elapsed[ROUNDS - 1]);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.backend.community.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommunityFeedCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        CommunityFeedCursor cursor = new CommunityFeedCursor(LocalDateTime.of(2025, 3, 1, 14, 30, 5, 123_000_000), 42);
+
+        assertThat(CommunityFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 초가_0인_시각도_복원한다() {
+        CommunityFeedCursor cursor = new CommunityFeedCursor(LocalDateTime.of(2025, 3, 1, 14, 30), 7);
+
+        assertThat(CommunityFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지다() {
+        assertThat(CommunityFeedCursor.decode(null)).isNull();
+        assertThat(CommunityFeedCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_예외가_발생한다() {
+        assertThatThrownBy(() -> CommunityFeedCursor.decode("!!not-base64!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommunityFeedCursor.decode(encode("2025-03-01T14:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommunityFeedCursor.decode(encode("어제_42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommunityFeedCursor.decode(encode("2025-03-01T14:30_abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
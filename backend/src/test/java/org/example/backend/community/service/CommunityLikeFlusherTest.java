@@ -0,0 +1,193 @@
+package org.example.backend.community.service;
+
+import org.example.backend.community.repository.CommunityRepository;
+import org.example.backend.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommunityLikeFlusherTest extends RedisContainerTest {
+
+    private static final String INSERT_FLUSH_LOG = "INSERT INTO community_like_flush";
+    private static final String BATCH_KEY = "community:likes:delta:flushing:batch";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CommunityRepository communityRepository = mock(CommunityRepository.class);
+    private CommunityLikeFlusher flusher;
+    private CommunityLikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        flusher = new CommunityLikeFlusher(redisTemplate, jdbcTemplate, mock(PlatformTransactionManager.class), 2, 60);
+        likeService = new CommunityLikeService(redisTemplate, communityRepository);
+    }
+
+    @Test
+    void 증감을_DB에_반영하고_보관_중인_좋아요_수로_옮긴다() {
+        when(communityRepository.findLikesByArticleId(1)).thenReturn(Optional.of(10));
+        likeService.like(1, 100L);
+        likeService.like(1, 200L);
+
+        flusher.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE community"), updates.capture());
+        assertThat(updates.getValue()).containsExactly(new Object[]{2L, 1});
+        assertThat(redisTemplate.opsForValue().get(CommunityLikeService.getLikesKey(1))).isEqualTo("12");
+        assertThat(redisTemplate.hasKey(CommunityLikeService.DELTA_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(CommunityLikeService.FLUSHING_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(BATCH_KEY)).isFalse();
+        assertThat(Long.parseLong(redisTemplate.opsForValue().get(CommunityLikeService.FLUSH_VERSION_KEY)) % 2).isZero();
+        // 반영 전후 좋아요 수가 같음
+        assertThat(likeService.like(1, 200L).getLikes()).isEqualTo(12);
+    }
+
+    @Test
+    void 게시글_ID_순으로_묶음을_나누고_묶음마다_반영_기록을_남긴다() {
+        redisTemplate.opsForHash().put(CommunityLikeService.DELTA_KEY, "30", "1");
+        redisTemplate.opsForHash().put(CommunityLikeService.DELTA_KEY, "10", "-2");
+        redisTemplate.opsForHash().put(CommunityLikeService.DELTA_KEY, "20", "5");
+
+        flusher.flush();
+
+        ArgumentCaptor<Object> chunkIds = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(2)).update(startsWith(INSERT_FLUSH_LOG), chunkIds.capture(), any());
+        assertThat(chunkIds.getAllValues()).hasSize(2);
+        assertThat(chunkIds.getAllValues().get(0).toString()).endsWith(":10");
+        assertThat(chunkIds.getAllValues().get(1).toString()).endsWith(":30");
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE community"), anyList());
+    }
+
+    @Test
+    void 서버가_종료되어_남은_스냅샷은_같은_batchId로_이어서_처리하고_이미_반영된_묶음은_UPDATE하지_않는다() {
+        // 묶음 b1:1 은 DB 에 반영됐지만 Redis 정리 전에 종료된 상태
+        redisTemplate.opsForValue().set(CommunityLikeService.getLikesKey(1), "10");
+        redisTemplate.opsForHash().put(CommunityLikeService.FLUSHING_KEY, "1", "2");
+        redisTemplate.opsForValue().set(BATCH_KEY, "b1");
+        redisTemplate.opsForValue().set(CommunityLikeService.FLUSH_VERSION_KEY, "1");
+        redisTemplate.opsForHash().put(CommunityLikeService.DELTA_KEY, "1", "1");
+        doThrow(new DuplicateKeyException("중복")).when(jdbcTemplate).update(startsWith(INSERT_FLUSH_LOG), eq("b1:1"), any());
+
+        flusher.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(redisTemplate.opsForValue().get(CommunityLikeService.getLikesKey(1))).isEqualTo("12");
+        assertThat(redisTemplate.hasKey(CommunityLikeService.FLUSHING_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(BATCH_KEY)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(CommunityLikeService.FLUSH_VERSION_KEY)).isEqualTo("4");
+        // 스냅샷 이후 들어온 증감은 다음 주기에 반영
+        assertThat(redisTemplate.opsForHash().get(CommunityLikeService.DELTA_KEY, "1")).isEqualTo("1");
+    }
+
+    @Test
+    void 다른_서버가_잠금을_가지고_있으면_반영하지_않는다() {
+        redisTemplate.opsForValue().set("community:likes:flush-lock", "other-node");
+        redisTemplate.opsForHash().put(CommunityLikeService.DELTA_KEY, "1", "1");
+
+        flusher.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(redisTemplate.opsForHash().get(CommunityLikeService.DELTA_KEY, "1")).isEqualTo("1");
+    }
+
+    @Test
+    void 인기_게시글에_좋아요와_취소가_몰리는_중에_반영해도_DB_좋아요_수와_대기_증감의_합은_좋아요한_사용자_수와_같다() throws Exception {
+        int articleId = 7;
+        int threads = 32;
+        int operationsPerThread = 300;
+        // DB 의 community.likes (UPDATE 는 묶음 단위로 한 번에 더함)
+        AtomicLong dbLikes = new AtomicLong();
+        when(communityRepository.findLikesByArticleId(anyInt())).thenAnswer(invocation -> Optional.of((int) dbLikes.get()));
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE community"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> updates = invocation.getArgument(1);
+            synchronized (dbLikes) {
+                updates.forEach(update -> dbLikes.addAndGet((Long) update[0]));
+            }
+            return new int[updates.size()];
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger flushes = new AtomicInteger();
+        try {
+            // 반영 중간중간 보관 중인 좋아요 수가 만료되어 DB 에서 다시 읽는 상황도 섞음
+            Future<?> flushing = executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    flusher.flush();
+                    if (flushes.incrementAndGet() % 5 == 0) {
+                        redisTemplate.delete(CommunityLikeService.getLikesKey(articleId));
+                    }
+                }
+                return null;
+            });
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        long userId = random.nextLong(1, 200);
+                        long likes = random.nextBoolean()
+                                ? likeService.like(articleId, userId).getLikes()
+                                : likeService.unlike(articleId, userId).getLikes();
+                        assertThat(likes).isBetween(0L, 200L);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            flushing.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long likers = redisTemplate.opsForSet().size("community:article:" + articleId + ":likers");
+        long pending = likeService.getPendingDeltas(List.of(articleId)).getOrDefault(articleId, 0L);
+        assertThat(flushes.get()).isGreaterThan(1);
+        assertThat(dbLikes.get() + pending).isEqualTo(likers);
+
+        // 남은 증감까지 반영하면 DB 와 보관 중인 좋아요 수가 사용자 수와 같아짐
+        flusher.flush();
+        assertThat(dbLikes.get()).isEqualTo(likers);
+        assertThat(likeService.getPendingDeltas(List.of(articleId))).isEmpty();
+        assertThat(likeService.like(articleId, 1_000L).getLikes()).isEqualTo(likers + 1);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.backend.community.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.example.backend.community.dto.response.CommunityLikeResponse;
+import org.example.backend.community.repository.CommunityRepository;
+import org.example.backend.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommunityLikeServiceTest extends RedisContainerTest {
+
+    private final CommunityRepository communityRepository = mock(CommunityRepository.class);
+    private CommunityLikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        likeService = new CommunityLikeService(redisTemplate, communityRepository);
+    }
+
+    @Test
+    void 게시글마다_처음_한_번만_DB에서_좋아요_수를_읽는다() {
+        when(communityRepository.findLikesByArticleId(1)).thenReturn(Optional.of(10));
+
+        assertThat(likeService.like(1, 100L).getLikes()).isEqualTo(11);
+        assertThat(likeService.like(1, 200L).getLikes()).isEqualTo(12);
+        assertThat(likeService.like(1, 200L).getLikes()).isEqualTo(12);
+        CommunityLikeResponse unliked = likeService.unlike(1, 100L);
+
+        assertThat(unliked.getLiked()).isFalse();
+        assertThat(unliked.getLikes()).isEqualTo(11);
+        assertThat(redisTemplate.opsForValue().get(CommunityLikeService.getLikesKey(1))).isEqualTo("10");
+        assertThat(redisTemplate.opsForHash().get(CommunityLikeService.DELTA_KEY, "1")).isEqualTo("1");
+        verify(communityRepository, times(1)).findLikesByArticleId(1);
+    }
+
+    @Test
+    void 없는_게시글은_기록하지_않고_예외가_발생한다() {
+        when(communityRepository.findLikesByArticleId(1)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> likeService.like(1, 100L)).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(redisTemplate.hasKey("community:article:1:likers")).isFalse();
+        assertThat(redisTemplate.hasKey(CommunityLikeService.DELTA_KEY)).isFalse();
+    }
+
+    @Test
+    void 반영_중에_읽은_DB_좋아요_수는_보관하지_않는다() {
+        when(communityRepository.findLikesByArticleId(1)).thenReturn(Optional.of(10));
+        redisTemplate.opsForValue().set(CommunityLikeService.FLUSH_VERSION_KEY, "3");
+
+        assertThat(likeService.like(1, 100L).getLikes()).isEqualTo(11);
+        assertThat(redisTemplate.hasKey(CommunityLikeService.getLikesKey(1))).isFalse();
+
+        redisTemplate.opsForValue().set(CommunityLikeService.FLUSH_VERSION_KEY, "4");
+        assertThat(likeService.like(1, 200L).getLikes()).isEqualTo(12);
+        assertThat(redisTemplate.opsForValue().get(CommunityLikeService.getLikesKey(1))).isEqualTo("10");
+        verify(communityRepository, times(2)).findLikesByArticleId(1);
+    }
+
+    @Test
+    void 반영_중인_스냅샷의_증감도_좋아요_수에_포함한다() {
+        redisTemplate.opsForValue().set(CommunityLikeService.getLikesKey(1), "10");
+        redisTemplate.opsForHash().put(CommunityLikeService.FLUSHING_KEY, "1", "3");
+        redisTemplate.opsForHash().put(CommunityLikeService.DELTA_KEY, "2", "-1");
+
+        assertThat(likeService.like(1, 100L).getLikes()).isEqualTo(14);
+        assertThat(likeService.getPendingDeltas(List.of(1, 2, 3))).containsOnly(
+                entry(1, 4L),
+                entry(2, -1L));
+    }
+
+    @Test
+    void 삭제한_게시글의_좋아요_기록을_정리한다() {
+        when(communityRepository.findLikesByArticleId(1)).thenReturn(Optional.of(10));
+        likeService.like(1, 100L);
+
+        likeService.clear(1);
+
+        assertThat(redisTemplate.hasKey("community:article:1:likers")).isFalse();
+        assertThat(redisTemplate.hasKey(CommunityLikeService.getLikesKey(1))).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(CommunityLikeService.DELTA_KEY, "1")).isFalse();
+    }
+}
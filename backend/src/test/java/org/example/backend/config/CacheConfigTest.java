@@ -0,0 +1,45 @@
+package org.example.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.backend.channel.dto.response.CounselorDetailResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheConfigTest {
+
+    private final GenericJackson2JsonRedisSerializer serializer =
+            CacheConfig.cacheValueSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void 캐시_값은_원래_타입으로_복원된다() {
+        CounselorDetailResponse detail = CounselorDetailResponse.builder()
+                .id(1001L)
+                .name("김상담")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .specialties(new String[]{"청소년", "가족"})
+                .reviewCount(3)
+                .build();
+
+        Object restored = serializer.deserialize(serializer.serialize(detail));
+
+        assertThat(restored).isInstanceOf(CounselorDetailResponse.class);
+        assertThat(((CounselorDetailResponse) restored).getBirthDate()).isEqualTo(LocalDate.of(1990, 1, 1));
+        assertThat(serializer.deserialize(serializer.serialize(42L))).isEqualTo(42L);
+        assertThat(serializer.deserialize(serializer.serialize("분류 결과"))).isEqualTo("분류 결과");
+    }
+
+    @Test
+    void 허용하지_않은_클래스는_역직렬화하지_않는다() {
+        byte[] payload = "[\"java.net.URL\",\"http://example.com\"]".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> serializer.deserialize(payload)).isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.backend.localllm.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.example.backend.config.WebClientConfig;
+import org.example.backend.localllm.client.SummaryClient;
+import org.example.backend.localllm.client.SummaryEngine;
+import org.example.backend.localllm.client.TokenEstimator;
+import org.example.backend.localllm.dto.response.SummaryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 긴 상담 요약 전체 시간 측정 (스텁 LLM 서버)
+ *
+ * 같은 seed 로 100 ~ 5,000턴의 상담 대화를 만들고 SummaryEngine 으로 요약하는 데 걸린 시간(p50/max)과 LLM 호출 수를 로그로 남깁니다.
+ * 스텁 서버(Reactor Netty)는 요청마다 llm-base-ms + 요청 본문 1KB 당 llm-ms-per-kb 만큼 기다렸다가 고정된 요약을 돌려줍니다.
+ * 클라이언트는 실제 설정과 같은 llmWebClient, 동시 요청 수 제한, 분할 요약 설정을 사용합니다. (스텁은 일반 응답만 지원하므로 stream=false)
+ *
+ * 실행 예: ./gradlew benchmark --tests '*SummaryReplayBenchmark' -Pbench.llm-base-ms=200 -Pbench.rounds=5
+ */
+@Tag("benchmark")
+class SummaryReplayBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryReplayBenchmark.class);
+
+    private static final int[] TURNS = {100, 500, 1_000, 2_000, 5_000};
+    private static final String SUMMARY_JSON = "{\"summary_topic\": \"수면 문제\", \"symptoms\": \"잠들기 어려움\", "
+            + "\"treatment\": \"수면 위생 교육\", \"counselor_note\": \"다음 상담에서 확인\", \"next_schedule\": \"2025-05-01\"}";
+    private static final String[] SENTENCES = {
+            "요즘 잠을 잘 못 자고 있어요.", "그 일이 있고 나서 계속 마음이 불편했어요.", "말씀해 주셔서 감사합니다.",
+            "천천히 이야기해 주셔도 괜찮아요.", "학교에서 친구들과 대화하는 게 어려워요.", "가족들이 걱정을 많이 해요.",
+            "지난주보다는 조금 나아진 것 같아요.", "어떤 상황에서 가장 힘드셨나요?", "다음 상담 때 다시 이야기해 봐요."
+    };
+
+    private final int rounds = Integer.getInteger("bench.rounds", 3);
+    private final long seed = Long.getLong("bench.seed", 20250101L);
+    private final int llmBaseMs = Integer.getInteger("bench.llm-base-ms", 50);
+    private final int llmMsPerKb = Integer.getInteger("bench.llm-ms-per-kb", 2);
+    // application.yaml 의 llm.* 기본값
+    private final int contextWindowTokens = Integer.getInteger("bench.context-window-tokens", 4096);
+    private final int mapConcurrency = Integer.getInteger("bench.map-concurrency", 2);
+    private final int maxConcurrentRequests = Integer.getInteger("bench.max-concurrent-requests", 2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger llmCalls = new AtomicInteger();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private DisposableServer server;
+    private SummaryEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] completion = objectMapper.writeValueAsBytes(
+                Map.of("choices", List.of(Map.of("message", Map.of("role", "assistant", "content", SUMMARY_JSON)))));
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/v1/chat/completions", (request, response) -> request.receive()
+                        .aggregate()
+                        .asByteArray()
+                        .flatMap(body -> {
+                            llmCalls.incrementAndGet();
+                            requestBytes.addAndGet(body.length);
+                            return Mono.delay(Duration.ofMillis(llmBaseMs + (long) llmMsPerKb * body.length / 1024));
+                        })
+                        .then(response.status(HttpResponseStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendByteArray(Mono.just(completion))
+                                .then())))
+                .bindNow();
+
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "llmBaseUrl", "http://127.0.0.1:" + server.port() + "/v1/chat/completions");
+        ReflectionTestUtils.setField(config, "llmConnectTimeoutMs", 5000);
+        ReflectionTestUtils.setField(config, "llmReadTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(config, "llmMaxConnections", maxConcurrentRequests);
+        SummaryClient summaryClient = new SummaryClient(config.llmWebClient(), objectMapper, new SimpleMeterRegistry(),
+                "bench-model", false, 2000, 300, maxConcurrentRequests, 50);
+        engine = new SummaryEngine(summaryClient, new TokenEstimator(), contextWindowTokens, 512, mapConcurrency);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void 상담_길이별_요약_전체_시간() {
+        // JIT, 연결 준비
+        engine.summarize(transcript(new Random(seed), 200)).block();
+
+        for (int turns : TURNS) {
+            List<Map<String, String>> messages = transcript(new Random(seed), turns);
+            long[] elapsed = new long[rounds];
+            llmCalls.set(0);
+            requestBytes.set(0);
+            for (int round = 0; round < rounds; round++) {
+                long startedAt = System.nanoTime();
+                SummaryResponse summary = engine.summarize(messages).block(Duration.ofMinutes(10));
+                elapsed[round] = (System.nanoTime() - startedAt) / 1_000_000;
+                assertThat(summary.getSummary_topic()).isEqualTo("수면 문제");
+            }
+            Arrays.sort(elapsed);
+            logger.info("요약 전체 시간 ({}턴, {}회): p50={}ms, max={}ms, 요약당 LLM 호출 {}회, 요청 본문 {}KB",
+                    turns, rounds, elapsed[rounds / 2], elapsed[rounds - 1],
+                    llmCalls.get() / rounds, requestBytes.get() / rounds / 1024);
+        }
+    }
+
+    private List<Map<String, String>> transcript(Random random, int turns) {
+        List<Map<String, String>> messages = new ArrayList<>(turns);
+        for (int i = 0; i < turns; i++) {
+            StringBuilder content = new StringBuilder();
+            int sentences = 1 + random.nextInt(4);
+            for (int s = 0; s < sentences; s++) {
+                if (s > 0) {
+                    content.append(' ');
+                }
+                content.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+            }
+            Map<String, String> message = new LinkedHashMap<>();
+            message.put("role", i % 2 == 0 ? "ROLE_USER" : "ROLE_COUNSELOR");
+            message.put("content", content.toString());
+            message.put("currentTime", "2025-04-01T10:" + String.format("%02d:%02d", (i / 60) % 60, i % 60));
+            messages.add(message);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.backend.localllm.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmConcurrencyLimiterTest {
+
+    @Test
+    void 허가_수만큼만_동시에_실행하고_나머지는_순서대로_대기한다() {
+        LlmConcurrencyLimiter limiter = new LlmConcurrencyLimiter(1, 10);
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        List<String> started = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+
+        limiter.run(() -> {
+            started.add("first");
+            return first.asMono();
+        }).subscribe(results::add);
+        limiter.run(() -> {
+            started.add("second");
+            return second.asMono();
+        }).subscribe(results::add);
+
+        assertThat(started).containsExactly("first");
+        assertThat(limiter.getActive()).isEqualTo(1);
+        assertThat(limiter.getPending()).isEqualTo(1);
+
+        first.tryEmitValue("A");
+        assertThat(started).containsExactly("first", "second");
+        assertThat(limiter.getActive()).isEqualTo(1);
+        assertThat(limiter.getPending()).isZero();
+
+        second.tryEmitValue("B");
+        assertThat(results).containsExactly("A", "B");
+        assertThat(limiter.getActive()).isZero();
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_거절한다() {
+        LlmConcurrencyLimiter limiter = new LlmConcurrencyLimiter(1, 1);
+        limiter.run(Mono::never).subscribe();
+        limiter.run(Mono::never).subscribe();
+
+        StepVerifier.create(limiter.run(() -> Mono.just("C")))
+                .expectError(LlmBusyException.class)
+                .verify();
+        assertThat(limiter.getPending()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패하거나_취소된_요청도_허가를_반납한다() {
+        LlmConcurrencyLimiter limiter = new LlmConcurrencyLimiter(1, 10);
+
+        StepVerifier.create(limiter.run(() -> Mono.error(new IllegalStateException("LLM 오류"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(limiter.getActive()).isZero();
+
+        Disposable running = limiter.run(Mono::never).subscribe();
+        Disposable waiting = limiter.run(Mono::never).subscribe();
+        waiting.dispose();
+        assertThat(limiter.getPending()).isZero();
+        running.dispose();
+        assertThat(limiter.getActive()).isZero();
+
+        StepVerifier.create(limiter.run(() -> Mono.just("D")))
+                .expectNext("D")
+                .verifyComplete();
+    }
+}
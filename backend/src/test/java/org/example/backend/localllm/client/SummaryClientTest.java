@@ -0,0 +1,200 @@
+package org.example.backend.localllm.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.example.backend.config.WebClientConfig;
+import org.example.backend.localllm.dto.response.SummaryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 조각을 천천히 보내는 스텁 LLM 서버(Reactor Netty)로 SSE 조립과 read timeout 시 일반 요청 전환 확인
+ */
+class SummaryClientTest {
+
+    private static final String SUMMARY_JSON = "{\"summary_topic\": \"수면 문제\", \"symptoms\": \"잠들기 어려움\", "
+            + "\"treatment\": \"수면 위생 교육\", \"counselor_note\": \"다음 상담에서 확인\", \"next_schedule\": \"2025-05-01\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 스텁 서버가 받은 요청의 stream 값 (요청 순서대로)
+    private final List<Boolean> streamRequests = new CopyOnWriteArrayList<>();
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void 천천히_나눠_오는_SSE_조각을_순서대로_이어_붙여_요약을_만든다() {
+        // 토큰 조각 20개와 종료 이벤트를 UTF-8 문자 경계와 관계없이 37바이트씩 잘라 30ms 간격으로 전송
+        byte[] events = (sseEvents(tokens(SUMMARY_JSON, 20)) + "data: [DONE]\n\n").getBytes(StandardCharsets.UTF_8);
+        List<byte[]> pieces = new ArrayList<>();
+        for (int i = 0; i < events.length; i += 37) {
+            pieces.add(Arrays.copyOfRange(events, i, Math.min(events.length, i + 37)));
+        }
+        server = startServer((streaming, response) -> streaming
+                ? response.header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .sendByteArray(Flux.fromIterable(pieces).delayElements(Duration.ofMillis(30)))
+                        .then()
+                : json(response, "{}"));
+
+        SummaryResponse summary = client().requestSummary(messages()).block(Duration.ofSeconds(30));
+
+        assertThat(summary.getSummary_topic()).isEqualTo("수면 문제");
+        assertThat(summary.getSymptoms()).isEqualTo("잠들기 어려움");
+        assertThat(summary.getNext_schedule()).isEqualTo("2025-05-01");
+        assertThat(streamRequests).containsExactly(true);
+    }
+
+    @Test
+    void 스트리밍_응답이_read_timeout_동안_멈추면_일반_요청으로_다시_시도한다() {
+        // 첫 조각을 보낸 뒤 read timeout(1초)보다 오래 멈췄다가 나머지를 보냄 (기다렸다면 스트리밍으로도 완성되는 응답)
+        List<String> tokens = tokens(SUMMARY_JSON, 20);
+        String first = sseEvents(tokens.subList(0, 1));
+        String rest = sseEvents(tokens.subList(1, tokens.size())) + "data: [DONE]\n\n";
+        server = startServer((streaming, response) -> streaming
+                ? sse(response, Flux.concat(Flux.just(first), Mono.delay(Duration.ofSeconds(5)).thenReturn(rest)))
+                : json(response, completion(SUMMARY_JSON)));
+
+        SummaryResponse summary = client().requestSummary(messages()).block(Duration.ofSeconds(30));
+
+        assertThat(summary.getSummary_topic()).isEqualTo("수면 문제");
+        assertThat(streamRequests).containsExactly(true, false);
+    }
+
+    @Test
+    void 종료_표시_없이_끊긴_스트리밍_응답은_버리고_일반_요청으로_다시_시도한다() {
+        List<String> tokens = tokens(SUMMARY_JSON, 20);
+        server = startServer((streaming, response) -> streaming
+                ? sse(response, Flux.just(sseEvents(tokens.subList(0, 10))))
+                : json(response, completion(SUMMARY_JSON)));
+
+        SummaryResponse summary = client().requestSummary(messages()).block(Duration.ofSeconds(30));
+
+        assertThat(summary.getCounselor_note()).isEqualTo("다음 상담에서 확인");
+        assertThat(streamRequests).containsExactly(true, false);
+    }
+
+    @Test
+    void 빈_스트리밍_응답은_일반_요청으로_다시_시도한다() {
+        server = startServer((streaming, response) -> streaming
+                ? sse(response, Flux.just("data: [DONE]\n\n"))
+                : json(response, completion(SUMMARY_JSON)));
+
+        SummaryResponse summary = client().requestSummary(messages()).block(Duration.ofSeconds(30));
+
+        assertThat(summary.getTreatment()).isEqualTo("수면 위생 교육");
+        assertThat(streamRequests).containsExactly(true, false);
+    }
+
+    private DisposableServer startServer(StubHandler handler) {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/v1/chat/completions", (request, response) -> request.receive()
+                        .aggregate()
+                        .asString(StandardCharsets.UTF_8)
+                        .flatMap(body -> {
+                            boolean streaming = readTree(body).path("stream").asBoolean();
+                            streamRequests.add(streaming);
+                            return handler.handle(streaming, response);
+                        })))
+                .bindNow();
+    }
+
+    private SummaryClient client() {
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "llmBaseUrl", "http://127.0.0.1:" + server.port() + "/v1/chat/completions");
+        ReflectionTestUtils.setField(config, "llmConnectTimeoutMs", 1000);
+        ReflectionTestUtils.setField(config, "llmReadTimeoutSeconds", 1L);
+        ReflectionTestUtils.setField(config, "llmMaxConnections", 4);
+        return new SummaryClient(config.llmWebClient(), objectMapper, new SimpleMeterRegistry(),
+                "test-model", true, 2000, 30, 2, 10);
+    }
+
+    private Mono<Void> sse(HttpServerResponse response, Flux<String> chunks) {
+        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .sendString(chunks, StandardCharsets.UTF_8)
+                .then();
+    }
+
+    private Mono<Void> json(HttpServerResponse response, String body) {
+        return response.status(HttpResponseStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendString(Mono.just(body), StandardCharsets.UTF_8)
+                .then();
+    }
+
+    // OpenAI 호환 스트리밍 이벤트 (choices[0].delta.content), 종료 표시 [DONE] 는 호출하는 쪽에서 붙임
+    private String sseEvents(List<String> tokens) {
+        StringBuilder events = new StringBuilder();
+        for (String token : tokens) {
+            Map<String, Object> chunk = Map.of("choices", List.of(Map.of("delta", Map.of("content", token))));
+            events.append("data: ").append(write(chunk)).append("\n\n");
+        }
+        return events.toString();
+    }
+
+    private String completion(String content) {
+        return write(Map.of("choices", List.of(Map.of("message", Map.of("role", "assistant", "content", content)))));
+    }
+
+    private List<String> tokens(String text, int count) {
+        int size = (text.length() + count - 1) / count;
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += size) {
+            parts.add(text.substring(i, Math.min(text.length(), i + size)));
+        }
+        return parts;
+    }
+
+    private List<Map<String, String>> messages() {
+        return List.of(
+                Map.of("role", "ROLE_USER", "content", "요즘 잠을 잘 못 자요."),
+                Map.of("role", "ROLE_COUNSELOR", "content", "언제부터 그러셨나요?"));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        Mono<Void> handle(boolean streaming, HttpServerResponse response);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.backend.localllm.client;
+
+import org.example.backend.localllm.dto.response.SummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryEngineTest {
+
+    private static final int CONTEXT_WINDOW = 4096;
+    private static final int PARTIAL_MAX_TOKENS = 512;
+
+    private final SummaryClient summaryClient = mock(SummaryClient.class);
+    private final TokenEstimator tokenEstimator = new TokenEstimator();
+    private final SummaryEngine engine = new SummaryEngine(summaryClient, tokenEstimator, CONTEXT_WINDOW, PARTIAL_MAX_TOKENS, 2);
+
+    @BeforeEach
+    void setUp() {
+        when(summaryClient.getMaxTokens()).thenReturn(2000);
+        when(summaryClient.requestSummary(any())).thenReturn(Mono.just(summary("전체 요약")));
+        when(summaryClient.requestPartialSummary(any(), anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> Mono.just(summary("구간 " + invocation.getArgument(1))));
+        when(summaryClient.mergeSummaries(any(), anyInt())).thenReturn(Mono.just(summary("합친 요약")));
+    }
+
+    @Test
+    void 컨텍스트에_들어가는_상담은_한_번에_요약한다() {
+        SummaryResponse result = engine.summarize(messages(10, "오늘은 조금 괜찮았어요.")).block();
+
+        assertThat(result.getSummary_topic()).isEqualTo("전체 요약");
+        verify(summaryClient, never()).requestPartialSummary(any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 긴_상담은_예산_이하의_구간으로_나눠_순서대로_요약한_뒤_합친다() {
+        List<Map<String, String>> messages = messages(400, "요즘 잠을 잘 못 자고 계속 마음이 불편했어요.");
+
+        SummaryResponse result = engine.summarize(messages).block();
+
+        assertThat(result.getSummary_topic()).isEqualTo("합친 요약");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Map<String, String>>> windows = ArgumentCaptor.forClass(List.class);
+        verify(summaryClient, atLeast(2))
+                .requestPartialSummary(windows.capture(), anyInt(), anyInt(), anyInt());
+
+        int budget = CONTEXT_WINDOW - PARTIAL_MAX_TOKENS
+                - tokenEstimator.estimate(SummaryClient.SUMMARY_SYSTEM_PROMPT + SummaryClient.PARTIAL_SUMMARY_NOTE) - 64;
+        List<Map<String, String>> flattened = new ArrayList<>();
+        for (List<Map<String, String>> window : windows.getAllValues()) {
+            assertThat(tokenEstimator.estimateMessages(window)).isLessThanOrEqualTo(budget);
+            flattened.addAll(window);
+        }
+        // 메시지를 빠뜨리거나 순서를 바꾸지 않음
+        assertThat(flattened).isEqualTo(messages);
+    }
+
+    @Test
+    void 예산보다_긴_메시지는_잘라서_나눈다() {
+        String longContent = "가".repeat(10_000);
+
+        engine.summarize(List.of(Map.of("role", "ROLE_USER", "content", longContent))).block();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Map<String, String>>> windows = ArgumentCaptor.forClass(List.class);
+        verify(summaryClient, atLeast(3))
+                .requestPartialSummary(windows.capture(), anyInt(), anyInt(), anyInt());
+        StringBuilder joined = new StringBuilder();
+        windows.getAllValues().forEach(window -> window.forEach(piece -> {
+            assertThat(piece.get("role")).isEqualTo("ROLE_USER");
+            joined.append(piece.get("content"));
+        }));
+        assertThat(joined.toString()).isEqualTo(longContent);
+    }
+
+    private List<Map<String, String>> messages(int count, String content) {
+        List<Map<String, String>> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(Map.of("role", i % 2 == 0 ? "ROLE_USER" : "ROLE_COUNSELOR", "content", content + " " + i));
+        }
+        return messages;
+    }
+
+    private SummaryResponse summary(String topic) {
+        return SummaryResponse.builder().summary_topic(topic).build();
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.backend.localllm.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTest {
+
+    private final TokenEstimator estimator = new TokenEstimator();
+
+    @Test
+    void 한글은_글자당_1토큰_그_외는_4글자당_1토큰으로_추정한다() {
+        assertThat(estimator.estimate("안녕하세요")).isEqualTo(5);
+        assertThat(estimator.estimate("hello")).isEqualTo(2);
+        assertThat(estimator.estimate("잠을 잘 못 자요 zzz")).isEqualTo(7);
+        assertThat(estimator.estimate("")).isZero();
+        assertThat(estimator.estimate(null)).isZero();
+    }
+
+    @Test
+    void 메시지마다_고정_비용을_더한다() {
+        List<Map<String, String>> messages = List.of(
+                Map.of("role", "ROLE_USER", "content", "안녕하세요"),
+                Map.of("role", "ROLE_COUNSELOR"));
+
+        assertThat(estimator.estimateMessages(messages)).isEqualTo(4 + 5 + 4);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.backend.localllm.service;
+
+import org.example.backend.localllm.client.SummaryEngine;
+import org.example.backend.localllm.dto.request.SummaryRequest;
+import org.example.backend.localllm.dto.response.SummaryResponse;
+import org.example.backend.localllm.model.Summary;
+import org.example.backend.localllm.repository.SummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryServiceImplTest {
+
+    private final SummaryRepository summaryRepository = mock(SummaryRepository.class);
+    private final SummaryEngine summaryEngine = mock(SummaryEngine.class);
+    private final SummaryServiceImpl summaryService = new SummaryServiceImpl(summaryRepository, summaryEngine);
+
+    @Test
+    void 같은_작업의_요약이_이미_저장되어_있으면_LLM을_다시_호출하지_않는다() {
+        when(summaryRepository.findByJobId("job-1"))
+                .thenReturn(Optional.of(Summary.builder().summaryTopic("저장된 요약").jobId("job-1").build()));
+
+        SummaryResponse response = summaryService.summarizeAndSave(request(), 1001L, "job-1").block();
+
+        assertThat(response.getSummary_topic()).isEqualTo("저장된 요약");
+        verify(summaryEngine, never()).summarize(any());
+        verify(summaryRepository, never()).save(any());
+    }
+
+    @Test
+    void 요약을_작업_ID와_함께_저장한다() {
+        when(summaryRepository.findByJobId("job-1")).thenReturn(Optional.empty());
+        when(summaryEngine.summarize(any())).thenReturn(Mono.just(llmSummary("새 요약")));
+        when(summaryRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SummaryResponse response = summaryService.summarizeAndSave(request(), 1001L, "job-1").block();
+
+        assertThat(response.getSummary_topic()).isEqualTo("새 요약");
+        verify(summaryRepository).save(argThat(summary -> "job-1".equals(summary.getJobId())));
+    }
+
+    @Test
+    void 다른_서버가_같은_작업의_요약을_먼저_저장했으면_그_요약을_반환한다() {
+        when(summaryRepository.findByJobId("job-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(Summary.builder().summaryTopic("먼저 저장된 요약").jobId("job-1").build()));
+        when(summaryEngine.summarize(any())).thenReturn(Mono.just(llmSummary("새 요약")));
+        when(summaryRepository.save(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry 'job-1'"));
+
+        SummaryResponse response = summaryService.summarizeAndSave(request(), 1001L, "job-1").block();
+
+        assertThat(response.getSummary_topic()).isEqualTo("먼저 저장된 요약");
+    }
+
+    private SummaryRequest request() {
+        SummaryRequest request = new SummaryRequest();
+        request.setUserId(1L);
+        request.setCounselorId(1001L);
+        request.setChannelId(7L);
+        request.setMessages(List.of(Map.of("role", "ROLE_USER", "content", "안녕하세요")));
+        return request;
+    }
+
+    private SummaryResponse llmSummary(String topic) {
+        return SummaryResponse.builder().summary_topic(topic).build();
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.backend.s3;
+
+import org.example.backend.support.FakeS3Client;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3UploadStreamTest {
+
+    private final S3Client s3Client = mock(S3Client.class);
+
+    @Test
+    void 작은_객체는_작은_버퍼로_한_번에_업로드한다() throws IOException {
+        S3UploadStream out = new S3UploadStream(s3Client, "bucket", "log.txt", "text/plain", false);
+        out.write("안녕하세요".getBytes(StandardCharsets.UTF_8));
+        out.close();
+
+        assertThat(out.bufferCapacity()).isEqualTo(S3UploadStream.INITIAL_BUFFER_SIZE);
+        ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(any(PutObjectRequest.class), body.capture());
+        assertThat(read(body.getValue())).isEqualTo("안녕하세요".getBytes(StandardCharsets.UTF_8));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void 버퍼는_쓴_만큼만_늘어난다() throws IOException {
+        S3UploadStream out = new S3UploadStream(s3Client, "bucket", "log.txt", "text/plain", false);
+        out.write(new byte[100 * 1024]);
+
+        assertThat(out.bufferCapacity()).isEqualTo(128 * 1024);
+        out.abort();
+    }
+
+    @Test
+    void 한_파트를_넘으면_멀티파트로_나눠_올린다() throws IOException {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        List<Integer> partSizes = new ArrayList<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            partSizes.add(read(invocation.getArgument(1)).length);
+            return UploadPartResponse.builder().eTag("etag-" + partSizes.size()).build();
+        });
+
+        S3UploadStream out = new S3UploadStream(s3Client, "bucket", "log.txt", "text/plain", false);
+        byte[] chunk = new byte[1024 * 1024];
+        for (int i = 0; i < 11; i++) {
+            out.write(chunk);
+        }
+        out.close();
+
+        assertThat(out.bufferCapacity()).isEqualTo(S3UploadStream.PART_SIZE);
+        assertThat(partSizes).containsExactly(S3UploadStream.PART_SIZE, S3UploadStream.PART_SIZE, 1024 * 1024);
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void 업로드가_실패하면_멀티파트_업로드를_취소한다() throws IOException {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag-1").build())
+                .thenThrow(SdkClientException.create("연결 끊김"));
+
+        S3UploadStream out = new S3UploadStream(s3Client, "bucket", "log.txt", "text/plain", false);
+        out.write(new byte[S3UploadStream.PART_SIZE + 1]);
+
+        assertThatThrownBy(out::close).isInstanceOf(IOException.class);
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void 파트를_이어_붙인_객체는_쓴_내용과_바이트_단위로_같다(boolean gzip) throws IOException {
+        // 압축해도 여러 파트가 되도록 압축되지 않는 임의 데이터를 불규칙한 크기로 나눠 씀 (한 바이트 쓰기 포함)
+        FakeS3Client fakeS3 = new FakeS3Client();
+        Random random = new Random(42);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        S3UploadStream out = new S3UploadStream(fakeS3, "bucket", "log.bin", "application/octet-stream", gzip);
+        while (written.size() < 2 * S3UploadStream.PART_SIZE + 12345) {
+            byte[] chunk = new byte[1 + random.nextInt(64 * 1024)];
+            random.nextBytes(chunk);
+            out.write(chunk);
+            written.write(chunk);
+            int single = random.nextInt(256);
+            out.write(single);
+            written.write(single);
+        }
+        out.close();
+
+        FakeS3Client.StoredObject object = fakeS3.getObject("log.bin");
+        byte[] content = gzip ? gunzip(object.content()) : object.content();
+        assertThat(content).isEqualTo(written.toByteArray());
+        assertThat(object.partCount()).isEqualTo(3);
+        assertThat(object.contentEncoding()).isEqualTo(gzip ? "gzip" : null);
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void 취소한_업로드는_객체를_남기지_않는다() throws IOException {
+        FakeS3Client fakeS3 = new FakeS3Client();
+        S3UploadStream out = new S3UploadStream(fakeS3, "bucket", "log.bin", "application/octet-stream", false);
+        out.write(new byte[S3UploadStream.PART_SIZE + 1]);
+        out.abort();
+
+        assertThat(fakeS3.objects()).isEmpty();
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+
+    private byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private byte[] read(RequestBody body) throws IOException {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
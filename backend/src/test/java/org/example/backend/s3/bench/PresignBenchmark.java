@@ -0,0 +1,117 @@
+package org.example.backend.s3.bench;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.s3.PresignedUrlService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Presigned URL 발급 성능 비교
+ *
+ * 서명은 로컬 계산이라 S3 에 요청하지 않으므로 임의의 자격 증명으로 실행합니다.
+ * - 기존 방식: 호출마다 S3Presigner 생성 후 서명
+ * - 공유 Presigner: PresignedUrlService 로 처음 발급 (캐시 없음)
+ * - 캐시 재사용: 같은 키로 다시 발급
+ * - 일괄 발급: 새 키 목록을 getUrls 로 한 번에 발급
+ *
+ * 실행 예: ./gradlew benchmark --tests '*PresignBenchmark' -Pbench.presign-count=1000
+ */
+@Tag("benchmark")
+class PresignBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresignBenchmark.class);
+
+    private static final String BUCKET = "malang-bench";
+    private static final Region REGION = Region.AP_NORTHEAST_2;
+    private static final StaticCredentialsProvider CREDENTIALS =
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("bench-access-key", "bench-secret-key"));
+
+    private final int presignCount = Integer.getInteger("bench.presign-count", 1_000);
+
+    private S3Presigner sharedPresigner;
+    private PresignedUrlService presignedUrlService;
+
+    @BeforeEach
+    void setUp() {
+        sharedPresigner = S3Presigner.builder().region(REGION).credentialsProvider(CREDENTIALS).build();
+        presignedUrlService = new PresignedUrlService(sharedPresigner, new SimpleMeterRegistry(), BUCKET,
+                Duration.ofMinutes(15), Duration.ofMinutes(2), 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sharedPresigner.close();
+    }
+
+    @Test
+    void 발급_방식별_Presigned_URL_발급_시간() {
+        List<String> keys = keys("bench/presign/");
+
+        long startedAt = System.nanoTime();
+        for (String key : keys) {
+            presignWithNewPresigner(key);
+        }
+        log("기존 방식 (호출마다 Presigner 생성)", startedAt);
+
+        startedAt = System.nanoTime();
+        for (String key : keys) {
+            presignedUrlService.getUrl(key);
+        }
+        log("공유 Presigner", startedAt);
+
+        startedAt = System.nanoTime();
+        for (String key : keys) {
+            presignedUrlService.getUrl(key);
+        }
+        log("캐시 재사용", startedAt);
+
+        List<String> batchKeys = keys("bench/presign-batch/");
+        startedAt = System.nanoTime();
+        assertThat(presignedUrlService.getUrls(batchKeys)).hasSize(presignCount);
+        log("일괄 발급", startedAt);
+    }
+
+    private List<String> keys(String prefix) {
+        List<String> keys = new ArrayList<>(presignCount);
+        for (int i = 0; i < presignCount; i++) {
+            keys.add(prefix + i + ".txt");
+        }
+        return keys;
+    }
+
+    // 변경 전 S3Uploader.generatePresignedUrl 과 같은 방식 (측정 중 자원이 쌓이지 않도록 close 만 추가)
+    private String presignWithNewPresigner(String key) {
+        try (S3Presigner presigner = S3Presigner.builder()
+                .region(REGION)
+                .credentialsProvider(CREDENTIALS)
+                .build()) {
+            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                    .signatureDuration(Duration.ofMinutes(15))
+                    .getObjectRequest(GetObjectRequest.builder().bucket(BUCKET).key(key).build())
+                    .build();
+            return presigner.presignGetObject(presignRequest).url().toString();
+        }
+    }
+
+    private void log(String name, long startedAt) {
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        logger.info("Presigned URL {}건 - {}: 전체 {}ms, 건당 {}us",
+                presignCount, name, elapsedMicros / 1_000, elapsedMicros / Math.max(presignCount, 1));
+    }
+}
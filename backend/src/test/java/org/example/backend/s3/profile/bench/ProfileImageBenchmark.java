@@ -0,0 +1,156 @@
+package org.example.backend.s3.profile.bench;
+
+import org.example.backend.s3.profile.image.ProfileImageProcessor;
+import org.example.backend.s3.profile.image.ProfileImageSize;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 프로필 이미지 변환 처리량 측정 (S3 업로드 제외)
+ *
+ * sample-dir 의 이미지(jpg/png)를 사용하고, 지정하지 않으면 같은 seed 로 휴대폰 사진 크기의 샘플을 만들어 사용합니다.
+ * - 순차 처리: 한 스레드에서 이미지마다 디코딩 1회 + 크기별 변환
+ * - 병렬 처리: ProfileImageService 와 같은 구조로 스레드 풀에서 이미지와 크기별 변환을 병렬 처리
+ *
+ * 실행 예: ./gradlew benchmark --tests '*ProfileImageBenchmark' -Pbench.sample-dir=/data/photos -Pbench.threads=8
+ */
+@Tag("benchmark")
+class ProfileImageBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileImageBenchmark.class);
+
+    // 휴대폰 사진에서 흔한 해상도
+    private static final int[][] SAMPLE_DIMENSIONS = {{1080, 1350}, {3024, 4032}, {4000, 3000}, {1920, 1080}};
+
+    // application.yaml 의 profile.image 기본값과 같은 설정
+    private final ProfileImageProcessor processor = new ProfileImageProcessor(0.85f, 50_000_000L);
+
+    private final String sampleDir = System.getProperty("bench.sample-dir", "");
+    private final int sampleCount = Integer.getInteger("bench.sample-count", 40);
+    private final long seed = Long.getLong("bench.seed", 20250101L);
+    // 0 이면 CPU 코어 수
+    private final int threads = Integer.getInteger("bench.threads", 0);
+
+    @Test
+    void 순차_처리와_병렬_처리의_이미지_변환_처리량() throws IOException {
+        List<byte[]> samples = loadSamples();
+        long inputBytes = samples.stream().mapToLong(sample -> sample.length).sum();
+        logger.info("이미지 변환 벤치마크: 샘플 {}개, 총 {}KB", samples.size(), inputBytes / 1024);
+
+        // JIT 준비
+        processAll(samples.subList(0, Math.min(3, samples.size())));
+
+        long startedAt = System.nanoTime();
+        long outputBytes = processAll(samples);
+        log("순차 처리", samples.size(), startedAt, outputBytes);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            startedAt = System.nanoTime();
+            AtomicLong parallelBytes = new AtomicLong();
+            CompletableFuture.allOf(samples.stream()
+                    .map(sample -> CompletableFuture.supplyAsync(() -> processor.decode(sample), executor)
+                            .thenCompose(source -> CompletableFuture.allOf(Arrays.stream(ProfileImageSize.values())
+                                    .map(size -> CompletableFuture.runAsync(
+                                            () -> parallelBytes.addAndGet(processor.render(source, size).length), executor))
+                                    .toArray(CompletableFuture[]::new))))
+                    .toArray(CompletableFuture[]::new)).join();
+            log("병렬 처리 (" + poolSize + " 스레드)", samples.size(), startedAt, parallelBytes.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long processAll(List<byte[]> samples) {
+        long outputBytes = 0;
+        for (byte[] sample : samples) {
+            ProfileImageProcessor.SourceImage source = processor.decode(sample);
+            for (ProfileImageSize size : ProfileImageSize.values()) {
+                outputBytes += processor.render(source, size).length;
+            }
+        }
+        return outputBytes;
+    }
+
+    private List<byte[]> loadSamples() throws IOException {
+        List<byte[]> samples = new ArrayList<>();
+        if (!sampleDir.isBlank()) {
+            try (Stream<Path> files = Files.list(Path.of(sampleDir))) {
+                for (Path file : files.filter(this::isImage).sorted().limit(sampleCount).toList()) {
+                    samples.add(Files.readAllBytes(file));
+                }
+            }
+        }
+        if (samples.isEmpty()) {
+            Random random = new Random(seed);
+            for (int i = 0; i < sampleCount; i++) {
+                int[] dimension = SAMPLE_DIMENSIONS[i % SAMPLE_DIMENSIONS.length];
+                samples.add(syntheticPhoto(random, dimension[0], dimension[1]));
+            }
+        }
+        return samples;
+    }
+
+    private boolean isImage(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".jpg") || name.endsWith(".jpeg") || name.endsWith(".png");
+    }
+
+    // 그라데이션 + 도형 + 노이즈로 실제 사진과 비슷한 압축률이 나오도록 생성
+    private byte[] syntheticPhoto(Random random, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setPaint(new java.awt.GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)),
+                    width, height, new Color(random.nextInt(0xFFFFFF))));
+            graphics.fillRect(0, 0, width, height);
+            for (int i = 0; i < 40; i++) {
+                graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+                graphics.fillOval(random.nextInt(width), random.nextInt(height), 50 + random.nextInt(width / 3), 50 + random.nextInt(height / 3));
+            }
+        } finally {
+            graphics.dispose();
+        }
+        for (int y = 0; y < height; y += 2) {
+            for (int x = 0; x < width; x += 2) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(17) - 8;
+                int r = Math.max(0, Math.min(255, ((rgb >> 16) & 0xFF) + noise));
+                int g = Math.max(0, Math.min(255, ((rgb >> 8) & 0xFF) + noise));
+                int b = Math.max(0, Math.min(255, (rgb & 0xFF) + noise));
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private void log(String name, int count, long startedAt, long outputBytes) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        logger.info("이미지 변환 {}: {}개, 전체 {}ms, 이미지당 {}ms, 초당 {}개, 결과 총 {}KB",
+                name, count, elapsedMs, elapsedMs / Math.max(count, 1),
+                String.format("%.1f", count * 1000.0 / elapsedMs), outputBytes / 1024);
+    }
+}
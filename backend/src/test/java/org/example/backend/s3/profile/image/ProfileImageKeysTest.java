@@ -0,0 +1,51 @@
+package org.example.backend.s3.profile.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileImageKeysTest {
+
+    private static final String BASE = "profile-images/user_7_3f2b9c1e-8a4d-4f6b-9d2e-1c5a7b8e9f00";
+
+    @Test
+    void 새_업로드는_사용자별_접두사_아래에_크기별_키를_만든다() {
+        String base = ProfileImageKeys.newBase(7L);
+
+        assertThat(base).matches("profile-images/user_7_[0-9a-f-]{36}");
+        assertThat(ProfileImageKeys.variantKey(base, ProfileImageSize.MEDIUM)).isEqualTo(base + "/128.jpg");
+    }
+
+    @Test
+    void 크기별로_저장된_키는_요청한_크기의_키로_바꾼다() {
+        String stored = BASE + "/512.jpg";
+
+        assertThat(ProfileImageKeys.resolve(stored, ProfileImageSize.SMALL)).isEqualTo(BASE + "/64.jpg");
+        assertThat(ProfileImageKeys.resolve(stored, ProfileImageSize.LARGE)).isEqualTo(stored);
+    }
+
+    @Test
+    void 이전_방식으로_저장된_키와_빈_키는_그대로_반환한다() {
+        String legacy = "profile-images/user_7_3f2b9c1e-8a4d-4f6b-9d2e-1c5a7b8e9f00.jpg";
+
+        assertThat(ProfileImageKeys.resolve(legacy, ProfileImageSize.SMALL)).isEqualTo(legacy);
+        assertThat(ProfileImageKeys.resolve(null, ProfileImageSize.SMALL)).isNull();
+        assertThat(ProfileImageKeys.resolve("", ProfileImageSize.SMALL)).isEmpty();
+    }
+
+    @Test
+    void 삭제할_키는_크기별_이미지_전체이고_이전_방식은_그_키_하나다() {
+        assertThat(ProfileImageKeys.allKeys(BASE + "/512.jpg"))
+                .containsExactly(BASE + "/64.jpg", BASE + "/128.jpg", BASE + "/512.jpg");
+        assertThat(ProfileImageKeys.allKeys("profile-images/old.png")).containsExactly("profile-images/old.png");
+    }
+
+    @Test
+    void 요청한_크기_이상인_것_중_가장_작은_크기를_고른다() {
+        assertThat(ProfileImageSize.atLeast(null)).isEqualTo(ProfileImageSize.LARGE);
+        assertThat(ProfileImageSize.atLeast(40)).isEqualTo(ProfileImageSize.SMALL);
+        assertThat(ProfileImageSize.atLeast(64)).isEqualTo(ProfileImageSize.SMALL);
+        assertThat(ProfileImageSize.atLeast(65)).isEqualTo(ProfileImageSize.MEDIUM);
+        assertThat(ProfileImageSize.atLeast(2000)).isEqualTo(ProfileImageSize.LARGE);
+    }
+}
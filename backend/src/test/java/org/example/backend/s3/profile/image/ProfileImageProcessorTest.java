@@ -0,0 +1,116 @@
+package org.example.backend.s3.profile.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProfileImageProcessorTest {
+
+    private final ProfileImageProcessor processor = new ProfileImageProcessor(0.9f, 1_000_000);
+
+    @Test
+    void EXIF_회전_정보를_픽셀에_반영하고_결과에는_EXIF를_남기지_않는다() throws IOException {
+        // 위쪽 절반 빨강, 아래쪽 절반 파랑 + Orientation 6 (시계 방향 90도 회전해서 보여야 함)
+        byte[] jpeg = withExifOrientation(halfRedHalfBlue(200), 6);
+
+        ProfileImageProcessor.SourceImage source = processor.decode(jpeg);
+        byte[] rendered = processor.render(source, ProfileImageSize.SMALL);
+
+        assertThat(source.orientation()).isEqualTo(6);
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(rendered));
+        assertThat(result.getWidth()).isEqualTo(64);
+        assertThat(result.getHeight()).isEqualTo(64);
+        assertThat(dominant(result.getRGB(56, 32))).isEqualTo("red");
+        assertThat(dominant(result.getRGB(8, 32))).isEqualTo("blue");
+        assertThat(new String(rendered, StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @Test
+    void 회전_정보가_없으면_그대로_변환한다() throws IOException {
+        ProfileImageProcessor.SourceImage source = processor.decode(jpeg(halfRedHalfBlue(200)));
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(processor.render(source, ProfileImageSize.SMALL)));
+
+        assertThat(source.orientation()).isEqualTo(1);
+        assertThat(dominant(result.getRGB(32, 8))).isEqualTo("red");
+        assertThat(dominant(result.getRGB(32, 56))).isEqualTo("blue");
+    }
+
+    @Test
+    void 가로로_긴_이미지는_가운데를_정사각형으로_자른다() throws IOException {
+        BufferedImage wide = new BufferedImage(300, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = wide.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 100, 100);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(100, 0, 100, 100);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(200, 0, 100, 100);
+        graphics.dispose();
+
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(
+                processor.render(processor.decode(jpeg(wide)), ProfileImageSize.SMALL)));
+
+        assertThat(dominant(result.getRGB(4, 32))).isEqualTo("blue");
+        assertThat(dominant(result.getRGB(60, 32))).isEqualTo("blue");
+    }
+
+    @Test
+    void 이미지가_아니거나_해상도가_너무_크면_예외가_발생한다() throws IOException {
+        assertThatThrownBy(() -> processor.decode("not an image".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> processor.decode(jpeg(new BufferedImage(1_200, 1_000, BufferedImage.TYPE_INT_RGB))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해상도");
+    }
+
+    private BufferedImage halfRedHalfBlue(int side) {
+        BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, side, side / 2);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, side / 2, side, side / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 하나만 담은 APP1(Exif) 세그먼트 추가 (big-endian TIFF)
+    private byte[] withExifOrientation(BufferedImage image, int orientation) throws IOException {
+        byte[] jpeg = jpeg(image);
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(app1);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private String dominant(int rgb) {
+        int red = (rgb >> 16) & 0xFF;
+        int blue = rgb & 0xFF;
+        return red > blue ? "red" : "blue";
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.backend.s3.profile.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.auth.service.UserInfoService;
+import org.example.backend.s3.PresignedUrlService;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.profile.image.ProfileImageProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileImageServiceTest {
+
+    private final ProfileImageProcessor processor = mock(ProfileImageProcessor.class);
+    private final UserInfoService userInfoService = mock(UserInfoService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ProfileImageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProfileImageService(processor, mock(S3Uploader.class), mock(PresignedUrlService.class),
+                userInfoService, new SimpleMeterRegistry(), 1, 1, DataSize.ofMegabytes(10));
+        service.start();
+        when(processor.decode(any())).thenAnswer(invocation -> {
+            release.await();
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        service.stop();
+    }
+
+    @Test
+    void 처리_중인_업로드가_최대치면_파일을_읽기_전에_거절한다() throws IOException {
+        service.upload(1L, file(new byte[16]));
+        MultipartFile rejected = file(new byte[16]);
+
+        assertThatThrownBy(() -> service.upload(2L, rejected)).isInstanceOf(ProfileImageBusyException.class);
+
+        verify(rejected, never()).getBytes();
+        verify(userInfoService, never()).getUserProfileKey(2L);
+    }
+
+    @Test
+    void 파일을_읽지_못하거나_사용자가_없으면_허가를_반납한다() throws IOException {
+        MultipartFile unreadable = file(new byte[16]);
+        when(unreadable.getBytes()).thenThrow(new IOException("임시 파일 없음"));
+        when(userInfoService.getUserProfileKey(2L)).thenThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        assertThatThrownBy(() -> service.upload(1L, unreadable)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.upload(2L, file(new byte[16]))).isInstanceOf(IllegalArgumentException.class);
+
+        // 허가가 남아 있어 다음 업로드를 받음
+        service.upload(3L, file(new byte[16]));
+        verify(processor, timeout(1_000)).decode(any());
+    }
+
+    private MultipartFile file(byte[] data) throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getSize()).thenReturn((long) data.length);
+        when(file.getBytes()).thenReturn(data);
+        return file;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.backend.s3.summarychatlog.bench;
+
+import org.example.backend.s3.summarychatlog.masking.PiiMasker;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 상담 로그 마스킹 처리량 측정 (S3 읽기/쓰기 제외)
+ *
+ * 같은 seed 로 텍스트 로그 형식("[이름] 내용")의 샘플을 만들고 일부 줄에 이름/전화번호/이메일/주민등록번호를 섞습니다.
+ * - 단일 스레드: 샘플 하나를 스트림으로 마스킹
+ * - 병렬: 일괄 처리와 같이 threads 개 스레드에서 샘플을 하나씩 마스킹
+ *
+ * 실행 예: ./gradlew benchmark --tests '*PiiMaskingBenchmark' -Pbench.transcript-mb=8 -Pbench.threads=4
+ */
+@Tag("benchmark")
+class PiiMaskingBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiiMaskingBenchmark.class);
+
+    private static final String USER_NAME = "김민지";
+    private static final String COUNSELOR_NAME = "박상우";
+    private static final String[] SENTENCES = {
+            "요즘 잠을 잘 못 자고 있어요.", "그 일이 있고 나서 계속 마음이 불편했어요.", "말씀해 주셔서 감사합니다.",
+            "천천히 이야기해 주셔도 괜찮아요.", "학교에서 친구들과 대화하는 게 어려워요.", "가족들이 걱정을 많이 해요.",
+            "지난주보다는 조금 나아진 것 같아요.", "어떤 상황에서 가장 힘드셨나요?", "다음 상담 때 다시 이야기해 봐요."
+    };
+
+    private final int transcriptMb = Integer.getInteger("bench.transcript-mb", 8);
+    private final long seed = Long.getLong("bench.seed", 20250101L);
+    // application.yaml 의 summary.masking.threads 기본값
+    private final int threads = Integer.getInteger("bench.threads", 4);
+
+    @Test
+    void 단일_스레드와_병렬_마스킹_처리량() throws IOException {
+        byte[] transcript = sampleTranscript(new Random(seed), transcriptMb * 1024 * 1024);
+        PiiMasker masker = PiiMasker.forNames(Map.of(USER_NAME, "사용자", COUNSELOR_NAME, "상담사"));
+
+        // JIT 준비
+        maskOnce(masker, transcript);
+
+        long startedAt = System.nanoTime();
+        long written = maskOnce(masker, transcript);
+        log("단일 스레드", transcript.length, startedAt);
+        logger.info("마스킹 결과 크기: 입력 {}KB -> 출력 {}KB", transcript.length / 1024, written / 1024);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            startedAt = System.nanoTime();
+            for (int i = 0; i < threads * 2; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return maskOnce(masker, transcript);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            log("병렬 (" + threads + " 스레드)", (long) transcript.length * futures.size(), startedAt);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 출력은 바이트 수만 세고 버림
+    private long maskOnce(PiiMasker masker, byte[] transcript) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        masker.mask(new InputStreamReader(new ByteArrayInputStream(transcript), StandardCharsets.UTF_8), writer);
+        writer.flush();
+        return out.count;
+    }
+
+    private byte[] sampleTranscript(Random random, int targetBytes) {
+        StringBuilder builder = new StringBuilder("채팅 내역:\n\n");
+        while (builder.length() * 3 < targetBytes) {
+            boolean user = random.nextBoolean();
+            builder.append('[').append(user ? USER_NAME : COUNSELOR_NAME).append("] ");
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+            switch (random.nextInt(20)) {
+                case 0 -> builder.append(" 제 번호는 010-").append(1000 + random.nextInt(9000)).append('-').append(1000 + random.nextInt(9000)).append(" 이에요.");
+                case 1 -> builder.append(" 메일은 user").append(random.nextInt(10_000)).append("@example.com 으로 주세요.");
+                case 2 -> builder.append(" 주민번호는 9").append(random.nextInt(10)).append("0101-").append(1_000_000 + random.nextInt(9_000_000)).append(" 입니다.");
+                case 3 -> builder.append(' ').append(user ? COUNSELOR_NAME : USER_NAME).append("님 고맙습니다.");
+                default -> { }
+            }
+            builder.append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void log(String name, long bytes, long startedAt) {
+        double seconds = Math.max(1, System.nanoTime() - startedAt) / 1_000_000_000.0;
+        logger.info("마스킹 처리량 {}: {}MB, {}ms, {} MB/s", name, String.format("%.1f", bytes / 1048576.0),
+                Math.round(seconds * 1000), String.format("%.1f", bytes / 1048576.0 / seconds));
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
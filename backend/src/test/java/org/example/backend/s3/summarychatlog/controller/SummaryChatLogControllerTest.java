@@ -0,0 +1,71 @@
+package org.example.backend.s3.summarychatlog.controller;
+
+import org.example.backend.auth.model.User;
+import org.example.backend.auth.repository.UserRepository;
+import org.example.backend.s3.summarychatlog.dto.SummaryChatLogPageResponse;
+import org.example.backend.s3.summarychatlog.masking.TranscriptMaskingService;
+import org.example.backend.s3.summarychatlog.service.SummaryChatLogService;
+import org.example.backend.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryChatLogControllerTest {
+
+    private final SummaryChatLogService summaryChatLogService = mock(SummaryChatLogService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SummaryChatLogController controller = new SummaryChatLogController(summaryChatLogService,
+            mock(TranscriptMaskingService.class), mock(JwtTokenProvider.class), userRepository);
+
+    @BeforeEach
+    void setUp() {
+        UserDetails principal = org.springframework.security.core.userdetails.User
+                .withUsername("counselor@malang.com").password("").authorities("ROLE_COUNSELOR").build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_COUNSELOR"))));
+        User counselor = mock(User.class);
+        when(counselor.getId()).thenReturn(7L);
+        when(userRepository.findByEmail("counselor@malang.com")).thenReturn(Optional.of(counselor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 상담_로그_목록은_로그인한_상담사의_로그만_조회한다() {
+        SummaryChatLogPageResponse page = SummaryChatLogPageResponse.builder().logs(List.of()).hasNext(false).build();
+        when(summaryChatLogService.getTextLogsForCounselor(7L, null, 20, null, null, null)).thenReturn(page);
+
+        ResponseEntity<?> response = controller.getTextLogs(null, 20, null, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(page);
+        verify(summaryChatLogService).getTextLogsForCounselor(7L, null, 20, null, null, null);
+    }
+
+    @Test
+    void 잘못된_커서는_400으로_응답한다() {
+        when(summaryChatLogService.getTextLogsForCounselor(7L, "broken", 20, null, null, null))
+                .thenThrow(new IllegalArgumentException("잘못된 커서입니다."));
+
+        ResponseEntity<?> response = controller.getTextLogs("broken", 20, null, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
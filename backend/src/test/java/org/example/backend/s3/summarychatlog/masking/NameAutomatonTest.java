@@ -0,0 +1,57 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameAutomatonTest {
+
+    @Test
+    void 등록한_이름의_모든_출현_위치를_찾는다() {
+        NameAutomaton automaton = new NameAutomaton(Map.of("김민지", "사용자"));
+
+        assertThat(find(automaton, "[김민지] 안녕하세요 김민지님"))
+                .containsExactly(new PiiMatch(1, 4, "사용자"), new PiiMatch(12, 15, "사용자"));
+    }
+
+    @Test
+    void 겹치거나_다른_이름을_포함하는_이름도_모두_찾는다() {
+        Map<String, String> names = new LinkedHashMap<>();
+        names.put("he", "A");
+        names.put("she", "B");
+        names.put("his", "C");
+        names.put("hers", "D");
+        NameAutomaton automaton = new NameAutomaton(names);
+
+        // 실패 링크를 따라가야 찾을 수 있는 이름 (she 안의 he, hers 안의 he)
+        assertThat(find(automaton, "ushers")).containsExactlyInAnyOrder(
+                new PiiMatch(1, 4, "B"), new PiiMatch(2, 4, "A"), new PiiMatch(2, 6, "D"));
+    }
+
+    @Test
+    void 대소문자를_구분하지_않는다() {
+        NameAutomaton automaton = new NameAutomaton(Map.of("Minji", "사용자"));
+
+        assertThat(find(automaton, "MINJI minji")).containsExactly(
+                new PiiMatch(0, 5, "사용자"), new PiiMatch(6, 11, "사용자"));
+    }
+
+    @Test
+    void 이름이_없으면_아무것도_찾지_않는다() {
+        NameAutomaton automaton = new NameAutomaton(Map.of());
+
+        assertThat(automaton.isEmpty()).isTrue();
+        assertThat(find(automaton, "김민지")).isEmpty();
+    }
+
+    private List<PiiMatch> find(NameAutomaton automaton, String text) {
+        List<PiiMatch> matches = new ArrayList<>();
+        automaton.findAll(text, matches);
+        return matches;
+    }
+}
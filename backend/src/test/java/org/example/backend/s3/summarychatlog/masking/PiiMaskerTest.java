@@ -0,0 +1,108 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PiiMaskerTest {
+
+    private final PiiMasker masker = PiiMasker.forNames(Map.of("김민지", "사용자", "박상우", "상담사"));
+
+    @Test
+    void 참여자_이름을_역할로_바꾼다() {
+        assertThat(masker.mask("[김민지] 박상우 선생님 안녕하세요."))
+                .isEqualTo("[사용자] 상담사 선생님 안녕하세요.");
+    }
+
+    @Test
+    void 전화번호_이메일_주민등록번호를_가린다() {
+        assertThat(masker.mask("번호는 010-1234-5678, 집은 02 123 4567, 해외에서는 +82 10-1234-5678 이에요."))
+                .isEqualTo("번호는 [전화번호], 집은 [전화번호], 해외에서는 [전화번호] 이에요.");
+        assertThat(masker.mask("메일은 minji.kim@example.co.kr 으로 주세요."))
+                .isEqualTo("메일은 [이메일] 으로 주세요.");
+        assertThat(masker.mask("주민번호는 900101-1234567 입니다."))
+                .isEqualTo("주민번호는 [주민등록번호] 입니다.");
+    }
+
+    @Test
+    void 더_긴_숫자의_일부나_날짜는_가리지_않는다() {
+        String text = "계좌 12301012345678 로 2025-03-01 에 보냈어요.";
+
+        assertThat(masker.mask(text)).isEqualTo(text);
+    }
+
+    @Test
+    void 겹치면_먼저_시작하고_긴_것으로_바꾼다() {
+        PiiMasker english = PiiMasker.forNames(Map.of("minji", "사용자"));
+
+        assertThat(english.mask("minji@example.com 또는 Minji")).isEqualTo("[이메일] 또는 사용자");
+    }
+
+    @Test
+    void 비어_있거나_한_글자인_이름은_가리지_않는다() {
+        Map<String, String> names = new HashMap<>();
+        names.put(null, "사용자");
+        names.put(" ", "사용자");
+        names.put("김", "상담사");
+
+        assertThat(PiiMasker.forNames(names).mask("김 선생님")).isEqualTo("김 선생님");
+    }
+
+    @Test
+    void 스트림으로_나눠_읽어도_한_번에_가린_결과와_같다() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text.append("[김민지] 제 번호는 010-1234-").append(1000 + i).append(" 이에요.\n");
+        }
+        StringWriter out = new StringWriter();
+
+        long read = masker.mask(new ChunkedReader(text.toString(), 7), out);
+
+        assertThat(read).isEqualTo(text.length());
+        assertThat(out.toString()).isEqualTo(masker.mask(text.toString()));
+        assertThat(out.toString()).doesNotContain("김민지", "010-1234-");
+    }
+
+    @Test
+    void 줄바꿈_없는_긴_입력은_공백에서_나눠도_개인정보를_모두_가린다() throws IOException {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 200_000) {
+            text.append("김민지 010 1234 5678 minji@example.com ");
+        }
+        StringWriter out = new StringWriter();
+
+        masker.mask(new StringReader(text.toString()), out);
+
+        assertThat(out.toString()).isEqualTo(masker.mask(text.toString()));
+        assertThat(out.toString()).doesNotContain("김민지", "5678", "@");
+    }
+
+    // read 한 번에 최대 chunkSize 글자만 돌려주는 Reader
+    private static final class ChunkedReader extends Reader {
+
+        private final StringReader delegate;
+        private final int chunkSize;
+
+        private ChunkedReader(String text, int chunkSize) {
+            this.delegate = new StringReader(text);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return delegate.read(buffer, offset, Math.min(length, chunkSize));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
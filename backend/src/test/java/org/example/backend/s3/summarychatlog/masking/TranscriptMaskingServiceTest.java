@@ -0,0 +1,67 @@
+package org.example.backend.s3.summarychatlog.masking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.auth.service.UserInfoService;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
+import org.example.backend.s3.summarychatlog.repository.SummaryChatLogRepository;
+import org.example.backend.s3.summarychatlog.service.SummaryChatLogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranscriptMaskingServiceTest {
+
+    private final SummaryChatLogRepository summaryChatLogRepository = mock(SummaryChatLogRepository.class);
+    private final SummaryChatLogService summaryChatLogService = mock(SummaryChatLogService.class);
+    private final TranscriptMaskingService service = new TranscriptMaskingService(summaryChatLogRepository,
+            summaryChatLogService, mock(S3Uploader.class), mock(UserInfoService.class), new SimpleMeterRegistry(), 1, 10);
+
+    @Test
+    void 다른_상담사의_로그는_마스킹하지_않는다() {
+        when(summaryChatLogRepository.findById(1L)).thenReturn(Optional.of(log(1L, 7L)));
+
+        assertThatThrownBy(() -> service.maskLog(1L, 8L)).isInstanceOf(SecurityException.class);
+
+        verify(summaryChatLogService, never()).updateMaskedLog(anyLong(), any());
+    }
+
+    @Test
+    void 본인이_진행한_상담의_로그는_마스킹한다() {
+        when(summaryChatLogRepository.findById(1L)).thenReturn(Optional.of(log(1L, 7L)));
+
+        service.maskLog(1L, 7L);
+
+        verify(summaryChatLogService).updateMaskedLog(any(), any());
+    }
+
+    @Test
+    void 일괄_처리가_실행_중이면_운영_엔드포인트는_409로_응답한다() {
+        TranscriptMaskingService masking = mock(TranscriptMaskingService.class);
+        MaskingBackfillStatus status = new MaskingBackfillStatus(true, 3, 0, 100, null, null);
+        when(masking.getBackfillStatus()).thenReturn(status);
+        MaskingBackfillEndpoint endpoint = new MaskingBackfillEndpoint(masking);
+
+        when(masking.startBackfill()).thenReturn(true);
+        assertThat(endpoint.start().getStatus()).isEqualTo(202);
+
+        when(masking.startBackfill()).thenReturn(false);
+        WebEndpointResponse<MaskingBackfillStatus> response = endpoint.start();
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getBody()).isEqualTo(status);
+    }
+
+    private SummaryChatLog log(Long id, Long counselorId) {
+        return SummaryChatLog.builder().id(id).userId(3L).counselorId(counselorId).textS3Key("summarylogs/text.txt").build();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.backend.s3.summarychatlog.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SummaryChatLogCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        SummaryChatLogCursor cursor = new SummaryChatLogCursor(LocalDateTime.of(2025, 3, 1, 14, 30, 5, 123_456_000), 42L);
+
+        assertThat(SummaryChatLogCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 초가_0인_시각도_복원한다() {
+        SummaryChatLogCursor cursor = new SummaryChatLogCursor(LocalDateTime.of(2025, 3, 1, 14, 30), 7L);
+
+        assertThat(SummaryChatLogCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 업로드_시각이_없는_로그의_커서는_시각_없이_복원한다() {
+        SummaryChatLogCursor cursor = new SummaryChatLogCursor(null, 15L);
+
+        assertThat(new String(Base64.getUrlDecoder().decode(cursor.encode()), StandardCharsets.UTF_8)).isEqualTo("_15");
+        assertThat(SummaryChatLogCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지다() {
+        assertThat(SummaryChatLogCursor.decode(null)).isNull();
+        assertThat(SummaryChatLogCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_예외가_발생한다() {
+        assertThatThrownBy(() -> SummaryChatLogCursor.decode("!!not-base64!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SummaryChatLogCursor.decode(encode("2025-03-01T14:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SummaryChatLogCursor.decode(encode("null_42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SummaryChatLogCursor.decode(encode("2025-03-01T14:30_abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.backend.s3.summarychatlog.service;
+
+import org.example.backend.s3.PresignedUrlService;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.s3.StreamWriter;
+import org.example.backend.s3.summarychatlog.model.SummaryChatLog;
+import org.example.backend.s3.summarychatlog.repository.SummaryChatLogQueryRepository;
+import org.example.backend.s3.summarychatlog.repository.SummaryChatLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryChatLogServiceImplTest {
+
+    private static final String PREVIOUS_KEY = "summarylogs/masked/log_1_previous.txt";
+
+    private final SummaryChatLogRepository summaryChatLogRepository = mock(SummaryChatLogRepository.class);
+    private final S3Uploader s3Uploader = mock(S3Uploader.class);
+    private final SummaryChatLogServiceImpl service = new SummaryChatLogServiceImpl(summaryChatLogRepository,
+            mock(SummaryChatLogQueryRepository.class), s3Uploader, mock(PresignedUrlService.class));
+    private final StreamWriter writer = out -> out.write(1);
+
+    @BeforeEach
+    void setUp() {
+        when(s3Uploader.uploadStream(anyString(), anyString(), anyBoolean(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void 읽은_뒤_바뀌지_않았으면_새_키를_저장하고_이전_로그를_삭제한다() {
+        when(summaryChatLogRepository.findById(1L)).thenReturn(Optional.of(log(PREVIOUS_KEY)));
+        when(summaryChatLogRepository.updateMaskedTextS3Key(eq(1L), eq(PREVIOUS_KEY), anyString())).thenReturn(1);
+
+        service.updateMaskedLog(1L, writer);
+
+        String newKey = savedKey(PREVIOUS_KEY);
+        verify(s3Uploader).deleteFile(PREVIOUS_KEY);
+        verify(s3Uploader, never()).deleteFile(newKey);
+    }
+
+    @Test
+    void 다른_요청이_먼저_저장했으면_이번에_올린_로그만_삭제한다() {
+        when(summaryChatLogRepository.findById(1L)).thenReturn(Optional.of(log(null)));
+        when(summaryChatLogRepository.updateMaskedTextS3Key(eq(1L), eq(null), anyString())).thenReturn(0);
+
+        service.updateMaskedLog(1L, writer);
+
+        String newKey = savedKey(null);
+        assertThat(newKey).startsWith("summarylogs/masked/log_1_");
+        verify(s3Uploader).deleteFile(newKey);
+        verify(s3Uploader, never()).deleteFile(PREVIOUS_KEY);
+    }
+
+    @Test
+    void 같은_요약_작업의_로그가_이미_있으면_다시_저장하지_않는다() {
+        when(summaryChatLogRepository.existsByJobId("job-1")).thenReturn(true);
+
+        service.saveLog(3L, 7L, 1L, "summarylogs/json.json", "summarylogs/text.txt", "job-1");
+
+        verify(summaryChatLogRepository, never()).save(any());
+    }
+
+    @Test
+    void 다른_서버가_먼저_저장해_job_id가_중복되면_무시한다() {
+        when(summaryChatLogRepository.save(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        service.saveLog(3L, 7L, 1L, "summarylogs/json.json", "summarylogs/text.txt", "job-1");
+
+        ArgumentCaptor<SummaryChatLog> saved = ArgumentCaptor.forClass(SummaryChatLog.class);
+        verify(summaryChatLogRepository).save(saved.capture());
+        assertThat(saved.getValue().getJobId()).isEqualTo("job-1");
+    }
+
+    private String savedKey(String expectedKey) {
+        ArgumentCaptor<String> newKey = ArgumentCaptor.forClass(String.class);
+        verify(summaryChatLogRepository).updateMaskedTextS3Key(eq(1L), eq(expectedKey), newKey.capture());
+        return newKey.getValue();
+    }
+
+    private SummaryChatLog log(String maskedKey) {
+        return SummaryChatLog.builder().id(1L).counselorId(7L).textS3Key("summarylogs/text.txt")
+                .maskedTextS3Key(maskedKey).build();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.backend.security.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getSecretKey()).thenReturn("test-secret-key-that-is-long-enough-for-hs256");
+        when(jwtConfig.getAccessTokenValidity()).thenReturn(3600L);
+        when(jwtConfig.getRefreshTokenValidity()).thenReturn(86400L);
+        jwtTokenProvider = spy(new JwtTokenProvider(jwtConfig));
+
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(User.builder()
+                .username(EMAIL).password("").authorities("ROLE_USER").build());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 권한_클레임이_있으면_DB_조회_없이_인증하고_같은_토큰은_다시_검증하지_않는다() throws Exception {
+        JwtAuthenticationFilter filter = filter("stateless");
+        String token = jwtTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                EMAIL, null, List.of(new SimpleGrantedAuthority("ROLE_COUNSELOR"))));
+
+        Authentication first = authenticate(filter, token);
+        Authentication second = authenticate(filter, token);
+
+        assertThat(first.getName()).isEqualTo(EMAIL);
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_COUNSELOR");
+        assertThat(second.getName()).isEqualTo(EMAIL);
+        verify(jwtTokenProvider, times(1)).parseAccessToken(token);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void 권한_클레임이_없는_토큰은_DB에서_사용자를_조회한다() throws Exception {
+        JwtAuthenticationFilter filter = filter("stateless");
+        String token = jwtTokenProvider.createRefreshToken(EMAIL);
+
+        Authentication authentication = authenticate(filter, token);
+
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void database_모드는_매_요청마다_DB에서_조회하고_서명은_한_번만_검증한다() throws Exception {
+        JwtAuthenticationFilter filter = filter("database");
+        String token = jwtTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                EMAIL, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        authenticate(filter, token);
+        authenticate(filter, token);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+        verify(jwtTokenProvider, times(2)).parseAccessToken(token);
+    }
+
+    @Test
+    void 서명이_올바르지_않은_토큰은_인증하지_않는다() throws Exception {
+        JwtAuthenticationFilter filter = filter("stateless");
+        String token = jwtTokenProvider.createRefreshToken(EMAIL);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(authenticate(filter, tampered)).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private JwtAuthenticationFilter filter(String authMode) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, new VerifiedTokenCache(100), authMode);
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/counselors");
+        request.setServletPath("/counselors");
+        request.addHeader(JwtConfig.AUTHORIZATION_HEADER, JwtConfig.TOKEN_PREFIX + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
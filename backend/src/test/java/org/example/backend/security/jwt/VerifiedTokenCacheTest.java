@@ -0,0 +1,23 @@
+package org.example.backend.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+    private final UserDetails user = User.builder().username("user@example.com").password("").authorities("ROLE_USER").build();
+
+    @Test
+    void 만료_전인_토큰만_돌려준다() {
+        cache.put("valid-token", user, System.currentTimeMillis() + 60_000);
+        cache.put("expired-token", user, System.currentTimeMillis() - 1);
+
+        assertThat(cache.get("valid-token")).isSameAs(user);
+        assertThat(cache.get("expired-token")).isNull();
+        assertThat(cache.get("unknown-token")).isNull();
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.backend.security.jwt.bench;
+
+import jakarta.servlet.ServletException;
+import org.example.backend.auth.model.User;
+import org.example.backend.security.jwt.CustomUserDetailsService;
+import org.example.backend.security.jwt.JwtAuthenticationFilter;
+import org.example.backend.security.jwt.JwtConfig;
+import org.example.backend.security.jwt.JwtTokenProvider;
+import org.example.backend.security.jwt.VerifiedTokenCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 처리 시간 비교 (VerifiedTokenCache 사용 여부)
+ *
+ * 사용자 token-count 명의 Access Token 으로 request-count 번 요청을 보내며 요청당 평균 시간을 로그로 남깁니다.
+ * - 기존 방식: validateToken + getEmailFromToken (서명 검증 두 번) 후 DB 조회
+ * - database 모드: 서명 검증 한 번 후 DB 조회
+ * - stateless, 캐시 없음: 요청마다 서명 검증 한 번, 클레임으로 인증 (DB 조회 없음)
+ * - stateless, 캐시 사용: 처음 본 토큰만 검증하고 이후에는 VerifiedTokenCache 에서 조회
+ * DB 조회는 db-latency-us 만큼 기다리는 것으로 대신합니다. (기본 0: 서명 검증 비용만 비교)
+ * 요청 객체와 필터 처리 비용을 뺀 서명 검증과 캐시 조회만의 시간도 따로 측정합니다.
+ *
+ * 실행 예: ./gradlew benchmark --tests '*JwtAuthenticationBenchmark' -Pbench.request-count=500000 -Pbench.db-latency-us=300
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationBenchmark.class);
+
+    private final int tokenCount = Integer.getInteger("bench.token-count", 1_000);
+    private final int requestCount = Integer.getInteger("bench.request-count", 200_000);
+    private final int dbLatencyMicros = Integer.getInteger("bench.db-latency-us", 0);
+
+    private final AtomicLong dbLookups = new AtomicLong();
+    private JwtTokenProvider jwtTokenProvider;
+    private CustomUserDetailsService userDetailsService;
+    private MockHttpServletRequest[] requests;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secretKey", "bench-secret-key-that-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(jwtConfig, "accessTokenValidity", 3600L);
+        ReflectionTestUtils.setField(jwtConfig, "refreshTokenValidity", 86400L);
+        jwtTokenProvider = new JwtTokenProvider(jwtConfig);
+
+        // DB 조회 대신 (Mockito 는 호출 기록이 쌓여 측정에 영향을 주므로 사용하지 않음)
+        userDetailsService = new CustomUserDetailsService(null) {
+            @Override
+            public UserDetails loadUserByUsername(String email) {
+                dbLookups.incrementAndGet();
+                if (dbLatencyMicros > 0) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+                }
+                return org.springframework.security.core.userdetails.User.builder()
+                        .username(email).password("").authorities("ROLE_USER").build();
+            }
+        };
+
+        requests = new MockHttpServletRequest[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            User user = User.builder().email("user" + i + "@example.com").role("ROLE_USER").build();
+            user.setId((long) i + 1);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/counselors");
+            request.setServletPath("/counselors");
+            request.addHeader(JwtConfig.AUTHORIZATION_HEADER, JwtConfig.TOKEN_PREFIX + jwtTokenProvider.createAccessToken(user));
+            requests[i] = request;
+        }
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 인증_방식별_요청당_처리_시간() throws Exception {
+        RequestHandler legacy = request -> {
+            String token = request.getHeader(JwtConfig.AUTHORIZATION_HEADER).substring(JwtConfig.TOKEN_PREFIX.length());
+            if (jwtTokenProvider.validateToken(token)) {
+                userDetailsService.loadUserByUsername(jwtTokenProvider.getEmailFromToken(token));
+                return true;
+            }
+            return false;
+        };
+        JwtAuthenticationFilter database = filter("database", new VerifiedTokenCache(tokenCount));
+        JwtAuthenticationFilter withoutCache = filter("stateless", new NoOpTokenCache());
+        JwtAuthenticationFilter withCache = filter("stateless", new VerifiedTokenCache(tokenCount));
+
+        // JIT 준비 (캐시 사용 필터는 모든 토큰이 캐시에 들어간 상태에서 측정)
+        for (RequestHandler handler : new RequestHandler[]{legacy, handler(database), handler(withoutCache), handler(withCache)}) {
+            run(handler, Math.min(requestCount, 20_000));
+        }
+
+        measure("기존 방식 (검증 두 번 + DB 조회)", legacy);
+        measure("database 모드 (검증 한 번 + DB 조회)", handler(database));
+        measure("stateless, 캐시 없음", handler(withoutCache));
+        measure("stateless, VerifiedTokenCache", handler(withCache));
+    }
+
+    @Test
+    void 필터를_제외한_토큰_확인_시간() {
+        String[] tokens = new String[tokenCount];
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenCount);
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = requests[i].getHeader(JwtConfig.AUTHORIZATION_HEADER).substring(JwtConfig.TOKEN_PREFIX.length());
+            cache.put(tokens[i], userDetailsService.loadUserByUsername("user" + i + "@example.com"),
+                    jwtTokenProvider.parseAccessToken(tokens[i]).getExpiration().getTime());
+        }
+
+        for (int round = 0; round < 2; round++) {
+            // 첫 번째는 JIT 준비
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < requestCount; i++) {
+                assertThat(jwtTokenProvider.parseAccessToken(tokens[i % tokenCount]).getSubject()).isNotNull();
+            }
+            long verifyNanos = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            for (int i = 0; i < requestCount; i++) {
+                assertThat(cache.get(tokens[i % tokenCount])).isNotNull();
+            }
+            long cacheNanos = System.nanoTime() - startedAt;
+
+            if (round == 1) {
+                logger.info("토큰 확인 ({}개 토큰, {}건): 서명 검증 + 클레임 해석 {}ns, VerifiedTokenCache 조회 {}ns (건당)",
+                        tokenCount, requestCount, verifyNanos / requestCount, cacheNanos / requestCount);
+            }
+        }
+    }
+
+    private void measure(String name, RequestHandler handler) throws Exception {
+        dbLookups.set(0);
+        long startedAt = System.nanoTime();
+        run(handler, requestCount);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        logger.info("JWT 인증 ({}개 토큰, {}건) - {}: 전체 {}ms, 요청당 {}ns, DB 조회 {}회", tokenCount, requestCount, name,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), elapsedNanos / requestCount, dbLookups.get());
+    }
+
+    private void run(RequestHandler handler, int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            assertThat(handler.handle(requests[i % tokenCount])).isTrue();
+        }
+    }
+
+    private JwtAuthenticationFilter filter(String authMode, VerifiedTokenCache cache) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, cache, authMode);
+    }
+
+    private RequestHandler handler(JwtAuthenticationFilter filter) {
+        return request -> {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication() != null;
+        };
+    }
+
+    @FunctionalInterface
+    private interface RequestHandler {
+        boolean handle(MockHttpServletRequest request) throws ServletException, IOException;
+    }
+
+    // 캐시를 사용하지 않는 경우 (항상 없음으로 응답)
+    private static class NoOpTokenCache extends VerifiedTokenCache {
+
+        NoOpTokenCache() {
+            super(0);
+        }
+
+        @Override
+        public UserDetails get(String token) {
+            return null;
+        }
+
+        @Override
+        public void put(String token, UserDetails userDetails, long expiresAtMillis) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.backend.speech.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PcmDigestTest {
+
+    private static final byte[] PCM = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+    @Test
+    void 메타데이터_청크만_다른_WAV는_같은_키를_만든다() {
+        String plain = PcmDigest.sha256(wav(chunk("fmt ", fmt(16_000)), chunk("data", PCM)));
+        String withList = PcmDigest.sha256(wav(
+                chunk("LIST", "INFOISFT\u0005\u0000\u0000\u0000Lavf".getBytes(StandardCharsets.US_ASCII)),
+                chunk("fmt ", fmt(16_000)), chunk("data", PCM)));
+        String withTrailingMetadata = PcmDigest.sha256(wav(
+                chunk("fmt ", fmt(16_000)), chunk("data", PCM), chunk("id3 ", new byte[]{9, 9, 9})));
+
+        assertThat(withList).isEqualTo(plain);
+        assertThat(withTrailingMetadata).isEqualTo(plain);
+    }
+
+    @Test
+    void 홀수_크기_청크의_패딩이_있어도_같은_키를_만든다() {
+        byte[] oddPcm = {1, 2, 3, 4, 5, 6, 7};
+
+        String plain = PcmDigest.sha256(wav(chunk("fmt ", fmt(16_000)), chunk("data", oddPcm)));
+        // 홀수 크기 LIST 뒤의 패딩 1바이트, 홀수 크기 data 뒤의 패딩과 다음 청크
+        String padded = PcmDigest.sha256(wav(
+                chunk("LIST", new byte[]{'I', 'N', 'F', 'O', 0}),
+                chunk("fmt ", fmt(16_000)), chunk("data", oddPcm), chunk("LIST", new byte[]{'I', 'N', 'F'})));
+
+        assertThat(padded).isEqualTo(plain);
+    }
+
+    @Test
+    void fmt_청크가_다르면_같은_PCM이어도_다른_키를_만든다() {
+        String wide = PcmDigest.sha256(wav(chunk("fmt ", fmt(16_000)), chunk("data", PCM)));
+        String narrow = PcmDigest.sha256(wav(chunk("fmt ", fmt(8_000)), chunk("data", PCM)));
+
+        assertThat(narrow).isNotEqualTo(wide);
+    }
+
+    @Test
+    void data_크기가_0인_스트리밍_녹음은_끝까지_해시한다() {
+        String sized = PcmDigest.sha256(wav(chunk("fmt ", fmt(16_000)), chunk("data", PCM)));
+        byte[] streaming = wav(chunk("fmt ", fmt(16_000)), chunk("data", PCM));
+        // data 크기 필드를 0 으로
+        int sizeOffset = streaming.length - PCM.length - 4;
+        streaming[sizeOffset] = 0;
+
+        assertThat(PcmDigest.sha256(streaming)).isEqualTo(sized);
+    }
+
+    @Test
+    void WAV가_아니면_전체_내용을_해시한다() throws Exception {
+        byte[] mp3 = "ID3\u0004\u0000 not a wave file".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(PcmDigest.sha256(mp3))
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(mp3)));
+    }
+
+    private byte[] wav(byte[]... chunks) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            body.writeBytes(chunk);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(littleEndian(body.size() + 4));
+        out.writeBytes("WAVE".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(body.toByteArray());
+        return out.toByteArray();
+    }
+
+    // 홀수 크기 청크는 패딩 1바이트 추가
+    private byte[] chunk(String id, byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(id.getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(littleEndian(data.length));
+        out.writeBytes(data);
+        if (data.length % 2 == 1) {
+            out.write(0);
+        }
+        return out.toByteArray();
+    }
+
+    // PCM 16bit mono
+    private byte[] fmt(int sampleRate) {
+        return ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(sampleRate).putInt(sampleRate * 2)
+                .putShort((short) 2).putShort((short) 16)
+                .array();
+    }
+
+    private byte[] littleEndian(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.backend.speech.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpeechResultCacheTest {
+
+    private static final String KEY = "3f2b9c1e8a4d4f6b9d2e1c5a7b8e9f00";
+    private static final int CONCURRENT_UPLOADS = 32;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(SpeechResultCache.CACHE_NAME);
+    private final SpeechResultCache cache = new SpeechResultCache(cacheManager, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_음성이_동시에_들어오면_분류_AI를_한_번만_호출한다() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Mono<String> loader = Mono.fromCallable(() -> {
+            upstreamCalls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "정상: 97.500000%, 뇌 질환: 2.500000%";
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+            results.add(executor.submit(() -> cache.getOrLoad(KEY, () -> loader).block(Duration.ofSeconds(10))));
+        }
+        // 모든 요청이 진행 중인 분류에 합류한 뒤 응답
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("miss") + count("coalesced") < CONCURRENT_UPLOADS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("정상: 97.500000%, 뇌 질환: 2.500000%");
+        }
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(CONCURRENT_UPLOADS - 1);
+        assertThat(count("hit")).isZero();
+        assertThat(inFlight()).isEmpty();
+
+        // 끝난 뒤의 같은 음성은 저장된 결과 사용
+        assertThat(cache.getOrLoad(KEY, () -> Mono.error(new IllegalStateException("호출되면 안 됨"))).block())
+                .isEqualTo("정상: 97.500000%, 뇌 질환: 2.500000%");
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void 분류에_실패하면_진행_중_목록에서_지우고_다음_요청에서_다시_호출한다() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.getOrLoad(KEY, () -> Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.<String>error(new IllegalStateException("분류 AI 응답 없음"));
+        })).block()).hasMessageContaining("분류 AI 응답 없음");
+
+        assertThat(inFlight()).isEmpty();
+        assertThat(cacheManager.getCache(SpeechResultCache.CACHE_NAME).get(KEY)).isNull();
+
+        String result = cache.getOrLoad(KEY, () -> Mono.fromCallable(() -> {
+            upstreamCalls.incrementAndGet();
+            return "정상: 90.000000%, 뇌 질환: 10.000000%";
+        })).block();
+
+        assertThat(result).isEqualTo("정상: 90.000000%, 뇌 질환: 10.000000%");
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(count("miss")).isEqualTo(2);
+        assertThat(cacheManager.getCache(SpeechResultCache.CACHE_NAME).get(KEY, String.class)).isEqualTo(result);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("speech.cache.requests").tag("result", result).counter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Mono<String>> inFlight() {
+        return (Map<String, Mono<String>>) ReflectionTestUtils.getField(cache, "inFlight");
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.backend.speech.controller;
+
+import org.example.backend.speech.service.SpeechBusyException;
+import org.example.backend.speech.service.SpeechServiceImpl;
+import org.example.backend.speech.service.SpeechUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpeechControllerTest {
+
+    private final SpeechServiceImpl speechService = mock(SpeechServiceImpl.class);
+    private final SpeechController controller = new SpeechController(speechService);
+    private final MockMultipartFile file = new MockMultipartFile("file", "voice.wav", "audio/wav", new byte[16]);
+
+    @Test
+    void 동시_처리_수_초과는_429와_Retry_After로_응답한다() {
+        when(speechService.classifyStreaming(file)).thenReturn(Mono.error(new SpeechBusyException("요청이 너무 많습니다.")));
+
+        ResponseEntity<String> response = controller.uploadWavAndGetTranscript(file).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    }
+
+    @Test
+    void 분류_AI_연결_실패는_503과_Retry_After로_응답한다() {
+        when(speechService.classifyStreaming(file)).thenReturn(Mono.error(
+                new SpeechUnavailableException("연결할 수 없습니다.", new RuntimeException())));
+
+        ResponseEntity<String> response = controller.uploadWavAndGetTranscript(file).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    }
+
+    @Test
+    void buffered_모드는_기존_방식으로_처리한다() {
+        ReflectionTestUtils.setField(controller, "proxyMode", "buffered");
+        when(speechService.processFile(file)).thenReturn("정상: 97.500000%, 뇌 질환: 2.500000%");
+
+        ResponseEntity<String> response = controller.uploadWavAndGetTranscript(file).block();
+
+        assertThat(response.getBody()).isEqualTo("정상: 97.500000%, 뇌 질환: 2.500000%");
+        verify(speechService, never()).classifyStreaming(file);
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.backend.speech.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.example.backend.config.WebClientConfig;
+import org.example.backend.speech.cache.SpeechResultCache;
+import org.example.backend.speech.controller.SpeechController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 연결 풀(WebClientConfig#speechWebClient)과 스텁 분류 AI 서버(Reactor Netty)로
+ * 동시 대용량 업로드의 거절 수, 스트리밍 메모리 사용량, 429/503 응답 변환을 확인
+ */
+class SpeechServiceImplStubServerTest {
+
+    private static final String RESULT_JSON = "{\"정상\": 97.5, \"뇌 질환\": 2.5}";
+    private static final int UPLOADS = 16;
+    private static final int MAX_CONCURRENT = 4;
+    private static final int FILE_SIZE = 16 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int THROTTLE_STEP = 256 * 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void 동시_대용량_업로드는_허가_수만큼만_전달하고_나머지는_429로_거절한다() throws Exception {
+        AtomicLong serverReceived = new AtomicLong();
+        AtomicInteger completedBodies = new AtomicInteger();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peakActive = new AtomicInteger();
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        server = startServer((request, response) -> {
+            peakActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            AtomicLong streamReceived = new AtomicLong();
+            return request.receive()
+                    .map(ByteBuf::readableBytes)
+                    .doOnNext(serverReceived::addAndGet)
+                    // 분류 AI 가 업로드보다 느리게 읽는 상황 (256KB 마다 1ms 대기)
+                    .concatMap(bytes -> {
+                        long before = streamReceived.getAndAdd(bytes);
+                        return (before + bytes) / THROTTLE_STEP > before / THROTTLE_STEP
+                                ? Mono.delay(Duration.ofMillis(1)).thenReturn(bytes)
+                                : Mono.just(bytes);
+                    }, 1)
+                    .reduce(0L, Long::sum)
+                    .doOnNext(total -> completedBodies.incrementAndGet())
+                    .flatMap(total -> Mono.fromFuture(gate).thenReturn(total))
+                    .flatMap(total -> json(response, HttpResponseStatus.OK, RESULT_JSON))
+                    .doFinally(signal -> active.decrementAndGet());
+        });
+        SpeechController controller = controller(30);
+
+        AtomicLong streamedFromFiles = new AtomicLong();
+        AtomicLong peakOutstanding = new AtomicLong();
+        List<GeneratedUpload> uploads = Flux.range(0, UPLOADS)
+                .map(seed -> new GeneratedUpload(seed, FILE_SIZE, bytes -> {
+                    long outstanding = streamedFromFiles.addAndGet(bytes) - serverReceived.get();
+                    peakOutstanding.accumulateAndGet(outstanding, Math::max);
+                }))
+                .collectList()
+                .block();
+
+        AtomicInteger rejected = new AtomicInteger();
+        CompletableFuture<List<ResponseEntity<String>>> responses = Flux.fromIterable(uploads)
+                .flatMap(upload -> controller.uploadWavAndGetTranscript(upload)
+                        .doOnNext(response -> {
+                            if (response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                                rejected.incrementAndGet();
+                            }
+                        }), UPLOADS)
+                .collectList()
+                .toFuture();
+
+        // 허가를 받은 요청은 본문을 모두 보낸 뒤 응답을 기다리는 동안 나머지가 거절됨
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while ((rejected.get() < UPLOADS - MAX_CONCURRENT || completedBodies.get() < MAX_CONCURRENT)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        gate.complete(null);
+
+        List<ResponseEntity<String>> results = responses.get(60, TimeUnit.SECONDS);
+        assertThat(results).filteredOn(response -> response.getStatusCode() == HttpStatus.OK)
+                .hasSize(MAX_CONCURRENT)
+                .allSatisfy(response -> assertThat(response.getBody()).isEqualTo("정상: 97.500000%, 뇌 질환: 2.500000%"));
+        assertThat(results).filteredOn(response -> response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS)
+                .hasSize(UPLOADS - MAX_CONCURRENT)
+                .allSatisfy(response -> assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5"));
+        assertThat(peakActive.get()).isLessThanOrEqualTo(MAX_CONCURRENT);
+        awaitNoActiveRequests();
+
+        // 허가받은 업로드는 끝까지 전달되고, 파일 전체를 힙에 올리지 않음 (getBytes 미호출)
+        assertThat(serverReceived.get()).isBetween((long) MAX_CONCURRENT * FILE_SIZE, (long) MAX_CONCURRENT * (FILE_SIZE + 1024));
+        assertThat(uploads).filteredOn(upload -> upload.streamedOpens.get() > 0).hasSize(MAX_CONCURRENT);
+        // 파일에서 읽었지만 아직 AI 가 받지 못한 양(버퍼, 소켓 버퍼 포함)은 파일 크기와 무관하게 유지
+        // (전체를 읽은 뒤 보내는 방식이면 허가받은 업로드 크기의 합만큼 쌓임)
+        assertThat(peakOutstanding.get()).isLessThan((long) MAX_CONCURRENT * FILE_SIZE / 2);
+    }
+
+    @Test
+    void 분류_AI의_503_응답은_503으로_바꾼다() throws Exception {
+        server = startServer((request, response) -> request.receive().then(
+                json(response, HttpResponseStatus.SERVICE_UNAVAILABLE, "{\"error\": \"overloaded\"}")));
+
+        ResponseEntity<String> response = controller(30).uploadWavAndGetTranscript(new GeneratedUpload(1, 1024 * 1024, bytes -> {
+        })).block(Duration.ofSeconds(30));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        awaitNoActiveRequests();
+    }
+
+    @Test
+    void 분류_AI_응답_시간_초과는_503으로_바꾼다() throws Exception {
+        server = startServer((request, response) -> request.receive().then(Mono.never()));
+
+        ResponseEntity<String> response = controller(1).uploadWavAndGetTranscript(new GeneratedUpload(2, 1024 * 1024, bytes -> {
+        })).block(Duration.ofSeconds(30));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        awaitNoActiveRequests();
+    }
+
+    @Test
+    void 분류_AI에_연결할_수_없으면_503으로_바꾼다() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        ResponseEntity<String> response = controller("http://127.0.0.1:" + closedPort, 30)
+                .uploadWavAndGetTranscript(new GeneratedUpload(3, 1024, bytes -> {
+                })).block(Duration.ofSeconds(30));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // 허가는 응답이 전달된 뒤(doFinally) 반납되므로 잠시 기다림
+    private void awaitNoActiveRequests() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("speech.requests.active").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(meterRegistry.get("speech.requests.active").gauge().value()).isZero();
+    }
+
+    private DisposableServer startServer(BiFunction<HttpServerRequest, HttpServerResponse, Mono<Void>> classification) {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/classification", classification))
+                .bindNow();
+    }
+
+    private Mono<Void> json(HttpServerResponse response, HttpResponseStatus status, String body) {
+        return response.status(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendString(Mono.just(body), StandardCharsets.UTF_8)
+                .then();
+    }
+
+    private SpeechController controller(long responseTimeoutSeconds) {
+        return controller("http://127.0.0.1:" + server.port(), responseTimeoutSeconds);
+    }
+
+    private SpeechController controller(String baseUrl, long responseTimeoutSeconds) {
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(config, "speechMaxConnections", 16);
+        ReflectionTestUtils.setField(config, "speechConnectTimeoutMs", 1000);
+        ReflectionTestUtils.setField(config, "speechResponseTimeoutSeconds", responseTimeoutSeconds);
+
+        SpeechResultCache cache = new SpeechResultCache(new ConcurrentMapCacheManager(SpeechResultCache.CACHE_NAME), meterRegistry);
+        SpeechServiceImpl service = new SpeechServiceImpl(mock(RestTemplate.class), config.speechWebClient(),
+                meterRegistry, cache, MAX_CONCURRENT, BUFFER_SIZE);
+        return new SpeechController(service);
+    }
+
+    /**
+     * 서블릿 임시 파일 대신 내용을 그때그때 만들어 주는 업로드 (파일 전체를 힙에 두지 않음)
+     * 첫 번째 열기는 PCM 해시, 이후 열기는 AI 로 전송하는 읽기로 보고 읽은 양을 알림
+     */
+    private static class GeneratedUpload implements MultipartFile {
+
+        private final int seed;
+        private final int size;
+        private final byte[] pattern = new byte[4096];
+        private final LongConsumer onStreamed;
+        private final AtomicInteger opens = new AtomicInteger();
+        private final AtomicInteger streamedOpens = new AtomicInteger();
+
+        GeneratedUpload(int seed, int size, LongConsumer onStreamed) {
+            this.seed = seed;
+            this.size = size;
+            this.onStreamed = onStreamed;
+            for (int i = 0; i < pattern.length; i++) {
+                pattern[i] = (byte) (i * 31 + seed);
+            }
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            boolean streamed = opens.getAndIncrement() > 0;
+            if (streamed) {
+                streamedOpens.incrementAndGet();
+            }
+            return new InputStream() {
+                private int position;
+
+                @Override
+                public int read() {
+                    byte[] one = new byte[1];
+                    return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    if (position >= size) {
+                        return -1;
+                    }
+                    int count = Math.min(Math.min(length, size - position), pattern.length - position % pattern.length);
+                    System.arraycopy(pattern, position % pattern.length, buffer, offset, count);
+                    position += count;
+                    if (streamed) {
+                        onStreamed.accept(count);
+                    }
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("스트리밍 전송은 파일 전체를 읽지 않아야 함");
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "voice-" + seed + ".wav";
+        }
+
+        @Override
+        public String getContentType() {
+            return "audio/wav";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
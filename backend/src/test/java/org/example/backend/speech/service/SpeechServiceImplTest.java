@@ -0,0 +1,122 @@
+package org.example.backend.speech.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.speech.cache.SpeechResultCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpeechServiceImplTest {
+
+    private static final String RESULT_JSON = "{\"정상\": 97.5, \"뇌 질환\": 2.5}";
+
+    private final SpeechResultCache speechResultCache = mock(SpeechResultCache.class);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(speechResultCache.getOrLoad(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<String>>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    void 업로드_파일을_버퍼_단위로_읽어_분류_AI로_그대로_전달한다() {
+        String pcm = "PCM-SAMPLE-".repeat(20_000);
+        AtomicReference<String> sentBody = new AtomicReference<>();
+        SpeechServiceImpl service = service(1, request -> {
+            MockClientHttpRequest captured = new MockClientHttpRequest(request.method(), request.url());
+            return request.writeTo(captured, ExchangeStrategies.withDefaults())
+                    .then(Mono.defer(captured::getBodyAsString))
+                    .doOnNext(sentBody::set)
+                    .then(Mono.just(ok(RESULT_JSON)));
+        });
+        MockMultipartFile file = new MockMultipartFile("file", "voice.wav", "audio/wav", pcm.getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(service.classifyStreaming(file))
+                .expectNext("정상: 97.500000%, 뇌 질환: 2.500000%")
+                .verifyComplete();
+        assertThat(sentBody.get()).contains("filename=\"voice.wav\"").contains(pcm);
+    }
+
+    @Test
+    void 동시_처리_수를_넘으면_대기하지_않고_거절하고_끝난_요청의_허가는_반납한다() {
+        AtomicInteger calls = new AtomicInteger();
+        SpeechServiceImpl service = service(1, request -> calls.incrementAndGet() == 1 ? Mono.never() : Mono.just(ok(RESULT_JSON)));
+
+        Disposable running = service.classifyWindow(new byte[16], "window.wav").subscribe();
+        StepVerifier.create(service.classifyWindow(new byte[16], "window.wav"))
+                .expectError(SpeechBusyException.class)
+                .verify();
+
+        running.dispose();
+        StepVerifier.create(service.classifyWindow(new byte[16], "window.wav"))
+                .expectNext("정상: 97.500000%, 뇌 질환: 2.500000%")
+                .verifyComplete();
+    }
+
+    @Test
+    void 연결_실패와_AI_서버의_503은_SpeechUnavailableException으로_바꾼다() {
+        SpeechServiceImpl refused = service(1, request -> Mono.error(new WebClientRequestException(
+                new ConnectException("연결 거부"), HttpMethod.POST, request.url(), new HttpHeaders())));
+        SpeechServiceImpl unavailable = service(1, request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()));
+
+        StepVerifier.create(refused.classifyWindow(new byte[16], "window.wav"))
+                .expectError(SpeechUnavailableException.class)
+                .verify();
+        StepVerifier.create(unavailable.classifyWindow(new byte[16], "window.wav"))
+                .expectError(SpeechUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    void 잘못된_요청_응답은_그대로_전달한다() {
+        SpeechServiceImpl service = service(1, request -> Mono.just(ClientResponse.create(HttpStatus.BAD_REQUEST).build()));
+
+        StepVerifier.create(service.classifyWindow(new byte[16], "window.wav"))
+                .expectError(WebClientResponseException.BadRequest.class)
+                .verify();
+    }
+
+    private SpeechServiceImpl service(int maxConcurrent, ExchangeFunction exchange) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://speech-ai")
+                .exchangeFunction(exchange)
+                .build();
+        return new SpeechServiceImpl(mock(RestTemplate.class), webClient, new SimpleMeterRegistry(),
+                speechResultCache, maxConcurrent, 4096);
+    }
+
+    private ClientResponse ok(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.backend.speech.stream;
+
+import org.example.backend.speech.dto.response.SpeechStreamEvent;
+import org.example.backend.speech.service.SpeechService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpeechStreamServiceTest {
+
+    // 16kHz, 16bit mono 100ms 구간
+    private static final int WINDOW_BYTES = 3_200;
+    private static final long IDLE_TIMEOUT_MS = 60_000;
+
+    private final SpeechService speechService = mock(SpeechService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SpeechStreamService streamService =
+            new SpeechStreamService(speechService, messagingTemplate, 16_000, 100, 50, 2, 2, 1, IDLE_TIMEOUT_MS);
+
+    @BeforeEach
+    void setUp() {
+        when(speechService.classifyWindow(any(), anyString())).thenReturn(Mono.just("정상: 97.5%"));
+    }
+
+    @Test
+    void 구간_결과는_스트림을_시작한_세션에만_보낸다() {
+        streamService.append("s1", "st1", new byte[WINDOW_BYTES]);
+
+        List<SpeechStreamEvent> events = eventsTo("s1", "st1", 1);
+        assertThat(events.get(0).type()).isEqualTo("partial");
+        assertThat(events.get(0).sequence()).isZero();
+        assertThat(events.get(0).result()).isEqualTo("정상: 97.5%");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void 세션별_최대_스트림_수를_넘으면_거절한다() {
+        streamService.append("s1", "st1", new byte[10]);
+        streamService.append("s1", "st2", new byte[WINDOW_BYTES]);
+        streamService.append("s2", "st3", new byte[WINDOW_BYTES]);
+
+        assertThat(eventsTo("s1", "st2", 1).get(0).type()).isEqualTo("error");
+        assertThat(eventsTo("s2", "st3", 1).get(0).type()).isEqualTo("partial");
+        verify(speechService, times(1)).classifyWindow(any(), anyString());
+    }
+
+    @Test
+    void 입력이_없는_스트림은_정리하고_자리를_비운다() {
+        streamService.append("s1", "st1", new byte[10]);
+        streamService.append("s1", "st1", new byte[10]);
+
+        streamService.sweepIdleStreams(System.currentTimeMillis() + IDLE_TIMEOUT_MS - 1_000);
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(), anyMap());
+
+        streamService.sweepIdleStreams(System.currentTimeMillis() + IDLE_TIMEOUT_MS + 1_000);
+        assertThat(eventsTo("s1", "st1", 1).get(0).type()).isEqualTo("expired");
+
+        // 같은 세션에서 새 스트림을 다시 시작할 수 있음
+        streamService.append("s1", "st2", new byte[WINDOW_BYTES]);
+        assertThat(eventsTo("s1", "st2", 1).get(0).type()).isEqualTo("partial");
+    }
+
+    @Test
+    void 종료_요청을_받으면_남은_구간을_처리하고_completed를_보낸다() {
+        streamService.append("s1", "st1", new byte[WINDOW_BYTES + 2_000]);
+
+        streamService.end("s1", "st1");
+
+        List<SpeechStreamEvent> events = eventsTo("s1", "st1", 3);
+        assertThat(events).extracting(SpeechStreamEvent::type).containsExactly("partial", "partial", "completed");
+        assertThat(events.get(2).sequence()).isEqualTo(2);
+    }
+
+    private List<SpeechStreamEvent> eventsTo(String sessionId, String streamId, int count) {
+        ArgumentCaptor<SpeechStreamEvent> events = ArgumentCaptor.forClass(SpeechStreamEvent.class);
+        verify(messagingTemplate, times(count)).convertAndSendToUser(eq(sessionId),
+                eq(SpeechStreamService.USER_DESTINATION_PREFIX + streamId), events.capture(), anyMap());
+        return events.getAllValues();
+    }
+}
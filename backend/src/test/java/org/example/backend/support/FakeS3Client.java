@@ -0,0 +1,146 @@
+package org.example.backend.support;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드한 바이트를 메모리에 보관하는 S3Client (PutObject, 멀티파트 업로드, 삭제만 지원)
+ * 멀티파트 업로드는 완료 요청에 적힌 파트 번호 순서대로 이어 붙여 하나의 객체로 저장합니다.
+ */
+public class FakeS3Client implements S3Client {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, PendingUpload> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadSequence = new AtomicInteger();
+
+    public StoredObject getObject(String key) {
+        return objects.get(key);
+    }
+
+    public Map<String, StoredObject> objects() {
+        return objects;
+    }
+
+    // 완료되거나 취소되지 않은 멀티파트 업로드 수
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        objects.put(request.key(), new StoredObject(read(body), request.contentType(), request.contentEncoding(), 0));
+        return PutObjectResponse.builder().eTag("etag").build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = "upload-" + uploadSequence.incrementAndGet();
+        uploads.put(uploadId, new PendingUpload(request.key(), request.contentType(), request.contentEncoding()));
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        // 요청 본문은 호출 중에만 유효하므로 (호출자가 버퍼를 재사용) 바로 복사해 둠
+        byte[] part = read(body);
+        PendingUpload upload = upload(request.uploadId());
+        upload.parts.put(request.partNumber(), part);
+        return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        PendingUpload upload = upload(request.uploadId());
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            byte[] bytes = upload.parts.get(part.partNumber());
+            if (bytes == null) {
+                throw new IllegalStateException("업로드되지 않은 파트: " + part.partNumber());
+            }
+            content.writeBytes(bytes);
+        }
+        uploads.remove(request.uploadId());
+        objects.put(upload.key, new StoredObject(content.toByteArray(), upload.contentType, upload.contentEncoding,
+                request.multipartUpload().parts().size()));
+        return CompleteMultipartUploadResponse.builder().key(upload.key).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private PendingUpload upload(String uploadId) {
+        PendingUpload upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw NoSuchUploadException.builder().message("없는 업로드: " + uploadId).build();
+        }
+        return upload;
+    }
+
+    private byte[] read(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 저장된 객체 (멀티파트로 올린 경우 partCount 는 파트 수, PutObject 는 0)
+     */
+    public record StoredObject(byte[] content, String contentType, String contentEncoding, int partCount) {
+    }
+
+    private static class PendingUpload {
+        private final String key;
+        private final String contentType;
+        private final String contentEncoding;
+        private final Map<Integer, byte[]> parts = new TreeMap<>();
+
+        private PendingUpload(String key, String contentType, String contentEncoding) {
+            this.key = key;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.backend.websocket.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.support.RedisContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 Redis 를 사용하는 두 서버(중계 인스턴스)의 메시지 전달 확인
+ * 각 서버의 brokerChannel 은 실제처럼 자신의 중계 인터셉터(preSend)를 거친 뒤 로컬 구독자에게 전달한 것으로 기록합니다.
+ */
+class RedisBrokerRelayClusterTest extends RedisContainerTest {
+
+    private static final String DESTINATION = "/sub/channel/1/chat";
+    private static final String TOPIC = "stomp:" + DESTINATION;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final List<RedisBrokerRelay> relays = new ArrayList<>();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        relays.forEach(RedisBrokerRelay::shutdown);
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void 한_서버에서_보낸_메시지는_다른_서버의_구독자에게_한_번만_전달되고_자신에게는_다시_오지_않는다() throws Exception {
+        nodeA.subscribe("session-a");
+        nodeB.subscribe("session-b");
+        awaitSubscribers(2);
+
+        for (int i = 0; i < 20; i++) {
+            nodeA.send("a-" + i);
+            nodeB.send("b-" + i);
+        }
+
+        awaitDelivered(nodeB, 20);
+        awaitDelivered(nodeA, 20);
+        // 중계된 메시지가 다시 발행되어 되돌아오는지 확인할 시간
+        Thread.sleep(300);
+
+        List<String> expectedOnB = new ArrayList<>();
+        List<String> expectedOnA = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expectedOnB.add("a-" + i);
+            expectedOnA.add("b-" + i);
+        }
+        assertThat(nodeB.relayed).containsExactlyElementsOf(expectedOnB);
+        assertThat(nodeA.relayed).containsExactlyElementsOf(expectedOnA);
+    }
+
+    @Test
+    void 구독자가_없는_서버는_Redis_채널을_구독하지_않아_메시지를_받지_않는다() throws Exception {
+        nodeB.subscribe("session-b");
+        awaitSubscribers(1);
+
+        nodeB.send("only-local");
+        Thread.sleep(300);
+
+        assertThat(nodeA.relayed).isEmpty();
+        assertThat(nodeB.relayed).isEmpty();
+    }
+
+    private void awaitSubscribers(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscribers() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscribers()).isEqualTo(expected);
+    }
+
+    // 빈 묶음을 발행해 수신한 구독자 수 확인 (전달할 메시지가 없어 구독자에게 영향 없음)
+    private long subscribers() {
+        Long count = redisTemplate.convertAndSend(TOPIC, "{\"origin\":\"probe\",\"frames\":[]}");
+        return count != null ? count : 0;
+    }
+
+    private void awaitDelivered(Node node, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (node.relayed.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 서버 한 대: 자신의 Redis 구독 컨테이너와 중계 인스턴스
+     */
+    private class Node {
+
+        // 다른 서버에서 중계되어 이 서버의 브로커로 들어온 메시지
+        private final List<String> relayed = new CopyOnWriteArrayList<>();
+        private RedisBrokerRelay relay;
+
+        private Node() {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisTemplate.getConnectionFactory());
+            container.afterPropertiesSet();
+            container.start();
+            containers.add(container);
+
+            MessageChannel brokerChannel = (message, timeout) -> {
+                Message<?> intercepted = relay.preSend(message, null);
+                relayed.add(new String((byte[]) intercepted.getPayload(), StandardCharsets.UTF_8));
+                return true;
+            };
+            relay = new RedisBrokerRelay(redisTemplate, container, new ObjectMapper(), brokerChannel,
+                    10, 100, 10_000, new SimpleMeterRegistry());
+            relays.add(relay);
+        }
+
+        void subscribe(String sessionId) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(DESTINATION);
+            relay.handleSubscribe(new SessionSubscribeEvent(this,
+                    MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+        }
+
+        // convertAndSend 가 brokerChannel 로 보낸 메시지가 중계 인터셉터를 거치는 것과 같음 (로컬 전달은 내장 브로커 몫)
+        void send(String payload) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(DESTINATION);
+            relay.preSend(MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8),
+                    accessor.getMessageHeaders()), null);
+        }
+    }
+}
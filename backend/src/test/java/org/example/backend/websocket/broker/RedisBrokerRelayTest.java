@@ -0,0 +1,137 @@
+package org.example.backend.websocket.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisBrokerRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final MessageChannel brokerChannel = mock(MessageChannel.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RedisBrokerRelay> relays = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 파이프라인 콜백을 바로 실행해 발행 내용을 connection.publish 로 확인
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        relays.forEach(RedisBrokerRelay::shutdown);
+    }
+
+    @Test
+    void 다른_서버로_중계할_때_content_type과_사용자_헤더를_유지한다() {
+        RedisBrokerRelay sender = relay(100);
+        RedisBrokerRelay receiver = relay(100);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/sub/channels");
+        accessor.setContentType(MimeTypeUtils.TEXT_PLAIN);
+        accessor.setNativeHeader("eventType", "CREATED");
+        accessor.setNativeHeader("content-length", "5");
+
+        sender.preSend(MessageBuilder.createMessage("hello".getBytes(StandardCharsets.UTF_8),
+                accessor.getMessageHeaders()), brokerChannel);
+        sender.shutdown();
+
+        ArgumentCaptor<byte[]> topic = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(topic.capture(), body.capture());
+        receiver.onMessage(new DefaultMessage(topic.getValue(), body.getValue()), null);
+
+        Message<?> relayed = sentToBroker();
+        SimpMessageHeaderAccessor received = SimpMessageHeaderAccessor.wrap(relayed);
+        assertThat(received.getDestination()).isEqualTo("/sub/channels");
+        assertThat(received.getContentType()).isEqualTo(MimeTypeUtils.TEXT_PLAIN);
+        assertThat(received.getFirstNativeHeader("eventType")).isEqualTo("CREATED");
+        assertThat(received.getFirstNativeHeader("content-length")).isNull();
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    void 자신이_발행한_메시지는_다시_전달하지_않는다() {
+        RedisBrokerRelay relay = relay(100);
+        relay.preSend(message("/sub/channels", "hello"), brokerChannel);
+        relay.shutdown();
+
+        ArgumentCaptor<byte[]> topic = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(topic.capture(), body.capture());
+        relay.onMessage(new DefaultMessage(topic.getValue(), body.getValue()), null);
+
+        verify(brokerChannel, never()).send(any());
+    }
+
+    @Test
+    void 대기열이_가득_차면_중계를_건너뛰고_지표로_기록한다() {
+        RedisBrokerRelay relay = relay(2);
+        for (int i = 0; i < 5; i++) {
+            Message<?> message = message("/sub/channels", "m" + i);
+            // 로컬 구독자에게는 그대로 전달
+            assertThat(relay.preSend(message, brokerChannel)).isSameAs(message);
+        }
+
+        assertThat(meterRegistry.get("stomp.relay.dropped").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("stomp.relay.pending").gauge().value()).isEqualTo(2);
+
+        relay.shutdown();
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        verify(connection, atLeastOnce()).publish(any(byte[].class), body.capture());
+        assertThat(new String(body.getValue(), StandardCharsets.UTF_8)).contains("m0", "m1").doesNotContain("m2");
+        assertThat(meterRegistry.get("stomp.relay.pending").gauge().value()).isZero();
+    }
+
+    private RedisBrokerRelay relay(int maxPending) {
+        // 주기 발행은 테스트 중에 실행되지 않도록 길게 설정하고 shutdown 에서 직접 발행
+        RedisBrokerRelay relay = new RedisBrokerRelay(redisTemplate, mock(RedisMessageListenerContainer.class),
+                objectMapper, brokerChannel, 60_000, 100, maxPending, meterRegistry);
+        relays.add(relay);
+        return relay;
+    }
+
+    private Message<?> message(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private Message<?> sentToBroker() {
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel).send(captor.capture());
+        return captor.getValue();
+    }
+}
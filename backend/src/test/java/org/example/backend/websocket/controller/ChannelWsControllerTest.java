@@ -0,0 +1,66 @@
+package org.example.backend.websocket.controller;
+
+import org.example.backend.websocket.dto.request.ChannelEventRequest;
+import org.example.backend.websocket.dto.response.ChannelEventResponse;
+import org.example.backend.websocket.service.ChannelChatRecrodService;
+import org.example.backend.websocket.service.ChannelWsService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChannelWsControllerTest {
+
+    private final ChannelWsService channelWsService = mock(ChannelWsService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ChannelWsController controller =
+            new ChannelWsController(channelWsService, mock(ChannelChatRecrodService.class), messagingTemplate);
+
+    @Test
+    void 정원이_찬_채널의_거절은_요청한_세션에만_보낸다() {
+        when(channelWsService.joinChannel(7L, 1L, "session-1")).thenReturn(false);
+
+        ChannelEventResponse response = controller.handleChannel(7L, request("join"), session("session-1"));
+
+        assertThat(response).isNull();
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> headers = ArgumentCaptor.forClass(Map.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("session-1"), eq("/queue/channel/7"), payload.capture(), headers.capture());
+        assertThat(((ChannelEventResponse) payload.getValue()).event()).isEqualTo("full");
+        assertThat(SimpMessageHeaderAccessor.getSessionId(headers.getValue())).isEqualTo("session-1");
+    }
+
+    @Test
+    void 입장하면_채널_전체에_알린다() {
+        when(channelWsService.joinChannel(7L, 1L, "session-1")).thenReturn(true);
+
+        ChannelEventResponse response = controller.handleChannel(7L, request("join"), session("session-1"));
+
+        assertThat(response.event()).isEqualTo("join");
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(), anyMap());
+    }
+
+    private ChannelEventRequest request(String event) {
+        return new ChannelEventRequest(event, 1L, null, null);
+    }
+
+    private SimpMessageHeaderAccessor session(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        return accessor;
+    }
+}
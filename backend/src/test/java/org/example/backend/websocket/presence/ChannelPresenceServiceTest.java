@@ -0,0 +1,194 @@
+package org.example.backend.websocket.presence;
+
+import org.example.backend.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelPresenceServiceTest extends RedisContainerTest {
+
+    private static final long MEMBER_TTL_SECONDS = 60;
+    private static final long DETACHED_TTL_SECONDS = 3600;
+
+    private ChannelPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        presenceService = new ChannelPresenceService(redisTemplate, MEMBER_TTL_SECONDS, DETACHED_TTL_SECONDS);
+    }
+
+    @Test
+    void 정원이_차면_입장하지_못하고_이미_입장한_사용자는_다시_입장할_수_있다() {
+        assertThat(presenceService.join(1L, 10L, 2, "s1")).isEqualTo(1);
+        assertThat(presenceService.join(1L, 20L, 2, "s2")).isEqualTo(2);
+
+        assertThat(presenceService.join(1L, 30L, 2, "s3")).isEqualTo(-1);
+        assertThat(presenceService.join(1L, 10L, 2, "s4")).isEqualTo(2);
+    }
+
+    @Test
+    void 여러_세션으로_입장한_사용자는_마지막_세션이_끊길_때_퇴장한다() {
+        presenceService.join(1L, 10L, 0, "tab-1");
+        presenceService.join(1L, 10L, 0, "tab-2");
+
+        ChannelPresenceService.LeaveResult first = presenceService.leave(1L, 10L, "tab-1");
+        assertThat(first.removed()).isFalse();
+        assertThat(presenceService.getMembers(1L)).containsExactly("10");
+
+        ChannelPresenceService.LeaveResult last = presenceService.leave(1L, 10L, "tab-2");
+        assertThat(last.removed()).isTrue();
+        assertThat(last.emptied()).isTrue();
+        assertThat(redisTemplate.hasKey("channel:1:member:10:sessions")).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(ChannelPresenceService.CHANNEL_INDEX_KEY, "1")).isFalse();
+    }
+
+    @Test
+    void 세션을_지정하지_않은_퇴장은_모든_세션에서_퇴장한다() {
+        presenceService.join(1L, 10L, 0, "tab-1");
+        presenceService.join(1L, 10L, 0, "tab-2");
+
+        assertThat(presenceService.leave(1L, 10L).emptied()).isTrue();
+        assertThat(presenceService.removeSession("tab-1")).isEmpty();
+    }
+
+    @Test
+    void 세션_없이_입장한_사용자도_만료_시각이_기록된다() {
+        long before = System.currentTimeMillis();
+        presenceService.join(2L, 10L, 0, null);
+
+        Double score = redisTemplate.opsForZSet().score("channel:2:members", "10");
+        assertThat(score).isNotNull().isFinite();
+        assertThat(score.longValue()).isBetween(
+                before + (DETACHED_TTL_SECONDS - MEMBER_TTL_SECONDS) * 1000,
+                System.currentTimeMillis() + (DETACHED_TTL_SECONDS - MEMBER_TTL_SECONDS) * 1000);
+        assertThat(presenceService.sweep(2L).removed()).isZero();
+    }
+
+    @Test
+    void 이전_버전의_키를_정리한다() {
+        redisTemplate.opsForSet().add("channel:3:users", "10", "20");
+        redisTemplate.opsForZSet().add("channel:4:members", "10", Double.POSITIVE_INFINITY);
+        redisTemplate.opsForSet().add(ChannelPresenceService.CHANNEL_INDEX_KEY, "4");
+
+        presenceService.migrateLegacyKeys();
+
+        assertThat(redisTemplate.hasKey("channel:3:users")).isFalse();
+        assertThat(redisTemplate.opsForZSet().score("channel:4:members", "10")).isFinite();
+    }
+
+    @Test
+    void 여러_스레드에서_입장_퇴장_확인_정리가_섞여도_접속자와_세션_기록이_일치한다() throws Exception {
+        int threads = 32;
+        int sessionsPerThread = 3;
+        int channels = 8;
+        int members = 20;
+        int operations = 400;
+        // 세션 하나는 한 스레드에서만 처리 (STOMP 세션의 메시지는 순서대로 처리됨), 같은 사용자의 세션(탭)은 여러 스레드에 나뉨
+        // 스레드별 기록: 세션 ID -> (사용자 ID, 입장한 채널)
+        List<Map<String, Session>> expectedByThread = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                Map<String, Session> sessions = new HashMap<>();
+                for (int k = 0; k < sessionsPerThread; k++) {
+                    sessions.put("t" + t + "-s" + k, new Session(1L + (t * sessionsPerThread + k) % members, new HashSet<>()));
+                }
+                expectedByThread.add(sessions);
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    List<String> sessionIds = new ArrayList<>(sessions.keySet());
+                    for (int i = 0; i < operations; i++) {
+                        String sessionId = sessionIds.get(random.nextInt(sessionIds.size()));
+                        Session session = sessions.get(sessionId);
+                        long channelId = 1L + random.nextInt(channels);
+                        int operation = random.nextInt(10);
+                        if (operation < 4) {
+                            assertThat(presenceService.join(channelId, session.memberId(), 0, sessionId)).isPositive();
+                            session.channels().add(channelId);
+                        } else if (operation < 7) {
+                            presenceService.leave(channelId, session.memberId(), sessionId);
+                            session.channels().remove(channelId);
+                        } else if (operation == 7) {
+                            // 연결 종료: ChannelWsService 와 같은 순서로 세션의 입장 기록을 퇴장 처리
+                            presenceService.removeSession(sessionId).forEach(membership ->
+                                    presenceService.leave(membership.channelId(), membership.memberId(), sessionId));
+                            session.channels().clear();
+                        } else if (operation == 8) {
+                            presenceService.heartbeat();
+                        } else {
+                            assertThat(presenceService.sweep(channelId).removed()).isZero();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 채널별 기대 상태: 사용자 ID -> 입장에 사용 중인 세션
+        Map<Long, Map<Long, Set<String>>> expected = new HashMap<>();
+        expectedByThread.forEach(sessions -> sessions.forEach((sessionId, session) ->
+                session.channels().forEach(channelId -> expected.computeIfAbsent(channelId, key -> new HashMap<>())
+                        .computeIfAbsent(session.memberId(), key -> new HashSet<>()).add(sessionId))));
+
+        for (int c = 1; c <= channels; c++) {
+            long channelId = c;
+            Map<Long, Set<String>> channelMembers = expected.getOrDefault(channelId, Map.of());
+            assertThat(presenceService.getMembers(channelId))
+                    .containsExactlyInAnyOrderElementsOf(channelMembers.keySet().stream().map(String::valueOf).toList());
+            assertThat(redisTemplate.opsForZSet().zCard("channel:" + channelId + ":members")).isEqualTo(channelMembers.size());
+            assertThat(redisTemplate.opsForSet().isMember(ChannelPresenceService.CHANNEL_INDEX_KEY, String.valueOf(channelId)))
+                    .isEqualTo(!channelMembers.isEmpty());
+            channelMembers.forEach((memberId, sessionIds) -> assertThat(redisTemplate.opsForSet()
+                    .members("channel:" + channelId + ":member:" + memberId + ":sessions"))
+                    .containsExactlyInAnyOrderElementsOf(sessionIds));
+        }
+        // 퇴장한 사용자의 세션 기록이 남아 있지 않음
+        long expectedSessionKeys = expected.values().stream().mapToLong(Map::size).sum();
+        assertThat(scanSessionKeys()).hasSize((int) expectedSessionKeys);
+
+        // 모든 연결이 끊기면 접속자, 세션 기록, 색인이 모두 정리됨
+        expectedByThread.forEach(sessions -> sessions.keySet().forEach(sessionId ->
+                presenceService.removeSession(sessionId).forEach(membership ->
+                        presenceService.leave(membership.channelId(), membership.memberId(), sessionId))));
+        assertThat(scanSessionKeys()).isEmpty();
+        assertThat(redisTemplate.keys("channel:*:members")).isEmpty();
+        assertThat(redisTemplate.hasKey(ChannelPresenceService.CHANNEL_INDEX_KEY)).isFalse();
+    }
+
+    private Set<String> scanSessionKeys() {
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        try (var cursor = redisTemplate.scan(ScanOptions.scanOptions().match("channel:*:member:*:sessions").count(500).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private record Session(Long memberId, Set<Long> channels) {
+    }
+}
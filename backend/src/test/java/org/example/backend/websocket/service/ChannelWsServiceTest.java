@@ -0,0 +1,60 @@
+package org.example.backend.websocket.service;
+
+import org.example.backend.auth.controller.CounselorProfileController;
+import org.example.backend.channel.dto.response.VoiceChannelResponse;
+import org.example.backend.channel.service.VoiceChannelDirectory;
+import org.example.backend.channel.service.VoiceChannelService;
+import org.example.backend.openvidu.service.OpenviduSessionService;
+import org.example.backend.websocket.presence.ChannelPresenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChannelWsServiceTest {
+
+    private final ChannelPresenceService channelPresenceService = mock(ChannelPresenceService.class);
+    private final VoiceChannelService voiceChannelService = mock(VoiceChannelService.class);
+    private final VoiceChannelDirectory voiceChannelDirectory = mock(VoiceChannelDirectory.class);
+    private final OpenviduSessionService openviduSessionService = mock(OpenviduSessionService.class);
+    private final ChannelWsService channelWsService = new ChannelWsService(channelPresenceService, voiceChannelService,
+            voiceChannelDirectory, openviduSessionService, mock(CounselorProfileController.class),
+            mock(ChannelChatRecrodService.class), mock(RestTemplate.class), mock(SummaryJobQueue.class));
+
+    @Test
+    void 목록에_아직_없는_음성_채널도_DB에서_확인해_비면_삭제한다() {
+        when(voiceChannelService.getVoiceChannel(7L))
+                .thenReturn(VoiceChannelResponse.builder().channelId(7L).category(0).maxPlayer(4).build());
+
+        channelWsService.handleMembersChanged(7L, 0, true);
+
+        verify(voiceChannelService).deleteVoiceChannel(7L);
+        verify(openviduSessionService).closeSession("7");
+    }
+
+    @Test
+    void 상담_채널이_비면_삭제하지_않는다() {
+        when(voiceChannelService.getVoiceChannel(10_001L))
+                .thenThrow(new IllegalArgumentException("요청한 채널은 음성 채널이 아닙니다."));
+
+        channelWsService.handleMembersChanged(10_001L, 0, true);
+
+        verify(voiceChannelService, never()).deleteVoiceChannel(anyLong());
+        verify(openviduSessionService, never()).closeSession(anyString());
+    }
+
+    @Test
+    void 목록에_아직_없는_음성_채널도_정원을_지켜_입장시킨다() {
+        when(voiceChannelService.getVoiceChannel(7L))
+                .thenReturn(VoiceChannelResponse.builder().channelId(7L).category(0).maxPlayer(4).build());
+        when(channelPresenceService.join(7L, 1L, 4, "session-1")).thenReturn(-1L);
+
+        assertThat(channelWsService.joinChannel(7L, 1L, "session-1")).isFalse();
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.backend.websocket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.auth.service.UserInfoService;
+import org.example.backend.s3.PresignedUrlService;
+import org.example.backend.s3.S3UploadStream;
+import org.example.backend.s3.S3Uploader;
+import org.example.backend.support.FakeS3Client;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatTranscriptExporterTest {
+
+    private final ChatTranscriptStore store = mock(ChatTranscriptStore.class);
+    private final S3Uploader s3Uploader = mock(S3Uploader.class);
+    private final UserInfoService userInfoService = mock(UserInfoService.class);
+    private final S3UploadStream jsonOut = mock(S3UploadStream.class);
+    private final S3UploadStream textOut = mock(S3UploadStream.class);
+    private final ChatTranscriptExporter exporter =
+            new ChatTranscriptExporter(store, s3Uploader, userInfoService, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(store.loadMetadata(7L)).thenReturn(ChatTranscript.builder().userId(1L).counselorId(1001L).channelId(7L).build());
+        when(s3Uploader.openUploadStream(startsWith("summarylogs/json/"), anyString(), anyBoolean())).thenReturn(jsonOut);
+        when(s3Uploader.openUploadStream(startsWith("summarylogs/text/"), anyString(), anyBoolean())).thenReturn(textOut);
+    }
+
+    @Test
+    void 텍스트_업로드가_실패하면_먼저_올라간_JSON을_삭제한다() throws IOException {
+        doThrow(new IOException("S3 업로드 실패")).when(textOut).close();
+
+        assertThatThrownBy(() -> exporter.export(7L)).isInstanceOf(IOException.class);
+
+        verify(s3Uploader).deleteFile(startsWith("summarylogs/json/counselor_1001_user_1_"));
+        verify(textOut).abort();
+    }
+
+    @Test
+    void JSON_업로드가_실패하면_삭제할_객체가_없다() throws IOException {
+        doThrow(new IOException("S3 업로드 실패")).when(jsonOut).close();
+
+        assertThatThrownBy(() -> exporter.export(7L)).isInstanceOf(IOException.class);
+
+        verify(s3Uploader, never()).deleteFile(anyString());
+        verify(textOut).abort();
+    }
+
+    @Test
+    void 둘_다_올라가면_아무것도_삭제하지_않는다() throws IOException {
+        exporter.export(7L);
+
+        verify(s3Uploader, never()).deleteFile(anyString());
+        verify(textOut, never()).abort();
+        verify(jsonOut, never()).abort();
+        verify(s3Uploader).openUploadStream(startsWith("summarylogs/text/"), eq("text/plain; charset=UTF-8"), eq(false));
+    }
+
+    @Test
+    void 멀티파트로_올라간_객체는_채팅_기록을_직렬화한_결과와_바이트_단위로_같다() throws IOException {
+        // 두 객체 모두 여러 파트가 되도록 약 12MB 분량의 메시지
+        List<Map<String, String>> messages = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            Map<String, String> message = new LinkedHashMap<>();
+            message.put("role", i % 2 == 0 ? "ROLE_USER" : "ROLE_COUNSELOR");
+            message.put("content", i + "번째 메시지입니다. \"따옴표\"와 줄바꿈\n, 이모지 😀 도 포함합니다. " + "가".repeat(i % 97));
+            message.put("currentTime", "2025-04-01T10:00:" + (i % 60));
+            messages.add(message);
+        }
+        ChatTranscript transcript = ChatTranscript.builder().userId(1L).counselorId(1001L).channelId(7L).messages(messages).build();
+        doAnswer(invocation -> {
+            Consumer<Map<String, String>> consumer = invocation.getArgument(1);
+            messages.forEach(consumer);
+            return null;
+        }).when(store).forEachMessage(eq(7L), any());
+        when(userInfoService.getUserNameById(1L)).thenReturn("내담자");
+        when(userInfoService.getCounselorNameById(1001L)).thenReturn("상담사");
+
+        FakeS3Client fakeS3 = new FakeS3Client();
+        S3Uploader uploader = new S3Uploader(fakeS3, mock(PresignedUrlService.class));
+        ReflectionTestUtils.setField(uploader, "bucket", "bucket");
+        ObjectMapper objectMapper = new ObjectMapper();
+        ChatTranscriptExporter.ExportedTranscript exported =
+                new ChatTranscriptExporter(store, uploader, userInfoService, objectMapper).export(7L);
+
+        StringBuilder expectedText = new StringBuilder("채팅 내역:\n\n");
+        for (Map<String, String> message : messages) {
+            String role = "ROLE_USER".equals(message.get("role")) ? "내담자" : "상담사";
+            expectedText.append(String.format("[%s] %s\n", role, message.get("content")));
+        }
+        FakeS3Client.StoredObject json = fakeS3.getObject(exported.jsonKey());
+        FakeS3Client.StoredObject text = fakeS3.getObject(exported.textKey());
+        assertThat(json.content()).isEqualTo(objectMapper.writeValueAsBytes(transcript));
+        assertThat(text.content()).isEqualTo(expectedText.toString().getBytes(StandardCharsets.UTF_8));
+        assertThat(json.partCount()).isGreaterThan(1);
+        assertThat(text.partCount()).isGreaterThan(1);
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+}
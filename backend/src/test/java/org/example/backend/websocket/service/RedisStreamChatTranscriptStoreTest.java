@@ -0,0 +1,99 @@
+package org.example.backend.websocket.service;
+
+import org.example.backend.support.RedisContainerTest;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisStreamChatTranscriptStoreTest extends RedisContainerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 14, 30);
+
+    private RedisStreamChatTranscriptStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisStreamChatTranscriptStore(redisTemplate);
+    }
+
+    @Test
+    void 초기화하지_않은_채널에는_메시지를_추가하지_않는다() {
+        assertThat(store.append(1L, "user", "안녕하세요", NOW)).isFalse();
+        assertThat(redisTemplate.hasKey("counsel:1:transcript")).isFalse();
+        assertThat(store.load(1L)).isNull();
+    }
+
+    @Test
+    void 참여자_정보와_메시지를_저장한_순서대로_읽는다() {
+        store.initialize(1L, 10L, 20L);
+        store.append(1L, "user", "안녕하세요", NOW);
+        store.append(1L, "counselor", null, null);
+
+        ChatTranscript transcript = store.load(1L);
+
+        assertThat(transcript.getUserId()).isEqualTo(10L);
+        assertThat(transcript.getCounselorId()).isEqualTo(20L);
+        assertThat(transcript.getChannelId()).isEqualTo(1L);
+        assertThat(transcript.getMessages()).containsExactly(
+                Map.of("role", "user", "content", "안녕하세요", "currentTime", NOW.toString()),
+                Map.of("role", "counselor", "content", "", "currentTime", ""));
+    }
+
+    @Test
+    void 한_번에_읽는_개수보다_많은_메시지도_빠짐없이_순서대로_읽는다() {
+        store.initialize(1L, 10L, 20L);
+        for (int i = 0; i < 1203; i++) {
+            store.append(1L, "user", "메시지 " + i, NOW);
+        }
+
+        List<String> contents = new ArrayList<>();
+        store.forEachMessage(1L, message -> contents.add(message.get("content")));
+
+        assertThat(contents).hasSize(1203);
+        for (int i = 0; i < contents.size(); i++) {
+            assertThat(contents.get(i)).isEqualTo("메시지 " + i);
+        }
+    }
+
+    @Test
+    void 다시_초기화하면_이전_메시지는_지워진다() {
+        store.initialize(1L, 10L, 20L);
+        store.append(1L, "user", "이전 상담", NOW);
+
+        store.initialize(1L, 11L, 20L);
+
+        ChatTranscript transcript = store.load(1L);
+        assertThat(transcript.getUserId()).isEqualTo(11L);
+        assertThat(transcript.getMessages()).isEmpty();
+    }
+
+    @Test
+    void 삭제하면_참여자_정보와_메시지가_모두_지워진다() {
+        store.initialize(1L, 10L, 20L);
+        store.append(1L, "user", "안녕하세요", NOW);
+
+        store.delete(1L);
+
+        assertThat(store.load(1L)).isNull();
+        assertThat(store.append(1L, "user", "종료 후 메시지", NOW)).isFalse();
+    }
+
+    @Test
+    void 만료를_설정하면_참여자_정보와_메시지_모두에_적용된다() {
+        store.initialize(1L, 10L, 20L);
+        store.append(1L, "user", "안녕하세요", NOW);
+
+        store.expire(1L, Duration.ofHours(72));
+
+        assertThat(redisTemplate.getExpire("counsel:1:meta")).isBetween(71 * 3600L, 72 * 3600L);
+        assertThat(redisTemplate.getExpire("counsel:1:transcript")).isBetween(71 * 3600L, 72 * 3600L);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.backend.websocket.service;
+
+import org.example.backend.support.RedisContainerTest;
+import org.example.backend.websocket.model.SummaryJobStage;
+import org.example.backend.websocket.model.SummaryJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryJobQueueTest extends RedisContainerTest {
+
+    private SummaryJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new SummaryJobQueue(redisTemplate);
+    }
+
+    @Test
+    void 작업을_등록하면_작업_정보와_대기열이_함께_만들어진다() {
+        String jobId = queue.enqueue(7L);
+
+        Map<String, String> job = queue.getJob(jobId);
+        assertThat(job).containsEntry("channelId", "7")
+                .containsEntry("stage", SummaryJobStage.EXPORT.name())
+                .containsEntry("status", SummaryJobStatus.QUEUED.name())
+                .containsEntry("attempts", "0")
+                .containsKey("updatedAt");
+        assertThat(redisTemplate.opsForList().range("summary:jobs", 0, -1)).containsExactly(jobId);
+        assertThat(redisTemplate.getExpire("summary:job:channel:7")).isPositive();
+    }
+
+    @Test
+    void 같은_채널의_작업이_진행_중이면_기존_작업_ID를_반환한다() {
+        String first = queue.enqueue(7L);
+        String second = queue.enqueue(7L);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(redisTemplate.opsForList().size("summary:jobs")).isEqualTo(1);
+    }
+
+    @Test
+    void 작업이_끝나면_같은_채널에_새_작업을_등록할_수_있다() {
+        String first = queue.enqueue(7L);
+        assertThat(queue.poll()).isEqualTo(first);
+        queue.finish(first, 7L, Duration.ofMinutes(1));
+
+        String second = queue.enqueue(7L);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(redisTemplate.opsForList().range("summary:jobs:processing", 0, -1)).isEmpty();
+        assertThat(redisTemplate.getExpire("summary:job:" + first)).isPositive();
+    }
+
+    @Test
+    void visibility_timeout_이_지난_작업만_대기열로_되돌린다() {
+        String stale = queue.enqueue(1L);
+        String fresh = queue.enqueue(2L);
+        queue.poll();
+        queue.poll();
+        redisTemplate.opsForHash().put("summary:job:" + stale, "updatedAt",
+                String.valueOf(System.currentTimeMillis() - Duration.ofMinutes(20).toMillis()));
+
+        int requeued = queue.requeueStale(Duration.ofMinutes(10));
+
+        assertThat(requeued).isEqualTo(1);
+        assertThat(redisTemplate.opsForList().range("summary:jobs", 0, -1)).containsExactly(stale);
+        assertThat(redisTemplate.opsForList().range("summary:jobs:processing", 0, -1)).containsExactly(fresh);
+    }
+
+    @Test
+    void updatedAt_을_갱신한_작업은_되돌리지_않는다() {
+        String jobId = queue.enqueue(1L);
+        queue.poll();
+        redisTemplate.opsForHash().put("summary:job:" + jobId, "updatedAt",
+                String.valueOf(System.currentTimeMillis() - Duration.ofMinutes(20).toMillis()));
+
+        queue.touch(List.of(jobId));
+
+        assertThat(queue.requeueStale(Duration.ofMinutes(10))).isZero();
+        assertThat(redisTemplate.opsForList().range("summary:jobs:processing", 0, -1)).containsExactly(jobId);
+    }
+
+    @Test
+    void 만료된_작업_정보는_갱신하면서_다시_만들지_않는다() {
+        queue.touch(List.of("expired-job"));
+
+        assertThat(redisTemplate.hasKey("summary:job:expired-job")).isFalse();
+    }
+
+    @Test
+    void 재시도_시각이_지난_작업만_대기열로_옮긴다() {
+        String due = queue.enqueue(1L);
+        String later = queue.enqueue(2L);
+        queue.poll();
+        queue.poll();
+
+        queue.retryLater(due, Duration.ZERO);
+        queue.retryLater(later, Duration.ofHours(1));
+
+        assertThat(queue.promoteDueRetries()).isEqualTo(1);
+        assertThat(redisTemplate.opsForList().range("summary:jobs", 0, -1)).containsExactly(due);
+        assertThat(redisTemplate.opsForZSet().range("summary:jobs:delayed", 0, -1)).containsExactly(later);
+        assertThat(redisTemplate.opsForList().range("summary:jobs:processing", 0, -1)).isEmpty();
+    }
+}
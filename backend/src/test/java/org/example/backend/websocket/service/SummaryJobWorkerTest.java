@@ -0,0 +1,78 @@
+package org.example.backend.websocket.service;
+
+import org.example.backend.localllm.service.SummaryService;
+import org.example.backend.s3.summarychatlog.service.SummaryChatLogService;
+import org.example.backend.websocket.model.SummaryJobStage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryJobWorkerTest {
+
+    private static final String JOB_ID = "0b7f4c52-2f4e-4f4d-9a57-5f0c3f1e2a11";
+
+    private final SummaryJobQueue summaryJobQueue = mock(SummaryJobQueue.class);
+    private final ChannelChatRecrodService channelChatRecrodService = mock(ChannelChatRecrodService.class);
+    private final SummaryChatLogService summaryChatLogService = mock(SummaryChatLogService.class);
+    private final ChatTranscriptExporter chatTranscriptExporter = mock(ChatTranscriptExporter.class);
+    private final SummaryJobWorker worker = new SummaryJobWorker(summaryJobQueue, channelChatRecrodService,
+            summaryChatLogService, mock(SummaryService.class), chatTranscriptExporter, mock(SimpMessagingTemplate.class),
+            1, 1, 10, 600, 10, 72);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.stop();
+    }
+
+    @Test
+    void SAVE_LOG_단계는_작업_ID로_저장한다() {
+        Map<String, String> job = job(SummaryJobStage.SAVE_LOG);
+        job.put("userId", "3");
+        job.put("counselorId", "7");
+        job.put("jsonKey", "summarylogs/json.json");
+        job.put("textKey", "summarylogs/text.txt");
+        when(summaryJobQueue.poll()).thenReturn(JOB_ID, (String) null);
+        when(summaryJobQueue.getJob(JOB_ID)).thenReturn(job);
+        // SUMMARIZE 에서 멈추도록 채팅 기록 없음
+        when(channelChatRecrodService.getTranscript(1L)).thenReturn(null);
+
+        worker.start();
+
+        verify(summaryChatLogService, timeout(2_000))
+                .saveLog(3L, 7L, 1L, "summarylogs/json.json", "summarylogs/text.txt", JOB_ID);
+    }
+
+    @Test
+    void 최종_실패한_작업의_채팅_기록은_만료를_설정한다() throws Exception {
+        when(summaryJobQueue.poll()).thenReturn(JOB_ID, (String) null);
+        when(summaryJobQueue.getJob(JOB_ID)).thenReturn(job(SummaryJobStage.EXPORT));
+        when(chatTranscriptExporter.export(1L)).thenThrow(new IllegalStateException("S3 연결 실패"));
+
+        worker.start();
+
+        verify(channelChatRecrodService, timeout(2_000)).expireChatSummary(1L, Duration.ofHours(72));
+        verify(summaryJobQueue).finish(eq(JOB_ID), eq(1L), any());
+        verify(summaryJobQueue, never()).retryLater(any(), any());
+        verify(channelChatRecrodService, never()).deleteChatSummary(1L);
+    }
+
+    private Map<String, String> job(SummaryJobStage stage) {
+        Map<String, String> job = new HashMap<>();
+        job.put("channelId", "1");
+        job.put("stage", stage.name());
+        job.put("attempts", "0");
+        return job;
+    }
+}
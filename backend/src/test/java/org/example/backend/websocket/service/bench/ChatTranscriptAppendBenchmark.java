@@ -0,0 +1,120 @@
+package org.example.backend.websocket.service.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.support.RedisContainerTest;
+import org.example.backend.websocket.model.ChatTranscript;
+import org.example.backend.websocket.service.ChatTranscriptStore;
+import org.example.backend.websocket.service.RedisJsonChatTranscriptStore;
+import org.example.backend.websocket.service.RedisStreamChatTranscriptStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 추가 비용 비교 (Redis Stream vs 기존 JSON 한 덩어리 GET/SET)
+ *
+ * 메시지가 10, 1,000, 10,000개 쌓인 채널에 메시지를 append-count 개 더 추가하며 한 건당 시간(p50/p95/max)을 로그로 남깁니다.
+ * JSON 방식은 미리 쌓을 메시지를 한 번에 SET 하고, Stream 방식은 실제처럼 XADD 로 쌓습니다.
+ *
+ * 실행 예: ./gradlew benchmark --tests '*ChatTranscriptAppendBenchmark' -Pbench.append-count=500
+ */
+@Tag("benchmark")
+class ChatTranscriptAppendBenchmark extends RedisContainerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatTranscriptAppendBenchmark.class);
+
+    private static final int[] TRANSCRIPT_SIZES = {10, 1_000, 10_000};
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 14, 30);
+    private static final String CONTENT = "요즘 잠을 잘 못 자서 낮에도 계속 피곤하고 집중이 잘 안 돼요. 어떻게 하면 좋을까요?";
+
+    private final int appendCount = Integer.getInteger("bench.append-count", 200);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger channelIds = new AtomicInteger();
+
+    @Test
+    void 쌓인_메시지_수별_메시지_추가_시간() {
+        RedisStreamChatTranscriptStore streamStore = new RedisStreamChatTranscriptStore(redisTemplate);
+        RedisJsonChatTranscriptStore jsonStore = new RedisJsonChatTranscriptStore(redisTemplate, objectMapper);
+
+        // 준비 (연결, 스크립트 로드)
+        appendTimes(streamStore, prefillStream(streamStore, 10));
+        appendTimes(jsonStore, prefillJson(10));
+
+        for (int size : TRANSCRIPT_SIZES) {
+            long streamChannel = prefillStream(streamStore, size);
+            log("Stream", size, appendTimes(streamStore, streamChannel));
+            assertThat(redisTemplate.opsForStream().size("counsel:" + streamChannel + ":transcript"))
+                    .isEqualTo(size + appendCount);
+
+            long jsonChannel = prefillJson(size);
+            log("JSON", size, appendTimes(jsonStore, jsonChannel));
+            assertThat(jsonStore.load(jsonChannel).getMessages()).hasSize(size + appendCount);
+            logger.info("JSON 방식 메시지 {}개 채널의 값 크기: {}KB (추가할 때마다 읽고 다시 씀)", size + appendCount,
+                    redisTemplate.opsForValue().size("counsel:" + jsonChannel + ":summary") / 1024);
+
+            redisTemplate.delete(List.of("counsel:" + streamChannel + ":transcript", "counsel:" + streamChannel + ":meta",
+                    "counsel:" + jsonChannel + ":summary"));
+        }
+    }
+
+    private long prefillStream(RedisStreamChatTranscriptStore store, int size) {
+        long channelId = channelIds.incrementAndGet();
+        store.initialize(channelId, 10L, 20L);
+        for (int i = 0; i < size; i++) {
+            store.append(channelId, role(i), CONTENT, NOW);
+        }
+        return channelId;
+    }
+
+    // 기존 방식이 메시지를 size 개 추가한 뒤와 같은 값을 한 번에 저장
+    private long prefillJson(int size) {
+        long channelId = channelIds.incrementAndGet();
+        List<Map<String, String>> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, String> message = new LinkedHashMap<>();
+            message.put("role", role(i));
+            message.put("content", CONTENT);
+            message.put("currentTime", NOW.toString());
+            messages.add(message);
+        }
+        ChatTranscript transcript = ChatTranscript.builder()
+                .userId(10L).counselorId(20L).channelId(channelId).messages(messages).build();
+        try {
+            redisTemplate.opsForValue().set("counsel:" + channelId + ":summary", objectMapper.writeValueAsString(transcript));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return channelId;
+    }
+
+    private long[] appendTimes(ChatTranscriptStore store, long channelId) {
+        long[] elapsed = new long[appendCount];
+        for (int i = 0; i < appendCount; i++) {
+            long startedAt = System.nanoTime();
+            assertThat(store.append(channelId, role(i), CONTENT, NOW)).isTrue();
+            elapsed[i] = (System.nanoTime() - startedAt) / 1_000;
+        }
+        return elapsed;
+    }
+
+    private void log(String name, int size, long[] elapsed) {
+        Arrays.sort(elapsed);
+        logger.info("메시지 추가 시간 - {} (기존 메시지 {}개, {}건): p50={}us, p95={}us, max={}us", name, size,
+                appendCount, elapsed[appendCount / 2], elapsed[(int) (appendCount * 0.95) - 1], elapsed[appendCount - 1]);
+    }
+
+    private String role(int index) {
+        return index % 2 == 0 ? "ROLE_USER" : "ROLE_COUNSELOR";
+    }
+}